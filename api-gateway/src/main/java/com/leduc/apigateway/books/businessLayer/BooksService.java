@@ -1,14 +1,20 @@
 package com.leduc.apigateway.books.businessLayer;
 
+import com.leduc.apigateway.books.presentationLayer.BookBatchRequestModel;
+import com.leduc.apigateway.books.presentationLayer.BookBatchResponseModel;
+import com.leduc.apigateway.books.presentationLayer.BookPageRequestModel;
+import com.leduc.apigateway.books.presentationLayer.BookPageResponseModel;
 import com.leduc.apigateway.books.presentationLayer.BookRequestModel;
 import com.leduc.apigateway.books.presentationLayer.BookResponseModel;
-
-import java.util.List;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public interface BooksService {
-    List<BookResponseModel> getAllBooks();
-    BookResponseModel getBookById(String bookId);
-    BookResponseModel createBook(BookRequestModel bookRequestModel);
-    BookResponseModel updateBook(String bookId, BookRequestModel bookRequestModel);
-    void deleteBook(String bookId);
+    Mono<BookPageResponseModel> getAllBooks(BookPageRequestModel pageRequest);
+    Mono<BookResponseModel> getBookById(String bookId);
+    Flux<BookResponseModel> searchBooks(String query, Integer limit);
+    Mono<BookBatchResponseModel> getBooksInBatch(BookBatchRequestModel batchRequest);
+    Mono<BookResponseModel> createBook(BookRequestModel bookRequestModel);
+    Mono<BookResponseModel> updateBook(String bookId, BookRequestModel bookRequestModel);
+    Mono<Void> deleteBook(String bookId);
 }
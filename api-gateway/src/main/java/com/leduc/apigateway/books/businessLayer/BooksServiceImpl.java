@@ -1,17 +1,23 @@
 package com.leduc.apigateway.books.businessLayer;
 
 import com.leduc.apigateway.books.domainclientLayer.BooksServiceClient;
+import com.leduc.apigateway.books.presentationLayer.BookBatchRequestModel;
+import com.leduc.apigateway.books.presentationLayer.BookBatchResponseModel;
+import com.leduc.apigateway.books.presentationLayer.BookPageRequestModel;
+import com.leduc.apigateway.books.presentationLayer.BookPageResponseModel;
 import com.leduc.apigateway.books.presentationLayer.BookRequestModel;
 import com.leduc.apigateway.books.presentationLayer.BookResponseModel;
 import com.leduc.apigateway.books.presentationLayer.BooksController;
+import com.leduc.apigateway.utils.HateoasLinks;
 import com.leduc.apigateway.utils.exceptions.InvalidInputException;
 import com.leduc.apigateway.utils.exceptions.NotFoundException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.hateoas.Link;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.List;
+import java.util.function.UnaryOperator;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
 
@@ -26,78 +32,89 @@ public class BooksServiceImpl implements BooksService {
     }
 
     @Override
-    public List<BookResponseModel> getAllBooks() {
+    public Mono<BookPageResponseModel> getAllBooks(BookPageRequestModel pageRequest) {
         log.debug("BooksServiceImpl.getAllBooks()");
-        List<BookResponseModel> books = booksServiceClient.getAllBooks();
-        for (BookResponseModel book : books) {
-            addHateoasLinks(book);
-        }
-        return books;
+        UnaryOperator<BookResponseModel> addHateoasLinks = hateoasLinks();
+        return booksServiceClient.getAllBooks(pageRequest)
+                .map(page -> {
+                    page.getBooks().forEach(addHateoasLinks::apply);
+                    return page;
+                });
     }
 
     @Override
-    public BookResponseModel getBookById(String bookId) {
+    public Mono<BookResponseModel> getBookById(String bookId) {
         log.debug("BooksServiceImpl.getBookById({})", bookId);
         if (bookId == null || bookId.length() != 36) {
-            throw new InvalidInputException("Book ID must be exactly 36 characters long");
+            return Mono.error(new InvalidInputException("Book ID must be exactly 36 characters long"));
+        }
+        return booksServiceClient.getBookByBookId(bookId)
+                .map(hateoasLinks())
+                .onErrorMap(EntityNotFoundException.class,
+                        ex -> new NotFoundException("Book with ID " + bookId + " not found", ex));
+    }
+
+    @Override
+    public Flux<BookResponseModel> searchBooks(String query, Integer limit) {
+        log.debug("BooksServiceImpl.searchBooks({})", query);
+        if (query == null || query.isBlank()) {
+            return Flux.error(new InvalidInputException("Search query must not be blank"));
         }
-        try {
-            BookResponseModel book = booksServiceClient.getBookByBookId(bookId);
-            return addHateoasLinks(book);
-        } catch (EntityNotFoundException ex) {
-            throw new NotFoundException("Book with ID " + bookId + " not found", ex);
+        return booksServiceClient.searchBooks(query, limit).map(hateoasLinks());
+    }
+
+    @Override
+    public Mono<BookBatchResponseModel> getBooksInBatch(BookBatchRequestModel batchRequest) {
+        log.debug("BooksServiceImpl.getBooksInBatch()");
+        if (batchRequest == null) {
+            return Mono.error(new InvalidInputException("BookBatchRequestModel must not be null"));
         }
+        UnaryOperator<BookResponseModel> addHateoasLinks = hateoasLinks();
+        return booksServiceClient.getBooksInBatch(batchRequest)
+                .map(batch -> {
+                    if (batch.getBooks() != null) {
+                        batch.getBooks().forEach(addHateoasLinks::apply);
+                    }
+                    return batch;
+                });
     }
 
     @Override
-    public BookResponseModel createBook(BookRequestModel bookRequestModel) {
+    public Mono<BookResponseModel> createBook(BookRequestModel bookRequestModel) {
         log.debug("BooksServiceImpl.createBook()");
         if (bookRequestModel == null) {
-            throw new InvalidInputException("BookRequestModel must not be null");
+            return Mono.error(new InvalidInputException("BookRequestModel must not be null"));
         }
-        BookResponseModel created = booksServiceClient.createBook(bookRequestModel);
-        return addHateoasLinks(created);
+        return booksServiceClient.createBook(bookRequestModel).map(hateoasLinks());
     }
 
     @Override
-    public BookResponseModel updateBook(String bookId, BookRequestModel bookRequestModel) {
+    public Mono<BookResponseModel> updateBook(String bookId, BookRequestModel bookRequestModel) {
         log.debug("BooksServiceImpl.updateBook({})", bookId);
         if (bookId == null || bookId.length() != 36) {
-            throw new InvalidInputException("Book ID must be exactly 36 characters long");
+            return Mono.error(new InvalidInputException("Book ID must be exactly 36 characters long"));
         }
         if (bookRequestModel == null) {
-            throw new InvalidInputException("BookRequestModel must not be null");
-        }
-        try {
-            BookResponseModel updated = booksServiceClient.updateBook(bookId, bookRequestModel);
-            return addHateoasLinks(updated);
-        } catch (EntityNotFoundException ex) {
-            throw new NotFoundException("Book with ID " + bookId + " not found", ex);
+            return Mono.error(new InvalidInputException("BookRequestModel must not be null"));
         }
+        return booksServiceClient.updateBook(bookId, bookRequestModel)
+                .map(hateoasLinks())
+                .onErrorMap(EntityNotFoundException.class,
+                        ex -> new NotFoundException("Book with ID " + bookId + " not found", ex));
     }
 
     @Override
-    public void deleteBook(String bookId) {
+    public Mono<Void> deleteBook(String bookId) {
         log.debug("BooksServiceImpl.deleteBook({})", bookId);
         if (bookId == null || bookId.length() != 36) {
-            throw new InvalidInputException("Book ID must be exactly 36 characters long");
-        }
-        try {
-            booksServiceClient.deleteBook(bookId);
-        } catch (EntityNotFoundException ex) {
-            throw new NotFoundException("Book with ID " + bookId + " not found", ex);
+            return Mono.error(new InvalidInputException("Book ID must be exactly 36 characters long"));
         }
+        return booksServiceClient.deleteBook(bookId)
+                .onErrorMap(EntityNotFoundException.class,
+                        ex -> new NotFoundException("Book with ID " + bookId + " not found", ex));
     }
 
-    private BookResponseModel addHateoasLinks(BookResponseModel book) {
-        Link self = linkTo(methodOn(BooksController.class)
-                .getBookById(book.getBookId())).withSelfRel();
-        book.add(self);
-
-        Link all = linkTo(methodOn(BooksController.class)
-                .getAllBooks()).withRel("all-books");
-        book.add(all);
-
-        return book;
+    private UnaryOperator<BookResponseModel> hateoasLinks() {
+        return HateoasLinks.selfAndCollection(linkTo(BooksController.class), "all-books", BookResponseModel::getBookId);
     }
 }
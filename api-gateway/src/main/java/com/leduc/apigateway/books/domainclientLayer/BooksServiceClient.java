@@ -1,130 +1,147 @@
 package com.leduc.apigateway.books.domainclientLayer;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leduc.apigateway.books.presentationLayer.BookBatchRequestModel;
+import com.leduc.apigateway.books.presentationLayer.BookBatchResponseModel;
+import com.leduc.apigateway.books.presentationLayer.BookPageRequestModel;
+import com.leduc.apigateway.books.presentationLayer.BookPageResponseModel;
 import com.leduc.apigateway.books.presentationLayer.BookResponseModel;
 import com.leduc.apigateway.books.presentationLayer.BookRequestModel;
-import com.leduc.apigateway.utils.HttpErrorInfo;
-import com.leduc.apigateway.utils.exceptions.InvalidInputException;
-import com.leduc.apigateway.utils.exceptions.NotFoundException;
+import com.leduc.apigateway.utils.ReactiveClientErrors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.io.IOException;
-import java.util.Arrays;
+import java.net.URI;
 import java.util.Collections;
 import java.util.List;
-
-import static org.springframework.http.HttpStatus.NOT_FOUND;
-import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
+import java.util.Optional;
 
 @Slf4j
 @Component
 public class BooksServiceClient {
 
-    private final RestTemplate restTemplate;
-    private final ObjectMapper mapper;
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final WebClient webClient;
     private final String BOOKS_SERVICE_BASE_URL;
 
-    public BooksServiceClient(RestTemplate restTemplate,
-                              ObjectMapper mapper,
+    public BooksServiceClient(WebClient downstreamWebClient,
                               @Value("${app.books-service.host}") String booksServiceHost,
                               @Value("${app.books-service.port}") String booksServicePort) {
-        this.restTemplate = restTemplate;
-        this.mapper = mapper;
+        this.webClient = downstreamWebClient;
         this.BOOKS_SERVICE_BASE_URL = "http://" + booksServiceHost + ":" + booksServicePort + "/api/v1/books";
     }
 
-    public List<BookResponseModel> getAllBooks() {
-        log.debug("Retrieving all books via BooksServiceClient");
-            String url = BOOKS_SERVICE_BASE_URL;
-            log.debug("Books-Service URL for GET all: {}", url);
-            BookResponseModel[] array = restTemplate.getForObject(url, BookResponseModel[].class);
-            return array != null ? Arrays.asList(array) : Collections.emptyList();
+    public Mono<BookPageResponseModel> getAllBooks(BookPageRequestModel pageRequest) {
+        log.debug("Retrieving books via BooksServiceClient");
+        BookPageRequestModel request = pageRequest != null ? pageRequest : new BookPageRequestModel();
+        URI uri = UriComponentsBuilder.fromUriString(BOOKS_SERVICE_BASE_URL)
+                .queryParamIfPresent("after", Optional.ofNullable(request.getAfter()))
+                .queryParamIfPresent("limit", Optional.ofNullable(request.getLimit()))
+                .queryParamIfPresent("genre", Optional.ofNullable(request.getGenre()))
+                .queryParamIfPresent("bookType", Optional.ofNullable(request.getBookType()))
+                .queryParamIfPresent("ageGroup", Optional.ofNullable(request.getAgeGroup()))
+                .queryParamIfPresent("available", Optional.ofNullable(request.getAvailable()))
+                .encode()
+                .build()
+                .toUri();
+        log.debug("Books-Service URL for GET all: {}", uri);
+        return webClient.get()
+                .uri(uri)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, ReactiveClientErrors::toException)
+                .toEntityList(BookResponseModel.class)
+                .map(response -> new BookPageResponseModel(
+                        response.getBody() != null ? response.getBody() : Collections.emptyList(),
+                        response.getHeaders().getFirst(NEXT_CURSOR_HEADER)));
+    }
+
+    public Flux<BookResponseModel> searchBooks(String query, Integer limit) {
+        log.debug("Searching books via BooksServiceClient for query: {}", query);
+        URI uri = UriComponentsBuilder.fromUriString(BOOKS_SERVICE_BASE_URL + "/search")
+                .queryParam("q", query)
+                .queryParamIfPresent("limit", Optional.ofNullable(limit))
+                .encode()
+                .build()
+                .toUri();
+        log.debug("Books-Service URL for GET search: {}", uri);
+        return webClient.get()
+                .uri(uri)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, ReactiveClientErrors::toException)
+                .bodyToFlux(BookResponseModel.class);
     }
 
-    public BookResponseModel getBookByBookId(String bookId) {
+    public Mono<BookResponseModel> getBookByBookId(String bookId) {
         if (bookId == null || bookId.length() != 36) {
-            throw new IllegalArgumentException("Book ID must be exactly 36 characters long");
+            return Mono.error(new IllegalArgumentException("Book ID must be exactly 36 characters long"));
         }
         log.debug("Retrieving book via BooksServiceClient for id: {}", bookId);
-        try {
-            String url = BOOKS_SERVICE_BASE_URL + "/" + bookId;
-            log.debug("Books-Service URL for GET by id: {}", url);
-            return restTemplate.getForObject(url, BookResponseModel.class);
-        } catch (HttpClientErrorException ex) {
-            log.debug("Error response in getBookByBookId: {}", ex.getStatusCode());
-            throw handleHttpClientException(ex);
+        return webClient.get()
+                .uri(BOOKS_SERVICE_BASE_URL + "/{bookId}", bookId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, ReactiveClientErrors::toException)
+                .bodyToMono(BookResponseModel.class);
+    }
+
+    public Mono<BookBatchResponseModel> getBooksInBatch(BookBatchRequestModel batchRequest) {
+        if (batchRequest == null) {
+            return Mono.error(new IllegalArgumentException("BookBatchRequestModel must not be null"));
         }
+        log.debug("Retrieving books in batch via BooksServiceClient");
+        return webClient.post()
+                .uri(BOOKS_SERVICE_BASE_URL + "/batch")
+                .bodyValue(batchRequest)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, ReactiveClientErrors::toException)
+                .bodyToMono(BookBatchResponseModel.class)
+                .defaultIfEmpty(new BookBatchResponseModel(List.of(), List.of(), List.of()));
     }
 
-    public BookResponseModel createBook(BookRequestModel bookRequest) {
+    public Mono<BookResponseModel> createBook(BookRequestModel bookRequest) {
         if (bookRequest == null) {
-            throw new IllegalArgumentException("BookRequestModel must not be null");
+            return Mono.error(new IllegalArgumentException("BookRequestModel must not be null"));
         }
         log.debug("Creating book via BooksServiceClient");
-        try {
-            String url = BOOKS_SERVICE_BASE_URL;
-            log.debug("Books-Service URL for POST: {}", url);
-            return restTemplate.postForObject(url, bookRequest, BookResponseModel.class);
-        } catch (HttpClientErrorException ex) {
-            log.debug("Error response in createBook: {}", ex.getStatusCode());
-            throw handleHttpClientException(ex);
-        }
+        return webClient.post()
+                .uri(BOOKS_SERVICE_BASE_URL)
+                .bodyValue(bookRequest)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, ReactiveClientErrors::toException)
+                .bodyToMono(BookResponseModel.class);
     }
 
-    public BookResponseModel updateBook(String bookId, BookRequestModel bookRequest) {
+    public Mono<BookResponseModel> updateBook(String bookId, BookRequestModel bookRequest) {
         if (bookId == null || bookId.length() != 36) {
-            throw new IllegalArgumentException("Book ID must be exactly 36 characters long");
+            return Mono.error(new IllegalArgumentException("Book ID must be exactly 36 characters long"));
         }
         if (bookRequest == null) {
-            throw new IllegalArgumentException("BookRequestModel must not be null");
+            return Mono.error(new IllegalArgumentException("BookRequestModel must not be null"));
         }
         log.debug("Updating book via BooksServiceClient for id: {}", bookId);
-        try {
-            String url = BOOKS_SERVICE_BASE_URL + "/" + bookId;
-            log.debug("Books-Service URL for PUT: {}", url);
-            restTemplate.put(url, bookRequest);
-            return getBookByBookId(bookId);
-        } catch (HttpClientErrorException ex) {
-            log.debug("Error response in updateBook: {}", ex.getStatusCode());
-            throw handleHttpClientException(ex);
-        }
+        return webClient.put()
+                .uri(BOOKS_SERVICE_BASE_URL + "/{bookId}", bookId)
+                .bodyValue(bookRequest)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, ReactiveClientErrors::toException)
+                .toBodilessEntity()
+                .then(getBookByBookId(bookId));
     }
 
-    public void deleteBook(String bookId) {
+    public Mono<Void> deleteBook(String bookId) {
         if (bookId == null || bookId.length() != 36) {
-            throw new IllegalArgumentException("Book ID must be exactly 36 characters long");
+            return Mono.error(new IllegalArgumentException("Book ID must be exactly 36 characters long"));
         }
         log.debug("Deleting book via BooksServiceClient for id: {}", bookId);
-        try {
-            String url = BOOKS_SERVICE_BASE_URL + "/" + bookId;
-            log.debug("Books-Service URL for DELETE: {}", url);
-            restTemplate.delete(url);
-        } catch (HttpClientErrorException ex) {
-            log.debug("Error response in deleteBook: {}", ex.getStatusCode());
-            throw handleHttpClientException(ex);
-        }
-    }
-
-    private String getErrorMessage(HttpClientErrorException ex) {
-        try {
-            return mapper.readValue(ex.getResponseBodyAsString(), HttpErrorInfo.class).getMessage();
-        } catch (IOException ioex) {
-            return ioex.getMessage();
-        }
-    }
-
-    private RuntimeException handleHttpClientException(HttpClientErrorException ex) {
-        if (ex.getStatusCode() == NOT_FOUND) {
-            return new NotFoundException(getErrorMessage(ex));
-        }
-        if (ex.getStatusCode() == UNPROCESSABLE_ENTITY) {
-            return new InvalidInputException(getErrorMessage(ex));
-        }
-        log.warn("Unexpected HTTP error: {}. Body: {}", ex.getStatusCode(), ex.getResponseBodyAsString());
-        return ex;
+        return webClient.delete()
+                .uri(BOOKS_SERVICE_BASE_URL + "/{bookId}", bookId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, ReactiveClientErrors::toException)
+                .bodyToMono(Void.class);
     }
 }
@@ -0,0 +1,18 @@
+package com.leduc.apigateway.books.presentationLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookPageResponseModel {
+
+    List<BookResponseModel> books;
+    String nextCursor;
+}
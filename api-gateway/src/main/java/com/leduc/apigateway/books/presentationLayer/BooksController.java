@@ -6,6 +6,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -21,37 +23,52 @@ public class BooksController {
     }
 
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<BookResponseModel>> getAllBooks() {
-        List<BookResponseModel> books = booksService.getAllBooks();
-        return ResponseEntity.ok(books);
+    public Mono<ResponseEntity<List<BookResponseModel>>> getAllBooks(BookPageRequestModel pageRequest) {
+        return booksService.getAllBooks(pageRequest).map(page -> {
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.getNextCursor() != null) {
+                response.header("X-Next-Cursor", page.getNextCursor());
+            }
+            return response.body(page.getBooks());
+        });
+    }
+
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<BookResponseModel> searchBooks(@RequestParam("q") String query,
+                                               @RequestParam(required = false) Integer limit) {
+        log.debug("Request received in API-Gateway Books Controller: searchBooks");
+        return booksService.searchBooks(query, limit);
     }
 
     @GetMapping(value = "/{bookId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<BookResponseModel> getBookById(@PathVariable String bookId) {
+    public Mono<ResponseEntity<BookResponseModel>> getBookById(@PathVariable String bookId) {
         log.debug("Request received in API-Gateway Books Controller: getBookById");
-        BookResponseModel book = booksService.getBookById(bookId);
-        return ResponseEntity.ok(book);
+        return booksService.getBookById(bookId).map(ResponseEntity::ok);
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<BookBatchResponseModel>> getBooksInBatch(@RequestBody BookBatchRequestModel batchRequest) {
+        log.debug("Request received in API-Gateway Books Controller: getBooksInBatch");
+        return booksService.getBooksInBatch(batchRequest).map(ResponseEntity::ok);
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<BookResponseModel> createBook(@RequestBody BookRequestModel bookRequest) {
+    public Mono<ResponseEntity<BookResponseModel>> createBook(@RequestBody BookRequestModel bookRequest) {
         log.debug("Request received in API-Gateway Books Controller: createBook");
-        BookResponseModel createdBook = booksService.createBook(bookRequest);
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdBook);
+        return booksService.createBook(bookRequest)
+                .map(createdBook -> ResponseEntity.status(HttpStatus.CREATED).body(createdBook));
     }
 
     @PutMapping(value = "/{bookId}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<BookResponseModel> updateBook(@PathVariable String bookId,
-                                                        @RequestBody BookRequestModel bookRequest) {
+    public Mono<ResponseEntity<BookResponseModel>> updateBook(@PathVariable String bookId,
+                                                              @RequestBody BookRequestModel bookRequest) {
         log.debug("Request received in API-Gateway Books Controller: updateBook");
-        BookResponseModel updatedBook = booksService.updateBook(bookId, bookRequest);
-        return ResponseEntity.ok(updatedBook);
+        return booksService.updateBook(bookId, bookRequest).map(ResponseEntity::ok);
     }
 
     @DeleteMapping(value = "/{bookId}")
-    public ResponseEntity<Void> deleteBook(@PathVariable String bookId) {
+    public Mono<ResponseEntity<Void>> deleteBook(@PathVariable String bookId) {
         log.debug("Request received in API-Gateway Books Controller: deleteBook");
-        booksService.deleteBook(bookId);
-        return ResponseEntity.noContent().build();
+        return booksService.deleteBook(bookId).then(Mono.just(ResponseEntity.noContent().build()));
     }
 }
@@ -2,13 +2,13 @@ package com.leduc.apigateway.loans.businessLayer;
 
 import com.leduc.apigateway.loans.presentationLayer.LoanRequestModel;
 import com.leduc.apigateway.loans.presentationLayer.LoanResponseModel;
-
-import java.util.List;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public interface LoansService {
-    List<LoanResponseModel> getAllLoans(String patronId);
-    LoanResponseModel getLoanById(String patronId, String loanId);
-    LoanResponseModel addLoan(LoanRequestModel loanRequestModel, String patronId);
-    LoanResponseModel updateLoan(LoanRequestModel loanRequestModel, String patronId, String loanId);
-    void removeLoan(String patronId, String loanId);
+    Flux<LoanResponseModel> getAllLoans(String patronId);
+    Mono<LoanResponseModel> getLoanById(String patronId, String loanId);
+    Mono<LoanResponseModel> addLoan(LoanRequestModel loanRequestModel, String patronId);
+    Mono<LoanResponseModel> updateLoan(LoanRequestModel loanRequestModel, String patronId, String loanId);
+    Mono<Void> removeLoan(String patronId, String loanId);
 }
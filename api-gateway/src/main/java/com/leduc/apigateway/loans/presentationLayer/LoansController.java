@@ -1,14 +1,13 @@
 package com.leduc.apigateway.loans.presentationLayer;
 
 import com.leduc.apigateway.loans.businessLayer.LoansService;
-import com.leduc.apigateway.utils.exceptions.NotFoundException;
-import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @RestController
 @Slf4j
@@ -22,52 +21,39 @@ public class LoansController {
     }
 
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<LoanResponseModel>> getAllLoans(@PathVariable String patronId) {
+    public Flux<LoanResponseModel> getAllLoans(@PathVariable String patronId) {
         log.debug("Request received in LoansController: getAllLoans for patron {}", patronId);
-        List<LoanResponseModel> loans = loansService.getAllLoans(patronId);
-        return ResponseEntity.ok(loans);
+        return loansService.getAllLoans(patronId);
     }
 
     @GetMapping(value = "/{loanId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<LoanResponseModel> getLoanById(@PathVariable String patronId,
-                                                         @PathVariable String loanId) {
-        if (loansService.getLoanById(patronId, loanId) == null) {
-            throw new EntityNotFoundException("Loan with id " + loanId + " not found for patron " + patronId);
-        }
+    public Mono<ResponseEntity<LoanResponseModel>> getLoanById(@PathVariable String patronId,
+                                                               @PathVariable String loanId) {
         log.debug("Request received in LoansController: getLoanById {} for patron {}", loanId, patronId);
-        LoanResponseModel loan = loansService.getLoanById(patronId, loanId);
-        return ResponseEntity.ok(loan);
+        return loansService.getLoanById(patronId, loanId).map(ResponseEntity::ok);
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<LoanResponseModel> createLoan(@PathVariable String patronId,
-                                                        @RequestBody(required = false) LoanRequestModel loanRequest) {
+    public Mono<ResponseEntity<LoanResponseModel>> createLoan(@PathVariable String patronId,
+                                                              @RequestBody(required = false) LoanRequestModel loanRequest) {
 
         log.debug("Request received in LoansController: createLoan for patron {}", patronId);
-        LoanResponseModel created = loansService.addLoan(loanRequest, patronId);
-        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        return loansService.addLoan(loanRequest, patronId)
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created));
     }
 
     @PutMapping(value = "/{loanId}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<LoanResponseModel> updateLoan(@PathVariable String patronId,
-                                                        @PathVariable String loanId,
-                                                        @RequestBody(required = false) LoanRequestModel loanRequest) {
-        if (loansService.getLoanById(patronId, loanId) == null) {
-            throw new NotFoundException("Loan with id " + loanId + " not found for patron with id " + patronId);
-        }
+    public Mono<ResponseEntity<LoanResponseModel>> updateLoan(@PathVariable String patronId,
+                                                              @PathVariable String loanId,
+                                                              @RequestBody(required = false) LoanRequestModel loanRequest) {
         log.debug("Request received in LoansController: updateLoan {} for patron {}", loanId, patronId);
-        LoanResponseModel updated = loansService.updateLoan(loanRequest, patronId, loanId);
-        return ResponseEntity.ok(updated);
+        return loansService.updateLoan(loanRequest, patronId, loanId).map(ResponseEntity::ok);
     }
 
     @DeleteMapping(value = "/{loanId}")
-    public ResponseEntity<Void> deleteLoan(@PathVariable String patronId,
-                                           @PathVariable String loanId) {
-        if (loansService.getLoanById(patronId,loanId) == null){
-            throw new EntityNotFoundException("Loan with id: " + loanId + " not found for patron id: " + patronId);
-        }
+    public Mono<ResponseEntity<Void>> deleteLoan(@PathVariable String patronId,
+                                                 @PathVariable String loanId) {
         log.debug("Request received in LoansController: deleteLoan {} for patron {}", loanId, patronId);
-        loansService.removeLoan(patronId, loanId);
-        return ResponseEntity.noContent().build();
+        return loansService.removeLoan(patronId, loanId).then(Mono.just(ResponseEntity.noContent().build()));
     }
 }
@@ -0,0 +1,8 @@
+package com.leduc.apigateway.patrons.businessLayer;
+
+import com.leduc.apigateway.patrons.presentationLayer.PatronDashboardResponseModel;
+import reactor.core.publisher.Mono;
+
+public interface PatronDashboardService {
+    Mono<PatronDashboardResponseModel> getDashboard(String patronId);
+}
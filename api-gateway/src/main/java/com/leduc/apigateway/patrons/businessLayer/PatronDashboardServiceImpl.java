@@ -0,0 +1,132 @@
+package com.leduc.apigateway.patrons.businessLayer;
+
+import com.leduc.apigateway.books.domainclientLayer.BooksServiceClient;
+import com.leduc.apigateway.books.presentationLayer.BookBatchRequestModel;
+import com.leduc.apigateway.books.presentationLayer.BookResponseModel;
+import com.leduc.apigateway.loans.domainclientLayer.LoansServiceClient;
+import com.leduc.apigateway.loans.presentationLayer.LoanResponseModel;
+import com.leduc.apigateway.patrons.domainclientLayer.PatronsServiceClient;
+import com.leduc.apigateway.patrons.presentationLayer.PatronDashboardLoanModel;
+import com.leduc.apigateway.patrons.presentationLayer.PatronDashboardResponseModel;
+import com.leduc.apigateway.patrons.presentationLayer.PatronResponseModel;
+import com.leduc.apigateway.utils.exceptions.InvalidInputException;
+import com.leduc.apigateway.utils.exceptions.NotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+@Slf4j
+@Service
+public class PatronDashboardServiceImpl implements PatronDashboardService {
+
+    static final String PATRONS_SERVICE = "patrons-service";
+    static final String LOANS_SERVICE = "loans-service";
+    static final String BOOKS_SERVICE = "books-service";
+
+    private final PatronsServiceClient patronsServiceClient;
+    private final LoansServiceClient loansServiceClient;
+    private final BooksServiceClient booksServiceClient;
+    private final Duration patronsTimeout;
+    private final Duration loansTimeout;
+    private final Duration booksTimeout;
+
+    public PatronDashboardServiceImpl(PatronsServiceClient patronsServiceClient,
+                                      LoansServiceClient loansServiceClient,
+                                      BooksServiceClient booksServiceClient,
+                                      @Value("${app.patron-dashboard.patrons-timeout-ms:1000}") long patronsTimeoutMs,
+                                      @Value("${app.patron-dashboard.loans-timeout-ms:1500}") long loansTimeoutMs,
+                                      @Value("${app.patron-dashboard.books-timeout-ms:1000}") long booksTimeoutMs) {
+        this.patronsServiceClient = patronsServiceClient;
+        this.loansServiceClient = loansServiceClient;
+        this.booksServiceClient = booksServiceClient;
+        this.patronsTimeout = Duration.ofMillis(patronsTimeoutMs);
+        this.loansTimeout = Duration.ofMillis(loansTimeoutMs);
+        this.booksTimeout = Duration.ofMillis(booksTimeoutMs);
+    }
+
+    @Override
+    public Mono<PatronDashboardResponseModel> getDashboard(String patronId) {
+        if (patronId == null || patronId.length() != 36) {
+            return Mono.error(new InvalidInputException("Patron ID must be exactly 36 characters long"));
+        }
+
+        // 1) An unknown patron fails the whole page; any other patrons-service problem only empties that section
+        Mono<Optional<PatronResponseModel>> patronSection = patronsServiceClient.getPatronByPatronId(patronId)
+                .timeout(patronsTimeout)
+                .map(Optional::of)
+                .onErrorResume(ex -> !(ex instanceof NotFoundException) && !(ex instanceof InvalidInputException),
+                        ex -> unavailable(PATRONS_SERVICE, ex));
+
+        // 2) Availability needs the loaned book ids, so one batch call starts as soon as the loans arrive
+        Mono<LoanSection> loanSection = loansServiceClient.getAllLoans(patronId)
+                .collectList()
+                .timeout(loansTimeout)
+                .map(Optional::of)
+                .onErrorResume(ex -> unavailable(LOANS_SERVICE, ex))
+                .flatMap(loans -> loans.isEmpty()
+                        ? Mono.just(new LoanSection(List.of(), List.of(LOANS_SERVICE)))
+                        : withAvailability(loans.get()));
+
+        // 3) Both sections are subscribed together; the page costs the slower of the two, not their sum
+        return Mono.zip(patronSection, loanSection)
+                .map(sections -> {
+                    List<String> unavailableServices = new ArrayList<>();
+                    if (sections.getT1().isEmpty()) {
+                        unavailableServices.add(PATRONS_SERVICE);
+                    }
+                    unavailableServices.addAll(sections.getT2().unavailableServices());
+                    return new PatronDashboardResponseModel(sections.getT1().orElse(null),
+                            sections.getT2().loans(), unavailableServices);
+                });
+    }
+
+    private Mono<LoanSection> withAvailability(List<LoanResponseModel> loans) {
+        List<String> bookIds = loans.stream()
+                .map(LoanResponseModel::getBookId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (bookIds.isEmpty()) {
+            return Mono.just(new LoanSection(enrich(loans, Map.of()), List.of()));
+        }
+        return booksServiceClient.getBooksInBatch(new BookBatchRequestModel(bookIds, null))
+                .timeout(booksTimeout)
+                .map(batch -> {
+                    Map<String, Integer> copiesAvailable = new HashMap<>();
+                    if (batch.getBooks() != null) {
+                        for (BookResponseModel book : batch.getBooks()) {
+                            copiesAvailable.put(book.getBookId(), book.getCopiesAvailable());
+                        }
+                    }
+                    return Optional.of(copiesAvailable);
+                })
+                .onErrorResume(ex -> unavailable(BOOKS_SERVICE, ex))
+                .map(copiesAvailable -> new LoanSection(enrich(loans, copiesAvailable.orElse(Map.of())),
+                        copiesAvailable.isPresent() ? List.of() : List.of(BOOKS_SERVICE)));
+    }
+
+    private static List<PatronDashboardLoanModel> enrich(List<LoanResponseModel> loans, Map<String, Integer> copiesAvailable) {
+        List<PatronDashboardLoanModel> dashboardLoans = new ArrayList<>(loans.size());
+        for (LoanResponseModel loan : loans) {
+            dashboardLoans.add(new PatronDashboardLoanModel(loan, copiesAvailable.get(loan.getBookId())));
+        }
+        return dashboardLoans;
+    }
+
+    private static <T> Mono<Optional<T>> unavailable(String dependency, Throwable ex) {
+        log.warn("Patron dashboard: {} failed or did not answer in time: {}", dependency, ex.toString());
+        return Mono.just(Optional.empty());
+    }
+
+    private record LoanSection(List<PatronDashboardLoanModel> loans, List<String> unavailableServices) {
+    }
+}
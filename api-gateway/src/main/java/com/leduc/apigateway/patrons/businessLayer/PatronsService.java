@@ -1,14 +1,16 @@
 package com.leduc.apigateway.patrons.businessLayer;
 
+import com.leduc.apigateway.patrons.presentationLayer.PatronPageResponseModel;
 import com.leduc.apigateway.patrons.presentationLayer.PatronRequestModel;
 import com.leduc.apigateway.patrons.presentationLayer.PatronResponseModel;
-
-import java.util.List;
+import com.leduc.apigateway.patrons.presentationLayer.PatronSearchRequestModel;
+import reactor.core.publisher.Mono;
 
 public interface PatronsService {
-    List<PatronResponseModel> getPatrons();
-    PatronResponseModel getPatronByPatronId(String patronId);
-    PatronResponseModel createPatron(PatronRequestModel requestModel);
-    PatronResponseModel updatePatron(String patronId, PatronRequestModel requestModel);
-    void deletePatron(String patronId);
+    Mono<PatronPageResponseModel> getPatrons(String after, Integer limit);
+    Mono<PatronPageResponseModel> searchPatrons(PatronSearchRequestModel searchRequest);
+    Mono<PatronResponseModel> getPatronByPatronId(String patronId);
+    Mono<PatronResponseModel> createPatron(PatronRequestModel requestModel);
+    Mono<PatronResponseModel> updatePatron(String patronId, PatronRequestModel requestModel);
+    Mono<Void> deletePatron(String patronId);
 }
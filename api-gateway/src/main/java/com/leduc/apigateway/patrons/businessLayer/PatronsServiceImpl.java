@@ -1,17 +1,20 @@
 package com.leduc.apigateway.patrons.businessLayer;
 
 import com.leduc.apigateway.patrons.domainclientLayer.PatronsServiceClient;
+import com.leduc.apigateway.patrons.presentationLayer.PatronPageResponseModel;
 import com.leduc.apigateway.patrons.presentationLayer.PatronRequestModel;
 import com.leduc.apigateway.patrons.presentationLayer.PatronResponseModel;
+import com.leduc.apigateway.patrons.presentationLayer.PatronSearchRequestModel;
 import com.leduc.apigateway.patrons.presentationLayer.PatronsController;
+import com.leduc.apigateway.utils.HateoasLinks;
 import com.leduc.apigateway.utils.exceptions.InvalidInputException;
 import com.leduc.apigateway.utils.exceptions.NotFoundException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.hateoas.Link;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
-import java.util.List;
+import java.util.function.UnaryOperator;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
 
@@ -26,71 +29,71 @@ public class PatronsServiceImpl implements PatronsService {
     }
 
     @Override
-    public List<PatronResponseModel> getPatrons() {
+    public Mono<PatronPageResponseModel> getPatrons(String after, Integer limit) {
         log.debug("PatronsServiceImpl.getPatrons()");
-        List<PatronResponseModel> patrons = patronsServiceClient.getAllPatrons();
-        for (PatronResponseModel p : patrons) {
-            addHateoasLinks(p);
-        }
-        return patrons;
+        UnaryOperator<PatronResponseModel> addHateoasLinks = hateoasLinks();
+        return patronsServiceClient.getAllPatrons(after, limit)
+                .map(page -> {
+                    page.getPatrons().forEach(addHateoasLinks::apply);
+                    return page;
+                });
     }
 
     @Override
-    public PatronResponseModel getPatronByPatronId(String patronId) {
+    public Mono<PatronPageResponseModel> searchPatrons(PatronSearchRequestModel searchRequest) {
+        log.debug("PatronsServiceImpl.searchPatrons()");
+        UnaryOperator<PatronResponseModel> addHateoasLinks = hateoasLinks();
+        return patronsServiceClient.searchPatrons(searchRequest)
+                .map(page -> {
+                    page.getPatrons().forEach(addHateoasLinks::apply);
+                    return page;
+                });
+    }
+
+    @Override
+    public Mono<PatronResponseModel> getPatronByPatronId(String patronId) {
         if (patronId == null || patronId.length() != 36) {
-            throw new InvalidInputException("Patron ID must be exactly 36 characters long");
-        }
-        try {
-            return addHateoasLinks(patronsServiceClient.getPatronByPatronId(patronId));
-        } catch (EntityNotFoundException ex) {
-            throw new NotFoundException("Patron with ID " + patronId + " not found", ex);
+            return Mono.error(new InvalidInputException("Patron ID must be exactly 36 characters long"));
         }
+        return patronsServiceClient.getPatronByPatronId(patronId)
+                .map(hateoasLinks())
+                .onErrorMap(EntityNotFoundException.class,
+                        ex -> new NotFoundException("Patron with ID " + patronId + " not found", ex));
     }
 
     @Override
-    public PatronResponseModel createPatron(PatronRequestModel requestModel) {
+    public Mono<PatronResponseModel> createPatron(PatronRequestModel requestModel) {
         if (requestModel == null) {
-            throw new InvalidInputException("PatronRequestModel must not be null");
+            return Mono.error(new InvalidInputException("PatronRequestModel must not be null"));
         }
-        return addHateoasLinks(patronsServiceClient.createPatron(requestModel));
+        return patronsServiceClient.createPatron(requestModel).map(hateoasLinks());
     }
 
     @Override
-    public PatronResponseModel updatePatron(String patronId, PatronRequestModel requestModel) {
+    public Mono<PatronResponseModel> updatePatron(String patronId, PatronRequestModel requestModel) {
         if (patronId == null || patronId.length() != 36) {
-            throw new InvalidInputException("Patron ID must be exactly 36 characters long");
+            return Mono.error(new InvalidInputException("Patron ID must be exactly 36 characters long"));
         }
         if (requestModel == null) {
-            throw new InvalidInputException("PatronRequestModel must not be null");
-        }
-        try {
-            return addHateoasLinks(patronsServiceClient.updatePatron(patronId, requestModel));
-        } catch (EntityNotFoundException ex) {
-            throw new NotFoundException("Patron with ID " + patronId + " not found", ex);
+            return Mono.error(new InvalidInputException("PatronRequestModel must not be null"));
         }
+        return patronsServiceClient.updatePatron(patronId, requestModel)
+                .map(hateoasLinks())
+                .onErrorMap(EntityNotFoundException.class,
+                        ex -> new NotFoundException("Patron with ID " + patronId + " not found", ex));
     }
 
     @Override
-    public void deletePatron(String patronId) {
+    public Mono<Void> deletePatron(String patronId) {
         if (patronId == null || patronId.length() != 36) {
-            throw new InvalidInputException("Patron ID must be exactly 36 characters long");
-        }
-        try {
-            patronsServiceClient.deletePatron(patronId);
-        } catch (EntityNotFoundException ex) {
-            throw new NotFoundException("Patron with ID " + patronId + " not found", ex);
+            return Mono.error(new InvalidInputException("Patron ID must be exactly 36 characters long"));
         }
+        return patronsServiceClient.deletePatron(patronId)
+                .onErrorMap(EntityNotFoundException.class,
+                        ex -> new NotFoundException("Patron with ID " + patronId + " not found", ex));
     }
 
-    private PatronResponseModel addHateoasLinks(PatronResponseModel patron) {
-        Link self = linkTo(methodOn(PatronsController.class)
-                .getPatronByPatronId(patron.getPatronId())).withSelfRel();
-        patron.add(self);
-
-        Link all = linkTo(methodOn(PatronsController.class)
-                .getAllPatrons()).withRel("all-patrons");
-        patron.add(all);
-
-        return patron;
+    private UnaryOperator<PatronResponseModel> hateoasLinks() {
+        return HateoasLinks.selfAndCollection(linkTo(PatronsController.class), "all-patrons", PatronResponseModel::getPatronId);
     }
 }
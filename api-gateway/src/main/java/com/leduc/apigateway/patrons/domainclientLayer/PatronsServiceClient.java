@@ -1,140 +1,132 @@
 package com.leduc.apigateway.patrons.domainclientLayer;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leduc.apigateway.patrons.presentationLayer.PatronPageResponseModel;
 import com.leduc.apigateway.patrons.presentationLayer.PatronResponseModel;
 import com.leduc.apigateway.patrons.presentationLayer.PatronRequestModel;
-import com.leduc.apigateway.utils.HttpErrorInfo;
-import com.leduc.apigateway.utils.exceptions.InvalidInputException;
+import com.leduc.apigateway.patrons.presentationLayer.PatronSearchRequestModel;
+import com.leduc.apigateway.utils.ReactiveClientErrors;
 import com.leduc.apigateway.utils.exceptions.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 
-import java.io.IOException;
-import java.util.Arrays;
+import java.net.URI;
 import java.util.Collections;
-import java.util.List;
-
-import static org.springframework.http.HttpStatus.NOT_FOUND;
-import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
+import java.util.Optional;
 
 @Slf4j
 @Component
 public class PatronsServiceClient {
 
-    private final RestTemplate restTemplate;
-    private final ObjectMapper mapper;
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final WebClient webClient;
     private final String PATRONS_SERVICE_BASE_URL;
 
-    public PatronsServiceClient(RestTemplate restTemplate, ObjectMapper mapper,
+    public PatronsServiceClient(WebClient downstreamWebClient,
                                 @Value("${app.patrons-service.host}") String patronServiceHost,
                                 @Value("${app.patrons-service.port}") String patronServicePort) {
-        this.restTemplate = restTemplate;
-        this.mapper = mapper;
+        this.webClient = downstreamWebClient;
         PATRONS_SERVICE_BASE_URL = "http://" + patronServiceHost + ":" + patronServicePort + "/api/v1/patrons";
     }
 
-    public List<PatronResponseModel> getAllPatrons() {
-        log.debug("Retrieving all patrons via PatronsServiceClient");
-        try {
-            String url = PATRONS_SERVICE_BASE_URL;
-            log.debug("Patrons-Service URL for GET all: " + url);
-            PatronResponseModel[] array = restTemplate.getForObject(url, PatronResponseModel[].class);
-            log.debug("Successfully retrieved {} patrons", array != null ? array.length : 0);
-            return array != null ? Arrays.asList(array) : Collections.emptyList();
-        } catch (HttpClientErrorException ex) {
-            log.debug("Error response received in getAllPatrons");
-            throw handleHttpClientException(ex);
-        }
+    public Mono<PatronPageResponseModel> getAllPatrons(String after, Integer limit) {
+        log.debug("Retrieving patrons via PatronsServiceClient");
+        URI uri = UriComponentsBuilder.fromUriString(PATRONS_SERVICE_BASE_URL)
+                .queryParamIfPresent("after", Optional.ofNullable(after))
+                .queryParamIfPresent("limit", Optional.ofNullable(limit))
+                .encode()
+                .build()
+                .toUri();
+        log.debug("Patrons-Service URL for GET all: {}", uri);
+        return getPage(uri);
     }
 
-    public PatronResponseModel getPatronByPatronId(String patronId) {
+    public Mono<PatronPageResponseModel> searchPatrons(PatronSearchRequestModel searchRequest) {
+        log.debug("Searching patrons via PatronsServiceClient");
+        PatronSearchRequestModel request = searchRequest != null ? searchRequest : new PatronSearchRequestModel();
+        URI uri = UriComponentsBuilder.fromUriString(PATRONS_SERVICE_BASE_URL + "/search")
+                .queryParamIfPresent("after", Optional.ofNullable(request.getAfter()))
+                .queryParamIfPresent("limit", Optional.ofNullable(request.getLimit()))
+                .queryParamIfPresent("firstName", Optional.ofNullable(request.getFirstName()))
+                .queryParamIfPresent("lastName", Optional.ofNullable(request.getLastName()))
+                .queryParamIfPresent("city", Optional.ofNullable(request.getCity()))
+                .queryParamIfPresent("province", Optional.ofNullable(request.getProvince()))
+                .queryParamIfPresent("memberShipType", Optional.ofNullable(request.getMemberShipType()))
+                .encode()
+                .build()
+                .toUri();
+        log.debug("Patrons-Service URL for GET search: {}", uri);
+        return getPage(uri);
+    }
+
+    public Mono<PatronResponseModel> getPatronByPatronId(String patronId) {
         if (patronId == null || patronId.length() != 36) {
-            throw new IllegalArgumentException("Patron ID must be exactly 36 characters long");
+            return Mono.error(new IllegalArgumentException("Patron ID must be exactly 36 characters long"));
         }
         log.debug("Retrieving patron via PatronsServiceClient for id: {}", patronId);
-        try {
-            String url = PATRONS_SERVICE_BASE_URL + "/" + patronId;
-            log.debug("Patrons-Service URL: " + url);
-            PatronResponseModel response = restTemplate.getForObject(url, PatronResponseModel.class);
-            log.debug("Successfully retrieved patron with id: {}", response.getPatronId());
-            return response;
-        } catch (HttpClientErrorException ex) {
-            log.debug("Error response in getPatronByPatronId");
-            throw handleHttpClientException(ex);
-        }
+        return webClient.get()
+                .uri(PATRONS_SERVICE_BASE_URL + "/{patronId}", patronId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, ReactiveClientErrors::toException)
+                .bodyToMono(PatronResponseModel.class)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException("Patron not found: " + patronId)));
     }
 
-    public PatronResponseModel createPatron(PatronRequestModel patronRequest) {
+    public Mono<PatronResponseModel> createPatron(PatronRequestModel patronRequest) {
         if (patronRequest == null) {
-            throw new IllegalArgumentException("PatronRequestModel must not be null");
+            return Mono.error(new IllegalArgumentException("PatronRequestModel must not be null"));
         }
         log.debug("Creating patron via PatronsServiceClient");
-        try {
-            String url = PATRONS_SERVICE_BASE_URL;
-            log.debug("Patrons-Service URL for POST: " + url);
-            PatronResponseModel response = restTemplate.postForObject(url, patronRequest, PatronResponseModel.class);
-            log.debug("Successfully created patron with id: {}", response != null ? response.getPatronId() : "unknown");
-            return response;
-        } catch (HttpClientErrorException ex) {
-            log.debug("Error response in createPatron");
-            throw handleHttpClientException(ex);
-        }
+        return webClient.post()
+                .uri(PATRONS_SERVICE_BASE_URL)
+                .bodyValue(patronRequest)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, ReactiveClientErrors::toException)
+                .bodyToMono(PatronResponseModel.class);
     }
 
-    public PatronResponseModel updatePatron(String patronId, PatronRequestModel patronRequest) {
+    public Mono<PatronResponseModel> updatePatron(String patronId, PatronRequestModel patronRequest) {
         if (patronId == null || patronId.length() != 36) {
-            throw new IllegalArgumentException("Patron ID must be exactly 36 characters long");
+            return Mono.error(new IllegalArgumentException("Patron ID must be exactly 36 characters long"));
         }
         if (patronRequest == null) {
-            throw new IllegalArgumentException("PatronRequestModel must not be null");
+            return Mono.error(new IllegalArgumentException("PatronRequestModel must not be null"));
         }
         log.debug("Updating patron via PatronsServiceClient for id: {}", patronId);
-        try {
-            String url = PATRONS_SERVICE_BASE_URL + "/" + patronId;
-            log.debug("Patrons-Service URL for PUT: " + url);
-            restTemplate.put(url, patronRequest);
-            return getPatronByPatronId(patronId);
-        } catch (HttpClientErrorException ex) {
-            log.debug("Error response in updatePatron");
-            throw handleHttpClientException(ex);
-        }
+        return webClient.put()
+                .uri(PATRONS_SERVICE_BASE_URL + "/{patronId}", patronId)
+                .bodyValue(patronRequest)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, ReactiveClientErrors::toException)
+                .toBodilessEntity()
+                .then(getPatronByPatronId(patronId));
     }
 
-    public void deletePatron(String patronId) {
+    public Mono<Void> deletePatron(String patronId) {
         if (patronId == null || patronId.length() != 36) {
-            throw new IllegalArgumentException("Patron ID must be exactly 36 characters long");
+            return Mono.error(new IllegalArgumentException("Patron ID must be exactly 36 characters long"));
         }
         log.debug("Deleting patron via PatronsServiceClient for id: {}", patronId);
-        try {
-            String url = PATRONS_SERVICE_BASE_URL + "/" + patronId;
-            log.debug("Patrons-Service URL for DELETE: " + url);
-            restTemplate.delete(url);
-            log.debug("Successfully deleted patron with id: {}", patronId);
-        } catch (HttpClientErrorException ex) {
-            log.debug("Error response in deletePatron");
-            throw handleHttpClientException(ex);
-        }
+        return webClient.delete()
+                .uri(PATRONS_SERVICE_BASE_URL + "/{patronId}", patronId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, ReactiveClientErrors::toException)
+                .bodyToMono(Void.class);
     }
 
-    private String getErrorMessage(HttpClientErrorException ex) {
-        try {
-            return mapper.readValue(ex.getResponseBodyAsString(), HttpErrorInfo.class).getMessage();
-        } catch (IOException ioex) {
-            return ioex.getMessage();
-        }
-    }
-
-    private RuntimeException handleHttpClientException(HttpClientErrorException ex) {
-        if (ex.getStatusCode() == NOT_FOUND) {
-            return new NotFoundException(getErrorMessage(ex));
-        }
-        if (ex.getStatusCode() == UNPROCESSABLE_ENTITY) {
-            return new InvalidInputException(getErrorMessage(ex));
-        }
-        log.warn("Unexpected HTTP error: {}. Error body: {}", ex.getStatusCode(), ex.getResponseBodyAsString());
-        return ex;
+    private Mono<PatronPageResponseModel> getPage(URI uri) {
+        return webClient.get()
+                .uri(uri)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, ReactiveClientErrors::toException)
+                .toEntityList(PatronResponseModel.class)
+                .map(response -> new PatronPageResponseModel(
+                        response.getBody() != null ? response.getBody() : Collections.emptyList(),
+                        response.getHeaders().getFirst(NEXT_CURSOR_HEADER)));
     }
 }
@@ -0,0 +1,18 @@
+package com.leduc.apigateway.patrons.presentationLayer;
+
+import com.leduc.apigateway.loans.presentationLayer.LoanResponseModel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PatronDashboardLoanModel {
+
+    LoanResponseModel loan;
+    // live count from books-service; null when books-service could not be reached in time
+    Integer copiesAvailable;
+}
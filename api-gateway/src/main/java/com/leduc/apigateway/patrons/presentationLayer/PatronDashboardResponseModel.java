@@ -0,0 +1,20 @@
+package com.leduc.apigateway.patrons.presentationLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PatronDashboardResponseModel {
+
+    PatronResponseModel patron;
+    List<PatronDashboardLoanModel> loans;
+    // dependencies that failed or timed out; the matching sections are left empty rather than failing the page
+    List<String> unavailableServices;
+}
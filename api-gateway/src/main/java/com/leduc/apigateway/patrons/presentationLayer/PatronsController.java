@@ -1,11 +1,13 @@
 package com.leduc.apigateway.patrons.presentationLayer;
 
+import com.leduc.apigateway.patrons.businessLayer.PatronDashboardService;
 import com.leduc.apigateway.patrons.businessLayer.PatronsService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -15,43 +17,62 @@ import java.util.List;
 public class PatronsController {
 
     private final PatronsService patronsService;
+    private final PatronDashboardService patronDashboardService;
 
-    public PatronsController(PatronsService patronsService) {
+    public PatronsController(PatronsService patronsService, PatronDashboardService patronDashboardService) {
         this.patronsService = patronsService;
+        this.patronDashboardService = patronDashboardService;
     }
 
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<PatronResponseModel>> getAllPatrons() {
-        List<PatronResponseModel> patrons = patronsService.getPatrons();
-        return ResponseEntity.ok(patrons);
+    public Mono<ResponseEntity<List<PatronResponseModel>>> getAllPatrons(@RequestParam(required = false) String after,
+                                                                         @RequestParam(required = false) Integer limit) {
+        return patronsService.getPatrons(after, limit).map(PatronsController::toPageResponse);
+    }
+
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<PatronResponseModel>>> searchPatrons(PatronSearchRequestModel searchRequest) {
+        log.debug("Request received in API-Gateway Patrons Controller: searchPatrons");
+        return patronsService.searchPatrons(searchRequest).map(PatronsController::toPageResponse);
     }
 
     @GetMapping(value = "/{patronId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<PatronResponseModel> getPatronByPatronId(@PathVariable String patronId) {
+    public Mono<ResponseEntity<PatronResponseModel>> getPatronByPatronId(@PathVariable String patronId) {
         log.debug("Request received in API-Gateway Patrons Controller: getPatronByPatronId");
-        PatronResponseModel patron = patronsService.getPatronByPatronId(patronId);
-        return ResponseEntity.ok(patron);
+        return patronsService.getPatronByPatronId(patronId).map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/{patronId}/dashboard", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PatronDashboardResponseModel>> getPatronDashboard(@PathVariable String patronId) {
+        log.debug("Request received in API-Gateway Patrons Controller: getPatronDashboard");
+        return patronDashboardService.getDashboard(patronId).map(ResponseEntity::ok);
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<PatronResponseModel> createPatron(@RequestBody PatronRequestModel patronRequest) {
+    public Mono<ResponseEntity<PatronResponseModel>> createPatron(@RequestBody PatronRequestModel patronRequest) {
         log.debug("Request received in API-Gateway Patrons Controller: createPatron");
-        PatronResponseModel createdPatron = patronsService.createPatron(patronRequest);
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdPatron);
+        return patronsService.createPatron(patronRequest)
+                .map(createdPatron -> ResponseEntity.status(HttpStatus.CREATED).body(createdPatron));
     }
 
     @PutMapping(value = "/{patronId}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<PatronResponseModel> updatePatron(@PathVariable String patronId,
-                                                            @RequestBody PatronRequestModel patronRequest) {
+    public Mono<ResponseEntity<PatronResponseModel>> updatePatron(@PathVariable String patronId,
+                                                                  @RequestBody PatronRequestModel patronRequest) {
         log.debug("Request received in API-Gateway Patrons Controller: updatePatron");
-        PatronResponseModel updatedPatron = patronsService.updatePatron(patronId, patronRequest);
-        return ResponseEntity.ok(updatedPatron);
+        return patronsService.updatePatron(patronId, patronRequest).map(ResponseEntity::ok);
     }
 
     @DeleteMapping(value = "/{patronId}")
-    public ResponseEntity<Void> deletePatron(@PathVariable String patronId) {
+    public Mono<ResponseEntity<Void>> deletePatron(@PathVariable String patronId) {
         log.debug("Request received in API-Gateway Patrons Controller: deletePatron");
-        patronsService.deletePatron(patronId);
-        return ResponseEntity.noContent().build();
+        return patronsService.deletePatron(patronId).then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    private static ResponseEntity<List<PatronResponseModel>> toPageResponse(PatronPageResponseModel page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header("X-Next-Cursor", page.getNextCursor());
+        }
+        return response.body(page.getPatrons());
     }
 }
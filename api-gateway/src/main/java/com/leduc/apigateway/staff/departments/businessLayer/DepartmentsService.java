@@ -2,13 +2,13 @@ package com.leduc.apigateway.staff.departments.businessLayer;
 
 import com.leduc.apigateway.staff.departments.presentationLayer.DepartmentRequestModel;
 import com.leduc.apigateway.staff.departments.presentationLayer.DepartmentResponseModel;
-
-import java.util.List;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public interface DepartmentsService {
-    List<DepartmentResponseModel> getDepartments();
-    DepartmentResponseModel getDepartmentById(String departmentId);
-    DepartmentResponseModel createDepartment(DepartmentRequestModel departmentRequest);
-    DepartmentResponseModel updateDepartment(String departmentId, DepartmentRequestModel departmentRequest);
-    void deleteDepartment(String departmentId);
+    Flux<DepartmentResponseModel> getDepartments();
+    Mono<DepartmentResponseModel> getDepartmentById(String departmentId);
+    Mono<DepartmentResponseModel> createDepartment(DepartmentRequestModel departmentRequest);
+    Mono<DepartmentResponseModel> updateDepartment(String departmentId, DepartmentRequestModel departmentRequest);
+    Mono<Void> deleteDepartment(String departmentId);
 }
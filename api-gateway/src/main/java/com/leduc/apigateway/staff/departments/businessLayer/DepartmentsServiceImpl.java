@@ -4,14 +4,16 @@ import com.leduc.apigateway.staff.departments.domainclientLayer.DepartmentsServi
 import com.leduc.apigateway.staff.departments.presentationLayer.DepartmentRequestModel;
 import com.leduc.apigateway.staff.departments.presentationLayer.DepartmentResponseModel;
 import com.leduc.apigateway.staff.departments.presentationLayer.DepartmentsController;
+import com.leduc.apigateway.utils.HateoasLinks;
 import com.leduc.apigateway.utils.exceptions.InvalidInputException;
 import com.leduc.apigateway.utils.exceptions.NotFoundException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.hateoas.Link;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.List;
+import java.util.function.UnaryOperator;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
 
@@ -26,71 +28,55 @@ public class DepartmentsServiceImpl implements DepartmentsService {
     }
 
     @Override
-    public List<DepartmentResponseModel> getDepartments() {
+    public Flux<DepartmentResponseModel> getDepartments() {
         log.debug("DepartmentsServiceImpl.getDepartments()");
-        List<DepartmentResponseModel> depts = departmentsServiceClient.getAllDepartments();
-        for (DepartmentResponseModel d : depts) {
-            addHateoasLinks(d);
-        }
-        return depts;
+        return departmentsServiceClient.getAllDepartments().map(hateoasLinks());
     }
 
     @Override
-    public DepartmentResponseModel getDepartmentById(String departmentId) {
+    public Mono<DepartmentResponseModel> getDepartmentById(String departmentId) {
         if (departmentId == null || departmentId.length() != 36) {
-            throw new InvalidInputException("Department ID must be exactly 36 characters long");
-        }
-        try {
-            return addHateoasLinks(departmentsServiceClient.getDepartmentById(departmentId));
-        } catch (EntityNotFoundException ex) {
-            throw new NotFoundException("Department with ID " + departmentId + " not found", ex);
+            return Mono.error(new InvalidInputException("Department ID must be exactly 36 characters long"));
         }
+        return departmentsServiceClient.getDepartmentById(departmentId)
+                .map(hateoasLinks())
+                .onErrorMap(EntityNotFoundException.class,
+                        ex -> new NotFoundException("Department with ID " + departmentId + " not found", ex));
     }
 
     @Override
-    public DepartmentResponseModel createDepartment(DepartmentRequestModel departmentRequest) {
+    public Mono<DepartmentResponseModel> createDepartment(DepartmentRequestModel departmentRequest) {
         if (departmentRequest == null) {
-            throw new InvalidInputException("DepartmentRequestModel must not be null");
+            return Mono.error(new InvalidInputException("DepartmentRequestModel must not be null"));
         }
-        return addHateoasLinks(departmentsServiceClient.createDepartment(departmentRequest));
+        return departmentsServiceClient.createDepartment(departmentRequest).map(hateoasLinks());
     }
 
     @Override
-    public DepartmentResponseModel updateDepartment(String departmentId, DepartmentRequestModel departmentRequest) {
+    public Mono<DepartmentResponseModel> updateDepartment(String departmentId, DepartmentRequestModel departmentRequest) {
         if (departmentId == null || departmentId.length() != 36) {
-            throw new InvalidInputException("Department ID must be exactly 36 characters long");
+            return Mono.error(new InvalidInputException("Department ID must be exactly 36 characters long"));
         }
         if (departmentRequest == null) {
-            throw new InvalidInputException("DepartmentRequestModel must not be null");
-        }
-        try {
-            return addHateoasLinks(departmentsServiceClient.updateDepartment(departmentId, departmentRequest));
-        } catch (EntityNotFoundException ex) {
-            throw new NotFoundException("Department with ID " + departmentId + " not found", ex);
+            return Mono.error(new InvalidInputException("DepartmentRequestModel must not be null"));
         }
+        return departmentsServiceClient.updateDepartment(departmentId, departmentRequest)
+                .map(hateoasLinks())
+                .onErrorMap(EntityNotFoundException.class,
+                        ex -> new NotFoundException("Department with ID " + departmentId + " not found", ex));
     }
 
     @Override
-    public void deleteDepartment(String departmentId) {
+    public Mono<Void> deleteDepartment(String departmentId) {
         if (departmentId == null || departmentId.length() != 36) {
-            throw new InvalidInputException("Department ID must be exactly 36 characters long");
-        }
-        try {
-            departmentsServiceClient.deleteDepartment(departmentId);
-        } catch (EntityNotFoundException ex) {
-            throw new NotFoundException("Department with ID " + departmentId + " not found", ex);
+            return Mono.error(new InvalidInputException("Department ID must be exactly 36 characters long"));
         }
+        return departmentsServiceClient.deleteDepartment(departmentId)
+                .onErrorMap(EntityNotFoundException.class,
+                        ex -> new NotFoundException("Department with ID " + departmentId + " not found", ex));
     }
 
-    private DepartmentResponseModel addHateoasLinks(DepartmentResponseModel dept) {
-        Link self = linkTo(methodOn(DepartmentsController.class)
-                .getDepartmentById(dept.getDepartmentId())).withSelfRel();
-        dept.add(self);
-
-        Link all = linkTo(methodOn(DepartmentsController.class)
-                .getDepartments()).withRel("all-departments");
-        dept.add(all);
-
-        return dept;
+    private UnaryOperator<DepartmentResponseModel> hateoasLinks() {
+        return HateoasLinks.selfAndCollection(linkTo(DepartmentsController.class), "all-departments", DepartmentResponseModel::getDepartmentId);
     }
 }
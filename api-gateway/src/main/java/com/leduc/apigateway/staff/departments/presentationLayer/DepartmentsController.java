@@ -1,11 +1,15 @@
 package com.leduc.apigateway.staff.departments.presentationLayer;
 
 import com.leduc.apigateway.staff.departments.businessLayer.DepartmentsService;
+import com.leduc.apigateway.staff.employees.businessLayer.EmployeesService;
+import com.leduc.apigateway.staff.employees.presentationLayer.EmployeeSummaryResponseModel;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -15,39 +19,51 @@ import java.util.List;
 public class DepartmentsController {
 
     private final DepartmentsService departmentsService;
+    private final EmployeesService employeesService;
 
-    public DepartmentsController(DepartmentsService departmentsService) {
+    public DepartmentsController(DepartmentsService departmentsService, EmployeesService employeesService) {
         this.departmentsService = departmentsService;
+        this.employeesService = employeesService;
     }
 
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<DepartmentResponseModel>> getDepartments() {
-        List<DepartmentResponseModel> departments = departmentsService.getDepartments();
-        return ResponseEntity.ok(departments);
+    public Flux<DepartmentResponseModel> getDepartments() {
+        return departmentsService.getDepartments();
     }
 
     @GetMapping(value = "/{departmentId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<DepartmentResponseModel> getDepartmentById(@PathVariable String departmentId) {
-        DepartmentResponseModel department = departmentsService.getDepartmentById(departmentId);
-        return ResponseEntity.ok(department);
+    public Mono<ResponseEntity<DepartmentResponseModel>> getDepartmentById(@PathVariable String departmentId) {
+        return departmentsService.getDepartmentById(departmentId).map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/{departmentId}/employees", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<EmployeeSummaryResponseModel>>> getDepartmentEmployees(
+            @PathVariable String departmentId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return employeesService.getEmployeesByDepartment(departmentId, after, limit).map(page -> {
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.getNextCursor() != null) {
+                response.header("X-Next-Cursor", page.getNextCursor());
+            }
+            return response.body(page.getEmployees());
+        });
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<DepartmentResponseModel> createDepartment(@RequestBody DepartmentRequestModel departmentRequest) {
-        DepartmentResponseModel createdDepartment = departmentsService.createDepartment(departmentRequest);
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdDepartment);
+    public Mono<ResponseEntity<DepartmentResponseModel>> createDepartment(@RequestBody DepartmentRequestModel departmentRequest) {
+        return departmentsService.createDepartment(departmentRequest)
+                .map(createdDepartment -> ResponseEntity.status(HttpStatus.CREATED).body(createdDepartment));
     }
 
     @PutMapping(value = "/{departmentId}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<DepartmentResponseModel> updateDepartment(@PathVariable String departmentId,
-                                                                    @RequestBody DepartmentRequestModel departmentRequest) {
-        DepartmentResponseModel updatedDepartment = departmentsService.updateDepartment(departmentId, departmentRequest);
-        return ResponseEntity.ok(updatedDepartment);
+    public Mono<ResponseEntity<DepartmentResponseModel>> updateDepartment(@PathVariable String departmentId,
+                                                                          @RequestBody DepartmentRequestModel departmentRequest) {
+        return departmentsService.updateDepartment(departmentId, departmentRequest).map(ResponseEntity::ok);
     }
 
     @DeleteMapping(value = "/{departmentId}")
-    public ResponseEntity<Void> deleteDepartment(@PathVariable String departmentId) {
-        departmentsService.deleteDepartment(departmentId);
-        return ResponseEntity.noContent().build();
+    public Mono<ResponseEntity<Void>> deleteDepartment(@PathVariable String departmentId) {
+        return departmentsService.deleteDepartment(departmentId).then(Mono.just(ResponseEntity.noContent().build()));
     }
 }
@@ -1,16 +1,18 @@
 package com.leduc.apigateway.staff.employees.businessLayer;
 
 
+import com.leduc.apigateway.staff.employees.presentationLayer.EmployeePageResponseModel;
 import com.leduc.apigateway.staff.employees.presentationLayer.EmployeeRequestModel;
 import com.leduc.apigateway.staff.employees.presentationLayer.EmployeeResponseModel;
-
-import java.util.List;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public interface EmployeesService {
 
-    List<EmployeeResponseModel> getAllEmployees();
-    EmployeeResponseModel getEmployeeByEmployeeId(String employeeId);
-    EmployeeResponseModel createEmployee(EmployeeRequestModel employeeRequestModel);
-    EmployeeResponseModel updateEmployee(String employeeId,EmployeeRequestModel employeeRequestModel);
-    void deleteEmployee(String employeeId);
+    Flux<EmployeeResponseModel> getAllEmployees();
+    Mono<EmployeeResponseModel> getEmployeeByEmployeeId(String employeeId);
+    Mono<EmployeePageResponseModel> getEmployeesByDepartment(String departmentId, String after, Integer limit);
+    Mono<EmployeeResponseModel> createEmployee(EmployeeRequestModel employeeRequestModel);
+    Mono<EmployeeResponseModel> updateEmployee(String employeeId,EmployeeRequestModel employeeRequestModel);
+    Mono<Void> deleteEmployee(String employeeId);
 }
@@ -1,17 +1,20 @@
 package com.leduc.apigateway.staff.employees.businessLayer;
 
 import com.leduc.apigateway.staff.employees.domainclientLayer.EmployeesServiceClient;
+import com.leduc.apigateway.staff.employees.presentationLayer.EmployeePageResponseModel;
 import com.leduc.apigateway.staff.employees.presentationLayer.EmployeeRequestModel;
 import com.leduc.apigateway.staff.employees.presentationLayer.EmployeeResponseModel;
 import com.leduc.apigateway.staff.employees.presentationLayer.EmployeesController;
+import com.leduc.apigateway.utils.HateoasLinks;
 import com.leduc.apigateway.utils.exceptions.InvalidInputException;
 import com.leduc.apigateway.utils.exceptions.NotFoundException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.hateoas.Link;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.List;
+import java.util.function.UnaryOperator;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
 
@@ -26,71 +29,63 @@ public class EmployeesServiceImpl implements EmployeesService {
     }
 
     @Override
-    public List<EmployeeResponseModel> getAllEmployees() {
+    public Flux<EmployeeResponseModel> getAllEmployees() {
         log.debug("EmployeesServiceImpl.getAllEmployees()");
-        List<EmployeeResponseModel> emps = employeesServiceClient.getAllEmployees();
-        for (EmployeeResponseModel e : emps) {
-            addHateoasLinks(e);
-        }
-        return emps;
+        return employeesServiceClient.getAllEmployees().map(hateoasLinks());
     }
 
     @Override
-    public EmployeeResponseModel getEmployeeByEmployeeId(String employeeId) {
+    public Mono<EmployeeResponseModel> getEmployeeByEmployeeId(String employeeId) {
         if (employeeId == null || employeeId.length() != 36) {
-            throw new InvalidInputException("Employee ID must be exactly 36 characters long");
+            return Mono.error(new InvalidInputException("Employee ID must be exactly 36 characters long"));
         }
-        try {
-            return addHateoasLinks(employeesServiceClient.getEmployeeByEmployeeId(employeeId));
-        } catch (EntityNotFoundException ex) {
-            throw new NotFoundException("Employee with ID " + employeeId + " not found", ex);
+        return employeesServiceClient.getEmployeeByEmployeeId(employeeId)
+                .map(hateoasLinks())
+                .onErrorMap(EntityNotFoundException.class,
+                        ex -> new NotFoundException("Employee with ID " + employeeId + " not found", ex));
+    }
+
+    @Override
+    public Mono<EmployeePageResponseModel> getEmployeesByDepartment(String departmentId, String after, Integer limit) {
+        if (departmentId == null || departmentId.length() != 36) {
+            return Mono.error(new InvalidInputException("Department ID must be exactly 36 characters long"));
         }
+        return employeesServiceClient.getEmployeesByDepartment(departmentId, after, limit);
     }
 
     @Override
-    public EmployeeResponseModel createEmployee(EmployeeRequestModel employeeRequestModel) {
+    public Mono<EmployeeResponseModel> createEmployee(EmployeeRequestModel employeeRequestModel) {
         if (employeeRequestModel == null) {
-            throw new InvalidInputException("EmployeeRequestModel must not be null");
+            return Mono.error(new InvalidInputException("EmployeeRequestModel must not be null"));
         }
-        return addHateoasLinks(employeesServiceClient.createEmployee(employeeRequestModel));
+        return employeesServiceClient.createEmployee(employeeRequestModel).map(hateoasLinks());
     }
 
     @Override
-    public EmployeeResponseModel updateEmployee(String employeeId, EmployeeRequestModel employeeRequestModel) {
+    public Mono<EmployeeResponseModel> updateEmployee(String employeeId, EmployeeRequestModel employeeRequestModel) {
         if (employeeId == null || employeeId.length() != 36) {
-            throw new InvalidInputException("Employee ID must be exactly 36 characters long");
+            return Mono.error(new InvalidInputException("Employee ID must be exactly 36 characters long"));
         }
         if (employeeRequestModel == null) {
-            throw new InvalidInputException("EmployeeRequestModel must not be null");
-        }
-        try {
-            return addHateoasLinks(employeesServiceClient.updateEmployee(employeeId, employeeRequestModel));
-        } catch (EntityNotFoundException ex) {
-            throw new NotFoundException("Employee with ID " + employeeId + " not found", ex);
+            return Mono.error(new InvalidInputException("EmployeeRequestModel must not be null"));
         }
+        return employeesServiceClient.updateEmployee(employeeId, employeeRequestModel)
+                .map(hateoasLinks())
+                .onErrorMap(EntityNotFoundException.class,
+                        ex -> new NotFoundException("Employee with ID " + employeeId + " not found", ex));
     }
 
     @Override
-    public void deleteEmployee(String employeeId) {
+    public Mono<Void> deleteEmployee(String employeeId) {
         if (employeeId == null || employeeId.length() != 36) {
-            throw new InvalidInputException("Employee ID must be exactly 36 characters long");
-        }
-        try {
-            employeesServiceClient.deleteEmployee(employeeId);
-        } catch (EntityNotFoundException ex) {
-            throw new NotFoundException("Employee with ID " + employeeId + " not found", ex);
+            return Mono.error(new InvalidInputException("Employee ID must be exactly 36 characters long"));
         }
+        return employeesServiceClient.deleteEmployee(employeeId)
+                .onErrorMap(EntityNotFoundException.class,
+                        ex -> new NotFoundException("Employee with ID " + employeeId + " not found", ex));
     }
 
-    private EmployeeResponseModel addHateoasLinks(EmployeeResponseModel emp) {
-        Link self = linkTo(methodOn(EmployeesController.class)
-                .getEmployeeByEmployeeId(emp.getEmployeeId())).withSelfRel();
-        emp.add(self);
-
-        Link all = linkTo(methodOn(EmployeesController.class)
-                .getAllEmployees()).withRel("all-employees");
-        emp.add(all);
-
-        return emp;
+    private UnaryOperator<EmployeeResponseModel> hateoasLinks() {
+        return HateoasLinks.selfAndCollection(linkTo(EmployeesController.class), "all-employees", EmployeeResponseModel::getEmployeeId);
     }
 }
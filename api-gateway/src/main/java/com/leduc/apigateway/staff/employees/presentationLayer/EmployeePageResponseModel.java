@@ -0,0 +1,17 @@
+package com.leduc.apigateway.staff.employees.presentationLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeePageResponseModel {
+    private List<EmployeeSummaryResponseModel> employees;
+    private String nextCursor;
+}
@@ -0,0 +1,23 @@
+package com.leduc.apigateway.staff.employees.presentationLayer;
+
+import com.leduc.apigateway.staff.employees.domainclientLayer.PositionTitle;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeSummaryResponseModel {
+    String employeeId;
+    String firstName;
+    String lastName;
+    String email;
+    BigDecimal salary;
+    String departmentId;
+    PositionTitle positionTitle;
+}
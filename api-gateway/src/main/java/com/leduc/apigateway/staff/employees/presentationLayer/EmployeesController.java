@@ -10,8 +10,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @RestController
 @Slf4j
@@ -25,38 +25,35 @@ public class EmployeesController {
     }
 
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<EmployeeResponseModel>> getAllEmployees() {
-        List<EmployeeResponseModel> employees = employeesService.getAllEmployees();
-        return ResponseEntity.ok(employees);
+    public Flux<EmployeeResponseModel> getAllEmployees() {
+        return employeesService.getAllEmployees();
     }
 
 
     @GetMapping(value = "/{employeeId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<EmployeeResponseModel> getEmployeeByEmployeeId(@PathVariable String employeeId) {
+    public Mono<ResponseEntity<EmployeeResponseModel>> getEmployeeByEmployeeId(@PathVariable String employeeId) {
         log.debug("1. Request Received in API-Gateway Employee Controller: getEmployeeByEmployeeId");
-        return ResponseEntity.ok().body(employeesService.getEmployeeByEmployeeId(employeeId));
+        return employeesService.getEmployeeByEmployeeId(employeeId).map(ResponseEntity::ok);
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<EmployeeResponseModel> createEmployee(@RequestBody EmployeeRequestModel employeeRequest) {
+    public Mono<ResponseEntity<EmployeeResponseModel>> createEmployee(@RequestBody EmployeeRequestModel employeeRequest) {
         log.debug("Request Received in API-Gateway Employees Controller: createEmployee");
-        EmployeeResponseModel createdEmployee = employeesService.createEmployee(employeeRequest);
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdEmployee);
+        return employeesService.createEmployee(employeeRequest)
+                .map(createdEmployee -> ResponseEntity.status(HttpStatus.CREATED).body(createdEmployee));
     }
 
     @PutMapping(value = "/{employeeId}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<EmployeeResponseModel> updateEmployee(@PathVariable String employeeId,
-                                                              @RequestBody EmployeeRequestModel employeeRequest) {
+    public Mono<ResponseEntity<EmployeeResponseModel>> updateEmployee(@PathVariable String employeeId,
+                                                                    @RequestBody EmployeeRequestModel employeeRequest) {
         log.debug("Request Received in API-Gateway Employees Controller: updateEmployee");
-        EmployeeResponseModel updatedEmployee = employeesService.updateEmployee(employeeId, employeeRequest);
-        return ResponseEntity.ok(updatedEmployee);
+        return employeesService.updateEmployee(employeeId, employeeRequest).map(ResponseEntity::ok);
     }
 
     @DeleteMapping(value = "/{employeeId}")
-    public ResponseEntity<Void> deleteEmployee(@PathVariable String employeeId) {
+    public Mono<ResponseEntity<Void>> deleteEmployee(@PathVariable String employeeId) {
         log.debug("Request Received in API-Gateway Employees Controller: deleteEmployee");
-        employeesService.deleteEmployee(employeeId);
-        return ResponseEntity.noContent().build();
+        return employeesService.deleteEmployee(employeeId).then(Mono.just(ResponseEntity.noContent().build()));
     }
     
 }
@@ -0,0 +1,95 @@
+package com.leduc.apigateway.utils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.transport.AddressUtils;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// One non-blocking client, and one connection provider, shared by every downstream client. Callers
+// waiting for a connection queue inside the pool instead of holding a servlet thread, and the queue itself
+// is bounded in length and in time (pending-acquire-timeout) so an overloaded dependency fails fast rather
+// than piling up work. Each downstream service is its own pool with its own limit
+// (app.<service>.max-connections, otherwise app.web-client.max-connections), so one slow service cannot hold
+// every connection. Idle connections are evicted in the background, no connection is reused past
+// max-life-time, and the pools publish the http.client.pool.* meters described in InstrumentedConnectionProvider.
+@Configuration
+public class DownstreamWebClientConfig {
+
+    static final List<String> DOWNSTREAM_SERVICES =
+            List.of("patrons-service", "staff-service", "books-service", "loans-service");
+
+    @Bean(destroyMethod = "dispose")
+    ConnectionProvider downstreamConnectionProvider(
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${app.web-client.max-connections:200}") int maxConnections,
+            @Value("${app.web-client.pending-acquire-max-count:1000}") int pendingAcquireMaxCount,
+            @Value("${app.web-client.pending-acquire-timeout:PT5S}") Duration pendingAcquireTimeout,
+            @Value("${app.web-client.max-idle-time:PT30S}") Duration maxIdleTime,
+            @Value("${app.web-client.max-life-time:PT5M}") Duration maxLifeTime) {
+        Map<String, String> downstreams = new HashMap<>();
+        for (String service : DOWNSTREAM_SERVICES) {
+            String host = environment.getProperty("app." + service + ".host");
+            Integer port = environment.getProperty("app." + service + ".port", Integer.class);
+            if (host != null && port != null) {
+                downstreams.put(host + ":" + port, service);
+            }
+        }
+        return new InstrumentedConnectionProvider(meterRegistry, downstreams, registrar -> {
+            PoolSettings settings = new PoolSettings(pendingAcquireMaxCount, pendingAcquireTimeout, maxIdleTime, maxLifeTime, registrar);
+            ConnectionProvider.Builder builder = settings.applyTo(ConnectionProvider.builder("downstream"), maxConnections);
+            for (String service : DOWNSTREAM_SERVICES) {
+                String host = environment.getProperty("app." + service + ".host");
+                Integer port = environment.getProperty("app." + service + ".port", Integer.class);
+                Integer serviceMaxConnections = environment.getProperty("app." + service + ".max-connections", Integer.class);
+                if (host != null && port != null && serviceMaxConnections != null) {
+                    // keyed the same way the client keys its pools, so the override applies to this service only
+                    builder.forRemoteHost(AddressUtils.createUnresolved(host, port),
+                            spec -> settings.applyTo(spec, serviceMaxConnections));
+                }
+            }
+            return builder.build();
+        });
+    }
+
+    @Bean
+    WebClient downstreamWebClient(WebClient.Builder builder,
+                                  ConnectionProvider downstreamConnectionProvider,
+                                  @Value("${app.web-client.connect-timeout:PT2S}") Duration connectTimeout,
+                                  @Value("${app.web-client.response-timeout:PT5S}") Duration responseTimeout) {
+        HttpClient httpClient = HttpClient.create(downstreamConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout);
+        return builder.clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(new RequestScopedGetCache())
+                .build();
+    }
+
+    // a per-service pool starts from reactor-netty's defaults, not from the shared builder, so both get the same settings
+    private record PoolSettings(int pendingAcquireMaxCount, Duration pendingAcquireTimeout, Duration maxIdleTime,
+                                Duration maxLifeTime, Supplier<ConnectionProvider.MeterRegistrar> registrar) {
+
+        <S extends ConnectionProvider.ConnectionPoolSpec<S>> S applyTo(S spec, int maxConnections) {
+            return spec.maxConnections(maxConnections)
+                    .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                    .pendingAcquireTimeout(pendingAcquireTimeout)
+                    .maxIdleTime(maxIdleTime)
+                    .maxLifeTime(maxLifeTime)
+                    .evictInBackground(maxIdleTime)
+                    .metrics(true, registrar);
+        }
+    }
+}
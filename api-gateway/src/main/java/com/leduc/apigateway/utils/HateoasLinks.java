@@ -0,0 +1,29 @@
+package com.leduc.apigateway.utils;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+// WebMvcLinkBuilder resolves links against the current request, which Spring only binds to the servlet
+// thread that received it, while downstream responses arrive on a client thread. Services therefore call
+// this on the request thread, before going async, and map each response through the returned function,
+// which only appends the already-resolved links and is safe on any thread.
+public final class HateoasLinks {
+
+    private HateoasLinks() {
+    }
+
+    // adds a self link (collection/{id}) and a link to the collection under collectionRel
+    public static <T extends RepresentationModel<? extends T>> UnaryOperator<T> selfAndCollection(
+            WebMvcLinkBuilder collection, String collectionRel, Function<T, String> id) {
+        Link all = collection.withRel(collectionRel);
+        return model -> {
+            model.add(collection.slash(id.apply(model)).withSelfRel());
+            model.add(all);
+            return model;
+        };
+    }
+}
@@ -0,0 +1,170 @@
+package com.leduc.apigateway.utils;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.resolver.AddressResolverGroup;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.transport.TransportConfig;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+// Connection provider that knows which downstream service each remote address belongs to. Every
+// downstream gets leased/pending/available gauges and its limit under http.client.pool.*, and every
+// acquire is timed per downstream and outcome, so time spent queueing for a connection (or opening one
+// when the pool has to grow) shows up separately from time spent on the wire.
+public class InstrumentedConnectionProvider implements ConnectionProvider {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, String> downstreams;
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> gaugedDownstreams = new ConcurrentHashMap<>();
+    private final Map<String, Timer> acquireTimers = new ConcurrentHashMap<>();
+    private final ConnectionProvider delegate;
+
+    // downstreams maps "host:port" to the service name used as the downstream tag; pool builds the real
+    // provider and must enable metrics with the registrar it is given on the shared and every per-host spec
+    public InstrumentedConnectionProvider(MeterRegistry meterRegistry, Map<String, String> downstreams,
+                                          Function<Supplier<MeterRegistrar>, ConnectionProvider> pool) {
+        this.meterRegistry = meterRegistry;
+        this.downstreams = Map.copyOf(downstreams);
+        totalGauge("leased", ConnectionPoolMetrics::acquiredSize);
+        totalGauge("pending", ConnectionPoolMetrics::pendingAcquireSize);
+        totalGauge("available", ConnectionPoolMetrics::idleSize);
+        Gauge.builder("http.client.pool.total.max", this, provider -> provider.sum(any -> true, ConnectionPoolMetrics::maxAllocatedSize))
+                .description("Maximum connections across every downstream")
+                .register(meterRegistry);
+        MeterRegistrar registrar = new PoolRegistrar();
+        this.delegate = pool.apply(() -> registrar);
+    }
+
+    @Override
+    public Mono<? extends Connection> acquire(TransportConfig config, ConnectionObserver observer,
+                                              Supplier<? extends SocketAddress> remoteAddress,
+                                              AddressResolverGroup<?> resolverGroup) {
+        return Mono.defer(() -> {
+            String downstream = downstream(remoteAddress.get());
+            long start = System.nanoTime();
+            return delegate.acquire(config, observer, remoteAddress, resolverGroup)
+                    .doOnSuccess(connection -> record(downstream, "acquired", start))
+                    .doOnError(ex -> record(downstream, ex instanceof TimeoutException ? "timeout" : "failed", start));
+        });
+    }
+
+    @Override
+    public void disposeWhen(SocketAddress address) {
+        delegate.disposeWhen(address);
+    }
+
+    @Override
+    public Mono<Void> disposeLater() {
+        return delegate.disposeLater();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return delegate.isDisposed();
+    }
+
+    @Override
+    public int maxConnections() {
+        return delegate.maxConnections();
+    }
+
+    @Override
+    public Map<SocketAddress, Integer> maxConnectionsPerHost() {
+        return delegate.maxConnectionsPerHost();
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+
+    private String downstream(SocketAddress address) {
+        if (address instanceof InetSocketAddress inet) {
+            String hostAndPort = inet.getHostString() + ":" + inet.getPort();
+            return downstreams.getOrDefault(hostAndPort, hostAndPort);
+        }
+        return String.valueOf(address);
+    }
+
+    private void record(String downstream, String outcome, long start) {
+        acquireTimers.computeIfAbsent(downstream + "|" + outcome, key -> Timer.builder("http.client.pool.acquire")
+                        .description("Time spent waiting for a pooled connection to the downstream")
+                        .tag("downstream", downstream)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    // reactor-netty can keep more than one pool per remote address, so a downstream's gauges add up all of them
+    private int sum(Predicate<String> downstream, ToIntFunction<ConnectionPoolMetrics> value) {
+        int total = 0;
+        for (Pool pool : pools.values()) {
+            if (downstream.test(pool.downstream())) {
+                total += value.applyAsInt(pool.metrics());
+            }
+        }
+        return total;
+    }
+
+    private void totalGauge(String state, ToIntFunction<ConnectionPoolMetrics> value) {
+        Gauge.builder("http.client.pool.total.connections", this, provider -> provider.sum(any -> true, value))
+                .description("Pooled connections by state across every downstream")
+                .tag("state", state)
+                .register(meterRegistry);
+    }
+
+    private void downstreamGauges(String downstream) {
+        if (gaugedDownstreams.putIfAbsent(downstream, Boolean.TRUE) != null) {
+            return;
+        }
+        downstreamGauge(downstream, "leased", ConnectionPoolMetrics::acquiredSize);
+        downstreamGauge(downstream, "pending", ConnectionPoolMetrics::pendingAcquireSize);
+        downstreamGauge(downstream, "available", ConnectionPoolMetrics::idleSize);
+        Gauge.builder("http.client.pool.max", this, provider -> provider.sum(downstream::equals, ConnectionPoolMetrics::maxAllocatedSize))
+                .description("Maximum connections to the downstream")
+                .tag("downstream", downstream)
+                .register(meterRegistry);
+    }
+
+    private void downstreamGauge(String downstream, String state, ToIntFunction<ConnectionPoolMetrics> value) {
+        Gauge.builder("http.client.pool.connections", this, provider -> provider.sum(downstream::equals, value))
+                .description("Pooled connections by state")
+                .tag("downstream", downstream)
+                .tag("state", state)
+                .register(meterRegistry);
+    }
+
+    private record Pool(String downstream, ConnectionPoolMetrics metrics) {
+    }
+
+    private final class PoolRegistrar implements MeterRegistrar {
+
+        @Override
+        public void registerMetrics(String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+            String downstream = downstream(remoteAddress);
+            pools.put(id, new Pool(downstream, metrics));
+            downstreamGauges(downstream);
+        }
+
+        @Override
+        public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+            pools.remove(id);
+        }
+    }
+}
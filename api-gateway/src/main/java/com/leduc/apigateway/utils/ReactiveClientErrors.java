@@ -0,0 +1,28 @@
+package com.leduc.apigateway.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.leduc.apigateway.utils.exceptions.InvalidInputException;
+import com.leduc.apigateway.utils.exceptions.NotFoundException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+// Shared 4xx handling for every downstream client: 404 and 422 from a downstream service become the
+// gateway's own exceptions, carrying the downstream message.
+public final class ReactiveClientErrors {
+
+    private ReactiveClientErrors() {
+    }
+
+    public static Mono<? extends Throwable> toException(ClientResponse response) {
+        boolean notFound = response.statusCode().isSameCodeAs(HttpStatus.NOT_FOUND);
+        if (!notFound && !response.statusCode().isSameCodeAs(HttpStatus.UNPROCESSABLE_ENTITY)) {
+            return response.createException();
+        }
+        return response.bodyToMono(JsonNode.class)
+                .map(body -> body.path("message").asText(""))
+                .onErrorReturn("")
+                .defaultIfEmpty("")
+                .map(message -> notFound ? new NotFoundException(message) : new InvalidInputException(message));
+    }
+}
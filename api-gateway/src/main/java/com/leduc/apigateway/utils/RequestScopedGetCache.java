@@ -0,0 +1,80 @@
+package com.leduc.apigateway.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Memoizes successful downstream GETs for the lifetime of the incoming gateway request, so asking a
+// service for the same resource twice while serving one request costs one round trip, and two identical
+// GETs in flight at once share it. Any other method drops what was memoized, since the write may have
+// changed it. The memo lives in a request attribute, which Spring only binds to the servlet thread, so
+// only calls subscribed on that thread use it; calls made outside a web request (startup, background
+// threads) or chained off another response on a client thread go straight through.
+@Slf4j
+public class RequestScopedGetCache implements ExchangeFilterFunction {
+
+    private static final String RESPONSES_ATTRIBUTE = RequestScopedGetCache.class.getName() + ".responses";
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        Map<String, Mono<BufferedResponse>> responses = currentResponses();
+        if (responses == null) {
+            return next.exchange(request);
+        }
+        if (request.method() != HttpMethod.GET) {
+            responses.clear();
+            return next.exchange(request);
+        }
+
+        String key = request.url().toString();
+        return responses.computeIfAbsent(key, uri -> next.exchange(request)
+                        .flatMap(response -> response.bodyToMono(byte[].class)
+                                .defaultIfEmpty(new byte[0])
+                                .map(body -> new BufferedResponse(response, body)))
+                        // callers already waiting share a failure, later ones try again
+                        .doOnNext(buffered -> {
+                            if (!buffered.response().statusCode().is2xxSuccessful()) {
+                                responses.remove(uri);
+                            }
+                        })
+                        .doOnError(error -> responses.remove(uri))
+                        .cache())
+                .doOnSubscribe(subscription -> log.debug("Downstream GET {} goes through the request memo", key))
+                .map(BufferedResponse::copy);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Mono<BufferedResponse>> currentResponses() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object responses = attributes.getAttribute(RESPONSES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (responses == null) {
+            responses = new ConcurrentHashMap<String, Mono<BufferedResponse>>();
+            attributes.setAttribute(RESPONSES_ATTRIBUTE, responses, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<String, Mono<BufferedResponse>>) responses;
+    }
+
+    // the body of a ClientResponse can only be read once, so it is read here and every caller gets its own copy
+    private record BufferedResponse(ClientResponse response, byte[] body) {
+
+        ClientResponse copy() {
+            return response.mutate()
+                    .body(Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body))))
+                    .build();
+        }
+    }
+}
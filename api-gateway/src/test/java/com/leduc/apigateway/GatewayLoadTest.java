@@ -0,0 +1,124 @@
+package com.leduc.apigateway;
+
+import com.leduc.apigateway.utils.DownstreamStubServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Every controller now hands the servlet thread back while its downstream call is in flight, so a handful of
+// Tomcat threads can keep far more requests open than there are threads.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "server.tomcat.threads.max=4")
+@ActiveProfiles("test")
+class GatewayLoadTest {
+
+    private static final String PATRON_ID     = "123e4567-e89b-12d3-a456-426614174000";
+    private static final String BOOK_ID       = "222e6543-e21b-12d3-a456-426655440000";
+    private static final String EMPLOYEE_ID   = "333e6543-e21b-12d3-a456-426655440000";
+    private static final String DEPARTMENT_ID = "444e6543-e21b-12d3-a456-426655440000";
+
+    private static final Duration DOWNSTREAM_DELAY = Duration.ofMillis(200);
+    private static final int REQUESTS_PER_ENDPOINT = 20;
+
+    // gateway path -> downstream path and canned answer
+    private static final List<String[]> ENDPOINTS = List.of(
+            new String[]{"/api/v1/books", "/api/v1/books", "[{\"bookId\":\"" + BOOK_ID + "\"}]"},
+            new String[]{"/api/v1/patrons/" + PATRON_ID, "/api/v1/patrons/" + PATRON_ID,
+                    "{\"patronId\":\"" + PATRON_ID + "\"}"},
+            new String[]{"/api/v1/patrons/" + PATRON_ID + "/loans", "/api/v1/patrons/" + PATRON_ID + "/loans",
+                    "[{\"loanId\":\"987e6543-e21b-12d3-a456-426655440000\",\"patronId\":\"" + PATRON_ID + "\"}]"},
+            new String[]{"/api/v1/staff", "/api/v1/staff", "[{\"employeeId\":\"" + EMPLOYEE_ID + "\"}]"},
+            new String[]{"/api/v1/departments", "/api/v1/departments",
+                    "[{\"departmentId\":\"" + DEPARTMENT_ID + "\"}]"});
+
+    private static final DownstreamStubServer downstream = DownstreamStubServer.start();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void downstreamServices(DynamicPropertyRegistry registry) {
+        downstream.registerDownstreams(registry);
+    }
+
+    @AfterAll
+    static void stopDownstream() {
+        downstream.stop();
+    }
+
+    @Test
+    void loadTest_everyEndpointReleasesServletThreadsWhileWaitingOnDownstreams() {
+        // 100 requests against 200 ms downstreams with 4 servlet threads: a blocking gateway spends an extra
+        // 100 x 200 ms / 4 = 5 s waiting, the non-blocking one roughly a single downstream wait. The same round
+        // without the delay is the baseline, so the gateway's own CPU time does not count against it.
+        int requests = ENDPOINTS.size() * REQUESTS_PER_ENDPOINT;
+        long blockingWaitMs = requests * DOWNSTREAM_DELAY.toMillis() / 4;
+        ConnectionProvider clientPool = ConnectionProvider.builder("gateway-load-test")
+                .maxConnections(requests)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        WebClient client = WebClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(clientPool)))
+                .build();
+        try {
+            // warm up connections and code paths so the measured rounds are not dominated by first-call costs
+            timedRound(client, Duration.ZERO);
+
+            long baselineMs = timedRound(client, Duration.ZERO);
+            long elapsedMs = timedRound(client, DOWNSTREAM_DELAY);
+
+            long waitingMs = elapsedMs - baselineMs;
+            assertTrue(waitingMs < blockingWaitMs / 2, "expected the servlet threads to be released while waiting, "
+                    + "but the downstream delay added " + waitingMs + " ms against a blocking " + blockingWaitMs + " ms");
+        } finally {
+            clientPool.disposeLater().block();
+        }
+    }
+
+    private static long timedRound(WebClient client, Duration delay) {
+        downstream.reset();
+        expectEveryEndpoint(REQUESTS_PER_ENDPOINT, delay);
+        long start = System.nanoTime();
+        List<String> responses = callEveryEndpoint(client, REQUESTS_PER_ENDPOINT);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        assertEquals(ENDPOINTS.size() * REQUESTS_PER_ENDPOINT, responses.size());
+        downstream.verify();
+        return elapsedMs;
+    }
+
+    private static void expectEveryEndpoint(int times, Duration delay) {
+        for (String[] endpoint : ENDPOINTS) {
+            downstream.expect(HttpMethod.GET, endpoint[1])
+                    .times(times)
+                    .after(delay)
+                    .andRespond(HttpStatus.OK, endpoint[2]);
+        }
+    }
+
+    private static List<String> callEveryEndpoint(WebClient client, int requestsPerEndpoint) {
+        return Flux.fromIterable(ENDPOINTS)
+                .flatMap(endpoint -> Flux.range(0, requestsPerEndpoint).map(i -> endpoint[0]))
+                .flatMap(path -> client.get().uri(path)
+                        .retrieve()
+                        .bodyToMono(String.class), Integer.MAX_VALUE)
+                .collectList()
+                .block(Duration.ofSeconds(30));
+    }
+}
@@ -1,6 +1,10 @@
 package com.leduc.apigateway.books.businessLayer;
 
 import com.leduc.apigateway.books.domainclientLayer.BooksServiceClient;
+import com.leduc.apigateway.books.presentationLayer.BookBatchRequestModel;
+import com.leduc.apigateway.books.presentationLayer.BookBatchResponseModel;
+import com.leduc.apigateway.books.presentationLayer.BookPageRequestModel;
+import com.leduc.apigateway.books.presentationLayer.BookPageResponseModel;
 import com.leduc.apigateway.books.presentationLayer.BookRequestModel;
 import com.leduc.apigateway.books.presentationLayer.BookResponseModel;
 import com.leduc.apigateway.utils.exceptions.InvalidInputException;
@@ -11,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
 
 import java.util.Arrays;
 import java.util.List;
@@ -41,13 +46,17 @@ class BooksServiceUnitTest {
         b1.setBookId("11111111-1111-1111-1111-111111111111");
         BookResponseModel b2 = new BookResponseModel();
         b2.setBookId("22222222-2222-2222-2222-222222222222");
-        when(booksServiceClient.getAllBooks()).thenReturn(Arrays.asList(b1, b2));
+        BookPageRequestModel pageRequest = BookPageRequestModel.builder().limit(2).build();
+        when(booksServiceClient.getAllBooks(pageRequest))
+                .thenReturn(Mono.just(new BookPageResponseModel(Arrays.asList(b1, b2), b2.getBookId())));
 
         // Act
-        List<BookResponseModel> result = service.getAllBooks();
+        BookPageResponseModel page = service.getAllBooks(pageRequest).block();
+        List<BookResponseModel> result = page.getBooks();
 
         // Assert
         assertEquals(2, result.size());
+        assertEquals(b2.getBookId(), page.getNextCursor());
         result.forEach(book -> {
             assertTrue(book.getLink("self").isPresent(), "self link present");
             assertTrue(book.getLink("all-books").isPresent(), "all-books link present");
@@ -57,17 +66,17 @@ class BooksServiceUnitTest {
     @Test
     void getBookById_withInvalidId_throwsInvalidInputException() {
         assertThrows(InvalidInputException.class,
-                () -> service.getBookById("short-id"));
+                () -> service.getBookById("short-id").block());
     }
 
     @Test
     void getBookById_notFound_throwsNotFoundException() {
         String id = "33333333-3333-3333-3333-333333333333";
         when(booksServiceClient.getBookByBookId(id))
-                .thenThrow(EntityNotFoundException.class);
+                .thenReturn(Mono.error(new EntityNotFoundException()));
 
         NotFoundException ex = assertThrows(NotFoundException.class,
-                () -> service.getBookById(id));
+                () -> service.getBookById(id).block());
         assertTrue(ex.getMessage().contains(id));
     }
 
@@ -76,9 +85,9 @@ class BooksServiceUnitTest {
         String id = "44444444-4444-4444-4444-444444444444";
         BookResponseModel model = new BookResponseModel();
         model.setBookId(id);
-        when(booksServiceClient.getBookByBookId(id)).thenReturn(model);
+        when(booksServiceClient.getBookByBookId(id)).thenReturn(Mono.just(model));
 
-        BookResponseModel result = service.getBookById(id);
+        BookResponseModel result = service.getBookById(id).block();
 
         assertEquals(id, result.getBookId());
         assertTrue(result.getLink("self").isPresent());
@@ -88,7 +97,7 @@ class BooksServiceUnitTest {
     @Test
     void createBook_withNullRequest_throwsInvalidInputException() {
         assertThrows(InvalidInputException.class,
-                () -> service.createBook(null));
+                () -> service.createBook(null).block());
     }
 
     @Test
@@ -96,9 +105,9 @@ class BooksServiceUnitTest {
         BookRequestModel req = new BookRequestModel();
         BookResponseModel created = new BookResponseModel();
         created.setBookId("55555555-5555-5555-5555-555555555555");
-        when(booksServiceClient.createBook(req)).thenReturn(created);
+        when(booksServiceClient.createBook(req)).thenReturn(Mono.just(created));
 
-        BookResponseModel result = service.createBook(req);
+        BookResponseModel result = service.createBook(req).block();
 
         assertEquals(created.getBookId(), result.getBookId());
         assertTrue(result.getLink("self").isPresent());
@@ -108,14 +117,14 @@ class BooksServiceUnitTest {
     @Test
     void updateBook_withInvalidId_throwsInvalidInputException() {
         assertThrows(InvalidInputException.class,
-                () -> service.updateBook("bad", new BookRequestModel()));
+                () -> service.updateBook("bad", new BookRequestModel()).block());
     }
 
     @Test
     void updateBook_withNullRequest_throwsInvalidInputException() {
         String id = "66666666-6666-6666-6666-666666666666";
         assertThrows(InvalidInputException.class,
-                () -> service.updateBook(id, null));
+                () -> service.updateBook(id, null).block());
     }
 
     @Test
@@ -123,10 +132,10 @@ class BooksServiceUnitTest {
         String id = "77777777-7777-7777-7777-777777777777";
         BookRequestModel req = new BookRequestModel();
         when(booksServiceClient.updateBook(id, req))
-                .thenThrow(EntityNotFoundException.class);
+                .thenReturn(Mono.error(new EntityNotFoundException()));
 
         NotFoundException ex = assertThrows(NotFoundException.class,
-                () -> service.updateBook(id, req));
+                () -> service.updateBook(id, req).block());
         assertTrue(ex.getMessage().contains(id));
     }
 
@@ -136,9 +145,9 @@ class BooksServiceUnitTest {
         BookRequestModel req = new BookRequestModel();
         BookResponseModel updated = new BookResponseModel();
         updated.setBookId(id);
-        when(booksServiceClient.updateBook(id, req)).thenReturn(updated);
+        when(booksServiceClient.updateBook(id, req)).thenReturn(Mono.just(updated));
 
-        BookResponseModel result = service.updateBook(id, req);
+        BookResponseModel result = service.updateBook(id, req).block();
 
         assertEquals(id, result.getBookId());
         assertTrue(result.getLink("self").isPresent());
@@ -148,27 +157,45 @@ class BooksServiceUnitTest {
     @Test
     void deleteBook_withInvalidId_throwsInvalidInputException() {
         assertThrows(InvalidInputException.class,
-                () -> service.deleteBook("bad-id"));
+                () -> service.deleteBook("bad-id").block());
     }
 
     @Test
     void deleteBook_notFound_throwsNotFoundException() {
         String id = "99999999-9999-9999-9999-999999999999";
-        doThrow(EntityNotFoundException.class)
-                .when(booksServiceClient).deleteBook(id);
+        when(booksServiceClient.deleteBook(id))
+                .thenReturn(Mono.error(new EntityNotFoundException()));
 
         NotFoundException ex = assertThrows(NotFoundException.class,
-                () -> service.deleteBook(id));
+                () -> service.deleteBook(id).block());
         assertTrue(ex.getMessage().contains(id));
     }
 
     @Test
     void deleteBook_success_invokesClientDeleteOnce() {
         String id = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa";
-        doNothing().when(booksServiceClient).deleteBook(id);
+        when(booksServiceClient.deleteBook(id)).thenReturn(Mono.empty());
 
-        service.deleteBook(id);
+        service.deleteBook(id).block();
 
         verify(booksServiceClient, times(1)).deleteBook(id);
     }
+
+    @Test
+    void getBooksInBatch_returnsBooksWithLinksAndMissingIds() {
+        BookResponseModel found = new BookResponseModel();
+        found.setBookId("55555555-5555-5555-5555-555555555555");
+        BookBatchRequestModel request = BookBatchRequestModel.builder()
+                .bookIds(List.of(found.getBookId(), "66666666-6666-6666-6666-666666666666"))
+                .build();
+        when(booksServiceClient.getBooksInBatch(request)).thenReturn(
+                Mono.just(new BookBatchResponseModel(List.of(found), List.of("66666666-6666-6666-6666-666666666666"), List.of())));
+
+        BookBatchResponseModel result = service.getBooksInBatch(request).block();
+
+        assertEquals(1, result.getBooks().size());
+        assertTrue(result.getBooks().get(0).getLink("self").isPresent());
+        assertEquals(List.of("66666666-6666-6666-6666-666666666666"), result.getMissingBookIds());
+        verify(booksServiceClient, times(1)).getBooksInBatch(request);
+    }
 }
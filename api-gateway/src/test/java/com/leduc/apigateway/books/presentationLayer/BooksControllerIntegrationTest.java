@@ -2,6 +2,8 @@ package com.leduc.apigateway.books.presentationLayer;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leduc.apigateway.utils.DownstreamStubServer;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,16 +12,11 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
-import org.springframework.test.web.client.ExpectedCount;
-import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.reactive.server.WebTestClient;
-import org.springframework.web.client.RestTemplate;
-
-import java.net.URI;
 
 import static org.mockito.Mockito.when;
-import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
-import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -29,22 +26,29 @@ class BooksControllerIntegrationTest {
     @Autowired
     WebTestClient webClient;
 
-    @Autowired
-    RestTemplate restTemplate;
-
-    private MockRestServiceServer mockServer;
+    private static final DownstreamStubServer downstream = DownstreamStubServer.start();
     private final ObjectMapper mapper = new ObjectMapper();
 
     private static final String API_BASE = "/api/v1/books";
-    private static final String SERVICE_BASE = "http://localhost:7003/api/v1/books";
+    private static final String SERVICE_BASE = "/api/v1/books";
 
     private final String VALID_ID   = "123e4567-e89b-12d3-a456-426614174000";
     private final String MISSING_ID = "00000000-0000-0000-0000-000000000000";
     private final String BAD_ID     = "short-id";
 
+    @DynamicPropertySource
+    static void downstreamServices(DynamicPropertyRegistry registry) {
+        downstream.registerDownstreams(registry);
+    }
+
     @BeforeEach
     void init() {
-        mockServer = MockRestServiceServer.createServer(restTemplate);
+        downstream.reset();
+    }
+
+    @AfterAll
+    static void stopDownstream() {
+        downstream.stop();
     }
 
     @Test
@@ -53,10 +57,8 @@ class BooksControllerIntegrationTest {
         var book = new BookResponseModel();
         book.setBookId(VALID_ID);
 
-        mockServer.expect(ExpectedCount.once(), requestTo(SERVICE_BASE))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withSuccess(mapper.writeValueAsString(new BookResponseModel[]{ book }),
-                        MediaType.APPLICATION_JSON));
+        downstream.expect(HttpMethod.GET, SERVICE_BASE)
+                .andRespond(HttpStatus.OK, mapper.writeValueAsString(new BookResponseModel[]{ book }));
 
         webClient.get().uri(API_BASE)
                 .exchange()
@@ -68,11 +70,44 @@ class BooksControllerIntegrationTest {
                 });
     }
 
+    @Test
+    void whenGetAllBooksWithCursorAndFilters_thenPassThroughAndReturnNextCursor() throws JsonProcessingException {
+        var book = new BookResponseModel();
+        book.setBookId(VALID_ID);
+
+        downstream.expect(HttpMethod.GET, SERVICE_BASE + "?after=" + MISSING_ID + "&limit=1&genre=FICTION&available=true")
+                .withHeader("X-Next-Cursor", VALID_ID)
+                .andRespond(HttpStatus.OK, mapper.writeValueAsString(new BookResponseModel[]{ book }));
+
+        webClient.get().uri(API_BASE + "?after=" + MISSING_ID + "&limit=1&genre=FICTION&available=true")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Next-Cursor", VALID_ID)
+                .expectBodyList(BookResponseModel.class)
+                .hasSize(1);
+        downstream.verify();
+    }
+
+    @Test
+    void whenSearchBooks_thenForwardQueryAndReturnBooks() throws JsonProcessingException {
+        var book = new BookResponseModel();
+        book.setBookId(VALID_ID);
+
+        downstream.expect(HttpMethod.GET, SERVICE_BASE + "/search?q=brief%20history&limit=5")
+                .andRespond(HttpStatus.OK, mapper.writeValueAsString(new BookResponseModel[]{ book }));
+
+        webClient.get().uri(API_BASE + "/search?q=brief history&limit=5")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].bookId").isEqualTo(VALID_ID);
+        downstream.verify();
+    }
+
     @Test
     void whenGetAllBooksAndNoneExist_thenReturnEmptyList() {
-        mockServer.expect(ExpectedCount.once(), requestTo(SERVICE_BASE))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+        downstream.expect(HttpMethod.GET, SERVICE_BASE)
+                .andRespond(HttpStatus.OK, "[]");
 
         webClient.get().uri(API_BASE)
                 .exchange()
@@ -86,10 +121,8 @@ class BooksControllerIntegrationTest {
         var book = new BookResponseModel();
         book.setBookId(VALID_ID);
 
-        mockServer.expect(ExpectedCount.once(), requestTo(new URI(SERVICE_BASE + "/" + VALID_ID)))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withSuccess(mapper.writeValueAsString(book),
-                        MediaType.APPLICATION_JSON));
+        downstream.expect(HttpMethod.GET, SERVICE_BASE + "/" + VALID_ID)
+                .andRespond(HttpStatus.OK, mapper.writeValueAsString(book));
 
         webClient.get().uri(API_BASE + "/" + VALID_ID)
                 .exchange()
@@ -100,9 +133,8 @@ class BooksControllerIntegrationTest {
 
     @Test
     void whenGetBookByIdNotFound_thenReturn404() {
-        mockServer.expect(ExpectedCount.once(), requestTo(SERVICE_BASE + "/" + MISSING_ID))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        downstream.expect(HttpMethod.GET, SERVICE_BASE + "/" + MISSING_ID)
+                .andRespond(HttpStatus.NOT_FOUND);
 
         webClient.get().uri(API_BASE + "/" + MISSING_ID)
                 .exchange()
@@ -126,12 +158,8 @@ class BooksControllerIntegrationTest {
         created.setBookId(VALID_ID);
         created.setTitle("Effective Java");
 
-        mockServer.expect(ExpectedCount.once(), requestTo(SERVICE_BASE))
-                .andExpect(method(HttpMethod.POST))
-                .andRespond(withStatus(HttpStatus.CREATED)
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .body(mapper.writeValueAsString(created))
-                );
+        downstream.expect(HttpMethod.POST, SERVICE_BASE)
+                .andRespond(HttpStatus.CREATED, mapper.writeValueAsString(created));
 
         webClient.post().uri(API_BASE)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -147,10 +175,8 @@ class BooksControllerIntegrationTest {
 
     @Test
     void whenCreateBookInvalid_thenReturn422() {
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(SERVICE_BASE))
-                .andExpect(method(HttpMethod.POST))
-                .andRespond(withStatus(HttpStatus.UNPROCESSABLE_ENTITY));
+        downstream.expect(HttpMethod.POST, SERVICE_BASE)
+                .andRespond(HttpStatus.UNPROCESSABLE_ENTITY);
 
         webClient.post()
                 .uri(API_BASE)
@@ -159,7 +185,7 @@ class BooksControllerIntegrationTest {
                 .exchange()
                 .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
@@ -172,15 +198,12 @@ class BooksControllerIntegrationTest {
         updated.setTitle("Updated Title");
 
         // stub PUT
-        mockServer.expect(ExpectedCount.once(), requestTo(new URI(SERVICE_BASE + "/" + VALID_ID)))
-                .andExpect(method(HttpMethod.PUT))
-                .andRespond(withStatus(HttpStatus.OK));
+        downstream.expect(HttpMethod.PUT, SERVICE_BASE + "/" + VALID_ID)
+                .andRespond(HttpStatus.OK);
 
         // stub follow-up GET by id
-        mockServer.expect(ExpectedCount.once(), requestTo(new URI(SERVICE_BASE + "/" + VALID_ID)))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withSuccess(mapper.writeValueAsString(updated),
-                        MediaType.APPLICATION_JSON));
+        downstream.expect(HttpMethod.GET, SERVICE_BASE + "/" + VALID_ID)
+                .andRespond(HttpStatus.OK, mapper.writeValueAsString(updated));
 
         webClient.put().uri(API_BASE + "/" + VALID_ID)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -193,9 +216,8 @@ class BooksControllerIntegrationTest {
 
     @Test
     void whenUpdateBookNotFound_thenReturn404() {
-        mockServer.expect(ExpectedCount.once(), requestTo(SERVICE_BASE + "/" + MISSING_ID))
-                .andExpect(method(HttpMethod.PUT))
-                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        downstream.expect(HttpMethod.PUT, SERVICE_BASE + "/" + MISSING_ID)
+                .andRespond(HttpStatus.NOT_FOUND);
 
         webClient.put().uri(API_BASE + "/" + MISSING_ID)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -215,9 +237,8 @@ class BooksControllerIntegrationTest {
 
     @Test
     void whenDeleteBook_thenReturn204() {
-        mockServer.expect(ExpectedCount.once(), requestTo(SERVICE_BASE + "/" + VALID_ID))
-                .andExpect(method(HttpMethod.DELETE))
-                .andRespond(withStatus(HttpStatus.NO_CONTENT));
+        downstream.expect(HttpMethod.DELETE, SERVICE_BASE + "/" + VALID_ID)
+                .andRespond(HttpStatus.NO_CONTENT);
 
         webClient.delete().uri(API_BASE + "/" + VALID_ID)
                 .exchange()
@@ -226,9 +247,8 @@ class BooksControllerIntegrationTest {
 
     @Test
     void whenDeleteBookNotFound_thenReturn404() {
-        mockServer.expect(ExpectedCount.once(), requestTo(SERVICE_BASE + "/" + MISSING_ID))
-                .andExpect(method(HttpMethod.DELETE))
-                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        downstream.expect(HttpMethod.DELETE, SERVICE_BASE + "/" + MISSING_ID)
+                .andRespond(HttpStatus.NOT_FOUND);
 
         webClient.delete().uri(API_BASE + "/" + MISSING_ID)
                 .exchange()
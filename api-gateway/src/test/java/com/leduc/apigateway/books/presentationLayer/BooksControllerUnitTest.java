@@ -9,6 +9,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.*;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Mono;
 
 import java.util.Collections;
 import java.util.List;
@@ -32,20 +33,21 @@ class BooksControllerUnitTest {
 
     @Test
     void getAllBooks_thenOk() {
-        when(booksService.getAllBooks()).thenReturn(Collections.emptyList());
+        when(booksService.getAllBooks(any())).thenReturn(Mono.just(new BookPageResponseModel(Collections.emptyList(), null)));
 
-        ResponseEntity<List<BookResponseModel>> resp = booksController.getAllBooks();
+        ResponseEntity<List<BookResponseModel>> resp = booksController.getAllBooks(new BookPageRequestModel()).block();
         assertEquals(HttpStatus.OK, resp.getStatusCode());
         assertTrue(resp.getBody().isEmpty());
+        assertFalse(resp.getHeaders().containsKey("X-Next-Cursor"));
     }
 
     @Test
     void getBookById_thenOk() {
         var book = new BookResponseModel();
         book.setBookId(VALID_ID);
-        when(booksService.getBookById(VALID_ID)).thenReturn(book);
+        when(booksService.getBookById(VALID_ID)).thenReturn(Mono.just(book));
 
-        ResponseEntity<BookResponseModel> resp = booksController.getBookById(VALID_ID);
+        ResponseEntity<BookResponseModel> resp = booksController.getBookById(VALID_ID).block();
         assertEquals(HttpStatus.OK, resp.getStatusCode());
         assertEquals(VALID_ID, resp.getBody().getBookId());
     }
@@ -53,10 +55,10 @@ class BooksControllerUnitTest {
     @Test
     void getBookById_notFound_throwsNotFound() {
         when(booksService.getBookById(MISSING_ID))
-                .thenThrow(new NotFoundException("Book not found"));
+                .thenReturn(Mono.error(new NotFoundException("Book not found")));
 
         NotFoundException ex = assertThrows(NotFoundException.class, () ->
-                booksController.getBookById(MISSING_ID)
+                booksController.getBookById(MISSING_ID).block()
         );
         assertEquals("Book not found", ex.getMessage());
     }
@@ -64,10 +66,10 @@ class BooksControllerUnitTest {
     @Test
     void getBookById_invalid_throwsInvalidInput() {
         when(booksService.getBookById(BAD_ID))
-                .thenThrow(new InvalidInputException("Invalid book ID"));
+                .thenReturn(Mono.error(new InvalidInputException("Invalid book ID")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                booksController.getBookById(BAD_ID)
+                booksController.getBookById(BAD_ID).block()
         );
         assertEquals("Invalid book ID", ex.getMessage());
     }
@@ -79,9 +81,9 @@ class BooksControllerUnitTest {
 
         var created = new BookResponseModel();
         created.setBookId(VALID_ID);
-        when(booksService.createBook(req)).thenReturn(created);
+        when(booksService.createBook(req)).thenReturn(Mono.just(created));
 
-        ResponseEntity<BookResponseModel> resp = booksController.createBook(req);
+        ResponseEntity<BookResponseModel> resp = booksController.createBook(req).block();
         assertEquals(HttpStatus.CREATED, resp.getStatusCode());
         assertEquals(VALID_ID, resp.getBody().getBookId());
     }
@@ -89,10 +91,10 @@ class BooksControllerUnitTest {
     @Test
     void createBook_null_throwsInvalidInput() {
         when(booksService.createBook(null))
-                .thenThrow(new InvalidInputException("BookRequestModel must not be null"));
+                .thenReturn(Mono.error(new InvalidInputException("BookRequestModel must not be null")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                booksController.createBook(null)
+                booksController.createBook(null).block()
         );
         assertEquals("BookRequestModel must not be null", ex.getMessage());
     }
@@ -104,9 +106,9 @@ class BooksControllerUnitTest {
 
         var updated = new BookResponseModel();
         updated.setBookId(VALID_ID);
-        when(booksService.updateBook(VALID_ID, req)).thenReturn(updated);
+        when(booksService.updateBook(VALID_ID, req)).thenReturn(Mono.just(updated));
 
-        ResponseEntity<BookResponseModel> resp = booksController.updateBook(VALID_ID, req);
+        ResponseEntity<BookResponseModel> resp = booksController.updateBook(VALID_ID, req).block();
         assertEquals(HttpStatus.OK, resp.getStatusCode());
         assertEquals(updated.getTitle(), resp.getBody().getTitle());
     }
@@ -115,10 +117,10 @@ class BooksControllerUnitTest {
     void updateBook_notFound_throwsNotFound() {
         var req = new BookRequestModel();
         when(booksService.updateBook(MISSING_ID, req))
-                .thenThrow(new NotFoundException("Book not found"));
+                .thenReturn(Mono.error(new NotFoundException("Book not found")));
 
         NotFoundException ex = assertThrows(NotFoundException.class, () ->
-                booksController.updateBook(MISSING_ID, req)
+                booksController.updateBook(MISSING_ID, req).block()
         );
         assertEquals("Book not found", ex.getMessage());
     }
@@ -127,10 +129,10 @@ class BooksControllerUnitTest {
     void updateBook_invalid_throwsInvalidInput() {
         var req = new BookRequestModel();
         when(booksService.updateBook(BAD_ID, req))
-                .thenThrow(new InvalidInputException("Invalid book ID"));
+                .thenReturn(Mono.error(new InvalidInputException("Invalid book ID")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                booksController.updateBook(BAD_ID, req)
+                booksController.updateBook(BAD_ID, req).block()
         );
         assertEquals("Invalid book ID", ex.getMessage());
     }
@@ -138,30 +140,30 @@ class BooksControllerUnitTest {
     @Test
     void deleteBook_thenNoContent() {
         // service does nothing
-        doNothing().when(booksService).deleteBook(VALID_ID);
+        when(booksService.deleteBook(VALID_ID)).thenReturn(Mono.empty());
 
-        ResponseEntity<Void> resp = booksController.deleteBook(VALID_ID);
+        ResponseEntity<Void> resp = booksController.deleteBook(VALID_ID).block();
         assertEquals(HttpStatus.NO_CONTENT, resp.getStatusCode());
     }
 
     @Test
     void deleteBook_notFound_throwsNotFound() {
-        doThrow(new NotFoundException("Book not found"))
-                .when(booksService).deleteBook(MISSING_ID);
+        when(booksService.deleteBook(MISSING_ID))
+                .thenReturn(Mono.error(new NotFoundException("Book not found")));
 
         NotFoundException ex = assertThrows(NotFoundException.class, () ->
-                booksController.deleteBook(MISSING_ID)
+                booksController.deleteBook(MISSING_ID).block()
         );
         assertEquals("Book not found", ex.getMessage());
     }
 
     @Test
     void deleteBook_invalid_throwsInvalidInput() {
-        doThrow(new InvalidInputException("Invalid book ID"))
-                .when(booksService).deleteBook(BAD_ID);
+        when(booksService.deleteBook(BAD_ID))
+                .thenReturn(Mono.error(new InvalidInputException("Invalid book ID")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                booksController.deleteBook(BAD_ID)
+                booksController.deleteBook(BAD_ID).block()
         );
         assertEquals("Invalid book ID", ex.getMessage());
     }
@@ -3,7 +3,6 @@ package com.leduc.apigateway.loans.businessLayer;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
-import com.leduc.apigateway.books.domainclientLayer.BooksServiceClient;
 import com.leduc.apigateway.loans.domainclientLayer.LoansServiceClient;
 import com.leduc.apigateway.loans.presentationLayer.LoanRequestModel;
 import com.leduc.apigateway.loans.presentationLayer.LoanResponseModel;
@@ -15,8 +14,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -31,7 +31,6 @@ import static org.junit.jupiter.api.Assertions.*;
 class LoansServiceUnitTest {
 
     @Mock private LoansServiceClient loansServiceClient;
-    @Mock private BooksServiceClient booksServiceClient;
     @InjectMocks private LoansServiceImpl service;
 
     @Test
@@ -41,9 +40,9 @@ class LoansServiceUnitTest {
         l.setPatronId(patronId);
         l.setLoanId("11111111-1111-1111-1111-111111111111");
         when(loansServiceClient.getAllLoans(patronId))
-                .thenReturn(Arrays.asList(l));
+                .thenReturn(Flux.just(l));
 
-        List<LoanResponseModel> result = service.getAllLoans(patronId);
+        List<LoanResponseModel> result = service.getAllLoans(patronId).collectList().block();
 
         assertEquals(1, result.size());
         LoanResponseModel r = result.get(0);
@@ -55,7 +54,7 @@ class LoansServiceUnitTest {
     void getLoanById_withInvalidLoanId_throwsInvalidInputException() {
         String patronId = UUID.randomUUID().toString();
         assertThrows(InvalidInputException.class,
-                () -> service.getLoanById(patronId, "too-short"));
+                () -> service.getLoanById(patronId, "too-short").block());
     }
 
     @Test
@@ -63,9 +62,19 @@ class LoansServiceUnitTest {
         String patronId = UUID.randomUUID().toString();
         String loanId = UUID.randomUUID().toString();
         when(loansServiceClient.getLoanById(patronId, loanId))
-                .thenThrow(new NotFoundException("not found"));
+                .thenReturn(Mono.error(new NotFoundException("not found")));
         NotFoundException ex = assertThrows(NotFoundException.class,
-                () -> service.getLoanById(patronId, loanId));
+                () -> service.getLoanById(patronId, loanId).block());
+        assertTrue(ex.getMessage().contains(loanId));
+    }
+
+    @Test
+    void getLoanById_emptyResponse_throwsNotFoundException() {
+        String patronId = UUID.randomUUID().toString();
+        String loanId = UUID.randomUUID().toString();
+        when(loansServiceClient.getLoanById(patronId, loanId)).thenReturn(Mono.empty());
+        NotFoundException ex = assertThrows(NotFoundException.class,
+                () -> service.getLoanById(patronId, loanId).block());
         assertTrue(ex.getMessage().contains(loanId));
     }
 
@@ -73,7 +82,7 @@ class LoansServiceUnitTest {
     void addLoan_withNullRequest_throwsInvalidInputException() {
         String patronId = UUID.randomUUID().toString();
         assertThrows(InvalidInputException.class,
-                () -> service.addLoan(null, patronId));
+                () -> service.addLoan(null, patronId).block());
     }
 
     @Test
@@ -83,9 +92,9 @@ class LoansServiceUnitTest {
         LoanResponseModel created = new LoanResponseModel();
         created.setPatronId(patronId);
         created.setLoanId(UUID.randomUUID().toString());
-        when(loansServiceClient.createLoan(patronId, req)).thenReturn(created);
+        when(loansServiceClient.createLoan(patronId, req)).thenReturn(Mono.just(created));
 
-        LoanResponseModel result = service.addLoan(req, patronId);
+        LoanResponseModel result = service.addLoan(req, patronId).block();
 
         assertEquals(created.getLoanId(), result.getLoanId());
         assertTrue(result.getLink("self").isPresent());
@@ -96,7 +105,7 @@ class LoansServiceUnitTest {
     void updateLoan_withInvalidId_throwsInvalidInputException() {
         String patronId = UUID.randomUUID().toString();
         assertThrows(InvalidInputException.class,
-                () -> service.updateLoan(new LoanRequestModel(), patronId, "bad-id"));
+                () -> service.updateLoan(new LoanRequestModel(), patronId, "bad-id").block());
     }
 
     @Test
@@ -104,7 +113,7 @@ class LoansServiceUnitTest {
         String patronId = UUID.randomUUID().toString();
         String loanId   = UUID.randomUUID().toString();
         assertThrows(InvalidInputException.class,
-                () -> service.updateLoan(null, patronId, loanId));
+                () -> service.updateLoan(null, patronId, loanId).block());
     }
 
     @Test
@@ -113,9 +122,9 @@ class LoansServiceUnitTest {
         String loanId   = UUID.randomUUID().toString();
         LoanRequestModel req = new LoanRequestModel();
         when(loansServiceClient.updateLoan(patronId, loanId, req))
-                .thenThrow(new NotFoundException("not found"));
+                .thenReturn(Mono.error(new NotFoundException("not found")));
         NotFoundException ex = assertThrows(NotFoundException.class,
-                () -> service.updateLoan(req, patronId, loanId));
+                () -> service.updateLoan(req, patronId, loanId).block());
         assertTrue(ex.getMessage().contains(loanId));
     }
 
@@ -127,9 +136,9 @@ class LoansServiceUnitTest {
         LoanResponseModel updated = new LoanResponseModel();
         updated.setPatronId(patronId);
         updated.setLoanId(loanId);
-        when(loansServiceClient.updateLoan(patronId, loanId, req)).thenReturn(updated);
+        when(loansServiceClient.updateLoan(patronId, loanId, req)).thenReturn(Mono.just(updated));
 
-        LoanResponseModel result = service.updateLoan(req, patronId, loanId);
+        LoanResponseModel result = service.updateLoan(req, patronId, loanId).block();
 
         assertEquals(loanId, result.getLoanId());
         assertTrue(result.getLink("self").isPresent());
@@ -140,18 +149,18 @@ class LoansServiceUnitTest {
     void removeLoan_withInvalidId_throwsInvalidInputException() {
         String patronId = UUID.randomUUID().toString();
         assertThrows(InvalidInputException.class,
-                () -> service.removeLoan(patronId, "short"));
+                () -> service.removeLoan(patronId, "short").block());
     }
 
     @Test
     void removeLoan_notFound_throwsNotFoundException() {
         String patronId = UUID.randomUUID().toString();
         String loanId   = UUID.randomUUID().toString();
-        doThrow(new NotFoundException("not found"))
-                .when(loansServiceClient).deleteLoan(patronId, loanId);
+        when(loansServiceClient.deleteLoan(patronId, loanId))
+                .thenReturn(Mono.error(new NotFoundException("not found")));
 
         NotFoundException ex = assertThrows(NotFoundException.class,
-                () -> service.removeLoan(patronId, loanId));
+                () -> service.removeLoan(patronId, loanId).block());
         assertTrue(ex.getMessage().contains(loanId));
     }
 
@@ -159,9 +168,9 @@ class LoansServiceUnitTest {
     void removeLoan_success_invokesClientDeleteOnce() {
         String patronId = UUID.randomUUID().toString();
         String loanId   = UUID.randomUUID().toString();
-        doNothing().when(loansServiceClient).deleteLoan(patronId, loanId);
+        when(loansServiceClient.deleteLoan(patronId, loanId)).thenReturn(Mono.empty());
 
-        service.removeLoan(patronId, loanId);
+        service.removeLoan(patronId, loanId).block();
 
         verify(loansServiceClient, times(1)).deleteLoan(patronId, loanId);
     }
@@ -170,7 +179,7 @@ class LoansServiceUnitTest {
     void getLoanById_nullLoanId_throwsInvalidInputException() {
         String patronId = UUID.randomUUID().toString();
         assertThrows(InvalidInputException.class,
-                () -> service.getLoanById(patronId, null));
+                () -> service.getLoanById(patronId, null).block());
     }
 
     @Test
@@ -178,13 +187,13 @@ class LoansServiceUnitTest {
         String patronId = UUID.randomUUID().toString();
         LoanRequestModel req = new LoanRequestModel();
         assertThrows(InvalidInputException.class,
-                () -> service.updateLoan(req, patronId, null));
+                () -> service.updateLoan(req, patronId, null).block());
     }
 
     @Test
     void removeLoan_nullLoanId_throwsInvalidInputException() {
         String patronId = UUID.randomUUID().toString();
         assertThrows(InvalidInputException.class,
-                () -> service.removeLoan(patronId, null));
+                () -> service.removeLoan(patronId, null).block());
     }
 }
\ No newline at end of file
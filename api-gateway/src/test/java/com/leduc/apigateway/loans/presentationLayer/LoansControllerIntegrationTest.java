@@ -3,6 +3,8 @@ package com.leduc.apigateway.loans.presentationLayer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.leduc.apigateway.loans.domainclientLayer.LoanStatus;
+import com.leduc.apigateway.utils.DownstreamStubServer;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,18 +13,12 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
-import org.springframework.test.web.client.ExpectedCount;
-import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.reactive.server.WebTestClient;
-import org.springframework.web.client.RestTemplate;
-
-import java.net.URI;
-import java.net.URISyntaxException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
-import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
@@ -31,23 +27,30 @@ class LoansControllerIntegrationTest {
     @Autowired
     private WebTestClient webClient;
 
-    @Autowired
-    private RestTemplate restTemplate;
-
-    private MockRestServiceServer mockServer;
+    private static final DownstreamStubServer downstream = DownstreamStubServer.start();
     private final ObjectMapper mapper = new ObjectMapper();
 
     private static final String API_BASE     = "/api/v1/patrons";
-    private static final String SERVICE_BASE = "http://localhost:7004/api/v1/patrons";
+    private static final String SERVICE_BASE = "/api/v1/patrons";
 
     private final String PATRON_ID        = "123e4567-e89b-12d3-a456-426614174000";
     private final String LOAN_ID          = "987e6543-e21b-12d3-a456-426655440000";
     private final String MISSING_LOAN_ID  = "00000000-0000-0000-0000-000000000000";
     private final String BAD_ID           = "bad-id";
 
+    @DynamicPropertySource
+    static void downstreamServices(DynamicPropertyRegistry registry) {
+        downstream.registerDownstreams(registry);
+    }
+
     @BeforeEach
     void init() {
-        mockServer = MockRestServiceServer.createServer(restTemplate);
+        downstream.reset();
+    }
+
+    @AfterAll
+    static void stopDownstream() {
+        downstream.stop();
     }
 
     @Test
@@ -56,13 +59,8 @@ class LoansControllerIntegrationTest {
         loan.setPatronId(PATRON_ID);
         loan.setLoanId(LOAN_ID);
 
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(SERVICE_BASE + "/" + PATRON_ID + "/loans"))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withSuccess(
-                        mapper.writeValueAsString(new LoanResponseModel[]{ loan }),
-                        MediaType.APPLICATION_JSON
-                ));
+        downstream.expect(HttpMethod.GET, SERVICE_BASE + "/" + PATRON_ID + "/loans")
+                .andRespond(HttpStatus.OK,  mapper.writeValueAsString(new LoanResponseModel[]{ loan }));
 
         webClient.get().uri(API_BASE + "/" + PATRON_ID + "/loans")
                 .exchange()
@@ -84,10 +82,8 @@ class LoansControllerIntegrationTest {
 
     @Test
     void whenGetAllLoansAndNoneExist_thenReturnEmptyList() {
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(SERVICE_BASE + "/" + PATRON_ID + "/loans"))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+        downstream.expect(HttpMethod.GET, SERVICE_BASE + "/" + PATRON_ID + "/loans")
+                .andRespond(HttpStatus.OK, "[]");
 
         webClient.get().uri(API_BASE + "/" + PATRON_ID + "/loans")
                 .exchange()
@@ -98,15 +94,13 @@ class LoansControllerIntegrationTest {
 
     @Test
     void whenGetLoanByIdExists_thenReturnLoan() throws Exception {
-        // We need TWO GETs: one for existence check, one to return
+        // a single GET: the gateway no longer checks existence before fetching
         var loan = new LoanResponseModel();
         loan.setPatronId(PATRON_ID);
         loan.setLoanId(LOAN_ID);
 
-        mockServer.expect(ExpectedCount.twice(),
-                        requestTo(new URI(SERVICE_BASE + "/" + PATRON_ID + "/loans/" + LOAN_ID)))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withSuccess(mapper.writeValueAsString(loan), MediaType.APPLICATION_JSON));
+        downstream.expect(HttpMethod.GET, SERVICE_BASE + "/" + PATRON_ID + "/loans/" + LOAN_ID)
+                .andRespond(HttpStatus.OK, mapper.writeValueAsString(loan));
 
         webClient.get()
                 .uri(API_BASE + "/" + PATRON_ID + "/loans/" + LOAN_ID)
@@ -115,15 +109,13 @@ class LoansControllerIntegrationTest {
                 .expectBody(LoanResponseModel.class)
                 .value(resp -> assertEquals(LOAN_ID, resp.getLoanId()));
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
     void whenGetLoanByIdNotFound_thenReturn404() {
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(SERVICE_BASE + "/" + PATRON_ID + "/loans/" + MISSING_LOAN_ID))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        downstream.expect(HttpMethod.GET, SERVICE_BASE + "/" + PATRON_ID + "/loans/" + MISSING_LOAN_ID)
+                .andRespond(HttpStatus.NOT_FOUND);
 
         webClient.get().uri(API_BASE + "/" + PATRON_ID + "/loans/" + MISSING_LOAN_ID)
                 .exchange()
@@ -149,13 +141,8 @@ class LoansControllerIntegrationTest {
         created.setLoanId(LOAN_ID);
         created.setStatus(LoanStatus.CHECKED_OUT);
 
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(SERVICE_BASE + "/" + PATRON_ID + "/loans"))
-                .andExpect(method(HttpMethod.POST))
-                .andRespond(withStatus(HttpStatus.CREATED)
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .body(mapper.writeValueAsString(created))
-                );
+        downstream.expect(HttpMethod.POST, SERVICE_BASE + "/" + PATRON_ID + "/loans")
+                .andRespond(HttpStatus.CREATED, mapper.writeValueAsString(created));
 
         webClient.post().uri(API_BASE + "/" + PATRON_ID + "/loans")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -171,10 +158,8 @@ class LoansControllerIntegrationTest {
 
     @Test
     void whenCreateLoanInvalid_thenReturn422() {
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(SERVICE_BASE + "/" + PATRON_ID + "/loans"))
-                .andExpect(method(HttpMethod.POST))
-                .andRespond(withStatus(HttpStatus.UNPROCESSABLE_ENTITY));
+        downstream.expect(HttpMethod.POST, SERVICE_BASE + "/" + PATRON_ID + "/loans")
+                .andRespond(HttpStatus.UNPROCESSABLE_ENTITY);
 
         webClient.post().uri(API_BASE + "/" + PATRON_ID + "/loans")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -194,20 +179,9 @@ class LoansControllerIntegrationTest {
         updated.setLoanId(LOAN_ID);
         updated.setStatus(LoanStatus.RETURNED);
 
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(new URI(SERVICE_BASE + "/" + PATRON_ID + "/loans/" + LOAN_ID)))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withSuccess(mapper.writeValueAsString(updated), MediaType.APPLICATION_JSON));
-
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(new URI(SERVICE_BASE + "/" + PATRON_ID + "/loans/" + LOAN_ID)))
-                .andExpect(method(HttpMethod.PUT))
-                .andRespond(withStatus(HttpStatus.OK));
-
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(new URI(SERVICE_BASE + "/" + PATRON_ID + "/loans/" + LOAN_ID)))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withSuccess(mapper.writeValueAsString(updated), MediaType.APPLICATION_JSON));
+        // the PUT response is relayed as is, without an existence check before or a read back after
+        downstream.expect(HttpMethod.PUT, SERVICE_BASE + "/" + PATRON_ID + "/loans/" + LOAN_ID)
+                .andRespond(HttpStatus.OK, mapper.writeValueAsString(updated));
 
         webClient.put()
                 .uri(API_BASE + "/" + PATRON_ID + "/loans/" + LOAN_ID)
@@ -218,16 +192,13 @@ class LoansControllerIntegrationTest {
                 .expectBody(LoanResponseModel.class)
                 .value(resp -> assertEquals(LoanStatus.RETURNED, resp.getStatus()));
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
     void whenUpdateLoanNotFound_thenReturn404() throws Exception {
-        // GET existence → 404
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(new URI(SERVICE_BASE + "/" + PATRON_ID + "/loans/" + MISSING_LOAN_ID)))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        downstream.expect(HttpMethod.PUT, SERVICE_BASE + "/" + PATRON_ID + "/loans/" + MISSING_LOAN_ID)
+                .andRespond(HttpStatus.NOT_FOUND);
 
         webClient.put()
                 .uri(API_BASE + "/" + PATRON_ID + "/loans/" + MISSING_LOAN_ID)
@@ -236,7 +207,7 @@ class LoansControllerIntegrationTest {
                 .exchange()
                 .expectStatus().isNotFound();
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
@@ -250,41 +221,28 @@ class LoansControllerIntegrationTest {
 
     @Test
     void whenDeleteLoan_thenReturn204() throws Exception {
-        var existing = new LoanResponseModel();
-        existing.setPatronId(PATRON_ID);
-        existing.setLoanId(LOAN_ID);
-
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(new URI(SERVICE_BASE + "/" + PATRON_ID + "/loans/" + LOAN_ID)))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withSuccess(mapper.writeValueAsString(existing), MediaType.APPLICATION_JSON));
-
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(new URI(SERVICE_BASE + "/" + PATRON_ID + "/loans/" + LOAN_ID)))
-                .andExpect(method(HttpMethod.DELETE))
-                .andRespond(withStatus(HttpStatus.NO_CONTENT));
+        downstream.expect(HttpMethod.DELETE, SERVICE_BASE + "/" + PATRON_ID + "/loans/" + LOAN_ID)
+                .andRespond(HttpStatus.NO_CONTENT);
 
         webClient.delete()
                 .uri(API_BASE + "/" + PATRON_ID + "/loans/" + LOAN_ID)
                 .exchange()
                 .expectStatus().isNoContent();
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
     void whenDeleteLoanNotFound_thenReturn404() throws Exception {
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(new URI(SERVICE_BASE + "/" + PATRON_ID + "/loans/" + MISSING_LOAN_ID)))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        downstream.expect(HttpMethod.DELETE, SERVICE_BASE + "/" + PATRON_ID + "/loans/" + MISSING_LOAN_ID)
+                .andRespond(HttpStatus.NOT_FOUND);
 
         webClient.delete()
                 .uri(API_BASE + "/" + PATRON_ID + "/loans/" + MISSING_LOAN_ID)
                 .exchange()
                 .expectStatus().isNotFound();
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
@@ -295,16 +253,7 @@ class LoansControllerIntegrationTest {
     }
 
     @Test
-    void whenUpdateLoanNoBody_thenReturn400() throws URISyntaxException {
-
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(new URI(SERVICE_BASE + "/" + PATRON_ID + "/loans/" + LOAN_ID)))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withSuccess(
-                        "{\"patronId\":\"" + PATRON_ID + "\",\"loanId\":\"" + LOAN_ID + "\"}",
-                        MediaType.APPLICATION_JSON
-                ));
-
+    void whenUpdateLoanNoBody_thenReturn422WithoutCallingLoansService() {
         webClient.put()
                 .uri(API_BASE + "/" + PATRON_ID + "/loans/" + LOAN_ID)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -312,12 +261,7 @@ class LoansControllerIntegrationTest {
                 .exchange()
                 .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
 
-        webClient.put()
-                .uri(API_BASE + "/" + PATRON_ID + "/loans/" + LOAN_ID)
-                .contentType(MediaType.APPLICATION_JSON)
-                // ← no .bodyValue(...)
-                .exchange()
-                .expectStatus().is5xxServerError();
+        downstream.verify();
     }
 
     @Test
@@ -4,18 +4,20 @@ import com.leduc.apigateway.loans.businessLayer.LoansService;
 import com.leduc.apigateway.loans.domainclientLayer.LoanStatus;
 import com.leduc.apigateway.utils.exceptions.InvalidInputException;
 import com.leduc.apigateway.utils.exceptions.NotFoundException;
-import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @SpringBootTest
@@ -35,11 +37,10 @@ class LoansControllerUnitTest {
 
     @Test
     void getAllLoans_thenOk() {
-        when(loansService.getAllLoans(PATRON_ID)).thenReturn(Collections.emptyList());
+        when(loansService.getAllLoans(PATRON_ID)).thenReturn(Flux.empty());
 
-        ResponseEntity<List<LoanResponseModel>> resp = loansController.getAllLoans(PATRON_ID);
-        assertEquals(200, resp.getStatusCodeValue());
-        assertTrue(resp.getBody().isEmpty());
+        List<LoanResponseModel> loans = loansController.getAllLoans(PATRON_ID).collectList().block();
+        assertTrue(loans.isEmpty());
         verify(loansService).getAllLoans(PATRON_ID);
     }
 
@@ -48,19 +49,21 @@ class LoansControllerUnitTest {
         var loan = new LoanResponseModel();
         loan.setPatronId(PATRON_ID);
         loan.setLoanId(LOAN_ID);
-        when(loansService.getLoanById(PATRON_ID, LOAN_ID)).thenReturn(loan);
+        when(loansService.getLoanById(PATRON_ID, LOAN_ID)).thenReturn(Mono.just(loan));
 
-        ResponseEntity<LoanResponseModel> resp = loansController.getLoanById(PATRON_ID, LOAN_ID);
+        ResponseEntity<LoanResponseModel> resp = loansController.getLoanById(PATRON_ID, LOAN_ID).block();
         assertEquals(200, resp.getStatusCodeValue());
         assertEquals(LOAN_ID, resp.getBody().getLoanId());
+        verify(loansService, times(1)).getLoanById(PATRON_ID, LOAN_ID);
     }
 
     @Test
-    void getLoanById_notFound_throwsEntityNotFound() {
-        when(loansService.getLoanById(PATRON_ID, MISSING_LOAN_ID)).thenReturn(null);
+    void getLoanById_notFound_throwsNotFound() {
+        when(loansService.getLoanById(PATRON_ID, MISSING_LOAN_ID))
+                .thenReturn(Mono.error(new NotFoundException("Loan with ID '" + MISSING_LOAN_ID + "' not found")));
 
-        EntityNotFoundException ex = assertThrows(EntityNotFoundException.class, () ->
-                loansController.getLoanById(PATRON_ID, MISSING_LOAN_ID)
+        NotFoundException ex = assertThrows(NotFoundException.class, () ->
+                loansController.getLoanById(PATRON_ID, MISSING_LOAN_ID).block()
         );
         assertTrue(ex.getMessage().contains("not found"));
     }
@@ -68,10 +71,10 @@ class LoansControllerUnitTest {
     @Test
     void getLoanById_invalid_throwsInvalidInput() {
         when(loansService.getLoanById(PATRON_ID, BAD_ID))
-                .thenThrow(new InvalidInputException("Invalid ID"));
+                .thenReturn(Mono.error(new InvalidInputException("Invalid ID")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                loansController.getLoanById(PATRON_ID, BAD_ID)
+                loansController.getLoanById(PATRON_ID, BAD_ID).block()
         );
         assertEquals("Invalid ID", ex.getMessage());
     }
@@ -85,9 +88,9 @@ class LoansControllerUnitTest {
         var created = new LoanResponseModel();
         created.setPatronId(PATRON_ID);
         created.setLoanId(LOAN_ID);
-        when(loansService.addLoan(req, PATRON_ID)).thenReturn(created);
+        when(loansService.addLoan(req, PATRON_ID)).thenReturn(Mono.just(created));
 
-        ResponseEntity<LoanResponseModel> resp = loansController.createLoan(PATRON_ID, req);
+        ResponseEntity<LoanResponseModel> resp = loansController.createLoan(PATRON_ID, req).block();
         assertEquals(201, resp.getStatusCodeValue());
         assertEquals(LOAN_ID, resp.getBody().getLoanId());
     }
@@ -95,16 +98,16 @@ class LoansControllerUnitTest {
     @Test
     void createLoan_null_throwsInvalidInput() {
         when(loansService.addLoan(null, PATRON_ID))
-                .thenThrow(new InvalidInputException("LoanRequestModel must not be null"));
+                .thenReturn(Mono.error(new InvalidInputException("LoanRequestModel must not be null")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                loansController.createLoan(PATRON_ID, null)
+                loansController.createLoan(PATRON_ID, null).block()
         );
         assertEquals("LoanRequestModel must not be null", ex.getMessage());
     }
 
     @Test
-    void updateLoan_thenOk() {
+    void updateLoan_thenOkWithoutExistenceCheck() {
         var req = new LoanRequestModel();
         req.setStatus(LoanStatus.RETURNED);
 
@@ -113,22 +116,23 @@ class LoansControllerUnitTest {
         updated.setLoanId(LOAN_ID);
         updated.setStatus(LoanStatus.RETURNED);
 
-        when(loansService.getLoanById(PATRON_ID, LOAN_ID)).thenReturn(updated);
-        when(loansService.updateLoan(req, PATRON_ID, LOAN_ID)).thenReturn(updated);
+        when(loansService.updateLoan(req, PATRON_ID, LOAN_ID)).thenReturn(Mono.just(updated));
 
         ResponseEntity<LoanResponseModel> resp =
-                loansController.updateLoan(PATRON_ID, LOAN_ID, req);
+                loansController.updateLoan(PATRON_ID, LOAN_ID, req).block();
         assertEquals(200, resp.getStatusCodeValue());
         assertEquals(LoanStatus.RETURNED, resp.getBody().getStatus());
+        verify(loansService, never()).getLoanById(anyString(), anyString());
     }
 
     @Test
     void updateLoan_notFound_throwsNotFound() {
         var req = new LoanRequestModel();
-        when(loansService.getLoanById(PATRON_ID, MISSING_LOAN_ID)).thenReturn(null);
+        when(loansService.updateLoan(req, PATRON_ID, MISSING_LOAN_ID))
+                .thenReturn(Mono.error(new NotFoundException("Loan with ID '" + MISSING_LOAN_ID + "' not found")));
 
         NotFoundException ex = assertThrows(NotFoundException.class, () ->
-                loansController.updateLoan(PATRON_ID, MISSING_LOAN_ID, req)
+                loansController.updateLoan(PATRON_ID, MISSING_LOAN_ID, req).block()
         );
         assertTrue(ex.getMessage().contains("not found"));
     }
@@ -136,61 +140,54 @@ class LoansControllerUnitTest {
     @Test
     void updateLoan_invalid_throwsInvalidInput() {
         var req = new LoanRequestModel();
-        when(loansService.getLoanById(PATRON_ID, BAD_ID))
-                .thenThrow(new InvalidInputException("Invalid ID"));
+        when(loansService.updateLoan(req, PATRON_ID, BAD_ID))
+                .thenReturn(Mono.error(new InvalidInputException("Invalid ID")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                loansController.updateLoan(PATRON_ID, BAD_ID, req)
+                loansController.updateLoan(PATRON_ID, BAD_ID, req).block()
         );
         assertEquals("Invalid ID", ex.getMessage());
     }
 
     @Test
     void updateLoan_nullRequest_throwsInvalidInput() {
-        // first, service finds the loan
-        var existing = new LoanResponseModel();
-        existing.setPatronId(PATRON_ID);
-        existing.setLoanId(LOAN_ID);
-        when(loansService.getLoanById(PATRON_ID, LOAN_ID)).thenReturn(existing);
-
         when(loansService.updateLoan(null, PATRON_ID, LOAN_ID))
-                .thenThrow(new InvalidInputException("LoanRequestModel must not be null"));
+                .thenReturn(Mono.error(new InvalidInputException("LoanRequestModel must not be null")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                loansController.updateLoan(PATRON_ID, LOAN_ID, null)
+                loansController.updateLoan(PATRON_ID, LOAN_ID, null).block()
         );
         assertEquals("LoanRequestModel must not be null", ex.getMessage());
     }
 
     @Test
-    void deleteLoan_thenNoContent() {
-        var existing = new LoanResponseModel();
-        existing.setPatronId(PATRON_ID);
-        existing.setLoanId(LOAN_ID);
-        when(loansService.getLoanById(PATRON_ID, LOAN_ID)).thenReturn(existing);
-        doNothing().when(loansService).removeLoan(PATRON_ID, LOAN_ID);
+    void deleteLoan_thenNoContentWithoutExistenceCheck() {
+        when(loansService.removeLoan(PATRON_ID, LOAN_ID)).thenReturn(Mono.empty());
 
-        ResponseEntity<Void> resp = loansController.deleteLoan(PATRON_ID, LOAN_ID);
+        ResponseEntity<Void> resp = loansController.deleteLoan(PATRON_ID, LOAN_ID).block();
         assertEquals(204, resp.getStatusCodeValue());
+        verify(loansService, times(1)).removeLoan(PATRON_ID, LOAN_ID);
+        verify(loansService, never()).getLoanById(anyString(), anyString());
     }
 
     @Test
-    void deleteLoan_notFound_throwsEntityNotFound() {
-        when(loansService.getLoanById(PATRON_ID, MISSING_LOAN_ID)).thenReturn(null);
+    void deleteLoan_notFound_throwsNotFound() {
+        when(loansService.removeLoan(PATRON_ID, MISSING_LOAN_ID))
+                .thenReturn(Mono.error(new NotFoundException("Loan with ID '" + MISSING_LOAN_ID + "' not found")));
 
-        EntityNotFoundException ex = assertThrows(EntityNotFoundException.class, () ->
-                loansController.deleteLoan(PATRON_ID, MISSING_LOAN_ID)
+        NotFoundException ex = assertThrows(NotFoundException.class, () ->
+                loansController.deleteLoan(PATRON_ID, MISSING_LOAN_ID).block()
         );
         assertTrue(ex.getMessage().contains("not found"));
     }
 
     @Test
     void deleteLoan_invalid_throwsInvalidInput() {
-        when(loansService.getLoanById(PATRON_ID, BAD_ID))
-                .thenThrow(new InvalidInputException("Invalid ID"));
+        when(loansService.removeLoan(PATRON_ID, BAD_ID))
+                .thenReturn(Mono.error(new InvalidInputException("Invalid ID")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                loansController.deleteLoan(PATRON_ID, BAD_ID)
+                loansController.deleteLoan(PATRON_ID, BAD_ID).block()
         );
         assertEquals("Invalid ID", ex.getMessage());
     }
@@ -200,53 +197,45 @@ class LoansControllerUnitTest {
         var req = new LoanRequestModel();
         req.setStatus(LoanStatus.RETURNED);
 
-        when(loansService.getLoanById(PATRON_ID, null))
-                .thenThrow(new InvalidInputException("Loan ID must be exactly 36 characters long"));
+        when(loansService.updateLoan(req, PATRON_ID, null))
+                .thenReturn(Mono.error(new InvalidInputException("Loan ID must be exactly 36 characters long")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                loansController.updateLoan(PATRON_ID, null, req)
+                loansController.updateLoan(PATRON_ID, null, req).block()
         );
         assertEquals("Loan ID must be exactly 36 characters long", ex.getMessage());
     }
 
     @Test
     void deleteLoan_nullId_throwsInvalidInput() {
-        when(loansService.getLoanById(PATRON_ID, null))
-                .thenThrow(new InvalidInputException("Loan ID must be exactly 36 characters long"));
+        when(loansService.removeLoan(PATRON_ID, null))
+                .thenReturn(Mono.error(new InvalidInputException("Loan ID must be exactly 36 characters long")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                loansController.deleteLoan(PATRON_ID, null)
+                loansController.deleteLoan(PATRON_ID, null).block()
         );
         assertEquals("Loan ID must be exactly 36 characters long", ex.getMessage());
     }
 
     @Test
-    void updateLoan_nullRequestBody_throwsInvalidInput() {
-        var existing = new LoanResponseModel();
-        existing.setPatronId(PATRON_ID);
-        existing.setLoanId(LOAN_ID);
-        when(loansService.getLoanById(PATRON_ID, LOAN_ID)).thenReturn(existing);
-
+    void updateLoan_nullRequestBody_rejectedWithoutLookingUpLoan() {
         when(loansService.updateLoan(null, PATRON_ID, LOAN_ID))
-                .thenThrow(new InvalidInputException("LoanRequestModel must not be null"));
+                .thenReturn(Mono.error(new InvalidInputException("LoanRequestModel must not be null")));
 
-        InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                loansController.updateLoan(PATRON_ID, LOAN_ID, null)
+        assertThrows(InvalidInputException.class, () ->
+                loansController.updateLoan(PATRON_ID, LOAN_ID, null).block()
         );
-        assertEquals("LoanRequestModel must not be null", ex.getMessage());
+        verify(loansService, never()).getLoanById(anyString(), anyString());
     }
 
     @Test
-    void deleteLoan_nullRequestId_throwsInvalidInput() {
-        // existence check first:
-        when(loansService.getLoanById(PATRON_ID, null))
-                .thenThrow(new InvalidInputException("Loan ID must be exactly 36 characters long"));
+    void deleteLoan_nullRequestId_rejectedWithoutLookingUpLoan() {
+        when(loansService.removeLoan(PATRON_ID, null))
+                .thenReturn(Mono.error(new InvalidInputException("Loan ID must be exactly 36 characters long")));
 
-        InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                loansController.deleteLoan(PATRON_ID, null)
+        assertThrows(InvalidInputException.class, () ->
+                loansController.deleteLoan(PATRON_ID, null).block()
         );
-        assertEquals("Loan ID must be exactly 36 characters long", ex.getMessage());
+        verify(loansService, never()).getLoanById(any(), any());
     }
-
-
 }
@@ -0,0 +1,158 @@
+package com.leduc.apigateway.patrons.businessLayer;
+
+import com.leduc.apigateway.books.domainclientLayer.BooksServiceClient;
+import com.leduc.apigateway.books.presentationLayer.BookBatchRequestModel;
+import com.leduc.apigateway.books.presentationLayer.BookBatchResponseModel;
+import com.leduc.apigateway.books.presentationLayer.BookResponseModel;
+import com.leduc.apigateway.loans.domainclientLayer.LoansServiceClient;
+import com.leduc.apigateway.loans.presentationLayer.LoanResponseModel;
+import com.leduc.apigateway.patrons.domainclientLayer.PatronsServiceClient;
+import com.leduc.apigateway.patrons.presentationLayer.PatronDashboardResponseModel;
+import com.leduc.apigateway.patrons.presentationLayer.PatronResponseModel;
+import com.leduc.apigateway.utils.exceptions.InvalidInputException;
+import com.leduc.apigateway.utils.exceptions.NotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PatronDashboardServiceUnitTest {
+
+    private static final long TIMEOUT_MS = 300;
+
+    private final String patronId = UUID.randomUUID().toString();
+    private final String bookId = UUID.randomUUID().toString();
+
+    private PatronsServiceClient patronsServiceClient;
+    private LoansServiceClient loansServiceClient;
+    private BooksServiceClient booksServiceClient;
+    private PatronDashboardServiceImpl service;
+
+    @BeforeEach
+    void init() {
+        patronsServiceClient = mock(PatronsServiceClient.class);
+        loansServiceClient = mock(LoansServiceClient.class);
+        booksServiceClient = mock(BooksServiceClient.class);
+        service = new PatronDashboardServiceImpl(patronsServiceClient, loansServiceClient, booksServiceClient,
+                TIMEOUT_MS, TIMEOUT_MS, TIMEOUT_MS);
+    }
+
+    private PatronResponseModel patron() {
+        PatronResponseModel patron = new PatronResponseModel();
+        patron.setPatronId(patronId);
+        return patron;
+    }
+
+    private LoanResponseModel loan(String bookId) {
+        LoanResponseModel loan = new LoanResponseModel();
+        loan.setLoanId(UUID.randomUUID().toString());
+        loan.setPatronId(patronId);
+        loan.setBookId(bookId);
+        return loan;
+    }
+
+    private BookBatchResponseModel books(int copiesAvailable) {
+        BookResponseModel book = new BookResponseModel();
+        book.setBookId(bookId);
+        book.setCopiesAvailable(copiesAvailable);
+        return new BookBatchResponseModel(List.of(book), List.of(), List.of());
+    }
+
+    private static <T> Mono<T> slowly(long millis, T value) {
+        return Mono.just(value).delayElement(Duration.ofMillis(millis));
+    }
+
+    @Test
+    void getDashboard_allDependenciesAnswer_thenLoansCarryAvailability() {
+        when(patronsServiceClient.getPatronByPatronId(patronId)).thenReturn(Mono.just(patron()));
+        when(loansServiceClient.getAllLoans(patronId)).thenReturn(Flux.just(loan(bookId), loan(bookId)));
+        when(booksServiceClient.getBooksInBatch(any())).thenReturn(Mono.just(books(4)));
+
+        PatronDashboardResponseModel dashboard = service.getDashboard(patronId).block();
+
+        assertEquals(patronId, dashboard.getPatron().getPatronId());
+        assertEquals(2, dashboard.getLoans().size());
+        assertEquals(4, dashboard.getLoans().get(0).getCopiesAvailable());
+        assertTrue(dashboard.getUnavailableServices().isEmpty());
+        // both loans are for the same book, so a single batch with a single id
+        ArgumentCaptor<BookBatchRequestModel> batch = ArgumentCaptor.forClass(BookBatchRequestModel.class);
+        verify(booksServiceClient, times(1)).getBooksInBatch(batch.capture());
+        assertEquals(List.of(bookId), batch.getValue().getBookIds());
+    }
+
+    @Test
+    void getDashboard_patronAndLoansAreFetchedConcurrently() {
+        when(patronsServiceClient.getPatronByPatronId(patronId)).thenReturn(slowly(200, patron()));
+        when(loansServiceClient.getAllLoans(patronId)).thenReturn(Flux.<LoanResponseModel>empty().delaySubscription(Duration.ofMillis(200)));
+
+        long start = System.nanoTime();
+        PatronDashboardResponseModel dashboard = service.getDashboard(patronId).block();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertNotNull(dashboard.getPatron());
+        assertTrue(elapsedMs < 380, "expected the slowest call, not the sum, but took " + elapsedMs + " ms");
+        verifyNoInteractions(booksServiceClient);
+    }
+
+    @Test
+    void getDashboard_booksTimesOut_thenLoansWithoutAvailability() {
+        when(patronsServiceClient.getPatronByPatronId(patronId)).thenReturn(Mono.just(patron()));
+        when(loansServiceClient.getAllLoans(patronId)).thenReturn(Flux.just(loan(bookId)));
+        when(booksServiceClient.getBooksInBatch(any())).thenReturn(slowly(TIMEOUT_MS * 3, books(1)));
+
+        PatronDashboardResponseModel dashboard = service.getDashboard(patronId).block();
+
+        assertEquals(1, dashboard.getLoans().size());
+        assertNull(dashboard.getLoans().get(0).getCopiesAvailable());
+        assertEquals(List.of(PatronDashboardServiceImpl.BOOKS_SERVICE), dashboard.getUnavailableServices());
+    }
+
+    @Test
+    void getDashboard_loansFails_thenEmptyLoansAndBooksNeverCalled() {
+        when(patronsServiceClient.getPatronByPatronId(patronId)).thenReturn(Mono.just(patron()));
+        when(loansServiceClient.getAllLoans(patronId)).thenReturn(Flux.error(new IllegalStateException("connection refused")));
+
+        PatronDashboardResponseModel dashboard = service.getDashboard(patronId).block();
+
+        assertNotNull(dashboard.getPatron());
+        assertTrue(dashboard.getLoans().isEmpty());
+        assertEquals(List.of(PatronDashboardServiceImpl.LOANS_SERVICE), dashboard.getUnavailableServices());
+        verifyNoInteractions(booksServiceClient);
+    }
+
+    @Test
+    void getDashboard_patronsTimesOut_thenLoansStillReturned() {
+        when(patronsServiceClient.getPatronByPatronId(patronId)).thenReturn(slowly(TIMEOUT_MS * 3, patron()));
+        when(loansServiceClient.getAllLoans(patronId)).thenReturn(Flux.just(loan(bookId)));
+        when(booksServiceClient.getBooksInBatch(any())).thenReturn(Mono.just(books(2)));
+
+        PatronDashboardResponseModel dashboard = service.getDashboard(patronId).block();
+
+        assertNull(dashboard.getPatron());
+        assertEquals(2, dashboard.getLoans().get(0).getCopiesAvailable());
+        assertEquals(List.of(PatronDashboardServiceImpl.PATRONS_SERVICE), dashboard.getUnavailableServices());
+    }
+
+    @Test
+    void getDashboard_unknownPatron_throwsNotFoundException() {
+        when(patronsServiceClient.getPatronByPatronId(patronId)).thenReturn(Mono.error(new NotFoundException("Patron not found")));
+        when(loansServiceClient.getAllLoans(patronId)).thenReturn(Flux.empty());
+
+        assertThrows(NotFoundException.class, () -> service.getDashboard(patronId).block());
+    }
+
+    @Test
+    void getDashboard_invalidId_throwsInvalidInputException() {
+        assertThrows(InvalidInputException.class, () -> service.getDashboard("short").block());
+        verifyNoInteractions(patronsServiceClient, loansServiceClient, booksServiceClient);
+    }
+}
@@ -6,8 +6,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 import com.leduc.apigateway.patrons.domainclientLayer.PatronsServiceClient;
+import com.leduc.apigateway.patrons.presentationLayer.PatronPageResponseModel;
 import com.leduc.apigateway.patrons.presentationLayer.PatronRequestModel;
 import com.leduc.apigateway.patrons.presentationLayer.PatronResponseModel;
+import com.leduc.apigateway.patrons.presentationLayer.PatronSearchRequestModel;
 import com.leduc.apigateway.utils.exceptions.InvalidInputException;
 import com.leduc.apigateway.utils.exceptions.NotFoundException;
 import jakarta.persistence.EntityNotFoundException;
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
 
 import java.util.Arrays;
 import java.util.List;
@@ -37,36 +40,49 @@ class PatronsServiceUnitTest {
     void getPatrons_returnsListWithHateoasLinks() {
         PatronResponseModel p1 = new PatronResponseModel();
         p1.setPatronId(UUID.randomUUID().toString());
-        when(patronsServiceClient.getAllPatrons())
-                .thenReturn(Arrays.asList(p1));
+        when(patronsServiceClient.getAllPatrons(null, null))
+                .thenReturn(Mono.just(new PatronPageResponseModel(Arrays.asList(p1), null)));
 
-        List<PatronResponseModel> list = service.getPatrons();
+        List<PatronResponseModel> list = service.getPatrons(null, null).block().getPatrons();
         assertEquals(1, list.size());
         assertTrue(list.get(0).getLink("self").isPresent());
         assertTrue(list.get(0).getLink("all-patrons").isPresent());
     }
 
+    @Test
+    void searchPatrons_returnsPageWithHateoasLinks() {
+        PatronResponseModel p1 = new PatronResponseModel();
+        p1.setPatronId(UUID.randomUUID().toString());
+        PatronSearchRequestModel request = PatronSearchRequestModel.builder().city("Toronto").limit(1).build();
+        when(patronsServiceClient.searchPatrons(request))
+                .thenReturn(Mono.just(new PatronPageResponseModel(Arrays.asList(p1), p1.getPatronId())));
+
+        PatronPageResponseModel page = service.searchPatrons(request).block();
+        assertEquals(p1.getPatronId(), page.getNextCursor());
+        assertTrue(page.getPatrons().get(0).getLink("self").isPresent());
+    }
+
     @Test
     void getPatronByPatronId_invalidId_throwsInvalidInputException() {
         assertThrows(InvalidInputException.class,
-                () -> service.getPatronByPatronId("bad"));
+                () -> service.getPatronByPatronId("bad").block());
     }
 
     @Test
     void getPatronByPatronId_notFound_throwsNotFoundException() {
         String id = UUID.randomUUID().toString();
         when(patronsServiceClient.getPatronByPatronId(id))
-                .thenThrow(EntityNotFoundException.class);
+                .thenReturn(Mono.error(new EntityNotFoundException()));
 
         NotFoundException ex = assertThrows(NotFoundException.class,
-                () -> service.getPatronByPatronId(id));
+                () -> service.getPatronByPatronId(id).block());
         assertTrue(ex.getMessage().contains(id));
     }
 
     @Test
     void createPatron_nullRequest_throwsInvalidInputException() {
         assertThrows(InvalidInputException.class,
-                () -> service.createPatron(null));
+                () -> service.createPatron(null).block());
     }
 
     @Test
@@ -74,9 +90,9 @@ class PatronsServiceUnitTest {
         PatronRequestModel req = new PatronRequestModel();
         PatronResponseModel created = new PatronResponseModel();
         created.setPatronId(UUID.randomUUID().toString());
-        when(patronsServiceClient.createPatron(req)).thenReturn(created);
+        when(patronsServiceClient.createPatron(req)).thenReturn(Mono.just(created));
 
-        PatronResponseModel result = service.createPatron(req);
+        PatronResponseModel result = service.createPatron(req).block();
         assertTrue(result.getLink("self").isPresent());
         assertTrue(result.getLink("all-patrons").isPresent());
     }
@@ -84,14 +100,14 @@ class PatronsServiceUnitTest {
     @Test
     void updatePatron_invalidId_throwsInvalidInputException() {
         assertThrows(InvalidInputException.class,
-                () -> service.updatePatron("bad", new PatronRequestModel()));
+                () -> service.updatePatron("bad", new PatronRequestModel()).block());
     }
 
     @Test
     void updatePatron_nullRequest_throwsInvalidInputException() {
         String id = UUID.randomUUID().toString();
         assertThrows(InvalidInputException.class,
-                () -> service.updatePatron(id, null));
+                () -> service.updatePatron(id, null).block());
     }
 
     @Test
@@ -99,36 +115,36 @@ class PatronsServiceUnitTest {
         String id = UUID.randomUUID().toString();
         PatronRequestModel req = new PatronRequestModel();
         when(patronsServiceClient.updatePatron(id, req))
-                .thenThrow(EntityNotFoundException.class);
+                .thenReturn(Mono.error(new EntityNotFoundException()));
 
         NotFoundException ex = assertThrows(NotFoundException.class,
-                () -> service.updatePatron(id, req));
+                () -> service.updatePatron(id, req).block());
         assertTrue(ex.getMessage().contains(id));
     }
 
     @Test
     void deletePatron_invalidId_throwsInvalidInputException() {
         assertThrows(InvalidInputException.class,
-                () -> service.deletePatron("bad"));
+                () -> service.deletePatron("bad").block());
     }
 
     @Test
     void deletePatron_notFound_throwsNotFoundException() {
         String id = UUID.randomUUID().toString();
-        doThrow(EntityNotFoundException.class)
-                .when(patronsServiceClient).deletePatron(id);
+        when(patronsServiceClient.deletePatron(id))
+                .thenReturn(Mono.error(new EntityNotFoundException()));
 
         NotFoundException ex = assertThrows(NotFoundException.class,
-                () -> service.deletePatron(id));
+                () -> service.deletePatron(id).block());
         assertTrue(ex.getMessage().contains(id));
     }
 
     @Test
     void deletePatron_success_invokesClientDeleteOnce() {
         String id = UUID.randomUUID().toString();
-        doNothing().when(patronsServiceClient).deletePatron(id);
+        when(patronsServiceClient.deletePatron(id)).thenReturn(Mono.empty());
 
-        service.deletePatron(id);
+        service.deletePatron(id).block();
 
         verify(patronsServiceClient, times(1)).deletePatron(id);
     }
@@ -136,20 +152,20 @@ class PatronsServiceUnitTest {
     @Test
     void getPatronByPatronId_nullId_throwsInvalidInputException() {
         assertThrows(InvalidInputException.class,
-                () -> service.getPatronByPatronId(null));
+                () -> service.getPatronByPatronId(null).block());
     }
 
     @Test
     void updatePatron_nullId_throwsInvalidInputException() {
         PatronRequestModel req = new PatronRequestModel();
         assertThrows(InvalidInputException.class,
-                () -> service.updatePatron(null, req));
+                () -> service.updatePatron(null, req).block());
     }
 
     @Test
     void deletePatron_nullId_throwsInvalidInputException() {
         assertThrows(InvalidInputException.class,
-                () -> service.deletePatron(null));
+                () -> service.deletePatron(null).block());
     }
 
     @Test
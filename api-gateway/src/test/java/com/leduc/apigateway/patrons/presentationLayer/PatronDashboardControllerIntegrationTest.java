@@ -0,0 +1,172 @@
+package com.leduc.apigateway.patrons.presentationLayer;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerResponse;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Routes every patron to the same canned loan and book so the fan-out can be timed under load; the
+// per-endpoint behaviour is covered with DownstreamStubServer in the other controller tests.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "server.tomcat.threads.max=4",
+                "app.patron-dashboard.patrons-timeout-ms=2000",
+                "app.patron-dashboard.loans-timeout-ms=2000",
+                "app.patron-dashboard.books-timeout-ms=2000"
+        })
+@ActiveProfiles("test")
+class PatronDashboardControllerIntegrationTest {
+
+    private static final String VALID_ID   = "123e4567-e89b-12d3-a456-426614174000";
+    private static final String MISSING_ID = "00000000-0000-0000-0000-000000000000";
+    private static final String BOOK_ID    = "222e6543-e21b-12d3-a456-426655440000";
+
+    private static volatile long downstreamDelayMs;
+    private static volatile long booksDelayMs;
+
+    private static final DisposableServer downstream = HttpServer.create()
+            .host("localhost")
+            .port(0)
+            .route(routes -> routes
+                    .get("/api/v1/patrons/{patronId}/loans", (request, response) ->
+                            json(response, "[{\"loanId\":\"987e6543-e21b-12d3-a456-426655440000\",\"patronId\":\""
+                                    + request.param("patronId") + "\",\"bookId\":\"" + BOOK_ID + "\"}]", downstreamDelayMs))
+                    .get("/api/v1/patrons/{patronId}", (request, response) ->
+                            MISSING_ID.equals(request.param("patronId"))
+                                    ? json(response.status(404), "{\"message\":\"Unknown patronId provided: "
+                                    + MISSING_ID + "\"}", 0)
+                                    : json(response, "{\"patronId\":\"" + request.param("patronId")
+                                    + "\",\"firstName\":\"John\"}", downstreamDelayMs))
+                    .post("/api/v1/books/batch", (request, response) ->
+                            request.receive().then().then(json(response, "{\"books\":[{\"bookId\":\"" + BOOK_ID
+                                    + "\",\"copiesAvailable\":3}],\"notFoundIds\":[],\"invalidIds\":[]}",
+                                    Math.max(downstreamDelayMs, booksDelayMs)))))
+            .bindNow();
+
+    @DynamicPropertySource
+    static void downstreamServices(DynamicPropertyRegistry registry) {
+        for (String service : List.of("patrons-service", "loans-service", "books-service")) {
+            registry.add("app." + service + ".host", () -> "localhost");
+            registry.add("app." + service + ".port", downstream::port);
+        }
+    }
+
+    @AfterAll
+    static void stopDownstream() {
+        downstream.disposeNow();
+    }
+
+    @Autowired
+    private WebTestClient webClient;
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    void init() {
+        downstreamDelayMs = 0;
+        booksDelayMs = 0;
+    }
+
+    private static Mono<Void> json(HttpServerResponse response, String body, long delayMs) {
+        return Mono.delay(Duration.ofMillis(delayMs))
+                .then(response.header(HttpHeaderNames.CONTENT_TYPE, "application/json").sendString(Mono.just(body)).then());
+    }
+
+    @Test
+    void whenGetPatronDashboard_thenCombinePatronLoansAndAvailability() {
+        webClient.get().uri("/api/v1/patrons/" + VALID_ID + "/dashboard")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.patron.firstName").isEqualTo("John")
+                .jsonPath("$.loans[0].loan.bookId").isEqualTo(BOOK_ID)
+                .jsonPath("$.loans[0].copiesAvailable").isEqualTo(3)
+                .jsonPath("$.unavailableServices").isEmpty();
+    }
+
+    @Test
+    void whenGetPatronDashboardForUnknownPatron_thenReturn404() {
+        webClient.get().uri("/api/v1/patrons/" + MISSING_ID + "/dashboard")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Unknown patronId provided: " + MISSING_ID);
+    }
+
+    @Test
+    void whenBooksServiceIsSlowerThanItsTimeout_thenReturnLoansWithoutAvailability() {
+        booksDelayMs = 3000;
+
+        webClient.get().uri("/api/v1/patrons/" + VALID_ID + "/dashboard")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.patron.firstName").isEqualTo("John")
+                .jsonPath("$.loans[0].loan.bookId").isEqualTo(BOOK_ID)
+                .jsonPath("$.loans[0].copiesAvailable").doesNotExist()
+                .jsonPath("$.unavailableServices[0]").isEqualTo("books-service");
+    }
+
+    @Test
+    void loadTest_dashboardRequestsDoNotHoldServletThreadsWhileWaitingOnDownstreams() {
+        // every downstream call takes 200 ms and there are only 4 servlet threads: a blocking gateway would
+        // need 100 requests x ~400 ms / 4 threads = ~10 s, the non-blocking one a few rounds of waits
+        downstreamDelayMs = 200;
+        int requests = 100;
+        long blockingBoundMs = requests * 2 * downstreamDelayMs / 4;
+        ConnectionProvider clientPool = ConnectionProvider.builder("dashboard-load-test")
+                .maxConnections(requests)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        WebClient client = WebClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(clientPool)))
+                .build();
+        try {
+            // warm up connections and code paths so the measured round is not dominated by first-call costs
+            dashboards(client, 20);
+
+            long start = System.nanoTime();
+            List<PatronDashboardResponseModel> dashboards = dashboards(client, requests);
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            assertEquals(requests, dashboards.size());
+            assertTrue(dashboards.stream().allMatch(dashboard -> dashboard.getUnavailableServices().isEmpty()));
+            assertTrue(elapsedMs < blockingBoundMs / 2, "expected the servlet threads to be released while waiting, "
+                    + "but took " + elapsedMs + " ms against a blocking bound of " + blockingBoundMs + " ms");
+        } finally {
+            clientPool.disposeLater().block();
+        }
+    }
+
+    private static List<PatronDashboardResponseModel> dashboards(WebClient client, int requests) {
+        return Flux.range(0, requests)
+                .flatMap(i -> client.get().uri("/api/v1/patrons/" + VALID_ID + "/dashboard")
+                        .retrieve()
+                        .bodyToMono(PatronDashboardResponseModel.class), requests)
+                .collectList()
+                .block(Duration.ofSeconds(30));
+    }
+}
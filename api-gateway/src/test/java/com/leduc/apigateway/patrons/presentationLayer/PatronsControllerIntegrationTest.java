@@ -2,6 +2,8 @@ package com.leduc.apigateway.patrons.presentationLayer;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leduc.apigateway.utils.DownstreamStubServer;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,16 +12,11 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
-import org.springframework.test.web.client.ExpectedCount;
-import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.reactive.server.WebTestClient;
-import org.springframework.web.client.RestTemplate;
-
-import java.net.URI;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
-import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
@@ -28,22 +25,29 @@ class PatronsControllerIntegrationTest {
     @Autowired
     private WebTestClient webClient;
 
-    @Autowired
-    private RestTemplate restTemplate;
-
-    private MockRestServiceServer mockServer;
+    private static final DownstreamStubServer downstream = DownstreamStubServer.start();
     private final ObjectMapper mapper = new ObjectMapper();
 
     private static final String API_BASE     = "/api/v1/patrons";
-    private static final String SERVICE_BASE = "http://localhost:7001/api/v1/patrons";
+    private static final String SERVICE_BASE = "/api/v1/patrons";
 
     private final String VALID_ID   = "123e4567-e89b-12d3-a456-426614174000";
     private final String MISSING_ID = "00000000-0000-0000-0000-000000000000";
     private final String BAD_ID     = "short-id";
 
+    @DynamicPropertySource
+    static void downstreamServices(DynamicPropertyRegistry registry) {
+        downstream.registerDownstreams(registry);
+    }
+
     @BeforeEach
     void init() {
-        mockServer = MockRestServiceServer.createServer(restTemplate);
+        downstream.reset();
+    }
+
+    @AfterAll
+    static void stopDownstream() {
+        downstream.stop();
     }
 
     @Test
@@ -51,12 +55,8 @@ class PatronsControllerIntegrationTest {
         var patron = new PatronResponseModel();
         patron.setPatronId(VALID_ID);
 
-        mockServer.expect(ExpectedCount.once(), requestTo(SERVICE_BASE))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withSuccess(
-                        mapper.writeValueAsString(new PatronResponseModel[]{ patron }),
-                        MediaType.APPLICATION_JSON
-                ));
+        downstream.expect(HttpMethod.GET, SERVICE_BASE)
+                .andRespond(HttpStatus.OK,  mapper.writeValueAsString(new PatronResponseModel[]{ patron }));
 
         webClient.get().uri(API_BASE)
                 .exchange()
@@ -70,9 +70,8 @@ class PatronsControllerIntegrationTest {
 
     @Test
     void whenGetAllPatronsAndNoneExist_thenReturnEmptyList() {
-        mockServer.expect(ExpectedCount.once(), requestTo(SERVICE_BASE))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+        downstream.expect(HttpMethod.GET, SERVICE_BASE)
+                .andRespond(HttpStatus.OK, "[]");
 
         webClient.get().uri(API_BASE)
                 .exchange()
@@ -81,17 +80,50 @@ class PatronsControllerIntegrationTest {
                 .hasSize(0);
     }
 
+    @Test
+    void whenGetAllPatronsWithCursor_thenPassThroughAndReturnNextCursor() throws JsonProcessingException {
+        var patron = new PatronResponseModel();
+        patron.setPatronId(VALID_ID);
+
+        downstream.expect(HttpMethod.GET, SERVICE_BASE + "?after=" + MISSING_ID + "&limit=1")
+                .withHeader("X-Next-Cursor", VALID_ID)
+                .andRespond(HttpStatus.OK, mapper.writeValueAsString(new PatronResponseModel[]{ patron }));
+
+        webClient.get().uri(API_BASE + "?after=" + MISSING_ID + "&limit=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Next-Cursor", VALID_ID)
+                .expectBodyList(PatronResponseModel.class)
+                .hasSize(1);
+    }
+
+    @Test
+    void whenSearchPatrons_thenPassFiltersThroughAndReturnNextCursor() throws JsonProcessingException {
+        var patron = new PatronResponseModel();
+        patron.setPatronId(VALID_ID);
+
+        downstream.expect(HttpMethod.GET, SERVICE_BASE + "/search?limit=1&lastName=Jo&city=Quebec%20City&memberShipType=REGULAR")
+                .withHeader("X-Next-Cursor", VALID_ID)
+                .andRespond(HttpStatus.OK, mapper.writeValueAsString(new PatronResponseModel[]{ patron }));
+
+        webClient.get().uri(API_BASE + "/search?limit=1&lastName=Jo&city=Quebec City&memberShipType=REGULAR")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Next-Cursor", VALID_ID)
+                .expectBodyList(PatronResponseModel.class)
+                .value(list -> {
+                    assertEquals(1, list.size());
+                    assertEquals(VALID_ID, list.get(0).getPatronId());
+                });
+    }
+
     @Test
     void whenGetPatronByIdExists_thenReturnPatron() throws Exception {
         var patron = new PatronResponseModel();
         patron.setPatronId(VALID_ID);
 
-        mockServer.expect(ExpectedCount.once(), requestTo(new URI(SERVICE_BASE + "/" + VALID_ID)))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withSuccess(
-                        mapper.writeValueAsString(patron),
-                        MediaType.APPLICATION_JSON
-                ));
+        downstream.expect(HttpMethod.GET, SERVICE_BASE + "/" + VALID_ID)
+                .andRespond(HttpStatus.OK,  mapper.writeValueAsString(patron));
 
         webClient.get().uri(API_BASE + "/" + VALID_ID)
                 .exchange()
@@ -102,9 +134,8 @@ class PatronsControllerIntegrationTest {
 
     @Test
     void whenGetPatronByIdNotFound_thenReturn404() {
-        mockServer.expect(ExpectedCount.once(), requestTo(SERVICE_BASE + "/" + MISSING_ID))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        downstream.expect(HttpMethod.GET, SERVICE_BASE + "/" + MISSING_ID)
+                .andRespond(HttpStatus.NOT_FOUND);
 
         webClient.get().uri(API_BASE + "/" + MISSING_ID)
                 .exchange()
@@ -127,12 +158,8 @@ class PatronsControllerIntegrationTest {
         var created = new PatronResponseModel();
         created.setPatronId(VALID_ID);
 
-        mockServer.expect(ExpectedCount.once(), requestTo(SERVICE_BASE))
-                .andExpect(method(HttpMethod.POST))
-                .andRespond(withStatus(HttpStatus.CREATED)
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .body(mapper.writeValueAsString(created))
-                );
+        downstream.expect(HttpMethod.POST, SERVICE_BASE)
+                .andRespond(HttpStatus.CREATED, mapper.writeValueAsString(created));
 
         webClient.post().uri(API_BASE)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -145,9 +172,8 @@ class PatronsControllerIntegrationTest {
 
     @Test
     void whenCreatePatronInvalid_thenReturn422() {
-        mockServer.expect(ExpectedCount.once(), requestTo(SERVICE_BASE))
-                .andExpect(method(HttpMethod.POST))
-                .andRespond(withStatus(HttpStatus.UNPROCESSABLE_ENTITY));
+        downstream.expect(HttpMethod.POST, SERVICE_BASE)
+                .andRespond(HttpStatus.UNPROCESSABLE_ENTITY);
 
         webClient.post().uri(API_BASE)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -165,16 +191,11 @@ class PatronsControllerIntegrationTest {
         var updated = new PatronResponseModel();
         updated.setPatronId(VALID_ID);
 
-        mockServer.expect(ExpectedCount.once(), requestTo(new URI(SERVICE_BASE + "/" + VALID_ID)))
-                .andExpect(method(HttpMethod.PUT))
-                .andRespond(withStatus(HttpStatus.OK));
+        downstream.expect(HttpMethod.PUT, SERVICE_BASE + "/" + VALID_ID)
+                .andRespond(HttpStatus.OK);
 
-        mockServer.expect(ExpectedCount.once(), requestTo(new URI(SERVICE_BASE + "/" + VALID_ID)))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withSuccess(
-                        mapper.writeValueAsString(updated),
-                        MediaType.APPLICATION_JSON
-                ));
+        downstream.expect(HttpMethod.GET, SERVICE_BASE + "/" + VALID_ID)
+                .andRespond(HttpStatus.OK,  mapper.writeValueAsString(updated));
 
         webClient.put().uri(API_BASE + "/" + VALID_ID)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -187,9 +208,8 @@ class PatronsControllerIntegrationTest {
 
     @Test
     void whenUpdatePatronNotFound_thenReturn404() {
-        mockServer.expect(ExpectedCount.once(), requestTo(SERVICE_BASE + "/" + MISSING_ID))
-                .andExpect(method(HttpMethod.PUT))
-                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        downstream.expect(HttpMethod.PUT, SERVICE_BASE + "/" + MISSING_ID)
+                .andRespond(HttpStatus.NOT_FOUND);
 
         webClient.put().uri(API_BASE + "/" + MISSING_ID)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -209,9 +229,8 @@ class PatronsControllerIntegrationTest {
 
     @Test
     void whenDeletePatron_thenReturn204() {
-        mockServer.expect(ExpectedCount.once(), requestTo(SERVICE_BASE + "/" + VALID_ID))
-                .andExpect(method(HttpMethod.DELETE))
-                .andRespond(withStatus(HttpStatus.NO_CONTENT));
+        downstream.expect(HttpMethod.DELETE, SERVICE_BASE + "/" + VALID_ID)
+                .andRespond(HttpStatus.NO_CONTENT);
 
         webClient.delete().uri(API_BASE + "/" + VALID_ID)
                 .exchange()
@@ -220,9 +239,8 @@ class PatronsControllerIntegrationTest {
 
     @Test
     void whenDeletePatronNotFound_thenReturn404() {
-        mockServer.expect(ExpectedCount.once(), requestTo(SERVICE_BASE + "/" + MISSING_ID))
-                .andExpect(method(HttpMethod.DELETE))
-                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        downstream.expect(HttpMethod.DELETE, SERVICE_BASE + "/" + MISSING_ID)
+                .andRespond(HttpStatus.NOT_FOUND);
 
         webClient.delete().uri(API_BASE + "/" + MISSING_ID)
                 .exchange()
@@ -9,6 +9,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Mono;
 
 import java.util.Collections;
 import java.util.List;
@@ -32,21 +33,22 @@ class PatronsControllerUnitTest {
 
     @Test
     void getAllPatrons_thenOk() {
-        when(patronsService.getPatrons()).thenReturn(Collections.emptyList());
+        when(patronsService.getPatrons(null, null)).thenReturn(Mono.just(new PatronPageResponseModel(Collections.emptyList(), null)));
 
-        ResponseEntity<List<PatronResponseModel>> resp = patronsController.getAllPatrons();
+        ResponseEntity<List<PatronResponseModel>> resp = patronsController.getAllPatrons(null, null).block();
         assertEquals(200, resp.getStatusCodeValue());
         assertTrue(resp.getBody().isEmpty());
-        verify(patronsService, times(1)).getPatrons();
+        assertFalse(resp.getHeaders().containsKey("X-Next-Cursor"));
+        verify(patronsService, times(1)).getPatrons(null, null);
     }
 
     @Test
     void getPatronById_thenOk() {
         var patron = new PatronResponseModel();
         patron.setPatronId(VALID_ID);
-        when(patronsService.getPatronByPatronId(VALID_ID)).thenReturn(patron);
+        when(patronsService.getPatronByPatronId(VALID_ID)).thenReturn(Mono.just(patron));
 
-        ResponseEntity<PatronResponseModel> resp = patronsController.getPatronByPatronId(VALID_ID);
+        ResponseEntity<PatronResponseModel> resp = patronsController.getPatronByPatronId(VALID_ID).block();
         assertEquals(200, resp.getStatusCodeValue());
         assertEquals(VALID_ID, resp.getBody().getPatronId());
     }
@@ -54,10 +56,10 @@ class PatronsControllerUnitTest {
     @Test
     void getPatronById_notFound_throwsNotFound() {
         when(patronsService.getPatronByPatronId(MISSING_ID))
-                .thenThrow(new NotFoundException("Patron not found"));
+                .thenReturn(Mono.error(new NotFoundException("Patron not found")));
 
         NotFoundException ex = assertThrows(NotFoundException.class, () ->
-                patronsController.getPatronByPatronId(MISSING_ID)
+                patronsController.getPatronByPatronId(MISSING_ID).block()
         );
         assertEquals("Patron not found", ex.getMessage());
     }
@@ -65,10 +67,10 @@ class PatronsControllerUnitTest {
     @Test
     void getPatronById_invalid_throwsInvalidInput() {
         when(patronsService.getPatronByPatronId(BAD_ID))
-                .thenThrow(new InvalidInputException("Patron ID must be exactly 36 characters long"));
+                .thenReturn(Mono.error(new InvalidInputException("Patron ID must be exactly 36 characters long")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                patronsController.getPatronByPatronId(BAD_ID)
+                patronsController.getPatronByPatronId(BAD_ID).block()
         );
         assertEquals("Patron ID must be exactly 36 characters long", ex.getMessage());
     }
@@ -81,9 +83,9 @@ class PatronsControllerUnitTest {
 
         var created = new PatronResponseModel();
         created.setPatronId(VALID_ID);
-        when(patronsService.createPatron(req)).thenReturn(created);
+        when(patronsService.createPatron(req)).thenReturn(Mono.just(created));
 
-        ResponseEntity<PatronResponseModel> resp = patronsController.createPatron(req);
+        ResponseEntity<PatronResponseModel> resp = patronsController.createPatron(req).block();
         assertEquals(201, resp.getStatusCodeValue());
         assertEquals(VALID_ID, resp.getBody().getPatronId());
     }
@@ -91,10 +93,10 @@ class PatronsControllerUnitTest {
     @Test
     void createPatron_null_throwsInvalidInput() {
         when(patronsService.createPatron(null))
-                .thenThrow(new InvalidInputException("PatronRequestModel must not be null"));
+                .thenReturn(Mono.error(new InvalidInputException("PatronRequestModel must not be null")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                patronsController.createPatron(null)
+                patronsController.createPatron(null).block()
         );
         assertEquals("PatronRequestModel must not be null", ex.getMessage());
     }
@@ -107,9 +109,9 @@ class PatronsControllerUnitTest {
 
         var updated = new PatronResponseModel();
         updated.setPatronId(VALID_ID);
-        when(patronsService.updatePatron(VALID_ID, req)).thenReturn(updated);
+        when(patronsService.updatePatron(VALID_ID, req)).thenReturn(Mono.just(updated));
 
-        ResponseEntity<PatronResponseModel> resp = patronsController.updatePatron(VALID_ID, req);
+        ResponseEntity<PatronResponseModel> resp = patronsController.updatePatron(VALID_ID, req).block();
         assertEquals(200, resp.getStatusCodeValue());
         assertEquals(VALID_ID, resp.getBody().getPatronId());
     }
@@ -118,10 +120,10 @@ class PatronsControllerUnitTest {
     void updatePatron_notFound_throwsNotFound() {
         var req = new PatronRequestModel();
         when(patronsService.updatePatron(MISSING_ID, req))
-                .thenThrow(new NotFoundException("Patron not found"));
+                .thenReturn(Mono.error(new NotFoundException("Patron not found")));
 
         NotFoundException ex = assertThrows(NotFoundException.class, () ->
-                patronsController.updatePatron(MISSING_ID, req)
+                patronsController.updatePatron(MISSING_ID, req).block()
         );
         assertEquals("Patron not found", ex.getMessage());
     }
@@ -130,10 +132,10 @@ class PatronsControllerUnitTest {
     void updatePatron_invalidId_throwsInvalidInput() {
         var req = new PatronRequestModel();
         when(patronsService.updatePatron(BAD_ID, req))
-                .thenThrow(new InvalidInputException("Patron ID must be exactly 36 characters long"));
+                .thenReturn(Mono.error(new InvalidInputException("Patron ID must be exactly 36 characters long")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                patronsController.updatePatron(BAD_ID, req)
+                patronsController.updatePatron(BAD_ID, req).block()
         );
         assertEquals("Patron ID must be exactly 36 characters long", ex.getMessage());
     }
@@ -141,40 +143,40 @@ class PatronsControllerUnitTest {
     @Test
     void updatePatron_nullRequest_throwsInvalidInput() {
         when(patronsService.updatePatron(VALID_ID, null))
-                .thenThrow(new InvalidInputException("PatronRequestModel must not be null"));
+                .thenReturn(Mono.error(new InvalidInputException("PatronRequestModel must not be null")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                patronsController.updatePatron(VALID_ID, null)
+                patronsController.updatePatron(VALID_ID, null).block()
         );
         assertEquals("PatronRequestModel must not be null", ex.getMessage());
     }
 
     @Test
     void deletePatron_thenNoContent() {
-        doNothing().when(patronsService).deletePatron(VALID_ID);
+        when(patronsService.deletePatron(VALID_ID)).thenReturn(Mono.empty());
 
-        ResponseEntity<Void> resp = patronsController.deletePatron(VALID_ID);
+        ResponseEntity<Void> resp = patronsController.deletePatron(VALID_ID).block();
         assertEquals(204, resp.getStatusCodeValue());
     }
 
     @Test
     void deletePatron_notFound_throwsNotFound() {
-        doThrow(new NotFoundException("Patron not found"))
-                .when(patronsService).deletePatron(MISSING_ID);
+        when(patronsService.deletePatron(MISSING_ID))
+                .thenReturn(Mono.error(new NotFoundException("Patron not found")));
 
         NotFoundException ex = assertThrows(NotFoundException.class, () ->
-                patronsController.deletePatron(MISSING_ID)
+                patronsController.deletePatron(MISSING_ID).block()
         );
         assertEquals("Patron not found", ex.getMessage());
     }
 
     @Test
     void deletePatron_invalid_throwsInvalidInput() {
-        doThrow(new InvalidInputException("Patron ID must be exactly 36 characters long"))
-                .when(patronsService).deletePatron(BAD_ID);
+        when(patronsService.deletePatron(BAD_ID))
+                .thenReturn(Mono.error(new InvalidInputException("Patron ID must be exactly 36 characters long")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                patronsController.deletePatron(BAD_ID)
+                patronsController.deletePatron(BAD_ID).block()
         );
         assertEquals("Patron ID must be exactly 36 characters long", ex.getMessage());
     }
@@ -14,8 +14,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -38,9 +39,9 @@ class DepartmentsServiceUnitTest {
         DepartmentResponseModel d = new DepartmentResponseModel();
         d.setDepartmentId(UUID.randomUUID().toString());
         when(departmentsServiceClient.getAllDepartments())
-                .thenReturn(Arrays.asList(d));
+                .thenReturn(Flux.just(d));
 
-        List<DepartmentResponseModel> list = service.getDepartments();
+        List<DepartmentResponseModel> list = service.getDepartments().collectList().block();
         assertEquals(1, list.size());
         assertTrue(list.get(0).getLink("self").isPresent());
         assertTrue(list.get(0).getLink("all-departments").isPresent());
@@ -49,24 +50,24 @@ class DepartmentsServiceUnitTest {
     @Test
     void getDepartmentById_invalidId_throwsInvalidInputException() {
         assertThrows(InvalidInputException.class,
-                () -> service.getDepartmentById("short"));
+                () -> service.getDepartmentById("short").block());
     }
 
     @Test
     void getDepartmentById_notFound_throwsNotFoundException() {
         String id = UUID.randomUUID().toString();
         when(departmentsServiceClient.getDepartmentById(id))
-                .thenThrow(EntityNotFoundException.class);
+                .thenReturn(Mono.error(new EntityNotFoundException()));
 
         NotFoundException ex = assertThrows(NotFoundException.class,
-                () -> service.getDepartmentById(id));
+                () -> service.getDepartmentById(id).block());
         assertTrue(ex.getMessage().contains(id));
     }
 
     @Test
     void createDepartment_nullRequest_throwsInvalidInputException() {
         assertThrows(InvalidInputException.class,
-                () -> service.createDepartment(null));
+                () -> service.createDepartment(null).block());
     }
 
     @Test
@@ -74,9 +75,9 @@ class DepartmentsServiceUnitTest {
         DepartmentRequestModel req = new DepartmentRequestModel();
         DepartmentResponseModel created = new DepartmentResponseModel();
         created.setDepartmentId(UUID.randomUUID().toString());
-        when(departmentsServiceClient.createDepartment(req)).thenReturn(created);
+        when(departmentsServiceClient.createDepartment(req)).thenReturn(Mono.just(created));
 
-        DepartmentResponseModel result = service.createDepartment(req);
+        DepartmentResponseModel result = service.createDepartment(req).block();
         assertTrue(result.getLink("self").isPresent());
         assertTrue(result.getLink("all-departments").isPresent());
     }
@@ -84,14 +85,14 @@ class DepartmentsServiceUnitTest {
     @Test
     void updateDepartment_invalidId_throwsInvalidInputException() {
         assertThrows(InvalidInputException.class,
-                () -> service.updateDepartment("bad", new DepartmentRequestModel()));
+                () -> service.updateDepartment("bad", new DepartmentRequestModel()).block());
     }
 
     @Test
     void updateDepartment_nullRequest_throwsInvalidInputException() {
         String id = UUID.randomUUID().toString();
         assertThrows(InvalidInputException.class,
-                () -> service.updateDepartment(id, null));
+                () -> service.updateDepartment(id, null).block());
     }
 
     @Test
@@ -99,36 +100,36 @@ class DepartmentsServiceUnitTest {
         String id = UUID.randomUUID().toString();
         DepartmentRequestModel req = new DepartmentRequestModel();
         when(departmentsServiceClient.updateDepartment(id, req))
-                .thenThrow(EntityNotFoundException.class);
+                .thenReturn(Mono.error(new EntityNotFoundException()));
 
         NotFoundException ex = assertThrows(NotFoundException.class,
-                () -> service.updateDepartment(id, req));
+                () -> service.updateDepartment(id, req).block());
         assertTrue(ex.getMessage().contains(id));
     }
 
     @Test
     void deleteDepartment_invalidId_throwsInvalidInputException() {
         assertThrows(InvalidInputException.class,
-                () -> service.deleteDepartment("bad"));
+                () -> service.deleteDepartment("bad").block());
     }
 
     @Test
     void deleteDepartment_notFound_throwsNotFoundException() {
         String id = UUID.randomUUID().toString();
-        doThrow(EntityNotFoundException.class)
-                .when(departmentsServiceClient).deleteDepartment(id);
+        when(departmentsServiceClient.deleteDepartment(id))
+                .thenReturn(Mono.error(new EntityNotFoundException()));
 
         NotFoundException ex = assertThrows(NotFoundException.class,
-                () -> service.deleteDepartment(id));
+                () -> service.deleteDepartment(id).block());
         assertTrue(ex.getMessage().contains(id));
     }
 
     @Test
     void deleteDepartment_success_invokesClientDeleteOnce() {
         String id = UUID.randomUUID().toString();
-        doNothing().when(departmentsServiceClient).deleteDepartment(id);
+        when(departmentsServiceClient.deleteDepartment(id)).thenReturn(Mono.empty());
 
-        service.deleteDepartment(id);
+        service.deleteDepartment(id).block();
 
         verify(departmentsServiceClient, times(1)).deleteDepartment(id);
     }
@@ -3,6 +3,9 @@ package com.leduc.apigateway.staff.departments.presentationLayer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.leduc.apigateway.staff.departments.domainclientLayer.DepartmentName;
+import com.leduc.apigateway.staff.employees.presentationLayer.EmployeeSummaryResponseModel;
+import com.leduc.apigateway.utils.DownstreamStubServer;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,17 +14,13 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
-import org.springframework.test.web.client.ExpectedCount;
-import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.reactive.server.WebTestClient;
-import org.springframework.web.client.RestTemplate;
 
-import java.net.URI;
 import java.net.URISyntaxException;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
-import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
@@ -30,22 +29,29 @@ class DepartmentsControllerIntegrationTest {
     @Autowired
     WebTestClient webClient;
 
-    @Autowired
-    RestTemplate restTemplate;
-
-    private MockRestServiceServer mockServer;
+    private static final DownstreamStubServer downstream = DownstreamStubServer.start();
     private final ObjectMapper mapper = new ObjectMapper();
 
     private static final String API_BASE     = "/api/v1/departments";
-    private static final String SERVICE_BASE = "http://localhost:7002/api/v1/departments";
+    private static final String SERVICE_BASE = "/api/v1/departments";
 
     private final String VALID_ID   = "123e4567-e89b-12d3-a456-426614174000";
     private final String MISSING_ID = "00000000-0000-0000-0000-000000000000";
     private final String BAD_ID     = "bad-id";
 
+    @DynamicPropertySource
+    static void downstreamServices(DynamicPropertyRegistry registry) {
+        downstream.registerDownstreams(registry);
+    }
+
     @BeforeEach
     void init() {
-        mockServer = MockRestServiceServer.createServer(restTemplate);
+        downstream.reset();
+    }
+
+    @AfterAll
+    static void stopDownstream() {
+        downstream.stop();
     }
 
     @Test
@@ -53,13 +59,8 @@ class DepartmentsControllerIntegrationTest {
         var dept = new DepartmentResponseModel();
         dept.setDepartmentId(VALID_ID);
 
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(SERVICE_BASE))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withSuccess(
-                        mapper.writeValueAsString(new DepartmentResponseModel[]{ dept }),
-                        MediaType.APPLICATION_JSON
-                ));
+        downstream.expect(HttpMethod.GET, SERVICE_BASE)
+                .andRespond(HttpStatus.OK,  mapper.writeValueAsString(new DepartmentResponseModel[]{ dept }));
 
         webClient.get().uri(API_BASE)
                 .exchange()
@@ -70,15 +71,13 @@ class DepartmentsControllerIntegrationTest {
                     assertEquals(VALID_ID, list.get(0).getDepartmentId());
                 });
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
     void whenGetAllDepartmentsAndNoneExist_thenReturnEmptyList() {
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(SERVICE_BASE))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+        downstream.expect(HttpMethod.GET, SERVICE_BASE)
+                .andRespond(HttpStatus.OK, "[]");
 
         webClient.get().uri(API_BASE)
                 .exchange()
@@ -86,7 +85,40 @@ class DepartmentsControllerIntegrationTest {
                 .expectBodyList(DepartmentResponseModel.class)
                 .hasSize(0);
 
-        mockServer.verify();
+        downstream.verify();
+    }
+
+    @Test
+    void whenGetDepartmentEmployees_thenPassThroughCursorAndReturnPage() throws JsonProcessingException {
+        var employee = new EmployeeSummaryResponseModel();
+        employee.setEmployeeId(MISSING_ID);
+        employee.setDepartmentId(VALID_ID);
+
+        downstream.expect(HttpMethod.GET, SERVICE_BASE + "/" + VALID_ID + "/employees?after=" + VALID_ID + "&limit=1")
+                .withHeader("X-Next-Cursor", MISSING_ID)
+                .andRespond(HttpStatus.OK, mapper.writeValueAsString(new EmployeeSummaryResponseModel[]{ employee }));
+
+        webClient.get().uri(API_BASE + "/" + VALID_ID + "/employees?after=" + VALID_ID + "&limit=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Next-Cursor", MISSING_ID)
+                .expectBodyList(EmployeeSummaryResponseModel.class)
+                .value(list -> {
+                    assertEquals(1, list.size());
+                    assertEquals(MISSING_ID, list.get(0).getEmployeeId());
+                });
+        downstream.verify();
+    }
+
+    @Test
+    void whenGetDepartmentEmployeesForMissingDepartment_thenReturn404() {
+        downstream.expect(HttpMethod.GET, SERVICE_BASE + "/" + MISSING_ID + "/employees")
+                .andRespond(HttpStatus.NOT_FOUND);
+
+        webClient.get().uri(API_BASE + "/" + MISSING_ID + "/employees")
+                .exchange()
+                .expectStatus().isNotFound();
+        downstream.verify();
     }
 
     @Test
@@ -94,13 +126,8 @@ class DepartmentsControllerIntegrationTest {
         var dept = new DepartmentResponseModel();
         dept.setDepartmentId(VALID_ID);
 
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(new URI(SERVICE_BASE + "/" + VALID_ID)))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withSuccess(
-                        mapper.writeValueAsString(dept),
-                        MediaType.APPLICATION_JSON
-                ));
+        downstream.expect(HttpMethod.GET, SERVICE_BASE + "/" + VALID_ID)
+                .andRespond(HttpStatus.OK,  mapper.writeValueAsString(dept));
 
         webClient.get().uri(API_BASE + "/" + VALID_ID)
                 .exchange()
@@ -108,21 +135,19 @@ class DepartmentsControllerIntegrationTest {
                 .expectBody(DepartmentResponseModel.class)
                 .value(resp -> assertEquals(VALID_ID, resp.getDepartmentId()));
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
     void whenGetDepartmentByIdNotFound_thenReturn404() {
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(SERVICE_BASE + "/" + MISSING_ID))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        downstream.expect(HttpMethod.GET, SERVICE_BASE + "/" + MISSING_ID)
+                .andRespond(HttpStatus.NOT_FOUND);
 
         webClient.get().uri(API_BASE + "/" + MISSING_ID)
                 .exchange()
                 .expectStatus().isNotFound();
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
@@ -140,13 +165,8 @@ class DepartmentsControllerIntegrationTest {
         var created = new DepartmentResponseModel();
         created.setDepartmentId(VALID_ID);
 
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(SERVICE_BASE))
-                .andExpect(method(HttpMethod.POST))
-                .andRespond(withStatus(HttpStatus.CREATED)
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .body(mapper.writeValueAsString(created))
-                );
+        downstream.expect(HttpMethod.POST, SERVICE_BASE)
+                .andRespond(HttpStatus.CREATED, mapper.writeValueAsString(created));
 
         webClient.post().uri(API_BASE)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -156,15 +176,13 @@ class DepartmentsControllerIntegrationTest {
                 .expectBody(DepartmentResponseModel.class)
                 .value(resp -> assertEquals(VALID_ID, resp.getDepartmentId()));
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
     void whenCreateDepartmentInvalid_thenReturn422() {
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(SERVICE_BASE))
-                .andExpect(method(HttpMethod.POST))
-                .andRespond(withStatus(HttpStatus.UNPROCESSABLE_ENTITY));
+        downstream.expect(HttpMethod.POST, SERVICE_BASE)
+                .andRespond(HttpStatus.UNPROCESSABLE_ENTITY);
 
         webClient.post().uri(API_BASE)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -172,7 +190,7 @@ class DepartmentsControllerIntegrationTest {
                 .exchange()
                 .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
@@ -183,18 +201,11 @@ class DepartmentsControllerIntegrationTest {
         var updated = new DepartmentResponseModel();
         updated.setDepartmentId(VALID_ID);
 
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(new URI(SERVICE_BASE + "/" + VALID_ID)))
-                .andExpect(method(HttpMethod.PUT))
-                .andRespond(withStatus(HttpStatus.OK));
+        downstream.expect(HttpMethod.PUT, SERVICE_BASE + "/" + VALID_ID)
+                .andRespond(HttpStatus.OK);
 
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(new URI(SERVICE_BASE + "/" + VALID_ID)))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withSuccess(
-                        mapper.writeValueAsString(updated),
-                        MediaType.APPLICATION_JSON
-                ));
+        downstream.expect(HttpMethod.GET, SERVICE_BASE + "/" + VALID_ID)
+                .andRespond(HttpStatus.OK,  mapper.writeValueAsString(updated));
 
         webClient.put().uri(API_BASE + "/" + VALID_ID)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -204,15 +215,13 @@ class DepartmentsControllerIntegrationTest {
                 .expectBody(DepartmentResponseModel.class)
                 .value(resp -> assertEquals(VALID_ID, resp.getDepartmentId()));
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
     void whenUpdateDepartmentNotFound_thenReturn404() {
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(SERVICE_BASE + "/" + MISSING_ID))
-                .andExpect(method(HttpMethod.PUT))
-                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        downstream.expect(HttpMethod.PUT, SERVICE_BASE + "/" + MISSING_ID)
+                .andRespond(HttpStatus.NOT_FOUND);
 
         webClient.put().uri(API_BASE + "/" + MISSING_ID)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -220,7 +229,7 @@ class DepartmentsControllerIntegrationTest {
                 .exchange()
                 .expectStatus().isNotFound();
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
@@ -234,30 +243,26 @@ class DepartmentsControllerIntegrationTest {
 
     @Test
     void whenDeleteDepartment_thenReturn204() {
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(SERVICE_BASE + "/" + VALID_ID))
-                .andExpect(method(HttpMethod.DELETE))
-                .andRespond(withStatus(HttpStatus.NO_CONTENT));
+        downstream.expect(HttpMethod.DELETE, SERVICE_BASE + "/" + VALID_ID)
+                .andRespond(HttpStatus.NO_CONTENT);
 
         webClient.delete().uri(API_BASE + "/" + VALID_ID)
                 .exchange()
                 .expectStatus().isNoContent();
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
     void whenDeleteDepartmentNotFound_thenReturn404() {
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(SERVICE_BASE + "/" + MISSING_ID))
-                .andExpect(method(HttpMethod.DELETE))
-                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        downstream.expect(HttpMethod.DELETE, SERVICE_BASE + "/" + MISSING_ID)
+                .andRespond(HttpStatus.NOT_FOUND);
 
         webClient.delete().uri(API_BASE + "/" + MISSING_ID)
                 .exchange()
                 .expectStatus().isNotFound();
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
@@ -10,8 +10,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,11 +34,10 @@ class DepartmentsControllerUnitTest {
 
     @Test
     void getDepartments_thenOk() {
-        when(service.getDepartments()).thenReturn(Collections.emptyList());
+        when(service.getDepartments()).thenReturn(Flux.empty());
 
-        ResponseEntity<List<DepartmentResponseModel>> resp = controller.getDepartments();
-        assertEquals(200, resp.getStatusCodeValue());
-        assertTrue(resp.getBody().isEmpty());
+        List<DepartmentResponseModel> departments = controller.getDepartments().collectList().block();
+        assertTrue(departments.isEmpty());
         verify(service).getDepartments();
     }
 
@@ -45,9 +45,9 @@ class DepartmentsControllerUnitTest {
     void getDepartmentById_thenOk() {
         var dept = new DepartmentResponseModel();
         dept.setDepartmentId(VALID_ID);
-        when(service.getDepartmentById(VALID_ID)).thenReturn(dept);
+        when(service.getDepartmentById(VALID_ID)).thenReturn(Mono.just(dept));
 
-        ResponseEntity<DepartmentResponseModel> resp = controller.getDepartmentById(VALID_ID);
+        ResponseEntity<DepartmentResponseModel> resp = controller.getDepartmentById(VALID_ID).block();
         assertEquals(200, resp.getStatusCodeValue());
         assertEquals(VALID_ID, resp.getBody().getDepartmentId());
     }
@@ -55,10 +55,10 @@ class DepartmentsControllerUnitTest {
     @Test
     void getDepartmentById_notFound_throwsNotFoundException() {
         when(service.getDepartmentById(MISSING_ID))
-                .thenThrow(new NotFoundException("Department not found"));
+                .thenReturn(Mono.error(new NotFoundException("Department not found")));
 
         NotFoundException ex = assertThrows(NotFoundException.class, () ->
-                controller.getDepartmentById(MISSING_ID)
+                controller.getDepartmentById(MISSING_ID).block()
         );
         assertEquals("Department not found", ex.getMessage());
     }
@@ -66,10 +66,10 @@ class DepartmentsControllerUnitTest {
     @Test
     void getDepartmentById_invalid_throwsInvalidInputException() {
         when(service.getDepartmentById(BAD_ID))
-                .thenThrow(new InvalidInputException("Department ID must be exactly 36 characters long"));
+                .thenReturn(Mono.error(new InvalidInputException("Department ID must be exactly 36 characters long")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                controller.getDepartmentById(BAD_ID)
+                controller.getDepartmentById(BAD_ID).block()
         );
         assertEquals("Department ID must be exactly 36 characters long", ex.getMessage());
     }
@@ -81,9 +81,9 @@ class DepartmentsControllerUnitTest {
 
         var created = new DepartmentResponseModel();
         created.setDepartmentId(VALID_ID);
-        when(service.createDepartment(req)).thenReturn(created);
+        when(service.createDepartment(req)).thenReturn(Mono.just(created));
 
-        ResponseEntity<DepartmentResponseModel> resp = controller.createDepartment(req);
+        ResponseEntity<DepartmentResponseModel> resp = controller.createDepartment(req).block();
         assertEquals(201, resp.getStatusCodeValue());
         assertEquals(VALID_ID, resp.getBody().getDepartmentId());
     }
@@ -91,10 +91,10 @@ class DepartmentsControllerUnitTest {
     @Test
     void createDepartment_null_throwsInvalidInputException() {
         when(service.createDepartment(null))
-                .thenThrow(new InvalidInputException("DepartmentRequestModel must not be null"));
+                .thenReturn(Mono.error(new InvalidInputException("DepartmentRequestModel must not be null")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                controller.createDepartment(null)
+                controller.createDepartment(null).block()
         );
         assertEquals("DepartmentRequestModel must not be null", ex.getMessage());
     }
@@ -106,9 +106,9 @@ class DepartmentsControllerUnitTest {
 
         var updated = new DepartmentResponseModel();
         updated.setDepartmentId(VALID_ID);
-        when(service.updateDepartment(VALID_ID, req)).thenReturn(updated);
+        when(service.updateDepartment(VALID_ID, req)).thenReturn(Mono.just(updated));
 
-        ResponseEntity<DepartmentResponseModel> resp = controller.updateDepartment(VALID_ID, req);
+        ResponseEntity<DepartmentResponseModel> resp = controller.updateDepartment(VALID_ID, req).block();
         assertEquals(200, resp.getStatusCodeValue());
         assertEquals(VALID_ID, resp.getBody().getDepartmentId());
     }
@@ -117,10 +117,10 @@ class DepartmentsControllerUnitTest {
     void updateDepartment_notFound_throwsNotFoundException() {
         var req = new DepartmentRequestModel();
         when(service.updateDepartment(MISSING_ID, req))
-                .thenThrow(new NotFoundException("Department not found"));
+                .thenReturn(Mono.error(new NotFoundException("Department not found")));
 
         NotFoundException ex = assertThrows(NotFoundException.class, () ->
-                controller.updateDepartment(MISSING_ID, req)
+                controller.updateDepartment(MISSING_ID, req).block()
         );
         assertEquals("Department not found", ex.getMessage());
     }
@@ -129,10 +129,10 @@ class DepartmentsControllerUnitTest {
     void updateDepartment_invalidId_throwsInvalidInputException() {
         var req = new DepartmentRequestModel();
         when(service.updateDepartment(BAD_ID, req))
-                .thenThrow(new InvalidInputException("Department ID must be exactly 36 characters long"));
+                .thenReturn(Mono.error(new InvalidInputException("Department ID must be exactly 36 characters long")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                controller.updateDepartment(BAD_ID, req)
+                controller.updateDepartment(BAD_ID, req).block()
         );
         assertEquals("Department ID must be exactly 36 characters long", ex.getMessage());
     }
@@ -140,40 +140,40 @@ class DepartmentsControllerUnitTest {
     @Test
     void updateDepartment_nullRequest_throwsInvalidInputException() {
         when(service.updateDepartment(VALID_ID, null))
-                .thenThrow(new InvalidInputException("DepartmentRequestModel must not be null"));
+                .thenReturn(Mono.error(new InvalidInputException("DepartmentRequestModel must not be null")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                controller.updateDepartment(VALID_ID, null)
+                controller.updateDepartment(VALID_ID, null).block()
         );
         assertEquals("DepartmentRequestModel must not be null", ex.getMessage());
     }
 
     @Test
     void deleteDepartment_thenNoContent() {
-        doNothing().when(service).deleteDepartment(VALID_ID);
+        when(service.deleteDepartment(VALID_ID)).thenReturn(Mono.empty());
 
-        ResponseEntity<Void> resp = controller.deleteDepartment(VALID_ID);
+        ResponseEntity<Void> resp = controller.deleteDepartment(VALID_ID).block();
         assertEquals(204, resp.getStatusCodeValue());
     }
 
     @Test
     void deleteDepartment_notFound_throwsNotFoundException() {
-        doThrow(new NotFoundException("Department not found"))
-                .when(service).deleteDepartment(MISSING_ID);
+        when(service.deleteDepartment(MISSING_ID))
+                .thenReturn(Mono.error(new NotFoundException("Department not found")));
 
         NotFoundException ex = assertThrows(NotFoundException.class, () ->
-                controller.deleteDepartment(MISSING_ID)
+                controller.deleteDepartment(MISSING_ID).block()
         );
         assertEquals("Department not found", ex.getMessage());
     }
 
     @Test
     void deleteDepartment_invalid_throwsInvalidInputException() {
-        doThrow(new InvalidInputException("Department ID must be exactly 36 characters long"))
-                .when(service).deleteDepartment(BAD_ID);
+        when(service.deleteDepartment(BAD_ID))
+                .thenReturn(Mono.error(new InvalidInputException("Department ID must be exactly 36 characters long")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                controller.deleteDepartment(BAD_ID)
+                controller.deleteDepartment(BAD_ID).block()
         );
         assertEquals("Department ID must be exactly 36 characters long", ex.getMessage());
     }
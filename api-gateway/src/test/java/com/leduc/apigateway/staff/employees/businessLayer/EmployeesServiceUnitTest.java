@@ -14,8 +14,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -36,9 +37,9 @@ class EmployeesServiceUnitTest {
         EmployeeResponseModel e = new EmployeeResponseModel();
         e.setEmployeeId(UUID.randomUUID().toString());
         when(employeesServiceClient.getAllEmployees())
-                .thenReturn(Arrays.asList(e));
+                .thenReturn(Flux.just(e));
 
-        List<EmployeeResponseModel> list = service.getAllEmployees();
+        List<EmployeeResponseModel> list = service.getAllEmployees().collectList().block();
         assertEquals(1, list.size());
         assertTrue(list.get(0).getLink("self").isPresent());
         assertTrue(list.get(0).getLink("all-employees").isPresent());
@@ -47,24 +48,24 @@ class EmployeesServiceUnitTest {
     @Test
     void getEmployeeByEmployeeId_invalidId_throwsInvalidInputException() {
         assertThrows(InvalidInputException.class,
-                () -> service.getEmployeeByEmployeeId("bad"));
+                () -> service.getEmployeeByEmployeeId("bad").block());
     }
 
     @Test
     void getEmployeeByEmployeeId_notFound_throwsNotFoundException() {
         String id = UUID.randomUUID().toString();
         when(employeesServiceClient.getEmployeeByEmployeeId(id))
-                .thenThrow(EntityNotFoundException.class);
+                .thenReturn(Mono.error(new EntityNotFoundException()));
 
         NotFoundException ex = assertThrows(NotFoundException.class,
-                () -> service.getEmployeeByEmployeeId(id));
+                () -> service.getEmployeeByEmployeeId(id).block());
         assertTrue(ex.getMessage().contains(id));
     }
 
     @Test
     void createEmployee_nullRequest_throwsInvalidInputException() {
         assertThrows(InvalidInputException.class,
-                () -> service.createEmployee(null));
+                () -> service.createEmployee(null).block());
     }
 
     @Test
@@ -72,9 +73,9 @@ class EmployeesServiceUnitTest {
         EmployeeRequestModel req = new EmployeeRequestModel();
         EmployeeResponseModel created = new EmployeeResponseModel();
         created.setEmployeeId(UUID.randomUUID().toString());
-        when(employeesServiceClient.createEmployee(req)).thenReturn(created);
+        when(employeesServiceClient.createEmployee(req)).thenReturn(Mono.just(created));
 
-        EmployeeResponseModel result = service.createEmployee(req);
+        EmployeeResponseModel result = service.createEmployee(req).block();
         assertTrue(result.getLink("self").isPresent());
         assertTrue(result.getLink("all-employees").isPresent());
     }
@@ -82,14 +83,14 @@ class EmployeesServiceUnitTest {
     @Test
     void updateEmployee_invalidId_throwsInvalidInputException() {
         assertThrows(InvalidInputException.class,
-                () -> service.updateEmployee("bad", new EmployeeRequestModel()));
+                () -> service.updateEmployee("bad", new EmployeeRequestModel()).block());
     }
 
     @Test
     void updateEmployee_nullRequest_throwsInvalidInputException() {
         String id = UUID.randomUUID().toString();
         assertThrows(InvalidInputException.class,
-                () -> service.updateEmployee(id, null));
+                () -> service.updateEmployee(id, null).block());
     }
 
     @Test
@@ -97,36 +98,36 @@ class EmployeesServiceUnitTest {
         String id = UUID.randomUUID().toString();
         EmployeeRequestModel req = new EmployeeRequestModel();
         when(employeesServiceClient.updateEmployee(id, req))
-                .thenThrow(EntityNotFoundException.class);
+                .thenReturn(Mono.error(new EntityNotFoundException()));
 
         NotFoundException ex = assertThrows(NotFoundException.class,
-                () -> service.updateEmployee(id, req));
+                () -> service.updateEmployee(id, req).block());
         assertTrue(ex.getMessage().contains(id));
     }
 
     @Test
     void deleteEmployee_invalidId_throwsInvalidInputException() {
         assertThrows(InvalidInputException.class,
-                () -> service.deleteEmployee("bad"));
+                () -> service.deleteEmployee("bad").block());
     }
 
     @Test
     void deleteEmployee_notFound_throwsNotFoundException() {
         String id = UUID.randomUUID().toString();
-        doThrow(EntityNotFoundException.class)
-                .when(employeesServiceClient).deleteEmployee(id);
+        when(employeesServiceClient.deleteEmployee(id))
+                .thenReturn(Mono.error(new EntityNotFoundException()));
 
         NotFoundException ex = assertThrows(NotFoundException.class,
-                () -> service.deleteEmployee(id));
+                () -> service.deleteEmployee(id).block());
         assertTrue(ex.getMessage().contains(id));
     }
 
     @Test
     void deleteEmployee_success_invokesClientDeleteOnce() {
         String id = UUID.randomUUID().toString();
-        doNothing().when(employeesServiceClient).deleteEmployee(id);
+        when(employeesServiceClient.deleteEmployee(id)).thenReturn(Mono.empty());
 
-        service.deleteEmployee(id);
+        service.deleteEmployee(id).block();
 
         verify(employeesServiceClient, times(1)).deleteEmployee(id);
     }
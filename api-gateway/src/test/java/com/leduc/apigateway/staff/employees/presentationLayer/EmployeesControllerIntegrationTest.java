@@ -2,6 +2,8 @@ package com.leduc.apigateway.staff.employees.presentationLayer;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leduc.apigateway.utils.DownstreamStubServer;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,17 +12,13 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
-import org.springframework.test.web.client.ExpectedCount;
-import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.reactive.server.WebTestClient;
-import org.springframework.web.client.RestTemplate;
 
-import java.net.URI;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
-import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
@@ -29,22 +27,29 @@ class EmployeesControllerIntegrationTest {
     @Autowired
     private WebTestClient webClient;
 
-    @Autowired
-    private RestTemplate restTemplate;
-
-    private MockRestServiceServer mockServer;
+    private static final DownstreamStubServer downstream = DownstreamStubServer.start();
     private final ObjectMapper mapper = new ObjectMapper();
 
     private static final String API_BASE     = "/api/v1/staff";
-    private static final String SERVICE_BASE = "http://localhost:7002/api/v1/staff";
+    private static final String SERVICE_BASE = "/api/v1/staff";
 
     private final String VALID_ID   = "123e4567-e89b-12d3-a456-426614174000";
     private final String MISSING_ID = "00000000-0000-0000-0000-000000000000";
     private final String BAD_ID     = "bad-id";
 
+    @DynamicPropertySource
+    static void downstreamServices(DynamicPropertyRegistry registry) {
+        downstream.registerDownstreams(registry);
+    }
+
     @BeforeEach
     void init() {
-        mockServer = MockRestServiceServer.createServer(restTemplate);
+        downstream.reset();
+    }
+
+    @AfterAll
+    static void stopDownstream() {
+        downstream.stop();
     }
 
     @Test
@@ -52,12 +57,8 @@ class EmployeesControllerIntegrationTest {
         var emp = new EmployeeResponseModel();
         emp.setEmployeeId(VALID_ID);
 
-        mockServer.expect(ExpectedCount.once(), requestTo(SERVICE_BASE))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withSuccess(
-                        mapper.writeValueAsString(new EmployeeResponseModel[]{ emp }),
-                        MediaType.APPLICATION_JSON
-                ));
+        downstream.expect(HttpMethod.GET, SERVICE_BASE)
+                .andRespond(HttpStatus.OK,  mapper.writeValueAsString(new EmployeeResponseModel[]{ emp }));
 
         webClient.get().uri(API_BASE)
                 .exchange()
@@ -68,14 +69,13 @@ class EmployeesControllerIntegrationTest {
                     assertEquals(VALID_ID, list.get(0).getEmployeeId());
                 });
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
     void whenGetAllEmployeesAndNoneExist_thenReturnEmptyList() {
-        mockServer.expect(ExpectedCount.once(), requestTo(SERVICE_BASE))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+        downstream.expect(HttpMethod.GET, SERVICE_BASE)
+                .andRespond(HttpStatus.OK, "[]");
 
         webClient.get().uri(API_BASE)
                 .exchange()
@@ -83,7 +83,7 @@ class EmployeesControllerIntegrationTest {
                 .expectBodyList(EmployeeResponseModel.class)
                 .hasSize(0);
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
@@ -91,13 +91,8 @@ class EmployeesControllerIntegrationTest {
         var emp = new EmployeeResponseModel();
         emp.setEmployeeId(VALID_ID);
 
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(new URI(SERVICE_BASE + "/" + VALID_ID)))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withSuccess(
-                        mapper.writeValueAsString(emp),
-                        MediaType.APPLICATION_JSON
-                ));
+        downstream.expect(HttpMethod.GET, SERVICE_BASE + "/" + VALID_ID)
+                .andRespond(HttpStatus.OK,  mapper.writeValueAsString(emp));
 
         webClient.get().uri(API_BASE + "/" + VALID_ID)
                 .exchange()
@@ -105,21 +100,19 @@ class EmployeesControllerIntegrationTest {
                 .expectBody(EmployeeResponseModel.class)
                 .value(resp -> assertEquals(VALID_ID, resp.getEmployeeId()));
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
     void whenGetEmployeeByIdNotFound_thenReturn404() {
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(SERVICE_BASE + "/" + MISSING_ID))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        downstream.expect(HttpMethod.GET, SERVICE_BASE + "/" + MISSING_ID)
+                .andRespond(HttpStatus.NOT_FOUND);
 
         webClient.get().uri(API_BASE + "/" + MISSING_ID)
                 .exchange()
                 .expectStatus().isNotFound();
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
@@ -138,12 +131,8 @@ class EmployeesControllerIntegrationTest {
         var created = new EmployeeResponseModel();
         created.setEmployeeId(VALID_ID);
 
-        mockServer.expect(ExpectedCount.once(), requestTo(SERVICE_BASE))
-                .andExpect(method(HttpMethod.POST))
-                .andRespond(withStatus(HttpStatus.CREATED)
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .body(mapper.writeValueAsString(created))
-                );
+        downstream.expect(HttpMethod.POST, SERVICE_BASE)
+                .andRespond(HttpStatus.CREATED, mapper.writeValueAsString(created));
 
         webClient.post().uri(API_BASE)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -153,14 +142,13 @@ class EmployeesControllerIntegrationTest {
                 .expectBody(EmployeeResponseModel.class)
                 .value(resp -> assertEquals(VALID_ID, resp.getEmployeeId()));
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
     void whenCreateEmployeeInvalid_thenReturn422() {
-        mockServer.expect(ExpectedCount.once(), requestTo(SERVICE_BASE))
-                .andExpect(method(HttpMethod.POST))
-                .andRespond(withStatus(HttpStatus.UNPROCESSABLE_ENTITY));
+        downstream.expect(HttpMethod.POST, SERVICE_BASE)
+                .andRespond(HttpStatus.UNPROCESSABLE_ENTITY);
 
         webClient.post().uri(API_BASE)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -168,7 +156,7 @@ class EmployeesControllerIntegrationTest {
                 .exchange()
                 .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
@@ -180,18 +168,11 @@ class EmployeesControllerIntegrationTest {
         var updated = new EmployeeResponseModel();
         updated.setEmployeeId(VALID_ID);
 
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(new URI(SERVICE_BASE + "/" + VALID_ID)))
-                .andExpect(method(HttpMethod.PUT))
-                .andRespond(withStatus(HttpStatus.OK));
+        downstream.expect(HttpMethod.PUT, SERVICE_BASE + "/" + VALID_ID)
+                .andRespond(HttpStatus.OK);
 
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(new URI(SERVICE_BASE + "/" + VALID_ID)))
-                .andExpect(method(HttpMethod.GET))
-                .andRespond(withSuccess(
-                        mapper.writeValueAsString(updated),
-                        MediaType.APPLICATION_JSON
-                ));
+        downstream.expect(HttpMethod.GET, SERVICE_BASE + "/" + VALID_ID)
+                .andRespond(HttpStatus.OK,  mapper.writeValueAsString(updated));
 
         webClient.put().uri(API_BASE + "/" + VALID_ID)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -201,15 +182,13 @@ class EmployeesControllerIntegrationTest {
                 .expectBody(EmployeeResponseModel.class)
                 .value(resp -> assertEquals(VALID_ID, resp.getEmployeeId()));
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
     void whenUpdateEmployeeNotFound_thenReturn404() {
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(SERVICE_BASE + "/" + MISSING_ID))
-                .andExpect(method(HttpMethod.PUT))
-                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        downstream.expect(HttpMethod.PUT, SERVICE_BASE + "/" + MISSING_ID)
+                .andRespond(HttpStatus.NOT_FOUND);
 
         webClient.put().uri(API_BASE + "/" + MISSING_ID)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -217,7 +196,7 @@ class EmployeesControllerIntegrationTest {
                 .exchange()
                 .expectStatus().isNotFound();
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
@@ -231,30 +210,26 @@ class EmployeesControllerIntegrationTest {
 
     @Test
     void whenDeleteEmployee_thenReturn204() {
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(SERVICE_BASE + "/" + VALID_ID))
-                .andExpect(method(HttpMethod.DELETE))
-                .andRespond(withStatus(HttpStatus.NO_CONTENT));
+        downstream.expect(HttpMethod.DELETE, SERVICE_BASE + "/" + VALID_ID)
+                .andRespond(HttpStatus.NO_CONTENT);
 
         webClient.delete().uri(API_BASE + "/" + VALID_ID)
                 .exchange()
                 .expectStatus().isNoContent();
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
     void whenDeleteEmployeeNotFound_thenReturn404() {
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(SERVICE_BASE + "/" + MISSING_ID))
-                .andExpect(method(HttpMethod.DELETE))
-                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        downstream.expect(HttpMethod.DELETE, SERVICE_BASE + "/" + MISSING_ID)
+                .andRespond(HttpStatus.NOT_FOUND);
 
         webClient.delete().uri(API_BASE + "/" + MISSING_ID)
                 .exchange()
                 .expectStatus().isNotFound();
 
-        mockServer.verify();
+        downstream.verify();
     }
 
     @Test
@@ -10,8 +10,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,11 +34,10 @@ class EmployeesControllerUnitTest {
 
     @Test
     void getAllEmployees_thenOk() {
-        when(service.getAllEmployees()).thenReturn(Collections.emptyList());
+        when(service.getAllEmployees()).thenReturn(Flux.empty());
 
-        ResponseEntity<List<EmployeeResponseModel>> resp = controller.getAllEmployees();
-        assertEquals(HttpStatus.OK, resp.getStatusCode());
-        assertTrue(resp.getBody().isEmpty());
+        List<EmployeeResponseModel> employees = controller.getAllEmployees().collectList().block();
+        assertTrue(employees.isEmpty());
         verify(service, times(1)).getAllEmployees();
     }
 
@@ -45,9 +45,9 @@ class EmployeesControllerUnitTest {
     void getEmployeeById_thenOk() {
         var emp = new EmployeeResponseModel();
         emp.setEmployeeId(VALID_ID);
-        when(service.getEmployeeByEmployeeId(VALID_ID)).thenReturn(emp);
+        when(service.getEmployeeByEmployeeId(VALID_ID)).thenReturn(Mono.just(emp));
 
-        ResponseEntity<EmployeeResponseModel> resp = controller.getEmployeeByEmployeeId(VALID_ID);
+        ResponseEntity<EmployeeResponseModel> resp = controller.getEmployeeByEmployeeId(VALID_ID).block();
         assertEquals(HttpStatus.OK, resp.getStatusCode());
         assertEquals(VALID_ID, resp.getBody().getEmployeeId());
     }
@@ -55,10 +55,10 @@ class EmployeesControllerUnitTest {
     @Test
     void getEmployeeById_notFound_throwsNotFound() {
         when(service.getEmployeeByEmployeeId(MISSING_ID))
-                .thenThrow(new NotFoundException("Employee not found"));
+                .thenReturn(Mono.error(new NotFoundException("Employee not found")));
 
         NotFoundException ex = assertThrows(NotFoundException.class, () ->
-                controller.getEmployeeByEmployeeId(MISSING_ID)
+                controller.getEmployeeByEmployeeId(MISSING_ID).block()
         );
         assertEquals("Employee not found", ex.getMessage());
     }
@@ -66,10 +66,10 @@ class EmployeesControllerUnitTest {
     @Test
     void getEmployeeById_invalid_throwsInvalidInput() {
         when(service.getEmployeeByEmployeeId(BAD_ID))
-                .thenThrow(new InvalidInputException("Employee ID must be exactly 36 characters long"));
+                .thenReturn(Mono.error(new InvalidInputException("Employee ID must be exactly 36 characters long")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                controller.getEmployeeByEmployeeId(BAD_ID)
+                controller.getEmployeeByEmployeeId(BAD_ID).block()
         );
         assertEquals("Employee ID must be exactly 36 characters long", ex.getMessage());
     }
@@ -82,9 +82,9 @@ class EmployeesControllerUnitTest {
 
         var created = new EmployeeResponseModel();
         created.setEmployeeId(VALID_ID);
-        when(service.createEmployee(req)).thenReturn(created);
+        when(service.createEmployee(req)).thenReturn(Mono.just(created));
 
-        ResponseEntity<EmployeeResponseModel> resp = controller.createEmployee(req);
+        ResponseEntity<EmployeeResponseModel> resp = controller.createEmployee(req).block();
         assertEquals(HttpStatus.CREATED, resp.getStatusCode());
         assertEquals(VALID_ID, resp.getBody().getEmployeeId());
     }
@@ -92,10 +92,10 @@ class EmployeesControllerUnitTest {
     @Test
     void createEmployee_null_throwsInvalidInput() {
         when(service.createEmployee(null))
-                .thenThrow(new InvalidInputException("EmployeeRequestModel must not be null"));
+                .thenReturn(Mono.error(new InvalidInputException("EmployeeRequestModel must not be null")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                controller.createEmployee(null)
+                controller.createEmployee(null).block()
         );
         assertEquals("EmployeeRequestModel must not be null", ex.getMessage());
     }
@@ -108,9 +108,9 @@ class EmployeesControllerUnitTest {
 
         var updated = new EmployeeResponseModel();
         updated.setEmployeeId(VALID_ID);
-        when(service.updateEmployee(VALID_ID, req)).thenReturn(updated);
+        when(service.updateEmployee(VALID_ID, req)).thenReturn(Mono.just(updated));
 
-        ResponseEntity<EmployeeResponseModel> resp = controller.updateEmployee(VALID_ID, req);
+        ResponseEntity<EmployeeResponseModel> resp = controller.updateEmployee(VALID_ID, req).block();
         assertEquals(HttpStatus.OK, resp.getStatusCode());
         assertEquals(VALID_ID, resp.getBody().getEmployeeId());
     }
@@ -119,10 +119,10 @@ class EmployeesControllerUnitTest {
     void updateEmployee_notFound_throwsNotFound() {
         var req = new EmployeeRequestModel();
         when(service.updateEmployee(MISSING_ID, req))
-                .thenThrow(new NotFoundException("Employee not found"));
+                .thenReturn(Mono.error(new NotFoundException("Employee not found")));
 
         NotFoundException ex = assertThrows(NotFoundException.class, () ->
-                controller.updateEmployee(MISSING_ID, req)
+                controller.updateEmployee(MISSING_ID, req).block()
         );
         assertEquals("Employee not found", ex.getMessage());
     }
@@ -131,10 +131,10 @@ class EmployeesControllerUnitTest {
     void updateEmployee_invalidId_throwsInvalidInput() {
         var req = new EmployeeRequestModel();
         when(service.updateEmployee(BAD_ID, req))
-                .thenThrow(new InvalidInputException("Employee ID must be exactly 36 characters long"));
+                .thenReturn(Mono.error(new InvalidInputException("Employee ID must be exactly 36 characters long")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                controller.updateEmployee(BAD_ID, req)
+                controller.updateEmployee(BAD_ID, req).block()
         );
         assertEquals("Employee ID must be exactly 36 characters long", ex.getMessage());
     }
@@ -142,40 +142,40 @@ class EmployeesControllerUnitTest {
     @Test
     void updateEmployee_nullRequest_throwsInvalidInput() {
         when(service.updateEmployee(VALID_ID, null))
-                .thenThrow(new InvalidInputException("EmployeeRequestModel must not be null"));
+                .thenReturn(Mono.error(new InvalidInputException("EmployeeRequestModel must not be null")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                controller.updateEmployee(VALID_ID, null)
+                controller.updateEmployee(VALID_ID, null).block()
         );
         assertEquals("EmployeeRequestModel must not be null", ex.getMessage());
     }
 
     @Test
     void deleteEmployee_thenNoContent() {
-        doNothing().when(service).deleteEmployee(VALID_ID);
+        when(service.deleteEmployee(VALID_ID)).thenReturn(Mono.empty());
 
-        ResponseEntity<Void> resp = controller.deleteEmployee(VALID_ID);
+        ResponseEntity<Void> resp = controller.deleteEmployee(VALID_ID).block();
         assertEquals(HttpStatus.NO_CONTENT, resp.getStatusCode());
     }
 
     @Test
     void deleteEmployee_notFound_throwsNotFound() {
-        doThrow(new NotFoundException("Employee not found"))
-                .when(service).deleteEmployee(MISSING_ID);
+        when(service.deleteEmployee(MISSING_ID))
+                .thenReturn(Mono.error(new NotFoundException("Employee not found")));
 
         NotFoundException ex = assertThrows(NotFoundException.class, () ->
-                controller.deleteEmployee(MISSING_ID)
+                controller.deleteEmployee(MISSING_ID).block()
         );
         assertEquals("Employee not found", ex.getMessage());
     }
 
     @Test
     void deleteEmployee_invalid_throwsInvalidInput() {
-        doThrow(new InvalidInputException("Employee ID must be exactly 36 characters long"))
-                .when(service).deleteEmployee(BAD_ID);
+        when(service.deleteEmployee(BAD_ID))
+                .thenReturn(Mono.error(new InvalidInputException("Employee ID must be exactly 36 characters long")));
 
         InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
-                controller.deleteEmployee(BAD_ID)
+                controller.deleteEmployee(BAD_ID).block()
         );
         assertEquals("Employee ID must be exactly 36 characters long", ex.getMessage());
     }
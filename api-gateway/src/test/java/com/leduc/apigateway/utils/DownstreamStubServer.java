@@ -0,0 +1,155 @@
+package com.leduc.apigateway.utils;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import org.reactivestreams.Publisher;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// A real HTTP server standing in for every downstream service, so integration tests go through the
+// gateway's own WebClient and connection pool. Tests script the calls they expect, in the spirit of
+// MockRestServiceServer, and verify() checks each was made as often as expected and nothing else was.
+public final class DownstreamStubServer {
+
+    private static final List<String> DOWNSTREAM_SERVICES =
+            List.of("patrons-service", "staff-service", "books-service", "loans-service");
+
+    private final List<Expectation> expectations = new CopyOnWriteArrayList<>();
+    private final List<String> unexpectedCalls = new CopyOnWriteArrayList<>();
+    private final DisposableServer server;
+
+    private DownstreamStubServer() {
+        server = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .handle(this::handle)
+                .bindNow();
+    }
+
+    public static DownstreamStubServer start() {
+        return new DownstreamStubServer();
+    }
+
+    public void registerDownstreams(DynamicPropertyRegistry registry) {
+        for (String service : DOWNSTREAM_SERVICES) {
+            registry.add("app." + service + ".host", () -> "localhost");
+            registry.add("app." + service + ".port", server::port);
+        }
+    }
+
+    // uri is the path and query exactly as the gateway sends it, e.g. "/api/v1/books/search?q=a%20b"
+    public Expectation expect(HttpMethod method, String uri) {
+        Expectation expectation = new Expectation(method, uri);
+        expectations.add(expectation);
+        return expectation;
+    }
+
+    public void verify() {
+        if (!unexpectedCalls.isEmpty()) {
+            throw new AssertionError("Unexpected downstream calls: " + unexpectedCalls);
+        }
+        for (Expectation expectation : expectations) {
+            if (expectation.remaining.get() > 0) {
+                throw new AssertionError("Expected " + expectation + " " + expectation.remaining.get()
+                        + " more time(s)");
+            }
+        }
+    }
+
+    public void reset() {
+        expectations.clear();
+        unexpectedCalls.clear();
+    }
+
+    public void stop() {
+        server.disposeNow();
+    }
+
+    private Publisher<Void> handle(HttpServerRequest request, HttpServerResponse response) {
+        Expectation expectation = expectations.stream()
+                .filter(candidate -> candidate.claim(request))
+                .findFirst()
+                .orElse(null);
+        if (expectation == null) {
+            unexpectedCalls.add(request.method().name() + " " + request.uri());
+            return response.status(HttpStatus.INTERNAL_SERVER_ERROR.value()).send();
+        }
+        return request.receive().then()
+                .then(Mono.delay(expectation.delay))
+                .then(Mono.defer(() -> expectation.respond(response)));
+    }
+
+    public static final class Expectation {
+
+        private final HttpMethod method;
+        private final String uri;
+        private final AtomicInteger remaining = new AtomicInteger(1);
+        private final Map<String, String> headers = new LinkedHashMap<>();
+        private volatile Duration delay = Duration.ZERO;
+        private volatile HttpStatus status = HttpStatus.OK;
+        private volatile String body;
+
+        private Expectation(HttpMethod method, String uri) {
+            this.method = method;
+            this.uri = uri;
+        }
+
+        public Expectation times(int times) {
+            remaining.set(times);
+            return this;
+        }
+
+        public Expectation after(Duration delay) {
+            this.delay = delay;
+            return this;
+        }
+
+        public Expectation withHeader(String name, String value) {
+            headers.put(name, value);
+            return this;
+        }
+
+        public void andRespond(HttpStatus status) {
+            this.status = status;
+        }
+
+        public void andRespond(HttpStatus status, String jsonBody) {
+            this.status = status;
+            this.body = jsonBody;
+        }
+
+        private boolean claim(HttpServerRequest request) {
+            return method.name().equals(request.method().name())
+                    && uri.equals(request.uri())
+                    && remaining.getAndUpdate(count -> count > 0 ? count - 1 : count) > 0;
+        }
+
+        private Mono<Void> respond(HttpServerResponse response) {
+            response.status(status.value());
+            headers.forEach(response::header);
+            if (body == null) {
+                return response.send().then();
+            }
+            return response.header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                    .sendString(Mono.just(body))
+                    .then();
+        }
+
+        @Override
+        public String toString() {
+            return method + " " + uri;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.leduc.apigateway.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DownstreamWebClientConfigTest {
+
+    private DisposableServer server;
+    private CountDownLatch slowRequestStarted;
+    private Sinks.Empty<Void> releaseSlowRequest;
+    private SimpleMeterRegistry meterRegistry;
+    private ConnectionProvider connectionProvider;
+    private WebClient webClient;
+
+    @BeforeEach
+    void init() {
+        slowRequestStarted = new CountDownLatch(1);
+        releaseSlowRequest = Sinks.empty();
+        server = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .route(routes -> routes
+                        .get("/fast", (request, response) -> response.sendString(Mono.just("ok")))
+                        .get("/slow", (request, response) -> {
+                            slowRequestStarted.countDown();
+                            return releaseSlowRequest.asMono()
+                                    .timeout(Duration.ofSeconds(5), Mono.empty())
+                                    .then(response.sendString(Mono.just("slow")).then());
+                        }))
+                .bindNow();
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.patrons-service.host", "localhost")
+                .withProperty("app.patrons-service.port", String.valueOf(server.port()))
+                .withProperty("app.patrons-service.max-connections", "1");
+        meterRegistry = new SimpleMeterRegistry();
+        DownstreamWebClientConfig config = new DownstreamWebClientConfig();
+        connectionProvider = config.downstreamConnectionProvider(environment, meterRegistry,
+                10, 5, Duration.ofMillis(500), Duration.ofSeconds(30), Duration.ofMinutes(5));
+        webClient = config.downstreamWebClient(WebClient.builder(), connectionProvider,
+                Duration.ofMillis(200), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSlowRequest.tryEmitEmpty();
+        connectionProvider.disposeLater().block();
+        server.disposeNow();
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.port() + path;
+    }
+
+    private String get(String path) {
+        return webClient.get().uri(url(path)).retrieve().bodyToMono(String.class).block(Duration.ofSeconds(5));
+    }
+
+    private double connections(String state) {
+        return meterRegistry.get("http.client.pool.connections")
+                .tag("downstream", "patrons-service").tag("state", state).gauge().value();
+    }
+
+    private long acquires(String outcome) {
+        return meterRegistry.get("http.client.pool.acquire")
+                .tag("downstream", "patrons-service").tag("outcome", outcome).timer().count();
+    }
+
+    @Test
+    void whenRequestsComplete_thenConnectionIsReusedAndAcquiresAreTimedPerDownstream() {
+        assertEquals("ok", get("/fast"));
+        assertEquals("ok", get("/fast"));
+
+        assertEquals(2, acquires("acquired"));
+        assertEquals(0, connections("pending"));
+        assertEquals(1, meterRegistry.get("http.client.pool.total.connections").tag("state", "leased").gauge().value()
+                + meterRegistry.get("http.client.pool.total.connections").tag("state", "available").gauge().value());
+        assertEquals(1, meterRegistry.get("http.client.pool.max").tag("downstream", "patrons-service").gauge().value());
+        assertEquals(1, meterRegistry.get("http.client.pool.total.max").gauge().value());
+    }
+
+    @Test
+    void whenDownstreamPoolIsExhausted_thenWaitIsBoundedAndCountedAsTimeout() throws Exception {
+        CompletableFuture<String> slow = CompletableFuture.supplyAsync(() -> get("/slow"));
+        assertTrue(slowRequestStarted.await(5, TimeUnit.SECONDS));
+        assertEquals(1, connections("leased"));
+
+        long start = System.nanoTime();
+        assertThrows(WebClientRequestException.class, () -> get("/fast"));
+        long waitedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(waitedMs < 2_000, "expected to give up after the pending acquire timeout, waited " + waitedMs + " ms");
+        assertEquals(1, acquires("timeout"));
+
+        releaseSlowRequest.tryEmitEmpty();
+        assertEquals("slow", slow.get(5, TimeUnit.SECONDS));
+    }
+}
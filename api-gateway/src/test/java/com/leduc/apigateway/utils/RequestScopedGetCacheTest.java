@@ -0,0 +1,129 @@
+package com.leduc.apigateway.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestScopedGetCacheTest {
+
+    private static final String URL = "http://localhost:7004/api/v1/patrons/123e4567-e89b-12d3-a456-426614174000/loans";
+
+    private final List<HttpMethod> downstreamCalls = new ArrayList<>();
+    private final Deque<ClientResponse> downstreamResponses = new ArrayDeque<>();
+    private WebClient webClient;
+
+    @BeforeEach
+    void init() {
+        webClient = WebClient.builder()
+                .exchangeFunction(this::downstream)
+                .filter(new RequestScopedGetCache())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private Mono<ClientResponse> downstream(ClientRequest request) {
+        downstreamCalls.add(request.method());
+        return Mono.just(downstreamResponses.remove());
+    }
+
+    private void respond(HttpStatus status, String body) {
+        downstreamResponses.add(ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build());
+    }
+
+    private void startRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    private String[] get() {
+        return webClient.get().uri(URL).retrieve().bodyToMono(String[].class).block(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void whenSameGetTwiceInOneRequest_thenDownstreamCalledOnce() {
+        startRequest();
+        respond(HttpStatus.OK, "[\"a\"]");
+
+        assertArrayEquals(new String[]{"a"}, get());
+        assertArrayEquals(new String[]{"a"}, get());
+
+        assertEquals(List.of(HttpMethod.GET), downstreamCalls);
+    }
+
+    @Test
+    void whenSameGetSubscribedTwiceConcurrently_thenBothShareOneDownstreamCall() {
+        startRequest();
+        respond(HttpStatus.OK, "[\"a\"]");
+
+        Mono<String[]> first = webClient.get().uri(URL).retrieve().bodyToMono(String[].class);
+        Mono<String[]> second = webClient.get().uri(URL).retrieve().bodyToMono(String[].class);
+        var both = Mono.zip(first, second).block(Duration.ofSeconds(5));
+
+        assertArrayEquals(new String[]{"a"}, both.getT1());
+        assertArrayEquals(new String[]{"a"}, both.getT2());
+        assertEquals(List.of(HttpMethod.GET), downstreamCalls);
+    }
+
+    @Test
+    void whenWriteBetweenGets_thenSecondGetGoesDownstream() {
+        startRequest();
+        respond(HttpStatus.OK, "[]");
+        respond(HttpStatus.CREATED, "");
+        respond(HttpStatus.OK, "[\"a\"]");
+
+        assertEquals(0, get().length);
+        webClient.post().uri(URL).bodyValue("{}").retrieve().toBodilessEntity().block(Duration.ofSeconds(5));
+        assertEquals(1, get().length);
+
+        assertEquals(List.of(HttpMethod.GET, HttpMethod.POST, HttpMethod.GET), downstreamCalls);
+    }
+
+    @Test
+    void whenGetFails_thenFailureIsNotMemoized() {
+        startRequest();
+        respond(HttpStatus.NOT_FOUND, "");
+        respond(HttpStatus.NOT_FOUND, "");
+
+        assertThrows(WebClientResponseException.NotFound.class, this::get);
+        assertThrows(WebClientResponseException.NotFound.class, this::get);
+
+        assertEquals(List.of(HttpMethod.GET, HttpMethod.GET), downstreamCalls);
+    }
+
+    @Test
+    void whenNoIncomingRequest_thenEveryGetGoesDownstream() {
+        respond(HttpStatus.OK, "[]");
+        respond(HttpStatus.OK, "[]");
+
+        get();
+        get();
+
+        assertEquals(List.of(HttpMethod.GET, HttpMethod.GET), downstreamCalls);
+    }
+}
@@ -1,11 +1,28 @@
 package com.leduc.books;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @SpringBootApplication
 public class BooksServiceApplication {
 
+	// each waiting import holds its spooled upload on disk, so the queue is bounded and
+	// an upload that does not fit is rejected instead of queued
+	@Bean(destroyMethod = "shutdown")
+	ExecutorService bookImportExecutor(@Value("${app.book-import.concurrency:2}") int concurrency,
+									   @Value("${app.book-import.queue-capacity:4}") int queueCapacity) {
+		return new ThreadPoolExecutor(concurrency, concurrency, 60L, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				new ThreadPoolExecutor.AbortPolicy());
+	}
+
 	public static void main(String[] args) {
 		SpringApplication.run(BooksServiceApplication.class, args);
 	}
@@ -0,0 +1,6 @@
+package com.leduc.books.businessLayer;
+
+public enum BookImportFormat {
+    JSONL,
+    CSV
+}
@@ -0,0 +1,84 @@
+package com.leduc.books.businessLayer;
+
+import com.leduc.books.presentationLayer.BookImportErrorModel;
+import com.leduc.books.presentationLayer.BookImportStatusModel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// progress of one import; written by the import thread, read by status requests
+class BookImportJob {
+
+    enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final String importId;
+    private final BookImportFormat format;
+    private final List<BookImportErrorModel> errors = new ArrayList<>();
+    private Status status = Status.QUEUED;
+    private long rowsRead;
+    private long imported;
+    private long duplicates;
+    private long failed;
+    private String message;
+
+    BookImportJob(String importId, BookImportFormat format) {
+        this.importId = importId;
+        this.format = format;
+    }
+
+    String getImportId() {
+        return importId;
+    }
+
+    BookImportFormat getFormat() {
+        return format;
+    }
+
+    synchronized void start() {
+        status = Status.RUNNING;
+    }
+
+    synchronized void rowsRead(int rows) {
+        rowsRead += rows;
+    }
+
+    synchronized void imported(int rows) {
+        imported += rows;
+    }
+
+    synchronized void duplicate(long line, String isbn) {
+        duplicates++;
+        addError(line, isbn, "Book with ISBN " + isbn + " is already registered");
+    }
+
+    synchronized void failed(long line, String isbn, String reason) {
+        failed++;
+        addError(line, isbn, reason);
+    }
+
+    synchronized void complete() {
+        status = Status.COMPLETED;
+    }
+
+    synchronized void abort(String reason) {
+        status = Status.FAILED;
+        message = reason;
+    }
+
+    synchronized BookImportStatusModel toStatusModel() {
+        String summary = message;
+        if (summary == null && errors.size() == MAX_REPORTED_ERRORS && duplicates + failed > MAX_REPORTED_ERRORS) {
+            summary = "Only the first " + MAX_REPORTED_ERRORS + " row errors are listed";
+        }
+        return new BookImportStatusModel(importId, format.name(), status.name(), rowsRead, imported, duplicates, failed,
+                summary, List.copyOf(errors));
+    }
+
+    private void addError(long line, String isbn, String reason) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new BookImportErrorModel(line, isbn, reason));
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.leduc.books.businessLayer;
+
+import com.leduc.books.presentationLayer.BookImportStatusModel;
+
+import java.io.InputStream;
+
+public interface BookImportService {
+
+    BookImportStatusModel startImport(InputStream body, BookImportFormat format);
+    BookImportStatusModel getImport(String importId);
+}
@@ -0,0 +1,267 @@
+package com.leduc.books.businessLayer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leduc.books.dataAccessLayer.Book;
+import com.leduc.books.dataAccessLayer.BookBulkRepository;
+import com.leduc.books.dataAccessLayer.BookIdentifier;
+import com.leduc.books.dataAccessLayer.BookRepository;
+import com.leduc.books.mappingLayer.BookRequestMapper;
+import com.leduc.books.presentationLayer.BookImportStatusModel;
+import com.leduc.books.presentationLayer.BookRequestModel;
+import com.leduc.books.utils.exceptions.NotFoundException;
+import com.leduc.books.utils.exceptions.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class BookImportServiceImpl implements BookImportService {
+
+    static final int CHUNK_SIZE = 500;
+    private static final int MAX_RETAINED_IMPORTS = 100;
+
+    private final BookRepository bookRepository;
+    private final BookBulkRepository bookBulkRepository;
+    private final BookRequestMapper bookRequestMapper;
+    private final BookSearchIndex bookSearchIndex;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService bookImportExecutor;
+
+    // finished imports stay queryable until newer ones push them out
+    private final Map<String, BookImportJob> imports = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, BookImportJob> eldest) {
+            return size() > MAX_RETAINED_IMPORTS;
+        }
+    });
+
+    public BookImportServiceImpl(BookRepository bookRepository, BookBulkRepository bookBulkRepository,
+                                 BookRequestMapper bookRequestMapper, BookSearchIndex bookSearchIndex,
+                                 ObjectMapper objectMapper, TransactionTemplate transactionTemplate,
+                                 ExecutorService bookImportExecutor) {
+        this.bookRepository = bookRepository;
+        this.bookBulkRepository = bookBulkRepository;
+        this.bookRequestMapper = bookRequestMapper;
+        this.bookSearchIndex = bookSearchIndex;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.bookImportExecutor = bookImportExecutor;
+    }
+
+    @Override
+    public BookImportStatusModel startImport(InputStream body, BookImportFormat format) {
+        // spool the upload so the request finishes quickly and the import reads it back a line at a time
+        Path spool = null;
+        try {
+            spool = Files.createTempFile("book-import-", "." + format.name().toLowerCase(Locale.ROOT));
+            Files.copy(body, spool, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+            deleteSpool(spool);
+            throw new UncheckedIOException("Could not receive import upload", ex);
+        }
+        BookImportJob job = new BookImportJob(UUID.randomUUID().toString(), format);
+        imports.put(job.getImportId(), job);
+        Path spooled = spool;
+        try {
+            bookImportExecutor.execute(() -> runImport(job, spooled));
+        } catch (RejectedExecutionException ex) {
+            imports.remove(job.getImportId());
+            deleteSpool(spooled);
+            throw new ServiceUnavailableException("Too many book imports in progress, try again later", ex);
+        }
+        return job.toStatusModel();
+    }
+
+    @Override
+    public BookImportStatusModel getImport(String importId) {
+        BookImportJob job = imports.get(importId);
+        if (job == null) {
+            throw new NotFoundException("Import with ID " + importId + " not found");
+        }
+        return job.toStatusModel();
+    }
+
+    private void runImport(BookImportJob job, Path spool) {
+        job.start();
+        try (BufferedReader reader = Files.newBufferedReader(spool, StandardCharsets.UTF_8)) {
+            List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            List<String> csvHeader = null;
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (job.getFormat() == BookImportFormat.CSV && csvHeader == null) {
+                    csvHeader = parseCsvLine(line);
+                    continue;
+                }
+                chunk.add(parseRow(lineNumber, line, csvHeader));
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(job, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(job, chunk);
+            }
+            job.complete();
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Book import {} aborted", job.getImportId(), ex);
+            job.abort(ex.getMessage());
+        } finally {
+            deleteSpool(spool);
+        }
+    }
+
+    private void deleteSpool(Path spool) {
+        if (spool == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(spool);
+        } catch (IOException ex) {
+            log.warn("Could not delete import spool file {}", spool, ex);
+        }
+    }
+
+    private ImportRow parseRow(long lineNumber, String line, List<String> csvHeader) {
+        try {
+            if (csvHeader == null) {
+                return new ImportRow(lineNumber, objectMapper.readValue(line, BookRequestModel.class), null);
+            }
+            List<String> values = parseCsvLine(line);
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < csvHeader.size() && i < values.size(); i++) {
+                String value = values.get(i).trim();
+                fields.put(csvHeader.get(i).trim(), value.isEmpty() ? null : value);
+            }
+            return new ImportRow(lineNumber, objectMapper.convertValue(fields, BookRequestModel.class), null);
+        } catch (JsonProcessingException | IllegalArgumentException ex) {
+            return new ImportRow(lineNumber, null, "Malformed row: " + ex.getMessage());
+        }
+    }
+
+    private void importChunk(BookImportJob job, List<ImportRow> rows) {
+        job.rowsRead(rows.size());
+
+        // one IN query per chunk finds ISBNs that are already in the catalog
+        Set<String> isbns = rows.stream()
+                .filter(row -> row.request() != null && row.request().getIsbn() != null)
+                .map(row -> row.request().getIsbn())
+                .collect(Collectors.toSet());
+        Set<String> registered = isbns.isEmpty() ? Set.of() : bookRepository.findAllByIsbnIn(isbns).stream()
+                .map(Book::getIsbn)
+                .collect(Collectors.toSet());
+
+        Set<String> seenInChunk = new HashSet<>();
+        List<ImportRow> accepted = new ArrayList<>();
+        List<Book> books = new ArrayList<>();
+        Instant now = Instant.now();
+        for (ImportRow row : rows) {
+            BookRequestModel request = row.request();
+            if (request == null) {
+                job.failed(row.line(), null, row.error());
+                continue;
+            }
+            String isbn = request.getIsbn();
+            if (isbn == null || isbn.isBlank() || request.getTitle() == null || request.getTitle().isBlank()) {
+                job.failed(row.line(), isbn, "Book needs to have an ISBN and a title");
+                continue;
+            }
+            if (registered.contains(isbn) || !seenInChunk.add(isbn)) {
+                job.duplicate(row.line(), isbn);
+                continue;
+            }
+            try {
+                Book book = bookRequestMapper.toEntity(request, new BookIdentifier());
+                book.setLastModified(now);
+                books.add(book);
+                accepted.add(row);
+            } catch (IllegalArgumentException ex) {
+                job.failed(row.line(), isbn, ex.getMessage());
+            }
+        }
+        if (books.isEmpty()) {
+            return;
+        }
+
+        try {
+            Set<String> inserted = transactionTemplate.execute(status -> bookBulkRepository.insertAll(books));
+            for (int i = 0; i < books.size(); i++) {
+                recordInsert(job, accepted.get(i), books.get(i), inserted);
+            }
+        } catch (DataAccessException ex) {
+            // the batch rolled back; insert row by row so only the bad rows are reported
+            for (int i = 0; i < books.size(); i++) {
+                Book book = books.get(i);
+                try {
+                    Set<String> inserted = transactionTemplate.execute(status -> bookBulkRepository.insertAll(List.of(book)));
+                    recordInsert(job, accepted.get(i), book, inserted);
+                } catch (DataAccessException rowEx) {
+                    job.failed(accepted.get(i).line(), book.getIsbn(), rowEx.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    // a book missing from the inserted ids lost its ISBN to another import or a create since the chunk was checked
+    private void recordInsert(BookImportJob job, ImportRow row, Book book, Set<String> inserted) {
+        if (inserted.contains(book.getBookIdentifier().getBookId())) {
+            bookSearchIndex.index(book);
+            job.imported(1);
+        } else {
+            job.duplicate(row.line(), book.getIsbn());
+        }
+    }
+
+    static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    private record ImportRow(long line, BookRequestModel request, String error) {
+    }
+}
@@ -0,0 +1,487 @@
+package com.leduc.books.businessLayer;
+
+import com.leduc.books.dataAccessLayer.Author;
+import com.leduc.books.dataAccessLayer.Book;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory inverted index over title, author names, ISBN and author biography. Every query token must
+// match (exactly, by prefix, or within a small edit distance); hits are ranked by the weight of the field
+// they matched in and the quality of the match.
+@Component
+public class BookSearchIndex {
+
+    static final int FIELD_TITLE = 1;
+    static final int FIELD_AUTHOR = 2;
+    static final int FIELD_ISBN = 4;
+    static final int FIELD_BIOGRAPHY = 8;
+
+    private static final float[] FIELD_WEIGHTS = new float[16];
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int MIN_FUZZY_LENGTH = 4;
+
+    static {
+        for (int mask = 1; mask < FIELD_WEIGHTS.length; mask++) {
+            float weight = 0;
+            if ((mask & FIELD_ISBN) != 0) weight = Math.max(weight, 4f);
+            if ((mask & FIELD_TITLE) != 0) weight = Math.max(weight, 3f);
+            if ((mask & FIELD_AUTHOR) != 0) weight = Math.max(weight, 2f);
+            if ((mask & FIELD_BIOGRAPHY) != 0) weight = Math.max(weight, 1f);
+            FIELD_WEIGHTS[mask] = weight;
+        }
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Postings> postings = new TreeMap<>();
+    // doc ids are handed out in increasing order, so every postings list stays sorted; removed books leave
+    // a null slot until compact() renumbers the live docs
+    private final List<String> docBookIds = new ArrayList<>();
+    private final Map<String, Integer> docByBookId = new HashMap<>();
+    private int removedDocs;
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+    public void index(Book book) {
+        String bookId = book.getBookIdentifier().getBookId();
+        lock.writeLock().lock();
+        try {
+            removeDoc(bookId);
+            int doc = docBookIds.size();
+            docBookIds.add(bookId);
+            docByBookId.put(bookId, doc);
+
+            addTokens(doc, book.getTitle(), FIELD_TITLE);
+            Author author = book.getAuthor();
+            if (author != null) {
+                addTokens(doc, author.getAuthorFirstName(), FIELD_AUTHOR);
+                addTokens(doc, author.getAuthorLastName(), FIELD_AUTHOR);
+                addTokens(doc, author.getAuthorBiography(), FIELD_BIOGRAPHY);
+            }
+            if (book.getIsbn() != null) {
+                addTokens(doc, book.getIsbn(), FIELD_ISBN);
+                addTerm(doc, book.getIsbn().replaceAll("[^0-9Xx]", "").toLowerCase(Locale.ROOT), FIELD_ISBN);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String bookId) {
+        lock.writeLock().lock();
+        try {
+            removeDoc(bookId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            docBookIds.clear();
+            docByBookId.clear();
+            removedDocs = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByBookId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int slotCount() {
+        lock.readLock().lock();
+        try {
+            return docBookIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<String> search(String query, int limit) {
+        List<String> tokens = tokenize(query).stream().distinct().toList();
+        if (tokens.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<List<Expansion>> expansions = new ArrayList<>();
+            for (String token : tokens) {
+                List<Expansion> expansion = expand(token);
+                if (expansion.isEmpty()) {
+                    return List.of();
+                }
+                expansions.add(expansion);
+            }
+            // seed candidates from the rarest token, then narrow them down with the others
+            expansions.sort(Comparator.comparingLong(BookSearchIndex::postingCount));
+
+            Scratch scratch = this.scratch.get();
+            scratch.reset(docBookIds.size());
+            try {
+                seed(scratch, expansions.get(0));
+                for (List<Expansion> expansion : expansions.subList(1, expansions.size())) {
+                    if (scratch.candidateCount == 0) {
+                        break;
+                    }
+                    narrow(scratch, expansion);
+                }
+                return topHits(scratch, limit);
+            } finally {
+                scratch.clearScores();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+        return Arrays.stream(normalized.split("[^\\p{L}\\p{Nd}]+"))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    // optimal string alignment distance, giving up as soon as it exceeds maxEdits
+    static int editDistance(String a, String b, int maxEdits) {
+        if (Math.abs(a.length() - b.length()) > maxEdits) {
+            return maxEdits + 1;
+        }
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], previous2[j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return maxEdits + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+
+    private List<Expansion> expand(String token) {
+        List<Expansion> expansion = new ArrayList<>();
+        Postings exact = postings.get(token);
+        if (exact != null) {
+            expansion.add(new Expansion(exact, 1f));
+        }
+        if (token.length() >= MIN_PREFIX_LENGTH) {
+            addCompletions(token, expansion);
+        }
+        if (expansion.isEmpty() && token.length() >= MIN_FUZZY_LENGTH) {
+            // typos are only tolerated after the first character, which keeps the scan to one slice of the dictionary
+            int maxEdits = token.length() >= 8 ? 2 : 1;
+            String first = token.substring(0, 1);
+            String next = String.valueOf((char) (token.charAt(0) + 1));
+            for (Map.Entry<String, Postings> entry : postings.subMap(first, true, next, false).entrySet()) {
+                int distance = editDistance(token, entry.getKey(), maxEdits);
+                if (distance <= maxEdits) {
+                    expansion.add(new Expansion(entry.getValue(), 0.5f / distance));
+                }
+            }
+        }
+        return expansion;
+    }
+
+    // every token has to match, so a short prefix keeps its own postings for the completions found in the
+    // most books rather than the first ones alphabetically; the rarer ones past the cap are merged into one
+    // list scored as the weakest of them, so a book only reachable through a rare completion is still found
+    private void addCompletions(String prefix, List<Expansion> expansion) {
+        Comparator<Map.Entry<String, Postings>> frequency = Comparator
+                .<Map.Entry<String, Postings>>comparingInt(entry -> entry.getValue().size)
+                .thenComparingInt(entry -> -entry.getKey().length());
+        PriorityQueue<Map.Entry<String, Postings>> kept = new PriorityQueue<>(MAX_PREFIX_EXPANSIONS + 1, frequency);
+        List<Postings> rare = new ArrayList<>();
+        float rareQuality = 1f;
+        for (Map.Entry<String, Postings> entry : postings.subMap(prefix, false, prefix + Character.MAX_VALUE, false).entrySet()) {
+            kept.offer(entry);
+            if (kept.size() > MAX_PREFIX_EXPANSIONS) {
+                Map.Entry<String, Postings> dropped = kept.poll();
+                rare.add(dropped.getValue());
+                rareQuality = Math.min(rareQuality, completionQuality(prefix, dropped.getKey()));
+            }
+        }
+        for (Map.Entry<String, Postings> entry : kept) {
+            expansion.add(new Expansion(entry.getValue(), completionQuality(prefix, entry.getKey())));
+        }
+        if (!rare.isEmpty()) {
+            expansion.add(new Expansion(Postings.union(rare), rareQuality));
+        }
+    }
+
+    private static float completionQuality(String prefix, String completion) {
+        return 0.6f + 0.3f * prefix.length() / completion.length();
+    }
+
+    private void seed(Scratch scratch, List<Expansion> expansion) {
+        for (Expansion candidate : expansion) {
+            Postings list = candidate.postings();
+            for (int i = 0; i < list.size; i++) {
+                int doc = list.docs[i];
+                if (docBookIds.get(doc) == null) {
+                    continue;
+                }
+                float score = candidate.quality() * FIELD_WEIGHTS[list.fields[i]];
+                if (scratch.scores[doc] == 0) {
+                    scratch.addCandidate(doc);
+                }
+                scratch.scores[doc] = Math.max(scratch.scores[doc], score);
+            }
+        }
+    }
+
+    private static void narrow(Scratch scratch, List<Expansion> expansion) {
+        // probing each candidate costs a binary search per expanded term; scanning costs one pass over the postings
+        long probeCost = (long) scratch.candidateCount * expansion.size() * 20;
+        boolean scan = probeCost > postingCount(expansion);
+        if (scan) {
+            for (Expansion candidate : expansion) {
+                Postings list = candidate.postings();
+                for (int i = 0; i < list.size; i++) {
+                    int doc = list.docs[i];
+                    if (scratch.scores[doc] > 0) {
+                        scratch.tokenScores[doc] = Math.max(scratch.tokenScores[doc], candidate.quality() * FIELD_WEIGHTS[list.fields[i]]);
+                    }
+                }
+            }
+        }
+        int kept = 0;
+        for (int c = 0; c < scratch.candidateCount; c++) {
+            int doc = scratch.candidates[c];
+            float best;
+            if (scan) {
+                best = scratch.tokenScores[doc];
+                scratch.tokenScores[doc] = 0;
+            } else {
+                best = probe(expansion, doc);
+            }
+            if (best == 0) {
+                scratch.scores[doc] = 0;
+            } else {
+                scratch.scores[doc] += best;
+                scratch.candidates[kept++] = doc;
+            }
+        }
+        scratch.candidateCount = kept;
+    }
+
+    private static float probe(List<Expansion> expansion, int doc) {
+        float best = 0;
+        for (Expansion candidate : expansion) {
+            int position = candidate.postings().indexOf(doc);
+            if (position >= 0) {
+                best = Math.max(best, candidate.quality() * FIELD_WEIGHTS[candidate.postings().fields[position]]);
+            }
+        }
+        return best;
+    }
+
+    private List<String> topHits(Scratch scratch, int limit) {
+        float[] scores = scratch.scores;
+        // best score first, then the older book
+        Comparator<Integer> ranking = Comparator.<Integer>comparingDouble(doc -> -scores[doc]).thenComparingInt(doc -> doc);
+        PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1, ranking.reversed());
+        for (int c = 0; c < scratch.candidateCount; c++) {
+            int doc = scratch.candidates[c];
+            // once the heap is full, most candidates of a broad query lose to its weakest hit
+            if (top.size() == limit && ranking.compare(doc, top.peek()) >= 0) {
+                continue;
+            }
+            top.offer(doc);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Integer> ranked = new ArrayList<>(top);
+        ranked.sort(ranking);
+        return ranked.stream().map(docBookIds::get).toList();
+    }
+
+    private static long postingCount(List<Expansion> expansion) {
+        return expansion.stream().mapToLong(candidate -> candidate.postings().size).sum();
+    }
+
+    private void addTokens(int doc, String text, int field) {
+        for (String token : tokenize(text)) {
+            addTerm(doc, token, field);
+        }
+    }
+
+    private void addTerm(int doc, String term, int field) {
+        if (!term.isEmpty()) {
+            postings.computeIfAbsent(term, key -> new Postings()).add(doc, field);
+        }
+    }
+
+    private void removeDoc(String bookId) {
+        Integer doc = docByBookId.remove(bookId);
+        if (doc == null) {
+            return;
+        }
+        docBookIds.set(doc, null);
+        removedDocs++;
+        if (removedDocs > Math.max(1000, docByBookId.size())) {
+            compact();
+        }
+    }
+
+    // live docs keep their relative order, so the postings stay sorted and "the older book" still wins ties
+    private void compact() {
+        int[] renumbered = new int[docBookIds.size()];
+        List<String> live = new ArrayList<>(docByBookId.size());
+        for (int doc = 0; doc < renumbered.length; doc++) {
+            String bookId = docBookIds.get(doc);
+            if (bookId == null) {
+                renumbered[doc] = -1;
+            } else {
+                renumbered[doc] = live.size();
+                docByBookId.put(bookId, live.size());
+                live.add(bookId);
+            }
+        }
+        Iterator<Postings> lists = postings.values().iterator();
+        while (lists.hasNext()) {
+            Postings list = lists.next();
+            list.renumber(renumbered);
+            if (list.size == 0) {
+                lists.remove();
+            }
+        }
+        docBookIds.clear();
+        docBookIds.addAll(live);
+        removedDocs = 0;
+    }
+
+    private record Expansion(Postings postings, float quality) {
+    }
+
+    // per-thread score arrays indexed by doc id, so scoring a query allocates nothing proportional to the catalog;
+    // they follow the slot count down again after a compaction
+    private static final class Scratch {
+
+        private float[] scores = new float[0];
+        private float[] tokenScores = new float[0];
+        private int[] candidates = new int[16];
+        private int candidateCount;
+
+        void reset(int docCount) {
+            if (scores.length < docCount || scores.length > 2 * docCount + 1024) {
+                scores = new float[docCount + docCount / 4];
+                tokenScores = new float[scores.length];
+                if (candidates.length > scores.length) {
+                    candidates = new int[Math.max(16, scores.length)];
+                }
+            }
+            candidateCount = 0;
+        }
+
+        void addCandidate(int doc) {
+            if (candidateCount == candidates.length) {
+                candidates = Arrays.copyOf(candidates, candidateCount * 2);
+            }
+            candidates[candidateCount++] = doc;
+        }
+
+        void clearScores() {
+            for (int c = 0; c < candidateCount; c++) {
+                scores[candidates[c]] = 0;
+            }
+            candidateCount = 0;
+        }
+    }
+
+    private static final class Postings {
+
+        private int[] docs = new int[2];
+        private byte[] fields = new byte[2];
+        private int size;
+
+        void add(int doc, int field) {
+            if (size > 0 && docs[size - 1] == doc) {
+                fields[size - 1] |= (byte) field;
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                fields = Arrays.copyOf(fields, size * 2);
+            }
+            docs[size] = doc;
+            fields[size] = (byte) field;
+            size++;
+        }
+
+        // one list holding every doc of the given lists, with the fields a doc matched in any of them
+        static Postings union(List<Postings> lists) {
+            int total = 0;
+            for (Postings list : lists) {
+                total += list.size;
+            }
+            long[] entries = new long[total];
+            int next = 0;
+            for (Postings list : lists) {
+                for (int i = 0; i < list.size; i++) {
+                    entries[next++] = (long) list.docs[i] << 8 | list.fields[i];
+                }
+            }
+            Arrays.sort(entries);
+            Postings union = new Postings();
+            for (long entry : entries) {
+                union.add((int) (entry >>> 8), (int) (entry & 0xff));
+            }
+            return union;
+        }
+
+        int indexOf(int doc) {
+            return Arrays.binarySearch(docs, 0, size, doc);
+        }
+
+        void renumber(int[] renumbered) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = renumbered[docs[i]];
+                if (doc >= 0) {
+                    docs[kept] = doc;
+                    fields[kept] = fields[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            if (size < docs.length / 4) {
+                docs = Arrays.copyOf(docs, Math.max(2, size * 2));
+                fields = Arrays.copyOf(fields, docs.length);
+            }
+        }
+    }
+}
@@ -3,18 +3,29 @@ package com.leduc.books.businessLayer;
 
 
 import com.leduc.books.dataAccessLayer.LoanStatus;
+import com.leduc.books.presentationLayer.BookBatchRequestModel;
+import com.leduc.books.presentationLayer.BookBatchResponseModel;
+import com.leduc.books.presentationLayer.BookPageRequestModel;
+import com.leduc.books.presentationLayer.BookPageResponseModel;
 import com.leduc.books.presentationLayer.BookRequestModel;
 import com.leduc.books.presentationLayer.BookResponseModel;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface BookService {
 
-    List<BookResponseModel> getAllBooks();
+    BookPageResponseModel getAllBooks(BookPageRequestModel pageRequest);
     BookResponseModel getBookById(String bookId);
+    void exportBooks(Instant modifiedSince, Consumer<BookResponseModel> sink);
+    List<BookResponseModel> searchBooks(String query, Integer limit);
+    BookBatchResponseModel getBooksInBatch(BookBatchRequestModel bookBatchRequestModel);
     BookResponseModel createBook(BookRequestModel bookRequestModel);
     BookResponseModel updateBook(String bookId, BookRequestModel bookRequestModel);
     void deleteBook(String bookId);
     // for aggregate Invariant
     Boolean updateBookCopies(String bookId, LoanStatus loanStatus);
+    // same, but applied at most once per adjustmentId; a repeated id is acknowledged without touching the count
+    Boolean updateBookCopies(String bookId, LoanStatus loanStatus, String adjustmentId);
 }
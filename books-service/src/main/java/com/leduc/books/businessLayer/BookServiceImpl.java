@@ -4,34 +4,123 @@ package com.leduc.books.businessLayer;
 import com.leduc.books.dataAccessLayer.*;
 import com.leduc.books.mappingLayer.BookRequestMapper;
 import com.leduc.books.mappingLayer.BookResponseMapper;
+import com.leduc.books.presentationLayer.BookBatchRequestModel;
+import com.leduc.books.presentationLayer.BookBatchResponseModel;
+import com.leduc.books.presentationLayer.BookPageRequestModel;
+import com.leduc.books.presentationLayer.BookPageResponseModel;
 import com.leduc.books.presentationLayer.BookRequestModel;
 import com.leduc.books.presentationLayer.BookResponseModel;
 
 
 import com.leduc.books.utils.exceptions.BookAlreadyRegisteredException;
+import com.leduc.books.utils.exceptions.InvalidInputException;
 import com.leduc.books.utils.exceptions.NotFoundException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class BookServiceImpl implements BookService {
 
+        static final int MAX_BATCH_SIZE = 500;
+        static final int DEFAULT_PAGE_SIZE = 100;
+        static final int MAX_PAGE_SIZE = 500;
+        static final int DEFAULT_SEARCH_LIMIT = 20;
+        static final int MAX_SEARCH_LIMIT = 100;
+        private static final int SEARCH_INDEX_CHUNK_SIZE = 1000;
 
         private final BookRepository bookRepository;
         private final BookResponseMapper bookResponseMapper;
         private final BookRequestMapper bookRequestMapper;
+        private final BookSearchIndex bookSearchIndex;
+        private final EntityManager entityManager;
+        private final AppliedCopyAdjustmentRepository appliedCopyAdjustmentRepository;
 
-        public BookServiceImpl(BookRepository bookRepository, BookResponseMapper bookResponseMapper, BookRequestMapper bookRequestMapper) {
+        public BookServiceImpl(BookRepository bookRepository, BookResponseMapper bookResponseMapper, BookRequestMapper bookRequestMapper,
+                               BookSearchIndex bookSearchIndex, EntityManager entityManager,
+                               AppliedCopyAdjustmentRepository appliedCopyAdjustmentRepository) {
             this.bookRepository = bookRepository;
             this.bookResponseMapper = bookResponseMapper;
             this.bookRequestMapper = bookRequestMapper;
+            this.bookSearchIndex = bookSearchIndex;
+            this.entityManager = entityManager;
+            this.appliedCopyAdjustmentRepository = appliedCopyAdjustmentRepository;
+        }
+
+        @EventListener(ApplicationReadyEvent.class)
+        public void rebuildSearchIndex() {
+            bookSearchIndex.clear();
+            String cursor = null;
+            List<Book> chunk;
+            do {
+                Specification<Book> afterCursor = Specification.where(BookSpecifications.bookIdAfter(cursor));
+                chunk = bookRepository.findBy(afterCursor, query -> query
+                        .sortBy(Sort.by("bookIdentifier.bookId"))
+                        .limit(SEARCH_INDEX_CHUNK_SIZE)
+                        .all());
+                chunk.forEach(bookSearchIndex::index);
+                if (!chunk.isEmpty()) {
+                    cursor = chunk.get(chunk.size() - 1).getBookIdentifier().getBookId();
+                }
+            } while (chunk.size() == SEARCH_INDEX_CHUNK_SIZE);
         }
 
         @Override
-        public List<BookResponseModel> getAllBooks() {
-            List<Book> books = bookRepository.findAll();
-            return bookResponseMapper.entityToResponseModelList(books);
+        public BookPageResponseModel getAllBooks(BookPageRequestModel pageRequest) {
+            BookPageRequestModel request = pageRequest != null ? pageRequest : new BookPageRequestModel();
+            int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_PAGE_SIZE;
+            if (limit < 1) {
+                throw new InvalidInputException("Page limit must be at least 1");
+            }
+            limit = Math.min(limit, MAX_PAGE_SIZE);
+
+            // keyset on book_id: the cursor is the last id of the previous page, so inserts never shift pages
+            Specification<Book> filter = Specification.where(BookSpecifications.bookIdAfter(request.getAfter()))
+                    .and(BookSpecifications.hasGenre(parseFilter(GenreName::valueOf, request.getGenre(), "genre")))
+                    .and(BookSpecifications.hasBookType(parseFilter(BookType::valueOf, request.getBookType(), "bookType")))
+                    .and(BookSpecifications.hasAgeGroup(parseFilter(AgeGroup::valueOf, request.getAgeGroup(), "ageGroup")))
+                    .and(BookSpecifications.isAvailable(request.getAvailable()));
+
+            int fetchSize = limit + 1;
+            List<Book> books = bookRepository.findBy(filter, query -> query
+                    .sortBy(Sort.by("bookIdentifier.bookId"))
+                    .limit(fetchSize)
+                    .all());
+
+            String nextCursor = null;
+            if (books.size() > limit) {
+                books = books.subList(0, limit);
+                nextCursor = books.get(limit - 1).getBookIdentifier().getBookId();
+            }
+            return new BookPageResponseModel(bookResponseMapper.entityToResponseModelList(books), nextCursor);
+        }
+
+        private static <E extends Enum<E>> E parseFilter(Function<String, E> parser, String value, String name) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            try {
+                return parser.apply(value.trim().toUpperCase());
+            } catch (IllegalArgumentException ex) {
+                throw new InvalidInputException("Unknown " + name + ": " + value);
+            }
         }
 
         @Override
@@ -46,6 +135,88 @@ public class BookServiceImpl implements BookService {
             return bookResponseMapper.entityToResponseModel(foundBook);
         }
 
+        @Override
+        @Transactional(readOnly = true)
+        public void exportBooks(Instant modifiedSince, Consumer<BookResponseModel> sink) {
+            // the cursor only stays open inside a transaction; detaching keeps the persistence context from growing
+            try (Stream<Book> books = modifiedSince == null
+                    ? bookRepository.streamAllByOrderByIdAsc()
+                    : bookRepository.streamAllByLastModifiedGreaterThanEqualOrderByIdAsc(modifiedSince)) {
+                books.forEach(book -> {
+                    sink.accept(bookResponseMapper.entityToResponseModel(book));
+                    entityManager.detach(book);
+                });
+            }
+        }
+
+        @Override
+        public List<BookResponseModel> searchBooks(String query, Integer limit) {
+            if (query == null || query.isBlank()) {
+                throw new InvalidInputException("Search query must not be blank");
+            }
+            int maxHits = limit != null ? limit : DEFAULT_SEARCH_LIMIT;
+            if (maxHits < 1) {
+                throw new InvalidInputException("Search limit must be at least 1");
+            }
+            List<String> rankedIds = bookSearchIndex.search(query, Math.min(maxHits, MAX_SEARCH_LIMIT));
+            if (rankedIds.isEmpty()) {
+                return List.of();
+            }
+            Map<String, Book> books = bookRepository.findAllByBookIdentifier_BookIdIn(rankedIds).stream()
+                    .collect(Collectors.toMap(book -> book.getBookIdentifier().getBookId(), Function.identity()));
+            List<Book> ranked = rankedIds.stream().map(books::get).filter(Objects::nonNull).toList();
+            return bookResponseMapper.entityToResponseModelList(ranked);
+        }
+
+        @Override
+        public BookBatchResponseModel getBooksInBatch(BookBatchRequestModel bookBatchRequestModel) {
+            if (bookBatchRequestModel == null) {
+                throw new InvalidInputException("Batch request must contain bookIds or isbns");
+            }
+            Set<String> bookIds = distinctValues(bookBatchRequestModel.getBookIds());
+            Set<String> isbns = distinctValues(bookBatchRequestModel.getIsbns());
+            if (bookIds.isEmpty() && isbns.isEmpty()) {
+                throw new InvalidInputException("Batch request must contain bookIds or isbns");
+            }
+            if (bookIds.size() + isbns.size() > MAX_BATCH_SIZE) {
+                throw new InvalidInputException("Batch request cannot contain more than " + MAX_BATCH_SIZE + " ids");
+            }
+
+            // one IN query per key type; a book matched by both id and isbn is only returned once
+            Map<String, Book> found = new LinkedHashMap<>();
+            List<String> missingBookIds = new ArrayList<>();
+            if (!bookIds.isEmpty()) {
+                bookRepository.findAllByBookIdentifier_BookIdIn(bookIds)
+                        .forEach(book -> found.put(book.getBookIdentifier().getBookId(), book));
+                bookIds.stream().filter(bookId -> !found.containsKey(bookId)).forEach(missingBookIds::add);
+            }
+            List<String> missingIsbns = new ArrayList<>();
+            if (!isbns.isEmpty()) {
+                Set<String> foundIsbns = new LinkedHashSet<>();
+                for (Book book : bookRepository.findAllByIsbnIn(isbns)) {
+                    foundIsbns.add(book.getIsbn());
+                    found.putIfAbsent(book.getBookIdentifier().getBookId(), book);
+                }
+                isbns.stream().filter(isbn -> !foundIsbns.contains(isbn)).forEach(missingIsbns::add);
+            }
+
+            return new BookBatchResponseModel(
+                    bookResponseMapper.entityToResponseModelList(new ArrayList<>(found.values())),
+                    missingBookIds,
+                    missingIsbns);
+        }
+
+        private static Set<String> distinctValues(List<String> values) {
+            if (values == null) {
+                return Set.of();
+            }
+            return values.stream()
+                    .filter(Objects::nonNull)
+                    .map(String::trim)
+                    .filter(value -> !value.isEmpty())
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+        }
+
         @Override
         public BookResponseModel createBook(BookRequestModel bookRequestModel) {
             if (bookRequestModel == null) {
@@ -65,6 +236,7 @@ public class BookServiceImpl implements BookService {
             Book book = bookRequestMapper.toEntity(bookRequestModel, bookIdentifier);
 
             Book savedBook = bookRepository.save(book);
+            bookSearchIndex.index(savedBook);
             return bookResponseMapper.entityToResponseModel(savedBook);
         }
 
@@ -96,6 +268,7 @@ public class BookServiceImpl implements BookService {
             Author updatedAuthor = new Author(bookRequestModel.getAuthorFirstName(), bookRequestModel.getAuthorLastName(), bookRequestModel.getAuthorBiography());
             existingBook.setAuthor(updatedAuthor);
         Book updatedBook = bookRepository.save(existingBook);
+        bookSearchIndex.index(updatedBook);
 
         return bookResponseMapper.entityToResponseModel(updatedBook);
     }
@@ -111,30 +284,46 @@ public class BookServiceImpl implements BookService {
         }
 
         bookRepository.delete(foundBook);
+        bookSearchIndex.remove(bookId);
     }
 
     @Override
     public Boolean updateBookCopies(String bookId, LoanStatus loanStatus) {
-        // Validate the book
-        Book existingBook = bookRepository.findBookByBookIdentifier_BookId(bookId);
-        if (existingBook == null) {
-            return false; // Book not found
+        return updateBookCopies(bookId, loanStatus, null);
+    }
+
+    @Override
+    @Transactional
+    public Boolean updateBookCopies(String bookId, LoanStatus loanStatus, String adjustmentId) {
+        if (adjustmentId == null) {
+            return adjustCopies(bookId, loanStatus);
+        }
+        // loans-service delivers at least once; a redelivery of an applied adjustment only needs the acknowledgement
+        if (appliedCopyAdjustmentRepository.existsById(adjustmentId)) {
+            return true;
+        }
+        boolean adjusted = adjustCopies(bookId, loanStatus);
+        if (adjusted) {
+            // two concurrent deliveries of one id collide on the primary key and the loser's adjustment rolls back
+            appliedCopyAdjustmentRepository.save(new AppliedCopyAdjustment(adjustmentId, bookId, Instant.now()));
         }
+        return adjusted;
+    }
 
+    private boolean adjustCopies(String bookId, LoanStatus loanStatus) {
         if (loanStatus == LoanStatus.CHECKED_OUT) {
-            // Reduce the available copies by 1 if the book is being checked out
-            if (existingBook.getCopiesAvailable() > 0) {
-                existingBook.setCopiesAvailable(existingBook.getCopiesAvailable() - 1);
-                bookRepository.save(existingBook);
+            // Take a copy with one conditional UPDATE so concurrent checkouts cannot oversell
+            if (bookRepository.decrementCopiesAvailable(bookId) == 1) {
                 return true;
-            } else {
-                throw new IllegalStateException("No copies available to check out");
             }
+            if (!bookRepository.existsByBookIdentifier_BookId(bookId)) {
+                return false; // Book not found
+            }
+            // the conditional UPDATE is the authority on stock, so callers get a 422 they will not retry
+            throw new InvalidInputException("No copies available to check out");
         } else if (loanStatus == LoanStatus.RETURNED) {
             // Add back the available copy if the book is returned
-            existingBook.setCopiesAvailable(existingBook.getCopiesAvailable() + 1);
-            bookRepository.save(existingBook);
-            return true;
+            return bookRepository.incrementCopiesAvailable(bookId) == 1;
         }
 
         return false;
@@ -0,0 +1,27 @@
+package com.leduc.books.dataAccessLayer;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// Record of a copy adjustment loans-service delivered, keyed by the id it sends along, so a redelivery
+// after a lost response is recognised instead of moving the copy count twice.
+@Entity
+@Table(name = "applied_copy_adjustments")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppliedCopyAdjustment {
+
+    @Id
+    private String adjustmentId;
+
+    private String bookId;
+
+    private Instant appliedAt;
+}
@@ -0,0 +1,6 @@
+package com.leduc.books.dataAccessLayer;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AppliedCopyAdjustmentRepository extends JpaRepository<AppliedCopyAdjustment, String> {
+}
@@ -3,13 +3,15 @@ package com.leduc.books.dataAccessLayer;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
 import jakarta.validation.constraints.NotNull;
 
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "books")
+@Table(name = "books", uniqueConstraints = @UniqueConstraint(name = "uk_books_isbn", columnNames = "isbn"))
 @Data
 @NoArgsConstructor
 public class Book {
@@ -44,6 +46,9 @@ public class Book {
 
     private Integer copiesAvailable;
 
+    @UpdateTimestamp
+    private Instant lastModified;
+
     public Book(String isbn, String title, Author author, GenreName genreName,
                 LocalDate publicationDate, BookType bookType, AgeGroup ageGroup,
                 Integer copiesAvailable) {
@@ -0,0 +1,78 @@
+package com.leduc.books.dataAccessLayer;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// plain JDBC so inserts can be batched; Hibernate turns batching off for IDENTITY ids
+@Repository
+public class BookBulkRepository {
+
+    private static final String COLUMNS = "book_id, isbn, title, author_first_name, author_last_name, " +
+            "author_biography, genre_name, publication_date, book_type, age_group, copies_available, last_modified";
+
+    // a book whose ISBN is already in the catalog (from an earlier chunk, another import or a concurrent
+    // create) is skipped instead of failing the batch; the unique index on isbn is what decides
+    private static final String INSERT_BOOK_POSTGRES = "INSERT INTO books (" + COLUMNS + ") " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (isbn) DO NOTHING";
+
+    // H2 has no ON CONFLICT with a target, but does have the standard MERGE
+    private static final String INSERT_BOOK_STANDARD = "MERGE INTO books b USING (VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)) " +
+            "AS r (" + COLUMNS + ") ON b.isbn = r.isbn WHEN NOT MATCHED THEN INSERT (" + COLUMNS + ") VALUES (" +
+            "r.book_id, r.isbn, r.title, r.author_first_name, r.author_last_name, r.author_biography, " +
+            "r.genre_name, r.publication_date, r.book_type, r.age_group, r.copies_available, r.last_modified)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String insertBook;
+
+    public BookBulkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // returns the book ids that were inserted; the others had an ISBN that was already taken
+    public Set<String> insertAll(List<Book> books) {
+        if (books.isEmpty()) {
+            return Set.of();
+        }
+        jdbcTemplate.batchUpdate(insertBook(), books, books.size(), (ps, book) -> {
+            Author author = book.getAuthor() != null ? book.getAuthor() : new Author();
+            ps.setString(1, book.getBookIdentifier().getBookId());
+            ps.setString(2, book.getIsbn());
+            ps.setString(3, book.getTitle());
+            ps.setString(4, author.getAuthorFirstName());
+            ps.setString(5, author.getAuthorLastName());
+            ps.setString(6, author.getAuthorBiography());
+            ps.setString(7, book.getGenre() != null ? book.getGenre().name() : null);
+            ps.setObject(8, book.getPublicationDate(), Types.DATE);
+            ps.setString(9, book.getBookType() != null ? book.getBookType().name() : null);
+            ps.setString(10, book.getAgeGroup() != null ? book.getAgeGroup().name() : null);
+            ps.setObject(11, book.getCopiesAvailable(), Types.INTEGER);
+            ps.setObject(12, book.getLastModified().atOffset(ZoneOffset.UTC), Types.TIMESTAMP_WITH_TIMEZONE);
+        });
+
+        // the batch row counts cannot say which rows were skipped: with reWriteBatchedInserts the
+        // PostgreSQL driver reports SUCCESS_NO_INFO for every row, so look the new ids up instead
+        String placeholders = String.join(", ", Collections.nCopies(books.size(), "?"));
+        Object[] bookIds = books.stream().map(book -> book.getBookIdentifier().getBookId()).toArray();
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT book_id FROM books WHERE book_id IN (" + placeholders + ")", String.class, bookIds));
+    }
+
+    private String insertBook() {
+        String sql = insertBook;
+        if (sql == null) {
+            String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            sql = "PostgreSQL".equalsIgnoreCase(database) ? INSERT_BOOK_POSTGRES : INSERT_BOOK_STANDARD;
+            insertBook = sql;
+        }
+        return sql;
+    }
+}
@@ -1,8 +1,46 @@
 package com.leduc.books.dataAccessLayer;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface BookRepository extends JpaRepository<Book, Integer> {
+import jakarta.persistence.QueryHint;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface BookRepository extends JpaRepository<Book, Integer>, JpaSpecificationExecutor<Book> {
  Book findBookByBookIdentifier_BookId(String bookId);
  Book findByIsbn(String isbn);
+ boolean existsByBookIdentifier_BookId(String bookId);
+ List<Book> findAllByBookIdentifier_BookIdIn(Collection<String> bookIds);
+ List<Book> findAllByIsbnIn(Collection<String> isbns);
+
+ // export streams: rows come off a server-side cursor in fetch-size chunks instead of one materialized list
+ @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+         @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+ Stream<Book> streamAllByOrderByIdAsc();
+
+ @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+         @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+ Stream<Book> streamAllByLastModifiedGreaterThanEqualOrderByIdAsc(Instant modifiedSince);
+
+ // conditional single-statement updates: the row count tells whether a copy was taken / given back
+ @Transactional
+ @Modifying(flushAutomatically = true, clearAutomatically = true)
+ @Query("UPDATE Book b SET b.copiesAvailable = b.copiesAvailable - 1, b.lastModified = CURRENT_INSTANT " +
+         "WHERE b.bookIdentifier.bookId = :bookId AND b.copiesAvailable > 0")
+ int decrementCopiesAvailable(@Param("bookId") String bookId);
+
+ @Transactional
+ @Modifying(flushAutomatically = true, clearAutomatically = true)
+ @Query("UPDATE Book b SET b.copiesAvailable = b.copiesAvailable + 1, b.lastModified = CURRENT_INSTANT WHERE b.bookIdentifier.bookId = :bookId")
+ int incrementCopiesAvailable(@Param("bookId") String bookId);
 }
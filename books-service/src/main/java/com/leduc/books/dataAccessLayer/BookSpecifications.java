@@ -0,0 +1,36 @@
+package com.leduc.books.dataAccessLayer;
+
+import org.springframework.data.jpa.domain.Specification;
+
+public final class BookSpecifications {
+
+    private BookSpecifications() {
+    }
+
+    // a null argument yields a null specification, which Specification.and() skips
+    public static Specification<Book> bookIdAfter(String bookId) {
+        return bookId == null ? null
+                : (root, query, cb) -> cb.greaterThan(root.get("bookIdentifier").get("bookId"), bookId);
+    }
+
+    public static Specification<Book> hasGenre(GenreName genre) {
+        return genre == null ? null : (root, query, cb) -> cb.equal(root.get("genre"), genre);
+    }
+
+    public static Specification<Book> hasBookType(BookType bookType) {
+        return bookType == null ? null : (root, query, cb) -> cb.equal(root.get("bookType"), bookType);
+    }
+
+    public static Specification<Book> hasAgeGroup(AgeGroup ageGroup) {
+        return ageGroup == null ? null : (root, query, cb) -> cb.equal(root.get("ageGroup"), ageGroup);
+    }
+
+    public static Specification<Book> isAvailable(Boolean available) {
+        if (available == null) {
+            return null;
+        }
+        return available
+                ? (root, query, cb) -> cb.greaterThan(root.get("copiesAvailable"), 0)
+                : (root, query, cb) -> cb.or(cb.isNull(root.get("copiesAvailable")), cb.lessThanOrEqualTo(root.get("copiesAvailable"), 0));
+    }
+}
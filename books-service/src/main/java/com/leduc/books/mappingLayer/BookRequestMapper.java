@@ -26,7 +26,8 @@ public interface BookRequestMapper {
             @Mapping(target = "author.authorLastName", source = "bookRequestModel.authorLastName"),
             @Mapping(target = "author.authorBiography", source = "bookRequestModel.authorBiography"),
 
-            @Mapping(target = "id", ignore = true)
+            @Mapping(target = "id", ignore = true),
+            @Mapping(target = "lastModified", ignore = true)
     })
     Book toEntity(BookRequestModel bookRequestModel, BookIdentifier bookIdentifier);
 
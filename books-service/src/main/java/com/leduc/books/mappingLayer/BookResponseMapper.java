@@ -26,7 +26,8 @@ public interface BookResponseMapper {
             @Mapping(target = "publicationDate", source = "publicationDate"),
             @Mapping(target = "isbn", source = "isbn"),
             @Mapping(target = "title", source = "title"),
-            @Mapping(target = "copiesAvailable", source = "copiesAvailable")
+            @Mapping(target = "copiesAvailable", source = "copiesAvailable"),
+            @Mapping(target = "lastModified", source = "lastModified")
     })
     BookResponseModel entityToResponseModel(Book book);
 
@@ -0,0 +1,18 @@
+package com.leduc.books.presentationLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookBatchRequestModel {
+
+    List<String> bookIds;
+    List<String> isbns;
+}
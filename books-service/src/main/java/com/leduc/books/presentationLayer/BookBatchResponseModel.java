@@ -0,0 +1,19 @@
+package com.leduc.books.presentationLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookBatchResponseModel {
+
+    List<BookResponseModel> books;
+    List<String> missingBookIds;
+    List<String> missingIsbns;
+}
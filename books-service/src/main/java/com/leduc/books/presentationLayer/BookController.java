@@ -4,10 +4,17 @@ import com.leduc.books.businessLayer.BookService;
 import com.leduc.books.dataAccessLayer.LoanStatus;
 import com.leduc.books.utils.exceptions.InvalidInputException;
 import com.leduc.books.utils.exceptions.NotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 
@@ -15,15 +22,44 @@ import java.util.Map;
 @RequestMapping("/api/v1/books")
 public class BookController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final BookService bookService;
+    private final ObjectMapper objectMapper;
 
-    public BookController(BookService bookService) {
+    public BookController(BookService bookService, ObjectMapper objectMapper) {
         this.bookService = bookService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
-    public List<BookResponseModel> getAllBooks() {
-        return bookService.getAllBooks();
+    public ResponseEntity<List<BookResponseModel>> getAllBooks(BookPageRequestModel pageRequest) {
+        BookPageResponseModel page = bookService.getAllBooks(pageRequest);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getBooks());
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportBooks(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant modifiedSince) {
+        StreamingResponseBody body = outputStream -> bookService.exportBooks(modifiedSince, book -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(book));
+                outputStream.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping("/search")
+    public List<BookResponseModel> searchBooks(@RequestParam("q") String query,
+                                               @RequestParam(required = false) Integer limit) {
+        return bookService.searchBooks(query, limit);
     }
 
     @GetMapping("/{bookId}")
@@ -34,6 +70,11 @@ public class BookController {
         return ResponseEntity.ok(bookService.getBookById(bookId));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<BookBatchResponseModel> getBooksInBatch(@RequestBody BookBatchRequestModel bookBatchRequestModel) {
+        return ResponseEntity.ok(bookService.getBooksInBatch(bookBatchRequestModel));
+    }
+
     @PostMapping
     public ResponseEntity<BookResponseModel> addBook(@RequestBody BookRequestModel bookRequestModel) {
         BookResponseModel createdBook = bookService.createBook(bookRequestModel);
@@ -54,9 +95,10 @@ public class BookController {
     @PatchMapping("/{bookId}/copiesAvailable")
     public ResponseEntity<Void> adjustCopies(
             @PathVariable String bookId,
-            @RequestParam LoanStatus status
+            @RequestParam LoanStatus status,
+            @RequestHeader(name = "Idempotency-Key", required = false) String adjustmentId
     ) {
-        boolean ok = bookService.updateBookCopies(bookId, status);
+        boolean ok = bookService.updateBookCopies(bookId, status, adjustmentId);
         if (!ok) {
             throw new NotFoundException("Book with ID '" + bookId + "' not found");
         }
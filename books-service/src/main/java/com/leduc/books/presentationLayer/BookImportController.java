@@ -0,0 +1,39 @@
+package com.leduc.books.presentationLayer;
+
+import com.leduc.books.businessLayer.BookImportFormat;
+import com.leduc.books.businessLayer.BookImportService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/v1/books/imports")
+public class BookImportController {
+
+    private final BookImportService bookImportService;
+
+    public BookImportController(BookImportService bookImportService) {
+        this.bookImportService = bookImportService;
+    }
+
+    @PostMapping(consumes = {MediaType.APPLICATION_NDJSON_VALUE, "application/jsonl", "text/csv"})
+    public ResponseEntity<BookImportStatusModel> importBooks(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                             InputStream body) {
+        BookImportFormat format = contentType.isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                ? BookImportFormat.CSV
+                : BookImportFormat.JSONL;
+        BookImportStatusModel status = bookImportService.startImport(body, format);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/books/imports/" + status.getImportId()))
+                .body(status);
+    }
+
+    @GetMapping("/{importId}")
+    public ResponseEntity<BookImportStatusModel> getImport(@PathVariable String importId) {
+        return ResponseEntity.ok(bookImportService.getImport(importId));
+    }
+}
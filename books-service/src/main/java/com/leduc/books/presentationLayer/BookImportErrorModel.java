@@ -0,0 +1,17 @@
+package com.leduc.books.presentationLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookImportErrorModel {
+
+    long line;
+    String isbn;
+    String message;
+}
@@ -0,0 +1,25 @@
+package com.leduc.books.presentationLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookImportStatusModel {
+
+    String importId;
+    String format;
+    String status;
+    long rowsRead;
+    long imported;
+    long duplicates;
+    long failed;
+    String message;
+    List<BookImportErrorModel> errors;
+}
@@ -0,0 +1,20 @@
+package com.leduc.books.presentationLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookPageRequestModel {
+
+    String after;
+    Integer limit;
+    String genre;
+    String bookType;
+    String ageGroup;
+    Boolean available;
+}
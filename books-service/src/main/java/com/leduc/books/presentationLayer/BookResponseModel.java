@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.hateoas.RepresentationModel;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 @Data
@@ -26,4 +27,5 @@ public class BookResponseModel extends RepresentationModel<BookResponseModel> {
     String bookType;
     String ageGroup;
     Integer copiesAvailable;
+    Instant lastModified;
 }
@@ -11,5 +11,17 @@ CREATE TABLE IF NOT EXISTS books(
     book_type VARCHAR(50),
     age_group VARCHAR(50),
     copies_available INT,
+    last_modified TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
     PRIMARY KEY(id)
-    );
\ No newline at end of file
+    );
+
+-- one row per ISBN; bulk imports rely on it to skip rows another import or a create already stored
+CREATE UNIQUE INDEX IF NOT EXISTS uk_books_isbn ON books (isbn);
+
+-- copy adjustments already applied, so a redelivery from loans-service is not counted twice
+CREATE TABLE IF NOT EXISTS applied_copy_adjustments(
+    adjustment_id VARCHAR(36) NOT NULL,
+    book_id VARCHAR(36) NOT NULL,
+    applied_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY(adjustment_id)
+    );
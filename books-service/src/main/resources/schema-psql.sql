@@ -1,4 +1,5 @@
 DROP TABLE IF EXISTS books;
+DROP TABLE IF EXISTS applied_copy_adjustments;
 
 CREATE TABLE IF NOT EXISTS books(
     id SERIAL,
@@ -13,5 +14,27 @@ CREATE TABLE IF NOT EXISTS books(
     book_type VARCHAR(50),
     age_group VARCHAR(50),
     copies_available INT,
+    last_modified TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
     PRIMARY KEY(id)
-    );
\ No newline at end of file
+    );
+
+-- keyset pagination orders by book_id (already covered by its UNIQUE index);
+-- each optional filter gets an index that also carries book_id so filter + cursor + order is one range scan
+CREATE INDEX IF NOT EXISTS idx_books_genre_book_id ON books (genre_name, book_id);
+CREATE INDEX IF NOT EXISTS idx_books_book_type_book_id ON books (book_type, book_id);
+CREATE INDEX IF NOT EXISTS idx_books_age_group_book_id ON books (age_group, book_id);
+CREATE INDEX IF NOT EXISTS idx_books_available_book_id ON books (book_id) WHERE copies_available > 0;
+
+-- incremental exports read everything modified since the last run
+CREATE INDEX IF NOT EXISTS idx_books_last_modified ON books (last_modified);
+
+-- one row per ISBN; bulk imports rely on it to skip rows another import or a create already stored
+CREATE UNIQUE INDEX IF NOT EXISTS uk_books_isbn ON books (isbn);
+
+-- copy adjustments already applied, so a redelivery from loans-service is not counted twice
+CREATE TABLE IF NOT EXISTS applied_copy_adjustments(
+    adjustment_id VARCHAR(36) NOT NULL,
+    book_id VARCHAR(36) NOT NULL,
+    applied_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY(adjustment_id)
+    );
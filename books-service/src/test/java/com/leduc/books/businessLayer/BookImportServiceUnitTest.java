@@ -0,0 +1,72 @@
+package com.leduc.books.businessLayer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leduc.books.dataAccessLayer.BookBulkRepository;
+import com.leduc.books.dataAccessLayer.BookRepository;
+import com.leduc.books.mappingLayer.BookRequestMapper;
+import com.leduc.books.utils.exceptions.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BookImportServiceUnitTest {
+
+    private final ExecutorService bookImportExecutor = Executors.newSingleThreadExecutor();
+
+    private final BookImportServiceImpl bookImportService = new BookImportServiceImpl(
+            mock(BookRepository.class), mock(BookBulkRepository.class), mock(BookRequestMapper.class),
+            new BookSearchIndex(), new ObjectMapper(), mock(TransactionTemplate.class), bookImportExecutor);
+
+    @AfterEach
+    void tearDown() {
+        bookImportExecutor.shutdownNow();
+    }
+
+    @Test
+    void startImport_whenExecutorRejects_thenServiceUnavailableAndSpoolDeleted() throws IOException {
+        bookImportExecutor.shutdown();
+        long spoolsBefore = spoolFileCount();
+
+        InputStream body = new ByteArrayInputStream("{\"isbn\":\"978-1-00-000001-1\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> bookImportService.startImport(body, BookImportFormat.JSONL))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(spoolFileCount()).isEqualTo(spoolsBefore);
+    }
+
+    @Test
+    void startImport_whenUploadCannotBeRead_thenSpoolDeleted() throws IOException {
+        long spoolsBefore = spoolFileCount();
+
+        InputStream body = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+
+        assertThatThrownBy(() -> bookImportService.startImport(body, BookImportFormat.JSONL))
+                .isInstanceOf(UncheckedIOException.class);
+        assertThat(spoolFileCount()).isEqualTo(spoolsBefore);
+    }
+
+    private static long spoolFileCount() throws IOException {
+        try (Stream<Path> files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+            return files.filter(file -> file.getFileName().toString().startsWith("book-import-")).count();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.leduc.books.businessLayer;
+
+import com.leduc.books.dataAccessLayer.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BookSearchIndexTest {
+
+    private BookSearchIndex index;
+    private Book briefHistory;
+    private Book mockingbird;
+    private Book hawkingBiography;
+
+    @BeforeEach
+    void setUp() {
+        index = new BookSearchIndex();
+        briefHistory = book("978-0-7432-7356-5", "A Brief History of Time", "Stephen", "Hawking", "Theoretical physicist and cosmologist.");
+        mockingbird = book("978-0-06-112008-4", "To Kill a Mockingbird", "Harper", "Lee", "American novelist known for her 1960 novel.");
+        hawkingBiography = book("978-1-11-111111-1", "Stephen Hawking: A Life in Science", "Michael", "White", "Science writer.");
+        List.of(briefHistory, mockingbird, hawkingBiography).forEach(index::index);
+    }
+
+    @Test
+    void search_matchesPrefixesAcrossFields() {
+        assertThat(index.search("brief hist", 10)).containsExactly(bookId(briefHistory));
+        assertThat(index.search("harp", 10)).containsExactly(bookId(mockingbird));
+    }
+
+    @Test
+    void search_toleratesTypos() {
+        assertThat(index.search("mockingbrid", 10)).containsExactly(bookId(mockingbird));
+        assertThat(index.search("cosmologst", 10)).containsExactly(bookId(briefHistory));
+    }
+
+    @Test
+    void search_findsIsbnWithOrWithoutDashes() {
+        assertThat(index.search("978-0-7432-7356-5", 10)).containsExactly(bookId(briefHistory));
+        assertThat(index.search("9780061120084", 10)).containsExactly(bookId(mockingbird));
+    }
+
+    @Test
+    void search_ranksTitleMatchesAboveAuthorMatches() {
+        assertThat(index.search("hawking", 10)).containsExactly(bookId(hawkingBiography), bookId(briefHistory));
+    }
+
+    @Test
+    void search_requiresEveryToken() {
+        assertThat(index.search("hawking mockingbird", 10)).isEmpty();
+    }
+
+    @Test
+    void remove_andReindex_keepIndexInSync() {
+        index.remove(bookId(briefHistory));
+        assertThat(index.search("brief", 10)).isEmpty();
+
+        mockingbird.setTitle("Go Set a Watchman");
+        index.index(mockingbird);
+        assertThat(index.search("mockingbird", 10)).isEmpty();
+        assertThat(index.search("watchman", 10)).containsExactly(bookId(mockingbird));
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void reindexingTheSameBooks_reusesSlotsAfterCompaction() {
+        for (int i = 0; i < 5_000; i++) {
+            mockingbird.setTitle("To Kill a Mockingbird, printing " + i);
+            index.index(mockingbird);
+        }
+
+        assertThat(index.slotCount()).isLessThan(1_100);
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search("mockingbird printing 4999", 10)).containsExactly(bookId(mockingbird));
+        assertThat(index.search("printing 4998", 10)).isEmpty();
+        assertThat(index.search("hawking", 10)).containsExactly(bookId(hawkingBiography), bookId(briefHistory));
+    }
+
+    @Test
+    void search_keepsFrequentCompletionsOfAShortPrefix() {
+        // more rare "har..." terms than the expansion cap, all sorting before "harry"
+        for (int i = 0; i < 80; i++) {
+            String rare = "hara" + (char) ('a' + i / 26) + (char) ('a' + i % 26);
+            index.index(book(String.format("979-%010d", i), rare + " Almanac", "Ann", "Archer", null));
+        }
+        Book philosopherStone = book("978-0-7475-3269-9", "Harry Potter and the Philosopher's Stone", "Joanne", "Rowling", null);
+        Book chamberOfSecrets = book("978-0-7475-3849-3", "Harry Potter and the Chamber of Secrets", "Joanne", "Rowling", null);
+        index.index(philosopherStone);
+        index.index(chamberOfSecrets);
+
+        assertThat(index.search("har potter", 10)).containsExactlyInAnyOrder(bookId(philosopherStone), bookId(chamberOfSecrets));
+    }
+
+    @Test
+    void search_stillFindsRareCompletionsPastTheExpansionCap() {
+        // more "har..." terms found in two books each than the expansion cap, and one found in a single book
+        for (int i = 0; i < 80; i++) {
+            String frequent = "hara" + (char) ('a' + i / 26) + (char) ('a' + i % 26);
+            index.index(book(String.format("979-%010d", 2 * i), frequent + " Almanac", "Ann", "Archer", null));
+            index.index(book(String.format("979-%010d", 2 * i + 1), frequent + " Gazetteer", "Ann", "Archer", null));
+        }
+        Book harvest = book("978-0-00-000000-2", "Harvest Home", "Edith", "Tolkien", null);
+        index.index(harvest);
+
+        assertThat(index.search("tolkien har", 10)).containsExactly(bookId(harvest));
+        assertThat(index.search("har", 200)).hasSize(162).contains(bookId(harvest), bookId(mockingbird));
+    }
+
+    // opt-in: excluded from the test task, run with ./gradlew searchBenchmark (1M books by default)
+    @Tag("benchmark")
+    @Test
+    void search_p99LatencyOnLargeCatalog() {
+        int catalogSize = Integer.getInteger("books.search.benchmark.size", 1_000_000);
+        Random random = new Random(42);
+        String[] words = new String[20_000];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = randomWord(random);
+        }
+        BookSearchIndex largeIndex = new BookSearchIndex();
+        for (int i = 0; i < catalogSize; i++) {
+            largeIndex.index(book(
+                    String.format("978-%010d", i),
+                    zipfWords(random, words, 2 + random.nextInt(4)),
+                    words[random.nextInt(2_000)],
+                    words[random.nextInt(5_000)],
+                    zipfWords(random, words, 6)));
+        }
+
+        List<String> queries = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            String word = words[(int) Math.abs(random.nextGaussian() * 2_000) % words.length];
+            queries.add(switch (i % 4) {
+                case 0 -> word;
+                case 1 -> word.substring(0, Math.max(3, word.length() - 2));
+                case 2 -> word.substring(0, word.length() - 1) + "q";
+                default -> word + " " + words[random.nextInt(words.length)].substring(0, 3);
+            });
+        }
+        queries.forEach(query -> largeIndex.search(query, 20));
+
+        long[] latencies = new long[queries.size()];
+        for (int i = 0; i < queries.size(); i++) {
+            long start = System.nanoTime();
+            largeIndex.search(queries.get(i), 20);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        double p99 = latencies[(int) (latencies.length * 0.99)] / 1_000_000.0;
+
+        assertThat(p99).as("p99 search latency in ms over %d books", catalogSize).isLessThan(10.0);
+    }
+
+    private static String randomWord(Random random) {
+        String syllables = "ba be bi bo ca ce co da de di do fa fe fi ga ge go ha he ho ka ke la le li lo ma me mi mo na ne ni no pa pe po ra re ri ro sa se si so ta te ti to va ve vi wa we";
+        String[] parts = syllables.split(" ");
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < 2 + random.nextInt(3); i++) {
+            word.append(parts[random.nextInt(parts.length)]);
+        }
+        return word.toString();
+    }
+
+    private static String zipfWords(Random random, String[] words, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            int rank = (int) Math.min(words.length - 1, Math.floor(Math.pow(words.length, random.nextDouble())) - 1);
+            text.append(words[rank]).append(' ');
+        }
+        return text.toString().trim();
+    }
+
+    private static Book book(String isbn, String title, String firstName, String lastName, String biography) {
+        return new Book(isbn, title, new Author(firstName, lastName, biography), GenreName.FICTION,
+                LocalDate.of(2000, 1, 1), BookType.PAPERBACK, AgeGroup.ADULT, 1);
+    }
+
+    private static String bookId(Book book) {
+        return book.getBookIdentifier().getBookId();
+    }
+}
@@ -1,13 +1,18 @@
 package com.leduc.books.businessLayer;
 
-import com.leduc.books.dataAccessLayer.Book;
-import com.leduc.books.dataAccessLayer.BookIdentifier;
+import com.leduc.books.dataAccessLayer.AppliedCopyAdjustment;
+import com.leduc.books.dataAccessLayer.AppliedCopyAdjustmentRepository;
 import com.leduc.books.dataAccessLayer.BookRepository;
 import com.leduc.books.dataAccessLayer.LoanStatus;
+import com.leduc.books.presentationLayer.BookBatchRequestModel;
+import com.leduc.books.utils.exceptions.InvalidInputException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
 
+import java.util.List;
+import java.util.stream.IntStream;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -16,12 +21,12 @@ class BookServiceUnitTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private AppliedCopyAdjustmentRepository appliedCopyAdjustmentRepository;
+
     @InjectMocks
     private BookServiceImpl bookService;
 
-    @Captor
-    private ArgumentCaptor<Book> bookCaptor;
-
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -29,7 +34,8 @@ class BookServiceUnitTest {
 
     @Test
     void updateBookCopies_bookNotFound_returnsFalse() {
-        when(bookRepository.findBookByBookIdentifier_BookId("id")).thenReturn(null);
+        when(bookRepository.decrementCopiesAvailable("id")).thenReturn(0);
+        when(bookRepository.existsByBookIdentifier_BookId("id")).thenReturn(false);
 
         boolean result = bookService.updateBookCopies("id", LoanStatus.CHECKED_OUT);
 
@@ -39,57 +45,100 @@ class BookServiceUnitTest {
 
     @Test
     void updateBookCopies_checkedOut_withAvailableCopies_returnsTrue() {
-        Book existing = new Book();
-        existing.setBookIdentifier(new BookIdentifier("id"));
-        existing.setCopiesAvailable(5);
-        when(bookRepository.findBookByBookIdentifier_BookId("id")).thenReturn(existing);
-        when(bookRepository.save(any(Book.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(bookRepository.decrementCopiesAvailable("id")).thenReturn(1);
 
         boolean result = bookService.updateBookCopies("id", LoanStatus.CHECKED_OUT);
 
         assertThat(result).isTrue();
-        verify(bookRepository).save(bookCaptor.capture());
-        assertThat(bookCaptor.getValue().getCopiesAvailable()).isEqualTo(4);
+        verify(bookRepository, never()).findBookByBookIdentifier_BookId(any());
+        verify(bookRepository, never()).save(any());
     }
 
     @Test
-    void updateBookCopies_checkedOut_noCopies_throwsIllegalStateException() {
-        Book existing = new Book();
-        existing.setBookIdentifier(new BookIdentifier("id"));
-        existing.setCopiesAvailable(0);
-        when(bookRepository.findBookByBookIdentifier_BookId("id")).thenReturn(existing);
+    void updateBookCopies_checkedOut_noCopies_throwsInvalidInputException() {
+        when(bookRepository.decrementCopiesAvailable("id")).thenReturn(0);
+        when(bookRepository.existsByBookIdentifier_BookId("id")).thenReturn(true);
 
         assertThatThrownBy(() -> bookService.updateBookCopies("id", LoanStatus.CHECKED_OUT))
-                .isInstanceOf(IllegalStateException.class)
+                .isInstanceOf(InvalidInputException.class)
                 .hasMessage("No copies available to check out");
         verify(bookRepository, never()).save(any());
     }
 
+    @Test
+    void updateBookCopies_withNewAdjustmentId_adjustsAndRecordsIt() {
+        when(appliedCopyAdjustmentRepository.existsById("adj-1")).thenReturn(false);
+        when(bookRepository.decrementCopiesAvailable("id")).thenReturn(1);
+
+        boolean result = bookService.updateBookCopies("id", LoanStatus.CHECKED_OUT, "adj-1");
+
+        assertThat(result).isTrue();
+        ArgumentCaptor<AppliedCopyAdjustment> applied = ArgumentCaptor.forClass(AppliedCopyAdjustment.class);
+        verify(appliedCopyAdjustmentRepository).save(applied.capture());
+        assertThat(applied.getValue().getAdjustmentId()).isEqualTo("adj-1");
+        assertThat(applied.getValue().getBookId()).isEqualTo("id");
+    }
+
+    @Test
+    void updateBookCopies_withAlreadyAppliedAdjustmentId_acknowledgesWithoutAdjusting() {
+        when(appliedCopyAdjustmentRepository.existsById("adj-1")).thenReturn(true);
+
+        boolean result = bookService.updateBookCopies("id", LoanStatus.CHECKED_OUT, "adj-1");
+
+        assertThat(result).isTrue();
+        verify(bookRepository, never()).decrementCopiesAvailable(any());
+        verify(appliedCopyAdjustmentRepository, never()).save(any());
+    }
+
+    @Test
+    void updateBookCopies_withAdjustmentIdForUnknownBook_recordsNothing() {
+        when(appliedCopyAdjustmentRepository.existsById("adj-1")).thenReturn(false);
+        when(bookRepository.incrementCopiesAvailable("id")).thenReturn(0);
+
+        boolean result = bookService.updateBookCopies("id", LoanStatus.RETURNED, "adj-1");
+
+        assertThat(result).isFalse();
+        verify(appliedCopyAdjustmentRepository, never()).save(any());
+    }
+
     @Test
     void updateBookCopies_returned_incrementsCopies_returnsTrue() {
-        Book existing = new Book();
-        existing.setBookIdentifier(new BookIdentifier("id"));
-        existing.setCopiesAvailable(2);
-        when(bookRepository.findBookByBookIdentifier_BookId("id")).thenReturn(existing);
-        when(bookRepository.save(any(Book.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(bookRepository.incrementCopiesAvailable("id")).thenReturn(1);
 
         boolean result = bookService.updateBookCopies("id", LoanStatus.RETURNED);
 
         assertThat(result).isTrue();
-        verify(bookRepository).save(bookCaptor.capture());
-        assertThat(bookCaptor.getValue().getCopiesAvailable()).isEqualTo(3);
+        verify(bookRepository).incrementCopiesAvailable("id");
+        verify(bookRepository, never()).save(any());
     }
 
     @Test
-    void updateBookCopies_otherStatus_returnsFalse() {
-        Book existing = new Book();
-        existing.setBookIdentifier(new BookIdentifier("id"));
-        existing.setCopiesAvailable(2);
-        when(bookRepository.findBookByBookIdentifier_BookId("id")).thenReturn(existing);
+    void updateBookCopies_returned_bookNotFound_returnsFalse() {
+        when(bookRepository.incrementCopiesAvailable("id")).thenReturn(0);
+
+        boolean result = bookService.updateBookCopies("id", LoanStatus.RETURNED);
 
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void updateBookCopies_otherStatus_returnsFalse() {
         boolean result = bookService.updateBookCopies("id", null);
 
         assertThat(result).isFalse();
+        verify(bookRepository, never()).decrementCopiesAvailable(any());
+        verify(bookRepository, never()).incrementCopiesAvailable(any());
         verify(bookRepository, never()).save(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getBooksInBatch_tooManyIds_throwsInvalidInputException() {
+        List<String> bookIds = IntStream.rangeClosed(0, BookServiceImpl.MAX_BATCH_SIZE)
+                .mapToObj(i -> "book-" + i)
+                .toList();
+
+        assertThatThrownBy(() -> bookService.getBooksInBatch(BookBatchRequestModel.builder().bookIds(bookIds).build()))
+                .isInstanceOf(InvalidInputException.class);
+        verify(bookRepository, never()).findAllByBookIdentifier_BookIdIn(any());
+    }
+}
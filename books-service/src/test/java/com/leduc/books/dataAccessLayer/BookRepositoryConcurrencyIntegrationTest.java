@@ -0,0 +1,97 @@
+package com.leduc.books.dataAccessLayer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// runs outside the test transaction so every thread sees the committed book row
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookRepositoryConcurrencyIntegrationTest {
+
+    private static final String BOOK_ID = "62345678-1234-1234-1234-123456789012";
+    private static final int COPIES = 25;
+    private static final int THREADS = 16;
+    private static final int CHECKOUTS_PER_THREAD = 20;
+
+    @Autowired private BookRepository bookRepository;
+
+    @BeforeEach
+    void setup() {
+        bookRepository.deleteAll();
+        Book book = new Book();
+        book.setBookIdentifier(new BookIdentifier(BOOK_ID));
+        book.setIsbn("978-1-4028-9462-6");
+        book.setTitle("Popular Title");
+        book.setAuthor(new Author("Mattys", "Leduc", "bio"));
+        book.setGenre(GenreName.ART);
+        book.setPublicationDate(LocalDate.of(2020, 1, 1));
+        book.setBookType(BookType.HARDCOVER);
+        book.setAgeGroup(AgeGroup.ADULT);
+        book.setCopiesAvailable(COPIES);
+        bookRepository.save(book);
+    }
+
+    @AfterEach
+    void cleanup() {
+        bookRepository.deleteAll();
+    }
+
+    @Test
+    void whenManyThreadsCheckOutConcurrently_thenNoCopyIsOversold() throws Exception {
+        AtomicInteger granted = new AtomicInteger();
+        AtomicInteger refused = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < CHECKOUTS_PER_THREAD; i++) {
+                    if (bookRepository.decrementCopiesAvailable(BOOK_ID) == 1) {
+                        granted.incrementAndGet();
+                    } else {
+                        refused.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // every attempt either took a copy or was refused; none read a stale count and took one too many
+        assertEquals(COPIES, granted.get());
+        assertEquals(THREADS * CHECKOUTS_PER_THREAD - COPIES, refused.get());
+        assertEquals(0, bookRepository.findBookByBookIdentifier_BookId(BOOK_ID).getCopiesAvailable());
+    }
+
+    @Test
+    void whenCopyReturned_thenCopiesIncremented() {
+        assertEquals(1, bookRepository.incrementCopiesAvailable(BOOK_ID));
+        assertEquals(COPIES + 1, bookRepository.findBookByBookIdentifier_BookId(BOOK_ID).getCopiesAvailable());
+    }
+
+    @Test
+    void whenBookDoesNotExist_thenNoRowUpdated() {
+        assertEquals(0, bookRepository.decrementCopiesAvailable("c3540a89-cb47-4c96-888e-ff96708db4d8"));
+        assertFalse(bookRepository.existsByBookIdentifier_BookId("c3540a89-cb47-4c96-888e-ff96708db4d8"));
+    }
+}
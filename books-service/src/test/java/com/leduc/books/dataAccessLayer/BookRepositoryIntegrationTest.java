@@ -220,7 +220,7 @@ public class BookRepositoryIntegrationTest {
     @Test
     public void whenDeletingNull_thenThrowException() {
         assertThrows(InvalidDataAccessApiUsageException.class, () -> {
-            bookRepository.delete(null);
+            bookRepository.delete((Book) null);
         });
     }
 
@@ -1,5 +1,6 @@
 package com.leduc.books.presentationLayer;
 
+import com.leduc.books.businessLayer.BookServiceImpl;
 import com.leduc.books.dataAccessLayer.BookRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,7 +11,10 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
@@ -27,6 +31,9 @@ class BookControllerIntegrationTest {
     @Autowired
     private BookRepository bookRepository;
 
+    @Autowired
+    private BookServiceImpl bookService;
+
     private final String BASE_URI_BOOKS = "/api/v1/books";
 
     private final String VALID_BOOK_ID = "6fa459ea-ee8a-3ca4-894e-d6f1d55b4f2a";
@@ -335,5 +342,240 @@ class BookControllerIntegrationTest {
                 .expectStatus().isNotFound();
     }
 
+    @Test
+    public void whenBatchRequestHasIdsAndIsbns_thenReturnFoundBooksAndMissingKeys() {
+        String missingBookId = "11111111-1111-1111-1111-111111111111";
+        BookBatchRequestModel batchRequest = BookBatchRequestModel.builder()
+                .bookIds(List.of(VALID_BOOK_ID, missingBookId))
+                .isbns(List.of("978-0-06-112008-4", "978-0-7432-7356-5", "000-0-00-000000-0"))
+                .build();
+
+        webClient.post()
+                .uri(BASE_URI_BOOKS + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(batchRequest)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(BookBatchResponseModel.class)
+                .value((batchResponse) -> {
+                    assertNotNull(batchResponse);
+                    assertEquals(2, batchResponse.getBooks().size());
+                    assertEquals(List.of(missingBookId), batchResponse.getMissingBookIds());
+                    assertEquals(List.of("000-0-00-000000-0"), batchResponse.getMissingIsbns());
+                });
+    }
+
+    @Test
+    public void whenBatchRequestIsEmpty_thenReturnUnprocessableEntity() {
+        webClient.post()
+                .uri(BASE_URI_BOOKS + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(new BookBatchRequestModel())
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    public void whenPagingWithCursor_thenEveryBookIsReturnedOnce() {
+        long sizeDb = bookRepository.count();
+        List<String> seenIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            String uri = BASE_URI_BOOKS + "?limit=4" + (cursor != null ? "&after=" + cursor : "");
+            var result = webClient.get()
+                    .uri(uri)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBodyList(BookResponseModel.class)
+                    .returnResult();
+            List<BookResponseModel> page = result.getResponseBody();
+            assertNotNull(page);
+            assertTrue(page.size() <= 4);
+            page.forEach(book -> seenIds.add(book.getBookId()));
+            cursor = result.getResponseHeaders().getFirst("X-Next-Cursor");
+        } while (cursor != null);
+
+        assertEquals(sizeDb, seenIds.size());
+        assertEquals(sizeDb, seenIds.stream().distinct().count());
+        assertEquals(seenIds.stream().sorted().toList(), seenIds);
+    }
+
+    @Test
+    public void whenFilteringByGenreAndType_thenReturnOnlyMatchingBooks() {
+        webClient.get()
+                .uri(BASE_URI_BOOKS + "?genre=FICTION&bookType=HARDCOVER&available=true")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("X-Next-Cursor")
+                .expectBodyList(BookResponseModel.class)
+                .value((books) -> {
+                    assertEquals(2, books.size());
+                    books.forEach(book -> {
+                        assertEquals("FICTION", book.getGenre());
+                        assertEquals("HARDCOVER", book.getBookType());
+                        assertTrue(book.getCopiesAvailable() > 0);
+                    });
+                });
+    }
+
+    @Test
+    public void whenFilteringByUnknownGenre_thenReturnUnprocessableEntity() {
+        webClient.get()
+                .uri(BASE_URI_BOOKS + "?genre=NOT_A_GENRE")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    public void whenSearchingWithTypo_thenReturnRankedBooks() {
+        // @Sql inserts the catalog after startup, so index it the way startup would
+        bookService.rebuildSearchIndex();
+
+        webClient.get()
+                .uri(BASE_URI_BOOKS + "/search?q=hawkng")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(BookResponseModel.class)
+                .value((books) -> {
+                    assertFalse(books.isEmpty());
+                    assertEquals(VALID_BOOK_ID, books.get(0).getBookId());
+                });
+    }
+
+    @Test
+    public void whenBookIsCreated_thenItIsSearchable() {
+        BookRequestModel bookRequest = BookRequestModel.builder()
+                .isbn("978-0-00-000001-7")
+                .title("Quixotic Voyages")
+                .authorFirstName("Ada")
+                .authorLastName("Lovelace")
+                .genre("TRAVEL")
+                .bookType("PAPERBACK")
+                .ageGroup("ADULT")
+                .publicationDate(LocalDate.of(2020, 1, 1))
+                .copiesAvailable(1)
+                .build();
+        webClient.post()
+                .uri(BASE_URI_BOOKS)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(bookRequest)
+                .exchange()
+                .expectStatus().isCreated();
+
+        webClient.get()
+                .uri(BASE_URI_BOOKS + "/search?q=quixo love")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(BookResponseModel.class)
+                .value((books) -> {
+                    assertEquals(1, books.size());
+                    assertEquals("Quixotic Voyages", books.get(0).getTitle());
+                });
+    }
+
+    @Test
+    public void whenSearchQueryIsBlank_thenReturnUnprocessableEntity() {
+        webClient.get()
+                .uri(BASE_URI_BOOKS + "/search?q= ")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    public void whenExportingCatalog_thenStreamOneJsonLinePerBook() {
+        long sizeDb = bookRepository.count();
+
+        String body = webClient.get()
+                .uri(BASE_URI_BOOKS + "/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertNotNull(body);
+        List<String> lines = body.lines().toList();
+        assertEquals(sizeDb, lines.size());
+        assertTrue(lines.stream().allMatch(line -> line.startsWith("{") && line.contains("\"bookId\"")));
+    }
+
+    @Test
+    public void whenExportingModifiedSince_thenStreamOnlyBooksChangedAfterIt() {
+        Instant since = Instant.now().minusSeconds(1);
+        BookRequestModel bookRequest = BookRequestModel.builder()
+                .isbn("978-0-00-000002-4")
+                .title("Export Me")
+                .authorFirstName("New")
+                .authorLastName("Arrival")
+                .genre("FICTION")
+                .bookType("EBOOK")
+                .ageGroup("ADULT")
+                .publicationDate(LocalDate.of(2024, 1, 1))
+                .copiesAvailable(1)
+                .build();
+        webClient.post()
+                .uri(BASE_URI_BOOKS)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(bookRequest)
+                .exchange()
+                .expectStatus().isCreated();
+
+        String body = webClient.get()
+                .uri(BASE_URI_BOOKS + "/export?modifiedSince=" + since)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertNotNull(body);
+        List<String> lines = body.lines().toList();
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).contains("Export Me"));
+    }
+
+    @Test
+    public void whenCopyAdjustmentIsRedelivered_thenItIsAppliedOnce() {
+        int before = bookRepository.findBookByBookIdentifier_BookId(VALID_BOOK_ID).getCopiesAvailable();
+
+        for (int delivery = 0; delivery < 2; delivery++) {
+            webClient.patch()
+                    .uri(BASE_URI_BOOKS + "/" + VALID_BOOK_ID + "/copiesAvailable?status=CHECKED_OUT")
+                    .header("Idempotency-Key", "1f0e3f4c-7a55-4c1e-9d4b-5d7f2a9c0b11")
+                    .exchange()
+                    .expectStatus().isNoContent();
+        }
+
+        assertEquals(before - 1, bookRepository.findBookByBookIdentifier_BookId(VALID_BOOK_ID).getCopiesAvailable());
+    }
+
+    @Test
+    public void whenNoCopiesLeftToCheckOut_thenReturnUnprocessableEntity() {
+        int copies = bookRepository.findBookByBookIdentifier_BookId(VALID_BOOK_ID).getCopiesAvailable();
+        for (int i = 0; i < copies; i++) {
+            webClient.patch()
+                    .uri(BASE_URI_BOOKS + "/" + VALID_BOOK_ID + "/copiesAvailable?status=CHECKED_OUT")
+                    .exchange()
+                    .expectStatus().isNoContent();
+        }
+
+        webClient.patch()
+                .uri(BASE_URI_BOOKS + "/" + VALID_BOOK_ID + "/copiesAvailable?status=CHECKED_OUT")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertEquals(0, bookRepository.findBookByBookIdentifier_BookId(VALID_BOOK_ID).getCopiesAvailable());
+    }
+
 
-}
\ No newline at end of file
+}
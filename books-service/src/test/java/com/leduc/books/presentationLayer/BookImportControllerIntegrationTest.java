@@ -0,0 +1,153 @@
+package com.leduc.books.presentationLayer;
+
+import com.leduc.books.dataAccessLayer.BookRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+@SpringBootTest(webEnvironment = RANDOM_PORT)
+@Sql({"/data-h2.sql"})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class BookImportControllerIntegrationTest {
+
+    @Autowired
+    private WebTestClient webClient;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    private final String BASE_URI_IMPORTS = "/api/v1/books/imports";
+
+    @Test
+    public void whenImportingJsonLines_thenInsertValidRowsAndReportTheRest() throws InterruptedException {
+        long sizeDb = bookRepository.count();
+        String body = String.join("\n",
+                "{\"isbn\":\"978-1-00-000001-1\",\"title\":\"Bulk One\",\"genre\":\"FICTION\",\"bookType\":\"EBOOK\",\"ageGroup\":\"ADULT\",\"copiesAvailable\":2}",
+                "{\"isbn\":\"978-1-00-000002-2\",\"title\":\"Bulk Two\",\"genre\":\"POETRY\",\"bookType\":\"PAPERBACK\",\"ageGroup\":\"ADULT\",\"copiesAvailable\":1}",
+                "{\"isbn\":\"978-1-00-000001-1\",\"title\":\"Bulk One Again\"}",
+                "{\"isbn\":\"978-0-7432-7356-5\",\"title\":\"Already in the catalog\"}",
+                "{\"isbn\":\"978-1-00-000003-3\",\"title\":\"Bad Genre\",\"genre\":\"NOT_A_GENRE\"}",
+                "not json");
+
+        BookImportStatusModel accepted = webClient.post()
+                .uri(BASE_URI_IMPORTS)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectHeader().exists("Location")
+                .expectBody(BookImportStatusModel.class)
+                .returnResult()
+                .getResponseBody();
+        assertNotNull(accepted);
+
+        BookImportStatusModel status = awaitCompletion(accepted.getImportId());
+        assertEquals(6, status.getRowsRead());
+        assertEquals(2, status.getImported());
+        assertEquals(2, status.getDuplicates());
+        assertEquals(2, status.getFailed());
+        assertEquals(4, status.getErrors().size());
+        assertEquals(sizeDb + 2, bookRepository.count());
+        assertNotNull(bookRepository.findByIsbn("978-1-00-000002-2").getLastModified());
+    }
+
+    @Test
+    public void whenImportingCsv_thenInsertRows() throws InterruptedException {
+        String body = String.join("\n",
+                "isbn,title,authorFirstName,authorLastName,genre,publicationDate,bookType,ageGroup,copiesAvailable",
+                "978-1-00-000004-4,\"Commas, Quotes and \"\"CSV\"\"\",Ada,Lovelace,SCIENCE,1843-01-01,HARDCOVER,ADULT,3",
+                "978-1-00-000005-5,Second Row,,,FICTION,,PAPERBACK,ADULT,1");
+
+        BookImportStatusModel accepted = webClient.post()
+                .uri(BASE_URI_IMPORTS)
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectBody(BookImportStatusModel.class)
+                .returnResult()
+                .getResponseBody();
+        assertNotNull(accepted);
+
+        BookImportStatusModel status = awaitCompletion(accepted.getImportId());
+        assertEquals(2, status.getImported());
+        assertEquals(0, status.getFailed());
+        assertEquals("Commas, Quotes and \"CSV\"", bookRepository.findByIsbn("978-1-00-000004-4").getTitle());
+    }
+
+    @Test
+    public void whenTwoImportsOfTheSameRowsSpanChunks_thenEveryIsbnIsStoredOnce() throws InterruptedException {
+        long sizeDb = bookRepository.count();
+        // more rows than two chunks, with one ISBN repeated in a later chunk of the same file
+        int uniqueRows = 1_200;
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < uniqueRows; i++) {
+            body.append(String.format("{\"isbn\":\"979-0-%09d\",\"title\":\"Chunked %d\"}%n", i, i));
+        }
+        body.append("{\"isbn\":\"979-0-000000003\",\"title\":\"Chunked 3 Again\"}\n");
+
+        // the import executor runs both at once, so each chunk races the other import's chunks
+        String first = startJsonLinesImport(body.toString());
+        String second = startJsonLinesImport(body.toString());
+        BookImportStatusModel firstStatus = awaitCompletion(first);
+        BookImportStatusModel secondStatus = awaitCompletion(second);
+
+        for (BookImportStatusModel status : List.of(firstStatus, secondStatus)) {
+            assertEquals(uniqueRows + 1, status.getRowsRead());
+            assertEquals(0, status.getFailed());
+            assertEquals(uniqueRows + 1, status.getImported() + status.getDuplicates());
+        }
+        assertEquals(uniqueRows, firstStatus.getImported() + secondStatus.getImported());
+        assertEquals(sizeDb + uniqueRows, bookRepository.count());
+    }
+
+    @Test
+    public void whenImportIdIsUnknown_thenReturnNotFound() {
+        webClient.get()
+                .uri(BASE_URI_IMPORTS + "/does-not-exist")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private String startJsonLinesImport(String body) {
+        BookImportStatusModel accepted = webClient.post()
+                .uri(BASE_URI_IMPORTS)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectBody(BookImportStatusModel.class)
+                .returnResult()
+                .getResponseBody();
+        assertNotNull(accepted);
+        return accepted.getImportId();
+    }
+
+    private BookImportStatusModel awaitCompletion(String importId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        BookImportStatusModel status;
+        do {
+            Thread.sleep(50);
+            status = webClient.get()
+                    .uri(BASE_URI_IMPORTS + "/" + importId)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody(BookImportStatusModel.class)
+                    .returnResult()
+                    .getResponseBody();
+            assertNotNull(status);
+        } while (!"COMPLETED".equals(status.getStatus()) && !"FAILED".equals(status.getStatus()) && System.nanoTime() < deadline);
+        assertEquals("COMPLETED", status.getStatus());
+        return status;
+    }
+}
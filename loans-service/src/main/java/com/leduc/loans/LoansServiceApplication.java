@@ -1,23 +1,26 @@
 package com.leduc.loans;
 
-import org.apache.hc.client5.http.classic.HttpClient;
-import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
-import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @SpringBootApplication
 public class LoansServiceApplication {
 
-	@Bean
-	RestTemplate restTemplate() {
-		RestTemplate restTemplate = new RestTemplate();
-		HttpClient httpClient = HttpClientBuilder.create().build();
-		HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
-		restTemplate.setRequestFactory(requestFactory);
-		return restTemplate;
+	// bounded pool for the concurrent patron/book/employee lookups done when a loan is created;
+	// once the queue is full the caller runs the lookup itself instead of queueing without limit
+	@Bean(destroyMethod = "shutdown")
+	ExecutorService loanValidationExecutor(@Value("${app.loan-validation.pool-size:8}") int poolSize,
+										   @Value("${app.loan-validation.queue-capacity:100}") int queueCapacity) {
+		return new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				new ThreadPoolExecutor.CallerRunsPolicy());
 	}
 
 	public static void main(String[] args) {
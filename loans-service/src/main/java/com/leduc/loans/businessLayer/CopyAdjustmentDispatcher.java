@@ -0,0 +1,189 @@
+package com.leduc.loans.businessLayer;
+
+import com.leduc.loans.dataAccessLayer.CopyAdjustment;
+import com.leduc.loans.dataAccessLayer.Loan;
+import com.leduc.loans.domainclientLayer.books.BooksServiceClient;
+import com.leduc.loans.utils.exceptions.InvalidInputException;
+import com.leduc.loans.utils.exceptions.NotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Delivers the copy adjustments queued on loans to books-service, oldest first per loan,
+// retrying with exponential backoff and parking the ones books-service rejects for good.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.copy-adjustment-outbox.dispatcher-enabled", havingValue = "true", matchIfMissing = true)
+public class CopyAdjustmentDispatcher {
+
+    private static final String PENDING = "pendingCopyAdjustments";
+
+    private final MongoTemplate mongoTemplate;
+    private final BooksServiceClient booksServiceClient;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration claimTimeout;
+
+    private final Counter deliveredCounter;
+    private final Counter retriedCounter;
+    private final Counter parkedCounter;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public CopyAdjustmentDispatcher(MongoTemplate mongoTemplate,
+                                    BooksServiceClient booksServiceClient,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.copy-adjustment-outbox.batch-size:50}") int batchSize,
+                                    @Value("${app.copy-adjustment-outbox.max-attempts:10}") int maxAttempts,
+                                    @Value("${app.copy-adjustment-outbox.initial-backoff:PT1S}") Duration initialBackoff,
+                                    @Value("${app.copy-adjustment-outbox.max-backoff:PT5M}") Duration maxBackoff,
+                                    @Value("${app.copy-adjustment-outbox.claim-timeout:PT30S}") Duration claimTimeout) {
+        this.mongoTemplate = mongoTemplate;
+        this.booksServiceClient = booksServiceClient;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.claimTimeout = claimTimeout;
+
+        this.deliveredCounter = Counter.builder("loans.copy-adjustments.delivered")
+                .description("Copy adjustments delivered to books-service")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("loans.copy-adjustments.retried")
+                .description("Copy adjustment deliveries that failed and were rescheduled")
+                .register(meterRegistry);
+        this.parkedCounter = Counter.builder("loans.copy-adjustments.parked")
+                .description("Copy adjustments given up on after a permanent failure or too many attempts")
+                .register(meterRegistry);
+        TimeGauge.builder("loans.copy-adjustments.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::doubleValue)
+                .description("Age of the oldest copy adjustment still waiting for delivery")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.copy-adjustment-outbox.poll-interval:PT1S}")
+    public int dispatchPending() {
+        Instant now = Instant.now();
+        Query dueLoans = Query.query(Criteria.where(PENDING).elemMatch(Criteria.where("nextAttemptAt").lte(now)))
+                .limit(batchSize);
+
+        int delivered = 0;
+        for (Loan loan : mongoTemplate.find(dueLoans, Loan.class)) {
+            delivered += dispatchLoan(loan, now);
+        }
+        refreshLag(now);
+        return delivered;
+    }
+
+    private int dispatchLoan(Loan loan, Instant now) {
+        List<CopyAdjustment> adjustments = loan.getPendingCopyAdjustments().stream()
+                .filter(adjustment -> adjustment.getNextAttemptAt() != null)
+                .sorted(Comparator.comparing(CopyAdjustment::getCreatedAt))
+                .toList();
+
+        int delivered = 0;
+        for (CopyAdjustment adjustment : adjustments) {
+            // keep the order of a loan's adjustments: a later one waits for an earlier retry
+            if (adjustment.getNextAttemptAt().isAfter(now) || !claim(loan, adjustment, now)) {
+                break;
+            }
+            try {
+                booksServiceClient.patchBookCopiesAvailableByBookId(adjustment.getBookId(), adjustment.getStatus(),
+                        adjustment.getAdjustmentId());
+            } catch (NotFoundException | InvalidInputException ex) {
+                park(loan, adjustment, adjustment.getAttempts() + 1, ex);
+                continue;
+            } catch (RuntimeException ex) {
+                scheduleRetry(loan, adjustment, now, ex);
+                break;
+            }
+            remove(loan, adjustment);
+            deliveredCounter.increment();
+            delivered++;
+        }
+        return delivered;
+    }
+
+    // moves nextAttemptAt forward so another dispatcher instance does not deliver the same adjustment meanwhile
+    private boolean claim(Loan loan, CopyAdjustment adjustment, Instant now) {
+        Query query = adjustmentQuery(loan, Criteria.where("adjustmentId").is(adjustment.getAdjustmentId())
+                .and("nextAttemptAt").is(adjustment.getNextAttemptAt()));
+        Update update = new Update().set(PENDING + ".$.nextAttemptAt", now.plus(claimTimeout));
+        return mongoTemplate.updateFirst(query, update, Loan.class).getModifiedCount() == 1;
+    }
+
+    private void remove(Loan loan, CopyAdjustment adjustment) {
+        Query query = Query.query(Criteria.where("id").is(loan.getId()));
+        Update update = new Update().pull(PENDING, new Document("adjustmentId", adjustment.getAdjustmentId()));
+        mongoTemplate.updateFirst(query, update, Loan.class);
+    }
+
+    private void scheduleRetry(Loan loan, CopyAdjustment adjustment, Instant now, RuntimeException ex) {
+        int attempts = adjustment.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            park(loan, adjustment, attempts, ex);
+            return;
+        }
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        if (backoff.compareTo(maxBackoff) > 0) {
+            backoff = maxBackoff;
+        }
+        log.debug("Copy adjustment {} for book {} failed (attempt {}), retrying in {}",
+                adjustment.getAdjustmentId(), adjustment.getBookId(), attempts, backoff);
+        Query query = adjustmentQuery(loan, Criteria.where("adjustmentId").is(adjustment.getAdjustmentId()));
+        Update update = new Update()
+                .set(PENDING + ".$.attempts", attempts)
+                .set(PENDING + ".$.nextAttemptAt", now.plus(backoff))
+                .set(PENDING + ".$.lastError", ex.getMessage());
+        mongoTemplate.updateFirst(query, update, Loan.class);
+        retriedCounter.increment();
+    }
+
+    private void park(Loan loan, CopyAdjustment adjustment, int attempts, RuntimeException ex) {
+        log.warn("Giving up on copy adjustment {} ({} for book {}) after {} attempt(s): {}",
+                adjustment.getAdjustmentId(), adjustment.getStatus(), adjustment.getBookId(), attempts, ex.getMessage());
+        Query query = adjustmentQuery(loan, Criteria.where("adjustmentId").is(adjustment.getAdjustmentId()));
+        Update update = new Update()
+                .set(PENDING + ".$.attempts", attempts)
+                .set(PENDING + ".$.nextAttemptAt", null)
+                .set(PENDING + ".$.lastError", ex.getMessage());
+        mongoTemplate.updateFirst(query, update, Loan.class);
+        parkedCounter.increment();
+    }
+
+    private void refreshLag(Instant now) {
+        Query oldestPending = Query.query(Criteria.where(PENDING).elemMatch(Criteria.where("nextAttemptAt").ne(null)))
+                .with(Sort.by(PENDING + ".createdAt"))
+                .limit(1);
+        Loan oldest = mongoTemplate.findOne(oldestPending, Loan.class);
+        long lag = oldest == null ? 0 : oldest.getPendingCopyAdjustments().stream()
+                .filter(adjustment -> adjustment.getNextAttemptAt() != null)
+                .map(CopyAdjustment::getCreatedAt)
+                .min(Comparator.naturalOrder())
+                .map(createdAt -> Duration.between(createdAt, now).toMillis())
+                .orElse(0L);
+        lagMillis.set(Math.max(lag, 0));
+    }
+
+    private Query adjustmentQuery(Loan loan, Criteria adjustmentCriteria) {
+        return Query.query(Criteria.where("id").is(loan.getId()).and(PENDING).elemMatch(adjustmentCriteria));
+    }
+}
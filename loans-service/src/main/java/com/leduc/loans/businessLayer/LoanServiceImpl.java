@@ -1,6 +1,7 @@
 package com.leduc.loans.businessLayer;
 
 
+import com.leduc.loans.dataAccessLayer.CopyAdjustment;
 import com.leduc.loans.dataAccessLayer.Loan;
 import com.leduc.loans.dataAccessLayer.LoanIdentifier;
 import com.leduc.loans.dataAccessLayer.LoanRepository;
@@ -17,14 +18,22 @@ import com.leduc.loans.presentationLayer.LoanRequestModel;
 import com.leduc.loans.presentationLayer.LoanResponseModel;
 import com.leduc.loans.utils.exceptions.InvalidInputException;
 import com.leduc.loans.utils.exceptions.NotFoundException;
+import com.leduc.loans.utils.exceptions.ServiceUnavailableException;
 import com.leduc.loans.utils.exceptions.TooManyLoansException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
 @Slf4j
 @Service
 public class LoanServiceImpl implements LoanService {
@@ -41,13 +50,21 @@ public class LoanServiceImpl implements LoanService {
 
     private final LoanResponseMapper loanResponseMapper;
 
-    public LoanServiceImpl(LoanRepository loanRepository, PatronsServiceClient patronsServiceClient, EmployeesServiceClient employeesServiceClient, BooksServiceClient booksServiceClient, LoanRequestMapper loanRequestMapper, LoanResponseMapper loanResponseMapper) {
+    private final ExecutorService loanValidationExecutor;
+
+    private final long lookupTimeoutMs;
+
+    public LoanServiceImpl(LoanRepository loanRepository, PatronsServiceClient patronsServiceClient, EmployeesServiceClient employeesServiceClient, BooksServiceClient booksServiceClient, LoanRequestMapper loanRequestMapper, LoanResponseMapper loanResponseMapper,
+                           ExecutorService loanValidationExecutor,
+                           @Value("${app.loan-validation.timeout-ms:2000}") long lookupTimeoutMs) {
         this.loanRepository = loanRepository;
         this.patronsServiceClient = patronsServiceClient;
         this.employeesServiceClient = employeesServiceClient;
         this.booksServiceClient = booksServiceClient;
         this.loanRequestMapper = loanRequestMapper;
         this.loanResponseMapper = loanResponseMapper;
+        this.loanValidationExecutor = loanValidationExecutor;
+        this.lookupTimeoutMs = lookupTimeoutMs;
     }
 
     @Override
@@ -56,14 +73,9 @@ public class LoanServiceImpl implements LoanService {
         if (patron == null) {
             throw new InvalidInputException("Unknown patron id: " + patronId);
         }
-        List<LoanResponseModel> results = new ArrayList<>();
-        for (Loan loan : loanRepository.findAll()) {
-            LoanResponseModel dto = loanResponseMapper.toResponse(loan);
-            if (dto.getPatronId().equals(patronId)) {
-                results.add(dto);
-            }
-        }
-        return results;
+        // filtered in Mongo through the patron/loan compound index instead of scanning every loan
+        List<Loan> loans = loanRepository.findAllByPatronModel_PatronId(patronId);
+        return loanResponseMapper.loanEntityListToLoanResponseModelList(loans);
     }
 
     @Override
@@ -88,24 +100,46 @@ public class LoanServiceImpl implements LoanService {
 
     @Override
     public LoanResponseModel addLoan(LoanRequestModel loanRequestModel, String patronId) {
-        // Existing create logic...
-        PatronModel foundPatron = patronsServiceClient.getPatronByPatronId(patronId);
+        // 1) Fire the remote lookups together; the request patron reuses the path lookup when it is the same id
+        CompletableFuture<PatronModel> patronLookup = lookup("patrons-service",
+                () -> patronsServiceClient.getPatronByPatronId(patronId));
+        CompletableFuture<PatronModel> requestPatronLookup = patronId.equals(loanRequestModel.getPatronId())
+                ? patronLookup
+                : lookup("patrons-service", () -> patronsServiceClient.getPatronByPatronId(loanRequestModel.getPatronId()));
+        CompletableFuture<BookModel> bookLookup = lookup("books-service",
+                () -> booksServiceClient.getBookByBookId(loanRequestModel.getBookId()));
+        CompletableFuture<EmployeeModel> employeeLookup = lookup("staff-service",
+                () -> employeesServiceClient.getEmployeeByEmployeeId(loanRequestModel.getEmployeeId()));
+
+        // 2) Count local loans while the lookups are in flight
+        Integer existingLoans = loanRepository.countByPatronModel_PatronId(patronId);
+
+        // 3) Wait for every lookup and report their failures as one
+        awaitLookups(patronLookup, requestPatronLookup, bookLookup, employeeLookup);
+
+        PatronModel foundPatron = patronLookup.join();
         if (foundPatron == null) {
             throw new NotFoundException("Patron not found for id: " + patronId);
         }
-        Integer existingLoans = loanRepository.countByPatronModel_PatronId(patronId);
         if (existingLoans >= 3){
             throw new TooManyLoansException( String.format("Patron '%s' already has %d loans (max 3)", patronId, existingLoans));
         }
-        PatronModel modelPatron = patronsServiceClient.getPatronByPatronId(loanRequestModel.getPatronId());
+        PatronModel modelPatron = requestPatronLookup.join();
         if (modelPatron == null){
             throw new InvalidInputException("Unknown patron id: " + loanRequestModel.getPatronId());
         }
-        BookModel foundBook = booksServiceClient.getBookByBookId(loanRequestModel.getBookId());
+        BookModel foundBook = bookLookup.join();
         if (foundBook == null) {
             throw new InvalidInputException("Unknown book id: " + loanRequestModel.getBookId());
         }
-        EmployeeModel foundEmployee = employeesServiceClient.getEmployeeByEmployeeId(loanRequestModel.getEmployeeId());
+        // books-service only applies the copy adjustment later, so refuse a checkout here when the book
+        // already shows no copies left. The cached entry is dropped after every delivered adjustment; one
+        // that still slips through is refused by books-service's conditional decrement (422) and parked
+        if (loanRequestModel.getStatus() == LoanStatus.CHECKED_OUT
+                && foundBook.getCopiesAvailable() != null && foundBook.getCopiesAvailable() <= 0) {
+            throw new InvalidInputException("No copies available for book id: " + loanRequestModel.getBookId());
+        }
+        EmployeeModel foundEmployee = employeeLookup.join();
         if (foundEmployee == null) {
             throw new InvalidInputException("Unknown employee id: " + loanRequestModel.getEmployeeId());
         }
@@ -118,8 +152,10 @@ public class LoanServiceImpl implements LoanService {
                 foundPatron
         );
 
-        booksServiceClient.patchBookCopiesAvailableByBookId(foundBook.getBookId(), loanRequestModel.getStatus());
-
+        CopyAdjustment copyAdjustment = copyAdjustment(foundBook.getBookId(), loanRequestModel.getStatus());
+        if (copyAdjustment != null) {
+            loan.addPendingCopyAdjustment(copyAdjustment);
+        }
 
         Loan savedLoan = loanRepository.save(loan);
 
@@ -177,10 +213,13 @@ public class LoanServiceImpl implements LoanService {
         existing.setReturnDate(  loanRequestModel.getReturnDate()  );
         existing.setStatus(      loanRequestModel.getStatus()      );
 
-        booksServiceClient.patchBookCopiesAvailableByBookId(foundBook.getBookId(), loanRequestModel.getStatus());
-
-        // 6) Save — this performs an update because `existing` carries its _id
-        Loan saved = loanRepository.save(existing);
+        // 6) Write the fields and queue the copy adjustment in one atomic update; saving the whole
+        //    document would put back adjustments the dispatcher delivered since `existing` was loaded
+        Loan saved = loanRepository.updateLoanDetails(existing,
+                copyAdjustment(foundBook.getBookId(), loanRequestModel.getStatus()));
+        if (saved == null) {
+            throw new NotFoundException("Loan not found: " + loanId);
+        }
 
         // 7) Map to DTO and return
         return loanResponseMapper.toResponse(saved);
@@ -205,7 +244,54 @@ public class LoanServiceImpl implements LoanService {
             throw new NotFoundException("Loan not found with id: " + loanId);
         }
 
-        // 3) Delete the exact entity you loaded
-        loanRepository.delete(existing);
+        // 3) Delete the exact entity you loaded, unless books-service still has copy adjustments to receive
+        //    from it: they are queued on the loan document and would be lost with it
+        if (!loanRepository.deleteUnlessCopyAdjustmentsPending(existing)) {
+            throw new InvalidInputException("Loan " + loanId
+                    + " still has copy adjustments waiting for delivery to books-service; try again shortly");
+        }
+    }
+
+    // books-service only adjusts copies on checkout and return; the adjustment is saved with the loan
+    // and delivered afterwards by CopyAdjustmentDispatcher
+    private CopyAdjustment copyAdjustment(String bookId, LoanStatus status) {
+        if (status == LoanStatus.CHECKED_OUT || status == LoanStatus.RETURNED) {
+            return new CopyAdjustment(bookId, status);
+        }
+        return null;
+    }
+
+    private <T> CompletableFuture<T> lookup(String dependency, Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, loanValidationExecutor)
+                .orTimeout(lookupTimeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(ex -> {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof TimeoutException) {
+                        throw new ServiceUnavailableException(
+                                dependency + " did not answer within " + lookupTimeoutMs + " ms", cause);
+                    }
+                    throw cause instanceof RuntimeException ? (RuntimeException) cause : new CompletionException(cause);
+                });
+    }
+
+    private void awaitLookups(CompletableFuture<?>... lookups) {
+        RuntimeException failure = null;
+        for (CompletableFuture<?> lookup : lookups) {
+            try {
+                lookup.join();
+            } catch (CompletionException ex) {
+                RuntimeException cause = ex.getCause() instanceof RuntimeException
+                        ? (RuntimeException) ex.getCause()
+                        : ex;
+                if (failure == null) {
+                    failure = cause;
+                } else if (failure != cause) {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
     }
 }
@@ -0,0 +1,37 @@
+package com.leduc.loans.dataAccessLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CopyAdjustment {
+
+    private String adjustmentId;
+
+    private String bookId;
+
+    private LoanStatus status;
+
+    private Instant createdAt;
+
+    // null once the adjustment is parked after a permanent failure
+    private Instant nextAttemptAt;
+
+    private int attempts;
+
+    private String lastError;
+
+    public CopyAdjustment(String bookId, LoanStatus status) {
+        this.adjustmentId = UUID.randomUUID().toString();
+        this.bookId = bookId;
+        this.status = status;
+        this.createdAt = Instant.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+}
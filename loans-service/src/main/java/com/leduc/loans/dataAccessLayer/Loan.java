@@ -8,11 +8,19 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 @Document(collection = "loans")
+@CompoundIndexes({
+        @CompoundIndex(name = "patron_loan_idx", def = "{'patronModel.patronId': 1, 'loanIdentifier.loanId': 1}"),
+        @CompoundIndex(name = "pending_copy_adjustments_idx", def = "{'pendingCopyAdjustments.nextAttemptAt': 1}", sparse = true)
+})
 @Data
 @Builder
 @AllArgsConstructor
@@ -37,4 +45,14 @@ public class Loan {
     private LocalDate returnDate;
 
     private LoanStatus status;
+
+    // outbox of books-service copy adjustments, saved in the same document write as the loan change
+    private List<CopyAdjustment> pendingCopyAdjustments;
+
+    public void addPendingCopyAdjustment(CopyAdjustment copyAdjustment) {
+        if (pendingCopyAdjustments == null) {
+            pendingCopyAdjustments = new ArrayList<>();
+        }
+        pendingCopyAdjustments.add(copyAdjustment);
+    }
 }
@@ -4,7 +4,7 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.List;
 
-public interface LoanRepository extends MongoRepository<Loan, Integer> {
+public interface LoanRepository extends MongoRepository<Loan, Integer>, LoanRepositoryCustom {
     List<Loan> findAllByPatronModel_PatronId(String patronId);
 
     Loan findLoanByPatronModel_PatronIdAndLoanIdentifier_LoanId(String patronId, String loanId);
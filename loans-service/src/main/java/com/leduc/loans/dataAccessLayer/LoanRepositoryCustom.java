@@ -0,0 +1,12 @@
+package com.leduc.loans.dataAccessLayer;
+
+public interface LoanRepositoryCustom {
+
+    // writes the loan's editable fields and queues the copy adjustment in one atomic update, so it never
+    // overwrites a claim or removal the CopyAdjustmentDispatcher made on pendingCopyAdjustments meanwhile
+    Loan updateLoanDetails(Loan loan, CopyAdjustment copyAdjustment);
+
+    // deletes the loan only while none of its copy adjustments is still waiting for delivery, in one
+    // conditional remove, so an adjustment queued by a concurrent update cannot be deleted with it
+    boolean deleteUnlessCopyAdjustmentsPending(Loan loan);
+}
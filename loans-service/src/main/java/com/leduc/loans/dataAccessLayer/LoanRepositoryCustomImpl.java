@@ -0,0 +1,40 @@
+package com.leduc.loans.dataAccessLayer;
+
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+public class LoanRepositoryCustomImpl implements LoanRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public LoanRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Loan updateLoanDetails(Loan loan, CopyAdjustment copyAdjustment) {
+        Query query = Query.query(Criteria.where("id").is(loan.getId()));
+        Update update = new Update()
+                .set("bookModel", loan.getBookModel())
+                .set("employeeModel", loan.getEmployeeModel())
+                .set("issueDate", loan.getIssueDate())
+                .set("checkoutDate", loan.getCheckoutDate())
+                .set("returnDate", loan.getReturnDate())
+                .set("status", loan.getStatus());
+        if (copyAdjustment != null) {
+            update.push("pendingCopyAdjustments", copyAdjustment);
+        }
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), Loan.class);
+    }
+
+    @Override
+    public boolean deleteUnlessCopyAdjustmentsPending(Loan loan) {
+        // parked adjustments (nextAttemptAt null) will never be delivered, so they do not hold the loan back
+        Query query = Query.query(Criteria.where("id").is(loan.getId())
+                .and("pendingCopyAdjustments").not().elemMatch(Criteria.where("nextAttemptAt").ne(null)));
+        return mongoTemplate.remove(query, Loan.class).getDeletedCount() == 1;
+    }
+}
@@ -0,0 +1,236 @@
+package com.leduc.loans.domainclientLayer;
+
+import com.leduc.loans.utils.exceptions.InvalidInputException;
+import com.leduc.loans.utils.exceptions.NotFoundException;
+import com.leduc.loans.utils.exceptions.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Circuit breaker and bulkhead for one upstream service. The bulkhead caps how many threads can be
+// inside the service at once, so a slow books-service cannot take every thread that patron or employee
+// lookups also need. The breaker watches the last sliding-window-size calls; once enough of them failed
+// or were slower than slow-call-duration it opens and every call fails fast with a 503 until
+// open-duration has passed, then lets half-open-calls probes through to decide whether to close again.
+// A 4xx answer is the upstream working as intended and never counts against it.
+@Slf4j
+public class DependencyGuard {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    public record Settings(int failureRateThreshold, int slidingWindowSize, int minimumCalls, Duration openDuration,
+                           int halfOpenCalls, Duration slowCallDuration, int maxConcurrentCalls, Duration maxWait) {
+    }
+
+    public record Snapshot(State state, int failureRate, int bufferedCalls, int failedCalls,
+                           int activeCalls, int maxConcurrentCalls, Instant lastTransitionAt) {
+    }
+
+    private final String dependency;
+    private final Settings settings;
+    private final Clock clock;
+    private final Semaphore bulkhead;
+    private final MeterRegistry meterRegistry;
+    private final Map<State, Counter> transitionsTo = new EnumMap<>(State.class);
+    private final Counter successes;
+    private final Counter failures;
+    private final Counter shortCircuited;
+    private final Counter bulkheadFull;
+
+    // guarded by this
+    private State state = State.CLOSED;
+    private long generation;
+    private Instant lastTransitionAt;
+    private final boolean[] window;
+    private int windowNext;
+    private int windowCalls;
+    private int windowFailures;
+    private int halfOpenPermitted;
+    private int halfOpenSucceeded;
+
+    DependencyGuard(String dependency, Settings settings, MeterRegistry meterRegistry, Clock clock) {
+        this.dependency = dependency;
+        this.settings = settings;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.bulkhead = new Semaphore(settings.maxConcurrentCalls());
+        this.window = new boolean[settings.slidingWindowSize()];
+        this.lastTransitionAt = clock.instant();
+
+        for (State candidate : State.values()) {
+            Gauge.builder("circuit.breaker.state", this, guard -> guard.getState() == candidate ? 1 : 0)
+                    .description("1 for the state the circuit breaker is in, 0 otherwise")
+                    .tag("dependency", dependency)
+                    .tag("state", candidate.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("bulkhead.available.calls", bulkhead, Semaphore::availablePermits)
+                .description("Calls that can still enter the upstream service without waiting")
+                .tag("dependency", dependency)
+                .register(meterRegistry);
+        successes = callCounter("success");
+        failures = callCounter("failure");
+        shortCircuited = callCounter("short_circuited");
+        bulkheadFull = callCounter("bulkhead_full");
+    }
+
+    public String getDependency() {
+        return dependency;
+    }
+
+    public <T> T call(Supplier<T> call) {
+        if (!enterBulkhead()) {
+            bulkheadFull.increment();
+            throw new ServiceUnavailableException(dependency + " already has " + settings.maxConcurrentCalls()
+                    + " calls in flight");
+        }
+        try {
+            long permit = acquirePermission();
+            if (permit < 0) {
+                shortCircuited.increment();
+                throw new ServiceUnavailableException(dependency + " is unavailable (circuit breaker open)");
+            }
+            long start = System.nanoTime();
+            try {
+                T result = call.get();
+                onResult(permit, System.nanoTime() - start, null);
+                return result;
+            } catch (RuntimeException ex) {
+                onResult(permit, System.nanoTime() - start, ex);
+                throw ex;
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public void run(Runnable call) {
+        call(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    public synchronized State getState() {
+        // an expired open state is reported as half-open even before the next call arrives
+        if (state == State.OPEN && openDurationElapsed()) {
+            transitionTo(State.HALF_OPEN);
+        }
+        return state;
+    }
+
+    public synchronized Snapshot snapshot() {
+        State current = getState();
+        return new Snapshot(current, failureRate(), windowCalls, windowFailures,
+                settings.maxConcurrentCalls() - bulkhead.availablePermits(), settings.maxConcurrentCalls(),
+                lastTransitionAt);
+    }
+
+    // manual override from the admin endpoint
+    public synchronized void transitionTo(State target) {
+        if (state == target) {
+            return;
+        }
+        log.info("Circuit breaker for {} moved from {} to {}", dependency, state, target);
+        state = target;
+        generation++;
+        lastTransitionAt = clock.instant();
+        windowNext = 0;
+        windowCalls = 0;
+        windowFailures = 0;
+        halfOpenPermitted = 0;
+        halfOpenSucceeded = 0;
+        transitionsTo.computeIfAbsent(target, to -> Counter.builder("circuit.breaker.transitions")
+                .description("Circuit breaker state changes")
+                .tag("dependency", dependency)
+                .tag("to", to.name().toLowerCase())
+                .register(meterRegistry)).increment();
+    }
+
+    private boolean enterBulkhead() {
+        try {
+            return bulkhead.tryAcquire(settings.maxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // returns the generation the call was admitted in, or -1 when it must fail fast
+    private synchronized long acquirePermission() {
+        State current = getState();
+        if (current == State.OPEN) {
+            return -1;
+        }
+        if (current == State.HALF_OPEN) {
+            if (halfOpenPermitted >= settings.halfOpenCalls()) {
+                return -1;
+            }
+            halfOpenPermitted++;
+        }
+        return generation;
+    }
+
+    private synchronized void onResult(long permit, long elapsedNanos, RuntimeException ex) {
+        boolean failed = ex != null ? countsAsFailure(ex) : elapsedNanos > settings.slowCallDuration().toNanos();
+        (failed ? failures : successes).increment();
+        // results of calls admitted before the last transition describe a state that no longer exists
+        if (permit != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            if (failed) {
+                transitionTo(State.OPEN);
+            } else if (++halfOpenSucceeded >= settings.halfOpenCalls()) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (windowCalls == window.length && window[windowNext]) {
+            windowFailures--;
+        }
+        window[windowNext] = failed;
+        windowNext = (windowNext + 1) % window.length;
+        windowCalls = Math.min(windowCalls + 1, window.length);
+        if (failed) {
+            windowFailures++;
+        }
+        if (windowCalls >= settings.minimumCalls() && failureRate() >= settings.failureRateThreshold()) {
+            log.warn("{} failed {} of the last {} calls", dependency, windowFailures, windowCalls);
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private int failureRate() {
+        return windowCalls == 0 ? 0 : windowFailures * 100 / windowCalls;
+    }
+
+    private boolean openDurationElapsed() {
+        return !clock.instant().isBefore(lastTransitionAt.plus(settings.openDuration()));
+    }
+
+    private static boolean countsAsFailure(RuntimeException ex) {
+        return !(ex instanceof NotFoundException
+                || ex instanceof InvalidInputException
+                || ex instanceof HttpClientErrorException);
+    }
+
+    private Counter callCounter(String outcome) {
+        return Counter.builder("circuit.breaker.calls")
+                .description("Calls to the upstream service by outcome")
+                .tag("dependency", dependency)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
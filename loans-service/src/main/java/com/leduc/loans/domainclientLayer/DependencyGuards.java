@@ -0,0 +1,89 @@
+package com.leduc.loans.domainclientLayer;
+
+import com.leduc.loans.utils.exceptions.NotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// One DependencyGuard per upstream service. Settings live under app.dependency-guard and any of them can
+// be overridden for a single service, e.g. app.dependency-guard.books-service.max-concurrent-calls.
+@Component
+public class DependencyGuards {
+
+    public static final String PATRONS = "patrons-service";
+    public static final String BOOKS = "books-service";
+    public static final String STAFF = "staff-service";
+
+    private static final String PREFIX = "app.dependency-guard.";
+
+    private final boolean enabled;
+    private final Map<String, DependencyGuard> guards = new LinkedHashMap<>();
+
+    @Autowired
+    public DependencyGuards(Environment environment, MeterRegistry meterRegistry,
+                            @Value("${app.dependency-guard.enabled:true}") boolean enabled) {
+        this(environment, meterRegistry, enabled, Clock.systemUTC());
+    }
+
+    DependencyGuards(Environment environment, MeterRegistry meterRegistry, boolean enabled, Clock clock) {
+        this.enabled = enabled;
+        for (String dependency : List.of(PATRONS, BOOKS, STAFF)) {
+            guards.put(dependency, new DependencyGuard(dependency, settings(environment, dependency), meterRegistry, clock));
+        }
+    }
+
+    public <T> T call(String dependency, Supplier<T> call) {
+        return enabled ? get(dependency).call(call) : call.get();
+    }
+
+    public void run(String dependency, Runnable call) {
+        if (enabled) {
+            get(dependency).run(call);
+        } else {
+            call.run();
+        }
+    }
+
+    public DependencyGuard get(String dependency) {
+        DependencyGuard guard = guards.get(dependency);
+        if (guard == null) {
+            throw new NotFoundException("Unknown dependency: " + dependency);
+        }
+        return guard;
+    }
+
+    public Map<String, DependencyGuard> getAll() {
+        return guards;
+    }
+
+    private static DependencyGuard.Settings settings(Environment environment, String dependency) {
+        return new DependencyGuard.Settings(
+                setting(environment, dependency, "failure-rate-threshold", Integer.class, 50),
+                setting(environment, dependency, "sliding-window-size", Integer.class, 20),
+                setting(environment, dependency, "minimum-calls", Integer.class, 10),
+                duration(environment, dependency, "open-duration", "PT30S"),
+                setting(environment, dependency, "half-open-calls", Integer.class, 3),
+                duration(environment, dependency, "slow-call-duration", "PT3S"),
+                setting(environment, dependency, "max-concurrent-calls", Integer.class, 20),
+                duration(environment, dependency, "max-wait", "PT0.1S"));
+    }
+
+    private static <T> T setting(Environment environment, String dependency, String key, Class<T> type, T defaultValue) {
+        T shared = environment.getProperty(PREFIX + key, type, defaultValue);
+        return environment.getProperty(PREFIX + dependency + "." + key, type, shared);
+    }
+
+    private static Duration duration(Environment environment, String dependency, String key, String defaultValue) {
+        return DurationStyle.detectAndParse(setting(environment, dependency, key, String.class, defaultValue));
+    }
+}
@@ -0,0 +1,54 @@
+package com.leduc.loans.domainclientLayer;
+
+import com.leduc.loans.utils.exceptions.InvalidInputException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// GET /actuator/dependencies[/{dependency}] shows each circuit breaker and bulkhead.
+// POST /actuator/dependencies/{dependency} {"state": "OPEN"|"CLOSED"} forces a state; a forced open
+// breaker still moves to half-open once its open-duration has passed.
+@Component
+@Endpoint(id = "dependencies")
+public class DependencyGuardsEndpoint {
+
+    private final DependencyGuards dependencyGuards;
+
+    public DependencyGuardsEndpoint(DependencyGuards dependencyGuards) {
+        this.dependencyGuards = dependencyGuards;
+    }
+
+    @ReadOperation
+    public Map<String, DependencyGuard.Snapshot> dependencies() {
+        Map<String, DependencyGuard.Snapshot> snapshots = new LinkedHashMap<>();
+        dependencyGuards.getAll().forEach((dependency, guard) -> snapshots.put(dependency, guard.snapshot()));
+        return snapshots;
+    }
+
+    @ReadOperation
+    public DependencyGuard.Snapshot dependency(@Selector String dependency) {
+        return dependencyGuards.get(dependency).snapshot();
+    }
+
+    @WriteOperation
+    public DependencyGuard.Snapshot transition(@Selector String dependency, String state) {
+        DependencyGuard guard = dependencyGuards.get(dependency);
+        DependencyGuard.State target;
+        try {
+            target = DependencyGuard.State.valueOf(state.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            throw new InvalidInputException("Unknown circuit breaker state: " + state);
+        }
+        if (target == DependencyGuard.State.HALF_OPEN) {
+            throw new InvalidInputException("A circuit breaker can only be forced OPEN or CLOSED");
+        }
+        guard.transitionTo(target);
+        return guard.snapshot();
+    }
+}
@@ -0,0 +1,131 @@
+package com.leduc.loans.domainclientLayer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.leduc.loans.utils.exceptions.InvalidInputException;
+import com.leduc.loans.utils.exceptions.NotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// Bounded, TTL based cache for the patron/book/employee records loans-service copies into its loans.
+// A 404 from the upstream service can optionally be remembered for a shorter TTL (negative cache).
+@Slf4j
+@Component
+public class ReferenceDataCache {
+
+    public static final String PATRONS = "patrons";
+    public static final String BOOKS = "books";
+    public static final String EMPLOYEES = "employees";
+
+    private final boolean enabled;
+    private final boolean negativeCacheEnabled;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+    private final Map<String, Cache<String, CachedLookup>> caches = new LinkedHashMap<>();
+    private final Map<String, Timer> loadTimers = new LinkedHashMap<>();
+
+    public ReferenceDataCache(MeterRegistry meterRegistry,
+                              @Value("${app.reference-cache.enabled:true}") boolean enabled,
+                              @Value("${app.reference-cache.maximum-size:10000}") long maximumSize,
+                              @Value("${app.reference-cache.ttl:PT10M}") Duration ttl,
+                              @Value("${app.reference-cache.negative-cache.enabled:true}") boolean negativeCacheEnabled,
+                              @Value("${app.reference-cache.negative-cache.ttl:PT30S}") Duration negativeTtl) {
+        this.enabled = enabled;
+        this.negativeCacheEnabled = negativeCacheEnabled;
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+
+        for (String cacheName : List.of(PATRONS, BOOKS, EMPLOYEES)) {
+            Cache<String, CachedLookup> cache = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfter(new LookupExpiry())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, cacheName);
+            caches.put(cacheName, cache);
+            loadTimers.put(cacheName, Timer.builder("reference.cache.load")
+                    .description("Time spent loading a missing entry from the upstream service")
+                    .tag("cache", cacheName)
+                    .register(meterRegistry));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String cacheName, String id, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Cache<String, CachedLookup> cache = getCache(cacheName);
+        Timer loadTimer = loadTimers.get(cacheName);
+        CachedLookup cached = cache.get(id, key -> loadTimer.record(() -> load(loader)));
+        if (cached == null) {
+            return null;
+        }
+        if (cached.notFoundMessage() != null) {
+            throw new NotFoundException(cached.notFoundMessage());
+        }
+        return (T) cached.value();
+    }
+
+    public void invalidate(String cacheName, String id) {
+        getCache(cacheName).invalidate(id);
+        log.debug("Invalidated {} entry {}", cacheName, id);
+    }
+
+    public void invalidateAll(String cacheName) {
+        getCache(cacheName).invalidateAll();
+        log.debug("Invalidated all {} entries", cacheName);
+    }
+
+    private CachedLookup load(Supplier<?> loader) {
+        try {
+            Object value = loader.get();
+            return value != null ? new CachedLookup(value, null) : null;
+        } catch (NotFoundException ex) {
+            if (!negativeCacheEnabled) {
+                throw ex;
+            }
+            return new CachedLookup(null, ex.getMessage());
+        }
+    }
+
+    private Cache<String, CachedLookup> getCache(String cacheName) {
+        Cache<String, CachedLookup> cache = caches.get(cacheName);
+        if (cache == null) {
+            throw new InvalidInputException("Unknown reference cache: " + cacheName);
+        }
+        return cache;
+    }
+
+    private record CachedLookup(Object value, String notFoundMessage) {
+    }
+
+    private class LookupExpiry implements Expiry<String, CachedLookup> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedLookup value, long currentTime) {
+            return (value.notFoundMessage() != null ? negativeTtl : ttl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedLookup value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedLookup value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Transient;
 
 @Data
 @Builder
@@ -20,6 +21,10 @@ public class BookModel {
     String bookType;
     String genre;
 
+    // read from books-service to check stock on checkout; not stored with the loan
+    @Transient
+    Integer copiesAvailable;
+
     public BookModel(String isbn, String title, String authorFirstName, String authorLastName, String genre, String bookType) {
 
     }
@@ -1,6 +1,8 @@
 package com.leduc.loans.domainclientLayer.books;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leduc.loans.domainclientLayer.DependencyGuards;
+import com.leduc.loans.domainclientLayer.ReferenceDataCache;
 import com.leduc.loans.dataAccessLayer.LoanStatus;
 import com.leduc.loans.utils.HttpErrorInfo;
 import com.leduc.loans.utils.exceptions.InvalidInputException;
@@ -8,6 +10,7 @@ import com.leduc.loans.utils.exceptions.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
@@ -25,16 +28,24 @@ import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 @Component
 public class BooksServiceClient {
 
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
+    private final ReferenceDataCache referenceDataCache;
+    private final DependencyGuards dependencyGuards;
     private final String BOOKS_SERVICE_BASE_URL;
 
     public BooksServiceClient(RestTemplate restTemplate,
                               ObjectMapper mapper,
+                              ReferenceDataCache referenceDataCache,
+                              DependencyGuards dependencyGuards,
                               @Value("${app.books-service.host}") String booksServiceHost,
                               @Value("${app.books-service.port}") String booksServicePort) {
         this.restTemplate = restTemplate;
         this.mapper = mapper;
+        this.referenceDataCache = referenceDataCache;
+        this.dependencyGuards = dependencyGuards;
         this.BOOKS_SERVICE_BASE_URL = "http://" + booksServiceHost + ":" + booksServicePort + "/api/v1/books";
     }
 
@@ -43,7 +54,8 @@ public class BooksServiceClient {
         try {
             String url = BOOKS_SERVICE_BASE_URL;
             log.debug("Books-Service URL for GET all: {}", url);
-            BookModel[] array = restTemplate.getForObject(url, BookModel[].class);
+            BookModel[] array = dependencyGuards.call(DependencyGuards.BOOKS,
+                    () -> restTemplate.getForObject(url, BookModel[].class));
             return array != null ? Arrays.asList(array) : Collections.emptyList();
         } catch (HttpClientErrorException ex) {
             log.debug("Error response received in getAllBooks: {}", ex.getStatusCode());
@@ -55,18 +67,21 @@ public class BooksServiceClient {
         if (bookId == null || bookId.length() != 36) {
             throw new InvalidInputException("Book ID must be exactly 36 characters long");
         }
+        return referenceDataCache.get(ReferenceDataCache.BOOKS, bookId, () -> fetchBookByBookId(bookId));
+    }
+
+    private BookModel fetchBookByBookId(String bookId) {
         log.debug("Retrieving book via BooksServiceClient for id: {}", bookId);
         try {
             String url = BOOKS_SERVICE_BASE_URL + "/" + bookId;
             log.debug("Books-Service URL for GET by id: {}", url);
-            return restTemplate.getForObject(url, BookModel.class);
+            return dependencyGuards.call(DependencyGuards.BOOKS, () -> restTemplate.getForObject(url, BookModel.class));
         } catch (HttpClientErrorException ex) {
             log.debug("Error response in getBookByBookId: {}", ex.getStatusCode());
             throw handleHttpClientException(ex);
         }
     }
 
-
     public BookModel createBook(BookModel bookRequest) {
         if (bookRequest == null) {
             throw new IllegalArgumentException("BookModel must not be null");
@@ -75,7 +90,8 @@ public class BooksServiceClient {
         try {
             String url = BOOKS_SERVICE_BASE_URL;
             log.debug("Books-Service URL for POST: {}", url);
-            return restTemplate.postForObject(url, bookRequest, BookModel.class);
+            return dependencyGuards.call(DependencyGuards.BOOKS,
+                    () -> restTemplate.postForObject(url, bookRequest, BookModel.class));
         } catch (HttpClientErrorException ex) {
             log.debug("Error response in createBook: {}", ex.getStatusCode());
             throw handleHttpClientException(ex);
@@ -93,7 +109,8 @@ public class BooksServiceClient {
         try {
             String url = BOOKS_SERVICE_BASE_URL + "/" + bookId;
             log.debug("Books-Service URL for PUT: {}", url);
-            restTemplate.put(url, bookRequest);
+            dependencyGuards.run(DependencyGuards.BOOKS, () -> restTemplate.put(url, bookRequest));
+            referenceDataCache.invalidate(ReferenceDataCache.BOOKS, bookId);
             return getBookByBookId(bookId);
         } catch (HttpClientErrorException ex) {
             log.debug("Error response in updateBook: {}", ex.getStatusCode());
@@ -109,22 +126,28 @@ public class BooksServiceClient {
         try {
             String url = BOOKS_SERVICE_BASE_URL + "/" + bookId;
             log.debug("Books-Service URL for DELETE: {}", url);
-            restTemplate.delete(url);
+            dependencyGuards.run(DependencyGuards.BOOKS, () -> restTemplate.delete(url));
+            referenceDataCache.invalidate(ReferenceDataCache.BOOKS, bookId);
         } catch (HttpClientErrorException ex) {
             log.debug("Error response in deleteBook: {}", ex.getStatusCode());
             throw handleHttpClientException(ex);
         }
     }
 
-    public void patchBookCopiesAvailableByBookId(String bookId, LoanStatus status) {
+    // adjustmentId goes out as the Idempotency-Key, so books-service applies a redelivered adjustment only once
+    public void patchBookCopiesAvailableByBookId(String bookId, LoanStatus status, String adjustmentId) {
         String url = String.format("%s/%s/copiesAvailable?status=%s",
                 BOOKS_SERVICE_BASE_URL, bookId, status.name());
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(IDEMPOTENCY_KEY, adjustmentId);
 
         try {
-            restTemplate.exchange(url,
+            dependencyGuards.run(DependencyGuards.BOOKS, () -> restTemplate.exchange(url,
                     HttpMethod.PATCH,
-                    HttpEntity.EMPTY,
-                    Void.class);
+                    new HttpEntity<>(headers),
+                    Void.class));
+            // the cached book still shows the old copy count, which the checkout pre-check reads
+            referenceDataCache.invalidate(ReferenceDataCache.BOOKS, bookId);
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
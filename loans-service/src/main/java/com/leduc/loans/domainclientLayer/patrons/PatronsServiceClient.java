@@ -1,6 +1,8 @@
 package com.leduc.loans.domainclientLayer.patrons;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leduc.loans.domainclientLayer.DependencyGuards;
+import com.leduc.loans.domainclientLayer.ReferenceDataCache;
 import com.leduc.loans.utils.HttpErrorInfo;
 import com.leduc.loans.utils.exceptions.InvalidInputException;
 import com.leduc.loans.utils.exceptions.NotFoundException;
@@ -24,13 +26,19 @@ public class PatronsServiceClient {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
+    private final ReferenceDataCache referenceDataCache;
+    private final DependencyGuards dependencyGuards;
     private final String PATRONS_SERVICE_BASE_URL;
 
     public PatronsServiceClient(RestTemplate restTemplate, ObjectMapper mapper,
+                                ReferenceDataCache referenceDataCache,
+                                DependencyGuards dependencyGuards,
                                 @Value("${app.patrons-service.host}") String patronServiceHost,
                                 @Value("${app.patrons-service.port}") String patronServicePort) {
         this.restTemplate = restTemplate;
         this.mapper = mapper;
+        this.referenceDataCache = referenceDataCache;
+        this.dependencyGuards = dependencyGuards;
         PATRONS_SERVICE_BASE_URL = "http://" + patronServiceHost + ":" + patronServicePort + "/api/v1/patrons";
     }
 
@@ -39,7 +47,8 @@ public class PatronsServiceClient {
         try {
             String url = PATRONS_SERVICE_BASE_URL;
             log.debug("Patrons-Service URL for GET all: " + url);
-            PatronModel[] array = restTemplate.getForObject(url, PatronModel[].class);
+            PatronModel[] array = dependencyGuards.call(DependencyGuards.PATRONS,
+                    () -> restTemplate.getForObject(url, PatronModel[].class));
             log.debug("Successfully retrieved {} patrons", array != null ? array.length : 0);
             return array != null ? Arrays.asList(array) : Collections.emptyList();
         } catch (HttpClientErrorException ex) {
@@ -52,11 +61,17 @@ public class PatronsServiceClient {
         if (patronId == null || patronId.length() != 36) {
             throw new InvalidInputException("Patron ID must be exactly 36 characters long");
         }
+        return referenceDataCache.get(ReferenceDataCache.PATRONS, patronId, () -> fetchPatronByPatronId(patronId));
+    }
+
+    // the summary carries only the id, names and membership, without the password, address or phones
+    private PatronModel fetchPatronByPatronId(String patronId) {
         log.debug("Retrieving patron via PatronsServiceClient for id: {}", patronId);
         try {
-            String url = PATRONS_SERVICE_BASE_URL + "/" + patronId;
+            String url = PATRONS_SERVICE_BASE_URL + "/" + patronId + "/summary";
             log.debug("Patrons-Service URL: " + url);
-            PatronModel response = restTemplate.getForObject(url, PatronModel.class);
+            PatronModel response = dependencyGuards.call(DependencyGuards.PATRONS,
+                    () -> restTemplate.getForObject(url, PatronModel.class));
             log.debug("Successfully retrieved patron with id: {}", response.getPatronId());
             return response;
         } catch (HttpClientErrorException ex) {
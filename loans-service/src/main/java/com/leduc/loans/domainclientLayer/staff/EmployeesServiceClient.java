@@ -1,6 +1,8 @@
 package com.leduc.loans.domainclientLayer.staff;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leduc.loans.domainclientLayer.DependencyGuards;
+import com.leduc.loans.domainclientLayer.ReferenceDataCache;
 import com.leduc.loans.utils.HttpErrorInfo;
 import com.leduc.loans.utils.exceptions.InvalidInputException;
 import com.leduc.loans.utils.exceptions.NotFoundException;
@@ -25,13 +27,19 @@ public class EmployeesServiceClient {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
+    private final ReferenceDataCache referenceDataCache;
+    private final DependencyGuards dependencyGuards;
     private final String EMPLOYEES_SERVICE_BASE_URL;
 
     public EmployeesServiceClient(RestTemplate restTemplate, ObjectMapper mapper,
+                                  ReferenceDataCache referenceDataCache,
+                                  DependencyGuards dependencyGuards,
                                   @Value("${app.staff-service.host}") String employeeServiceHost,
                                   @Value("${app.staff-service.port}") String employeeServicePort) {
         this.restTemplate = restTemplate;
         this.mapper = mapper;
+        this.referenceDataCache = referenceDataCache;
+        this.dependencyGuards = dependencyGuards;
         EMPLOYEES_SERVICE_BASE_URL = "http://" + employeeServiceHost + ":" + employeeServicePort + "/api/v1/staff";
     }
 
@@ -40,8 +48,8 @@ public class EmployeesServiceClient {
         try {
             String url = EMPLOYEES_SERVICE_BASE_URL;
             log.debug("Employees-Service URL for GET all: " + url);
-            ResponseEntity<EmployeeModel[]> responseEntity =
-                    restTemplate.getForEntity(url, EmployeeModel[].class);
+            ResponseEntity<EmployeeModel[]> responseEntity = dependencyGuards.call(DependencyGuards.STAFF,
+                    () -> restTemplate.getForEntity(url, EmployeeModel[].class));
             EmployeeModel[] array = responseEntity.getBody();
             log.debug("Successfully retrieved employees");
             return array != null ? Arrays.asList(array) : new ArrayList<>();
@@ -55,11 +63,17 @@ public class EmployeesServiceClient {
         if (employeeId == null || employeeId.length() != 36) {
             throw new InvalidInputException("Employee ID must be exactly 36 characters long");
         }
+        return referenceDataCache.get(ReferenceDataCache.EMPLOYEES, employeeId, () -> fetchEmployeeByEmployeeId(employeeId));
+    }
+
+    // the /ref view carries only the id and names a loan copies, without phones or a department lookup
+    private EmployeeModel fetchEmployeeByEmployeeId(String employeeId) {
         log.debug("Retrieving employee via EmployeesServiceClient for id: {}", employeeId);
         try {
-            String url = EMPLOYEES_SERVICE_BASE_URL + "/" + employeeId;
+            String url = EMPLOYEES_SERVICE_BASE_URL + "/" + employeeId + "/ref";
             log.debug("Employees-Service URL: " + url);
-            EmployeeModel response = restTemplate.getForObject(url, EmployeeModel.class);
+            EmployeeModel response = dependencyGuards.call(DependencyGuards.STAFF,
+                    () -> restTemplate.getForObject(url, EmployeeModel.class));
             log.debug("Successfully retrieved employee with id: {}", response.getEmployeeId());
             return response;
         } catch (HttpClientErrorException ex) {
@@ -16,6 +16,7 @@ public interface LoanRequestMapper {
     @Mapping(source = "loanRequestModel.checkoutDate", target = "checkoutDate")
     @Mapping(source = "loanRequestModel.returnDate", target = "returnDate")
     @Mapping(source = "loanRequestModel.status", target = "status")
+    @Mapping(target = "pendingCopyAdjustments", ignore = true)
     Loan requestModelToEntity(LoanRequestModel loanRequestModel,
                                           LoanIdentifier loanIdentifier,
                                           BookModel bookModel,
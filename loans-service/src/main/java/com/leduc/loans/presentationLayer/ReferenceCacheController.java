@@ -0,0 +1,28 @@
+package com.leduc.loans.presentationLayer;
+
+import com.leduc.loans.domainclientLayer.ReferenceDataCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/admin/reference-cache")
+public class ReferenceCacheController {
+
+    private final ReferenceDataCache referenceDataCache;
+
+    public ReferenceCacheController(ReferenceDataCache referenceDataCache) {
+        this.referenceDataCache = referenceDataCache;
+    }
+
+    @DeleteMapping("/{cacheName}/{id}")
+    public ResponseEntity<Void> invalidate(@PathVariable String cacheName, @PathVariable String id) {
+        referenceDataCache.invalidate(cacheName, id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{cacheName}")
+    public ResponseEntity<Void> invalidateAll(@PathVariable String cacheName) {
+        referenceDataCache.invalidateAll(cacheName);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.leduc.loans.utils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.transport.AddressUtils;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// Pooled reactor-netty client behind the RestTemplate used for the patron/book/employee lookups and the
+// copy adjustment deliveries, set up the same way as the gateway's downstream pool. Each upstream service
+// gets its own pool limit (app.<service>.max-connections, otherwise app.http-client.max-connections), a
+// bounded wait for a connection (pending-acquire-timeout), background eviction of idle connections and a
+// cap on how long any connection is reused, so a slow books-service cannot starve the patron and employee
+// lookups. The pools publish the http.client.pool.* meters described in InstrumentedConnectionProvider.
+@Configuration
+public class DownstreamHttpClientConfig {
+
+    static final List<String> DOWNSTREAM_SERVICES =
+            List.of("patrons-service", "books-service", "staff-service");
+
+    @Bean(destroyMethod = "dispose")
+    ConnectionProvider downstreamConnectionProvider(
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${app.http-client.max-connections:50}") int maxConnections,
+            @Value("${app.http-client.pending-acquire-max-count:500}") int pendingAcquireMaxCount,
+            @Value("${app.http-client.pending-acquire-timeout:PT2S}") Duration pendingAcquireTimeout,
+            @Value("${app.http-client.max-idle-time:PT30S}") Duration maxIdleTime,
+            @Value("${app.http-client.max-life-time:PT5M}") Duration maxLifeTime) {
+        Map<String, String> downstreams = new HashMap<>();
+        for (String service : DOWNSTREAM_SERVICES) {
+            String host = environment.getProperty("app." + service + ".host");
+            Integer port = environment.getProperty("app." + service + ".port", Integer.class);
+            if (host != null && port != null) {
+                downstreams.put(host + ":" + port, service);
+            }
+        }
+        return new InstrumentedConnectionProvider(meterRegistry, downstreams, registrar -> {
+            PoolSettings settings = new PoolSettings(pendingAcquireMaxCount, pendingAcquireTimeout, maxIdleTime, maxLifeTime, registrar);
+            ConnectionProvider.Builder builder = settings.applyTo(ConnectionProvider.builder("downstream"), maxConnections);
+            for (String service : DOWNSTREAM_SERVICES) {
+                String host = environment.getProperty("app." + service + ".host");
+                Integer port = environment.getProperty("app." + service + ".port", Integer.class);
+                Integer serviceMaxConnections = environment.getProperty("app." + service + ".max-connections", Integer.class);
+                if (host != null && port != null && serviceMaxConnections != null) {
+                    // keyed the same way the client keys its pools, so the override applies to this service only
+                    builder.forRemoteHost(AddressUtils.createUnresolved(host, port),
+                            spec -> settings.applyTo(spec, serviceMaxConnections));
+                }
+            }
+            return builder.build();
+        });
+    }
+
+    @Bean
+    RestTemplate restTemplate(ConnectionProvider downstreamConnectionProvider,
+                              @Value("${app.http-client.connect-timeout:PT2S}") Duration connectTimeout,
+                              @Value("${app.http-client.response-timeout:PT5S}") Duration responseTimeout) {
+        HttpClient httpClient = HttpClient.create(downstreamConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout);
+        return new RestTemplate(new ReactorClientHttpRequestFactory(httpClient));
+    }
+
+    // a per-service pool starts from reactor-netty's defaults, not from the shared builder, so both get the same settings
+    private record PoolSettings(int pendingAcquireMaxCount, Duration pendingAcquireTimeout, Duration maxIdleTime,
+                                Duration maxLifeTime, Supplier<ConnectionProvider.MeterRegistrar> registrar) {
+
+        <S extends ConnectionProvider.ConnectionPoolSpec<S>> S applyTo(S spec, int maxConnections) {
+            return spec.maxConnections(maxConnections)
+                    .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                    .pendingAcquireTimeout(pendingAcquireTimeout)
+                    .maxIdleTime(maxIdleTime)
+                    .maxLifeTime(maxLifeTime)
+                    .evictInBackground(maxIdleTime)
+                    .metrics(true, registrar);
+        }
+    }
+}
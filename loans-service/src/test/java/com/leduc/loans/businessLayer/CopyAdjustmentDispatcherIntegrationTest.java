@@ -0,0 +1,104 @@
+package com.leduc.loans.businessLayer;
+
+import com.leduc.loans.dataAccessLayer.CopyAdjustment;
+import com.leduc.loans.dataAccessLayer.Loan;
+import com.leduc.loans.dataAccessLayer.LoanIdentifier;
+import com.leduc.loans.dataAccessLayer.LoanRepository;
+import com.leduc.loans.dataAccessLayer.LoanStatus;
+import com.leduc.loans.domainclientLayer.books.BookModel;
+import com.leduc.loans.domainclientLayer.books.BooksServiceClient;
+import com.leduc.loans.domainclientLayer.patrons.PatronModel;
+import com.leduc.loans.utils.exceptions.NotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DataMongoTest
+@ActiveProfiles("test")
+@Import({CopyAdjustmentDispatcher.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties = "app.copy-adjustment-outbox.dispatcher-enabled=true")
+class CopyAdjustmentDispatcherIntegrationTest {
+
+    @Autowired
+    private CopyAdjustmentDispatcher dispatcher;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @MockitoBean
+    private BooksServiceClient booksServiceClient;
+
+    private final String BOOK_ID = "6fa459ea-ee8a-3ca4-894e-d6f1d55b4f2a";
+
+    @BeforeEach
+    void setup() {
+        loanRepository.deleteAll();
+    }
+
+    private String saveLoanWithAdjustment(LoanStatus status) {
+        String loanId = UUID.randomUUID().toString();
+        Loan loan = new Loan();
+        loan.setLoanIdentifier(new LoanIdentifier(loanId));
+        loan.setPatronModel(PatronModel.builder().patronId("123e4567-e89b-12d3-a456-426614174000").build());
+        loan.setBookModel(BookModel.builder().bookId(BOOK_ID).build());
+        loan.setStatus(status);
+        loan.addPendingCopyAdjustment(new CopyAdjustment(BOOK_ID, status));
+        loanRepository.save(loan);
+        return loanId;
+    }
+
+    @Test
+    void whenDelivered_thenAdjustmentIsRemovedFromLoan() {
+        String loanId = saveLoanWithAdjustment(LoanStatus.CHECKED_OUT);
+        String adjustmentId = loanRepository.getLoanByLoanIdentifier_LoanId(loanId)
+                .getPendingCopyAdjustments().get(0).getAdjustmentId();
+
+        assertEquals(1, dispatcher.dispatchPending());
+
+        // the adjustment id travels as the idempotency key, so a redelivery is not applied twice
+        verify(booksServiceClient).patchBookCopiesAvailableByBookId(BOOK_ID, LoanStatus.CHECKED_OUT, adjustmentId);
+        assertTrue(loanRepository.getLoanByLoanIdentifier_LoanId(loanId).getPendingCopyAdjustments().isEmpty());
+    }
+
+    @Test
+    void whenBooksServiceUnreachable_thenAdjustmentIsRescheduled() {
+        String loanId = saveLoanWithAdjustment(LoanStatus.RETURNED);
+        doThrow(new ResourceAccessException("connection refused"))
+                .when(booksServiceClient).patchBookCopiesAvailableByBookId(eq(BOOK_ID), eq(LoanStatus.RETURNED), anyString());
+
+        assertEquals(0, dispatcher.dispatchPending());
+        // backoff pushed the next attempt into the future, so an immediate poll does not retry
+        assertEquals(0, dispatcher.dispatchPending());
+
+        verify(booksServiceClient, times(1)).patchBookCopiesAvailableByBookId(eq(BOOK_ID), eq(LoanStatus.RETURNED), anyString());
+        CopyAdjustment pending = loanRepository.getLoanByLoanIdentifier_LoanId(loanId).getPendingCopyAdjustments().get(0);
+        assertEquals(1, pending.getAttempts());
+        assertNotNull(pending.getNextAttemptAt());
+        assertEquals("connection refused", pending.getLastError());
+    }
+
+    @Test
+    void whenBookNoLongerExists_thenAdjustmentIsParked() {
+        String loanId = saveLoanWithAdjustment(LoanStatus.CHECKED_OUT);
+        doThrow(new NotFoundException("Book not found"))
+                .when(booksServiceClient).patchBookCopiesAvailableByBookId(eq(BOOK_ID), eq(LoanStatus.CHECKED_OUT), anyString());
+
+        dispatcher.dispatchPending();
+
+        CopyAdjustment parked = loanRepository.getLoanByLoanIdentifier_LoanId(loanId).getPendingCopyAdjustments().get(0);
+        assertNull(parked.getNextAttemptAt());
+        assertEquals("Book not found", parked.getLastError());
+    }
+}
@@ -0,0 +1,123 @@
+package com.leduc.loans.businessLayer;
+
+import com.leduc.loans.dataAccessLayer.Loan;
+import com.leduc.loans.dataAccessLayer.LoanRepository;
+import com.leduc.loans.dataAccessLayer.LoanStatus;
+import com.leduc.loans.domainclientLayer.books.BookModel;
+import com.leduc.loans.domainclientLayer.books.BooksServiceClient;
+import com.leduc.loans.domainclientLayer.patrons.PatronModel;
+import com.leduc.loans.domainclientLayer.patrons.PatronsServiceClient;
+import com.leduc.loans.domainclientLayer.staff.EmployeeModel;
+import com.leduc.loans.domainclientLayer.staff.EmployeesServiceClient;
+import com.leduc.loans.mappingLayer.LoanRequestMapper;
+import com.leduc.loans.mappingLayer.LoanResponseMapper;
+import com.leduc.loans.presentationLayer.LoanRequestModel;
+import com.leduc.loans.presentationLayer.LoanResponseModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// addLoan against stubbed dependencies that each take a fixed time to answer, without a Spring context,
+// so the fan-out can be timed on its own: run one after the other, the lookups and the local count add up;
+// run together, a checkout should cost about as much as the slowest of them
+class LoanServiceFanOutTest {
+
+    private static final String PATH_PATRON = "11111111-1111-1111-1111-111111111111";
+    private static final String REQUEST_PATRON = "33333333-3333-3333-3333-333333333333";
+    private static final String BOOK = "44444444-4444-4444-4444-444444444444";
+    private static final String EMPLOYEE = "55555555-5555-5555-5555-555555555555";
+
+    private static final long PATRON_MS = 150;
+    private static final long BOOK_MS = 250;
+    private static final long EMPLOYEE_MS = 400;
+    private static final long COUNT_MS = 200;
+    // scheduling and mock overhead on a busy build machine, still far below any sequential sum
+    private static final long SLACK_MS = 250;
+
+    private final LoanRepository loanRepository = mock(LoanRepository.class);
+    private final PatronsServiceClient patronsServiceClient = mock(PatronsServiceClient.class);
+    private final BooksServiceClient booksServiceClient = mock(BooksServiceClient.class);
+    private final EmployeesServiceClient employeesServiceClient = mock(EmployeesServiceClient.class);
+    private final LoanRequestMapper loanRequestMapper = mock(LoanRequestMapper.class);
+    private final LoanResponseMapper loanResponseMapper = mock(LoanResponseMapper.class);
+    private final ExecutorService loanValidationExecutor = Executors.newFixedThreadPool(8);
+
+    private LoanServiceImpl loanService;
+
+    @BeforeEach
+    void init() {
+        loanService = new LoanServiceImpl(loanRepository, patronsServiceClient, employeesServiceClient,
+                booksServiceClient, loanRequestMapper, loanResponseMapper, loanValidationExecutor, 2_000);
+
+        when(patronsServiceClient.getPatronByPatronId(any())).thenAnswer(invocation -> {
+            Thread.sleep(PATRON_MS);
+            return PatronModel.builder().patronId(invocation.getArgument(0)).build();
+        });
+        when(booksServiceClient.getBookByBookId(BOOK)).thenAnswer(invocation -> {
+            Thread.sleep(BOOK_MS);
+            return BookModel.builder().bookId(BOOK).copiesAvailable(3).build();
+        });
+        when(employeesServiceClient.getEmployeeByEmployeeId(EMPLOYEE)).thenAnswer(invocation -> {
+            Thread.sleep(EMPLOYEE_MS);
+            return EmployeeModel.builder().employeeId(EMPLOYEE).build();
+        });
+        when(loanRepository.countByPatronModel_PatronId(PATH_PATRON)).thenAnswer(invocation -> {
+            Thread.sleep(COUNT_MS);
+            return 0;
+        });
+        when(loanRequestMapper.requestModelToEntity(any(), any(), any(), any(), any())).thenAnswer(invocation -> new Loan());
+        when(loanRepository.save(any(Loan.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(loanResponseMapper.toResponse(any())).thenReturn(new LoanResponseModel());
+    }
+
+    @AfterEach
+    void tearDown() {
+        loanValidationExecutor.shutdownNow();
+    }
+
+    @Test
+    void whenRequestPatronIsThePathPatron_thenCheckoutCostsAboutTheSlowestLookup() {
+        long elapsedMs = fastestOf(3, request(PATH_PATRON));
+
+        // sequentially: patron + book + employee + count = 1000 ms
+        assertThat(elapsedMs).isBetween(EMPLOYEE_MS, EMPLOYEE_MS + SLACK_MS);
+        // the path patron and the request patron share one lookup
+        verify(patronsServiceClient, times(3)).getPatronByPatronId(PATH_PATRON);
+    }
+
+    @Test
+    void whenRequestPatronDiffers_thenBothPatronLookupsAlsoRunAlongside() {
+        long elapsedMs = fastestOf(3, request(REQUEST_PATRON));
+
+        // sequentially: patron + patron + book + employee + count = 1150 ms
+        assertThat(elapsedMs).isBetween(EMPLOYEE_MS, EMPLOYEE_MS + SLACK_MS);
+        verify(patronsServiceClient, times(3)).getPatronByPatronId(REQUEST_PATRON);
+    }
+
+    private LoanRequestModel request(String requestPatron) {
+        LoanRequestModel request = new LoanRequestModel();
+        request.setPatronId(requestPatron);
+        request.setBookId(BOOK);
+        request.setEmployeeId(EMPLOYEE);
+        request.setStatus(LoanStatus.CHECKED_OUT);
+        return request;
+    }
+
+    // the fastest of a few runs, so a single scheduling hiccup on the build machine does not decide the result
+    private long fastestOf(int runs, LoanRequestModel request) {
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            loanService.addLoan(request, PATH_PATRON);
+            fastest = Math.min(fastest, (System.nanoTime() - start) / 1_000_000);
+        }
+        return fastest;
+    }
+}
@@ -0,0 +1,131 @@
+package com.leduc.loans.businessLayer;
+
+import com.leduc.loans.dataAccessLayer.CopyAdjustment;
+import com.leduc.loans.dataAccessLayer.Loan;
+import com.leduc.loans.dataAccessLayer.LoanIdentifier;
+import com.leduc.loans.dataAccessLayer.LoanRepository;
+import com.leduc.loans.dataAccessLayer.LoanStatus;
+import com.leduc.loans.domainclientLayer.books.BookModel;
+import com.leduc.loans.domainclientLayer.books.BooksServiceClient;
+import com.leduc.loans.domainclientLayer.patrons.PatronModel;
+import com.leduc.loans.domainclientLayer.patrons.PatronsServiceClient;
+import com.leduc.loans.domainclientLayer.staff.EmployeeModel;
+import com.leduc.loans.domainclientLayer.staff.EmployeesServiceClient;
+import com.leduc.loans.presentationLayer.LoanRequestModel;
+import com.leduc.loans.utils.exceptions.InvalidInputException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "app.scheduling.enabled=false")
+class LoanServiceOutboxIntegrationTest {
+
+    @Autowired
+    private LoanServiceImpl loanService;
+
+    @Autowired
+    private CopyAdjustmentDispatcher dispatcher;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @MockitoBean
+    private PatronsServiceClient patronsServiceClient;
+
+    @MockitoBean
+    private BooksServiceClient booksServiceClient;
+
+    @MockitoBean
+    private EmployeesServiceClient employeesServiceClient;
+
+    private final String PATRON_ID = "123e4567-e89b-12d3-a456-426614174000";
+    private final String BOOK_ID = "6fa459ea-ee8a-3ca4-894e-d6f1d55b4f2a";
+    private final String EMPLOYEE_ID = "e8a17e76-1c9f-4a6a-9342-488b7e99f0f7";
+    private final String LOAN_ID = "2d8d1a47-08d8-4598-8b9d-6b2ec67dee1d";
+
+    @BeforeEach
+    void setup() {
+        loanRepository.deleteAll();
+    }
+
+    @Test
+    void whenDispatcherDeliversDuringUpdateLoan_thenDeliveredAdjustmentIsNotRestored() {
+        PatronModel patron = PatronModel.builder().patronId(PATRON_ID).build();
+        BookModel book = BookModel.builder().bookId(BOOK_ID).build();
+        Loan loan = Loan.builder()
+                .loanIdentifier(new LoanIdentifier(LOAN_ID))
+                .patronModel(patron)
+                .bookModel(book)
+                .employeeModel(EmployeeModel.builder().employeeId(EMPLOYEE_ID).build())
+                .status(LoanStatus.CHECKED_OUT)
+                .build();
+        loan.addPendingCopyAdjustment(new CopyAdjustment(BOOK_ID, LoanStatus.CHECKED_OUT));
+        loanRepository.save(loan);
+
+        when(patronsServiceClient.getPatronByPatronId(PATRON_ID)).thenReturn(patron);
+        when(employeesServiceClient.getEmployeeByEmployeeId(EMPLOYEE_ID))
+                .thenReturn(EmployeeModel.builder().employeeId(EMPLOYEE_ID).build());
+        // updateLoan has already loaded the loan when it looks the book up, so the checkout adjustment
+        // is delivered and pulled between that load and the write
+        when(booksServiceClient.getBookByBookId(BOOK_ID)).thenAnswer(invocation -> {
+            assertEquals(1, dispatcher.dispatchPending());
+            return book;
+        });
+
+        LoanRequestModel update = LoanRequestModel.builder()
+                .patronId(PATRON_ID)
+                .bookId(BOOK_ID)
+                .employeeId(EMPLOYEE_ID)
+                .returnDate(LocalDate.of(2025, 5, 15))
+                .status(LoanStatus.RETURNED)
+                .build();
+        loanService.updateLoan(update, PATRON_ID, LOAN_ID);
+
+        List<CopyAdjustment> pending = loanRepository.getLoanByLoanIdentifier_LoanId(LOAN_ID).getPendingCopyAdjustments();
+        assertEquals(1, pending.size());
+        assertEquals(LoanStatus.RETURNED, pending.get(0).getStatus());
+
+        assertEquals(1, dispatcher.dispatchPending());
+        assertEquals(0, dispatcher.dispatchPending());
+        verify(booksServiceClient, times(1)).patchBookCopiesAvailableByBookId(eq(BOOK_ID), eq(LoanStatus.CHECKED_OUT), anyString());
+        verify(booksServiceClient, times(1)).patchBookCopiesAvailableByBookId(eq(BOOK_ID), eq(LoanStatus.RETURNED), anyString());
+        Loan saved = loanRepository.getLoanByLoanIdentifier_LoanId(LOAN_ID);
+        assertEquals(LoanStatus.RETURNED, saved.getStatus());
+        assertEquals(LocalDate.of(2025, 5, 15), saved.getReturnDate());
+    }
+
+    @Test
+    void whenLoanStillHasUndeliveredAdjustment_thenDeleteIsRefusedUntilItIsDelivered() {
+        PatronModel patron = PatronModel.builder().patronId(PATRON_ID).build();
+        Loan loan = Loan.builder()
+                .loanIdentifier(new LoanIdentifier(LOAN_ID))
+                .patronModel(patron)
+                .bookModel(BookModel.builder().bookId(BOOK_ID).build())
+                .status(LoanStatus.RETURNED)
+                .build();
+        loan.addPendingCopyAdjustment(new CopyAdjustment(BOOK_ID, LoanStatus.RETURNED));
+        loanRepository.save(loan);
+        when(patronsServiceClient.getPatronByPatronId(PATRON_ID)).thenReturn(patron);
+
+        assertThrows(InvalidInputException.class, () -> loanService.deleteLoan(PATRON_ID, LOAN_ID));
+        assertNotNull(loanRepository.getLoanByLoanIdentifier_LoanId(LOAN_ID));
+
+        assertEquals(1, dispatcher.dispatchPending());
+        loanService.deleteLoan(PATRON_ID, LOAN_ID);
+
+        assertNull(loanRepository.getLoanByLoanIdentifier_LoanId(LOAN_ID));
+        verify(booksServiceClient, times(1)).patchBookCopiesAvailableByBookId(eq(BOOK_ID), eq(LoanStatus.RETURNED), anyString());
+    }
+}
@@ -19,6 +19,7 @@ import com.leduc.loans.utils.exceptions.NotFoundException;
 import com.leduc.loans.utils.exceptions.TooManyLoansException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
@@ -31,6 +32,8 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @SpringBootTest
@@ -69,7 +72,7 @@ class LoanServiceUnitTest {
     }
 
     @Test
-    void whenGetAllLoans_withMixedLoans_returnsOnlyMatching() {
+    void whenGetAllLoans_thenQueriesByPatronOnly() {
         // Arrange
         PatronModel patron = PatronModel.builder()
                 .patronId(VALID_PATRON)
@@ -83,28 +86,20 @@ class LoanServiceUnitTest {
         loanForMe.setLoanIdentifier(new LoanIdentifier("L-1"));
         loanForMe.setPatronModel(patron);
 
-        PatronModel other = PatronModel.builder().patronId("other").build();
-        Loan loanForOther = new Loan();
-        loanForOther.setLoanIdentifier(new LoanIdentifier("L-2"));
-        loanForOther.setPatronModel(other);
-
-        when(loanRepository.findAll())
-                .thenReturn(List.of(loanForMe, loanForOther));
+        when(loanRepository.findAllByPatronModel_PatronId(VALID_PATRON))
+                .thenReturn(List.of(loanForMe));
 
         LoanResponseModel dtoMe = new LoanResponseModel();
         dtoMe.setLoanId("L-1");
         dtoMe.setPatronId(VALID_PATRON);
-        LoanResponseModel dtoOther = new LoanResponseModel();
-        dtoOther.setLoanId("L-2");
-        dtoOther.setPatronId("other");
 
         when(loanResponseMapper.toResponse(loanForMe)).thenReturn(dtoMe);
-        when(loanResponseMapper.toResponse(loanForOther)).thenReturn(dtoOther);
 
         List<LoanResponseModel> results = loanService.getAllLoans(VALID_PATRON);
 
         assertEquals(1, results.size());
         assertEquals(dtoMe, results.get(0));
+        verify(loanRepository, never()).findAll();
     }
 
     @Test
@@ -115,7 +110,7 @@ class LoanServiceUnitTest {
                 .lastName("Doe")
                 .build();
         when(patronsServiceClient.getPatronByPatronId(VALID_PATRON)).thenReturn(patron);
-        when(loanRepository.findAll()).thenReturn(Collections.emptyList());
+        when(loanRepository.findAllByPatronModel_PatronId(VALID_PATRON)).thenReturn(Collections.emptyList());
 
         List<LoanResponseModel> list = loanService.getAllLoans(VALID_PATRON);
 
@@ -528,4 +523,106 @@ class LoanServiceUnitTest {
         );
     }
 
+    @Test
+    void whenAddLoan_lookupsAreSlow_thenLatencyIsBoundedBySlowestDependency() {
+        PatronModel patron = PatronModel.builder().patronId(VALID_PATRON).build();
+        BookModel book = BookModel.builder().bookId("book-xyz").build();
+        EmployeeModel employee = EmployeeModel.builder().employeeId("emp-xyz").build();
+
+        when(patronsServiceClient.getPatronByPatronId(VALID_PATRON))
+                .thenAnswer(invocation -> { Thread.sleep(300); return patron; });
+        when(booksServiceClient.getBookByBookId("book-xyz"))
+                .thenAnswer(invocation -> { Thread.sleep(400); return book; });
+        when(employeesServiceClient.getEmployeeByEmployeeId("emp-xyz"))
+                .thenAnswer(invocation -> { Thread.sleep(500); return employee; });
+        when(loanRepository.countByPatronModel_PatronId(VALID_PATRON))
+                .thenReturn(0);
+
+        LoanRequestModel req = new LoanRequestModel();
+        req.setPatronId(VALID_PATRON);
+        req.setBookId("book-xyz");
+        req.setEmployeeId("emp-xyz");
+        req.setStatus(LoanStatus.CHECKED_OUT);
+
+        long start = System.nanoTime();
+        loanService.addLoan(req, VALID_PATRON);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // sequential calls would take 300 + 300 + 400 + 500 ms
+        assertTrue(elapsedMs < 900, "addLoan took " + elapsedMs + " ms");
+        verify(patronsServiceClient, times(1)).getPatronByPatronId(VALID_PATRON);
+    }
+
+    @Test
+    void whenAddLoan_severalLookupsFail_thenSingleFailureWithOthersSuppressed() {
+        when(patronsServiceClient.getPatronByPatronId(VALID_PATRON))
+                .thenReturn(PatronModel.builder().patronId(VALID_PATRON).build());
+        when(loanRepository.countByPatronModel_PatronId(VALID_PATRON))
+                .thenReturn(0);
+        when(booksServiceClient.getBookByBookId("missing-book"))
+                .thenThrow(new NotFoundException("book missing"));
+        when(employeesServiceClient.getEmployeeByEmployeeId("missing-emp"))
+                .thenThrow(new NotFoundException("employee missing"));
+
+        LoanRequestModel req = new LoanRequestModel();
+        req.setPatronId(VALID_PATRON);
+        req.setBookId("missing-book");
+        req.setEmployeeId("missing-emp");
+
+        NotFoundException ex = assertThrows(NotFoundException.class, () ->
+                loanService.addLoan(req, VALID_PATRON));
+        assertEquals("book missing", ex.getMessage());
+        assertEquals(1, ex.getSuppressed().length);
+        assertEquals("employee missing", ex.getSuppressed()[0].getMessage());
+    }
+
+    @Test
+    void whenAddLoan_thenCopyAdjustmentIsQueuedOnTheLoanInsteadOfCallingBooksService() {
+        PatronModel patron = PatronModel.builder().patronId(VALID_PATRON).build();
+        when(patronsServiceClient.getPatronByPatronId(VALID_PATRON)).thenReturn(patron);
+        when(loanRepository.countByPatronModel_PatronId(VALID_PATRON)).thenReturn(0);
+        when(booksServiceClient.getBookByBookId("book-xyz"))
+                .thenReturn(BookModel.builder().bookId("book-xyz").build());
+        when(employeesServiceClient.getEmployeeByEmployeeId("emp-xyz"))
+                .thenReturn(EmployeeModel.builder().employeeId("emp-xyz").build());
+        when(loanRepository.save(any(Loan.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        LoanRequestModel req = new LoanRequestModel();
+        req.setPatronId(VALID_PATRON);
+        req.setBookId("book-xyz");
+        req.setEmployeeId("emp-xyz");
+        req.setStatus(LoanStatus.CHECKED_OUT);
+
+        loanService.addLoan(req, VALID_PATRON);
+
+        ArgumentCaptor<Loan> saved = ArgumentCaptor.forClass(Loan.class);
+        verify(loanRepository).save(saved.capture());
+        verify(booksServiceClient, never()).patchBookCopiesAvailableByBookId(anyString(), any(), anyString());
+        assertEquals(1, saved.getValue().getPendingCopyAdjustments().size());
+        assertEquals("book-xyz", saved.getValue().getPendingCopyAdjustments().get(0).getBookId());
+        assertEquals(LoanStatus.CHECKED_OUT, saved.getValue().getPendingCopyAdjustments().get(0).getStatus());
+    }
+
+    @Test
+    void whenAddLoan_checkoutWithNoCopiesLeft_thenInvalidInputAndNothingQueued() {
+        when(patronsServiceClient.getPatronByPatronId(VALID_PATRON))
+                .thenReturn(PatronModel.builder().patronId(VALID_PATRON).build());
+        when(loanRepository.countByPatronModel_PatronId(VALID_PATRON)).thenReturn(0);
+        when(booksServiceClient.getBookByBookId("book-xyz"))
+                .thenReturn(BookModel.builder().bookId("book-xyz").copiesAvailable(0).build());
+        when(employeesServiceClient.getEmployeeByEmployeeId("emp-xyz"))
+                .thenReturn(EmployeeModel.builder().employeeId("emp-xyz").build());
+
+        LoanRequestModel req = new LoanRequestModel();
+        req.setPatronId(VALID_PATRON);
+        req.setBookId("book-xyz");
+        req.setEmployeeId("emp-xyz");
+        req.setStatus(LoanStatus.CHECKED_OUT);
+
+        InvalidInputException ex = assertThrows(InvalidInputException.class, () ->
+                loanService.addLoan(req, VALID_PATRON));
+        assertEquals("No copies available for book id: book-xyz", ex.getMessage());
+        verify(loanRepository, never()).save(any(Loan.class));
+    }
+
 }
@@ -7,6 +7,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
@@ -21,6 +23,9 @@ class LoanRepositoryIntegrationTest {
     @Autowired
     private LoanRepository loanRepository;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
     @BeforeEach
     void setup() {
         loanRepository.deleteAll();
@@ -73,4 +78,18 @@ class LoanRepositoryIntegrationTest {
         assertNotNull(loans);
         assertTrue(loans.isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    void whenStarted_thenPatronLoanIndexExists() {
+        List<IndexInfo> indexes = mongoTemplate.indexOps(Loan.class).getIndexInfo();
+
+        IndexInfo patronLoanIndex = indexes.stream()
+                .filter(index -> index.getName().equals("patron_loan_idx"))
+                .findFirst()
+                .orElse(null);
+
+        assertNotNull(patronLoanIndex);
+        assertEquals("patronModel.patronId", patronLoanIndex.getIndexFields().get(0).getKey());
+        assertEquals("loanIdentifier.loanId", patronLoanIndex.getIndexFields().get(1).getKey());
+    }
+}
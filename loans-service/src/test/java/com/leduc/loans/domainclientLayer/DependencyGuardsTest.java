@@ -0,0 +1,223 @@
+package com.leduc.loans.domainclientLayer;
+
+import com.leduc.loans.utils.exceptions.NotFoundException;
+import com.leduc.loans.utils.exceptions.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DependencyGuardsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private MockEnvironment environment;
+    private AtomicInteger upstreamCalls;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        environment = new MockEnvironment()
+                .withProperty("app.dependency-guard.failure-rate-threshold", "50")
+                .withProperty("app.dependency-guard.sliding-window-size", "4")
+                .withProperty("app.dependency-guard.minimum-calls", "4")
+                .withProperty("app.dependency-guard.open-duration", "30s")
+                .withProperty("app.dependency-guard.half-open-calls", "2")
+                .withProperty("app.dependency-guard.max-wait", "PT0S");
+        upstreamCalls = new AtomicInteger();
+    }
+
+    private DependencyGuards guards() {
+        return new DependencyGuards(environment, meterRegistry, true, clock);
+    }
+
+    private String succeed() {
+        upstreamCalls.incrementAndGet();
+        return "ok";
+    }
+
+    private String fail() {
+        upstreamCalls.incrementAndGet();
+        throw new ResourceAccessException("Read timed out");
+    }
+
+    private void callIgnoringFailure(DependencyGuards guards, String dependency) {
+        try {
+            guards.call(dependency, this::fail);
+        } catch (ResourceAccessException ignored) {
+        }
+    }
+
+    private double stateGauge(String dependency, String state) {
+        return meterRegistry.get("circuit.breaker.state").tag("dependency", dependency).tag("state", state)
+                .gauge().value();
+    }
+
+    @Test
+    void call_whenFailureRateReachesThreshold_thenOpensAndFailsFastWithoutCallingUpstream() {
+        DependencyGuards guards = guards();
+        guards.call(DependencyGuards.BOOKS, this::succeed);
+        guards.call(DependencyGuards.BOOKS, this::succeed);
+        callIgnoringFailure(guards, DependencyGuards.BOOKS);
+        assertThat(guards.get(DependencyGuards.BOOKS).getState()).isEqualTo(DependencyGuard.State.CLOSED);
+
+        callIgnoringFailure(guards, DependencyGuards.BOOKS);
+
+        assertThat(guards.get(DependencyGuards.BOOKS).getState()).isEqualTo(DependencyGuard.State.OPEN);
+        assertThatThrownBy(() -> guards.call(DependencyGuards.BOOKS, this::succeed))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasMessageContaining("books-service");
+        assertThat(upstreamCalls).hasValue(4);
+        assertThat(stateGauge("books-service", "open")).isEqualTo(1.0);
+        assertThat(stateGauge("books-service", "closed")).isEqualTo(0.0);
+        assertThat(meterRegistry.get("circuit.breaker.transitions").tag("dependency", "books-service")
+                .tag("to", "open").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("circuit.breaker.calls").tag("dependency", "books-service")
+                .tag("outcome", "short_circuited").counter().count()).isEqualTo(1.0);
+        // the other dependencies keep their own breakers
+        assertThat(guards.call(DependencyGuards.PATRONS, this::succeed)).isEqualTo("ok");
+    }
+
+    @Test
+    void call_whenUpstreamAnswers404_thenNeverCountsAsFailure() {
+        DependencyGuards guards = guards();
+
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> guards.call(DependencyGuards.PATRONS, () -> {
+                throw new NotFoundException("Patron not found");
+            })).isInstanceOf(NotFoundException.class);
+        }
+
+        assertThat(guards.get(DependencyGuards.PATRONS).getState()).isEqualTo(DependencyGuard.State.CLOSED);
+    }
+
+    @Test
+    void call_afterOpenDuration_thenHalfOpenProbesCloseTheBreaker() {
+        DependencyGuards guards = guards();
+        for (int i = 0; i < 4; i++) {
+            callIgnoringFailure(guards, DependencyGuards.STAFF);
+        }
+        assertThat(guards.get(DependencyGuards.STAFF).getState()).isEqualTo(DependencyGuard.State.OPEN);
+
+        clock.advance(Duration.ofSeconds(30));
+        assertThat(guards.get(DependencyGuards.STAFF).getState()).isEqualTo(DependencyGuard.State.HALF_OPEN);
+        guards.call(DependencyGuards.STAFF, this::succeed);
+        guards.call(DependencyGuards.STAFF, this::succeed);
+
+        assertThat(guards.get(DependencyGuards.STAFF).getState()).isEqualTo(DependencyGuard.State.CLOSED);
+        assertThat(stateGauge("staff-service", "closed")).isEqualTo(1.0);
+    }
+
+    @Test
+    void call_whenHalfOpenProbeFails_thenOpensAgain() {
+        DependencyGuards guards = guards();
+        for (int i = 0; i < 4; i++) {
+            callIgnoringFailure(guards, DependencyGuards.STAFF);
+        }
+        clock.advance(Duration.ofSeconds(30));
+
+        callIgnoringFailure(guards, DependencyGuards.STAFF);
+
+        assertThat(guards.get(DependencyGuards.STAFF).getState()).isEqualTo(DependencyGuard.State.OPEN);
+        clock.advance(Duration.ofSeconds(29));
+        assertThatThrownBy(() -> guards.call(DependencyGuards.STAFF, this::succeed))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    @Test
+    void call_whenSlowerThanSlowCallDuration_thenCountsAsFailure() {
+        environment.setProperty("app.dependency-guard.books-service.slow-call-duration", "PT0S");
+        DependencyGuards guards = guards();
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(guards.call(DependencyGuards.BOOKS, this::succeed)).isEqualTo("ok");
+        }
+
+        assertThat(guards.get(DependencyGuards.BOOKS).getState()).isEqualTo(DependencyGuard.State.OPEN);
+        // the override applies to books-service only
+        for (int i = 0; i < 4; i++) {
+            guards.call(DependencyGuards.PATRONS, this::succeed);
+        }
+        assertThat(guards.get(DependencyGuards.PATRONS).getState()).isEqualTo(DependencyGuard.State.CLOSED);
+    }
+
+    @Test
+    void call_whenBulkheadIsFull_thenRejectsImmediatelyAndLeavesOtherDependenciesAlone() throws Exception {
+        environment.setProperty("app.dependency-guard.books-service.max-concurrent-calls", "1");
+        DependencyGuards guards = guards();
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> slowBookCall = CompletableFuture.supplyAsync(
+                () -> guards.call(DependencyGuards.BOOKS, () -> {
+                    inFlight.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return "slow";
+                }));
+        assertThat(inFlight.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> guards.call(DependencyGuards.BOOKS, this::succeed))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasMessageContaining("calls in flight");
+        assertThat(guards.call(DependencyGuards.PATRONS, this::succeed)).isEqualTo("ok");
+        assertThat(guards.get(DependencyGuards.BOOKS).snapshot().activeCalls()).isEqualTo(1);
+        assertThat(meterRegistry.get("bulkhead.available.calls").tag("dependency", "books-service")
+                .gauge().value()).isEqualTo(0.0);
+
+        release.countDown();
+        assertThat(slowBookCall.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+        assertThat(guards.call(DependencyGuards.BOOKS, this::succeed)).isEqualTo("ok");
+    }
+
+    @Test
+    void call_whenDisabled_thenPassesStraightThrough() {
+        DependencyGuards guards = new DependencyGuards(environment, meterRegistry, false, clock);
+        guards.get(DependencyGuards.BOOKS).transitionTo(DependencyGuard.State.OPEN);
+
+        assertThat(guards.call(DependencyGuards.BOOKS, this::succeed)).isEqualTo("ok");
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
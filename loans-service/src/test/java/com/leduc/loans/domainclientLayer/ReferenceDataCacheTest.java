@@ -0,0 +1,101 @@
+package com.leduc.loans.domainclientLayer;
+
+import com.leduc.loans.domainclientLayer.patrons.PatronModel;
+import com.leduc.loans.utils.exceptions.InvalidInputException;
+import com.leduc.loans.utils.exceptions.NotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReferenceDataCacheTest {
+
+    private final String PATRON_ID = "123e4567-e89b-12d3-a456-426614174000";
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReferenceDataCache cache;
+    private AtomicInteger upstreamCalls;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ReferenceDataCache(meterRegistry, true, 2, Duration.ofMinutes(10), true, Duration.ofSeconds(30));
+        upstreamCalls = new AtomicInteger();
+    }
+
+    private PatronModel fetchPatron(String patronId) {
+        upstreamCalls.incrementAndGet();
+        return PatronModel.builder().patronId(patronId).firstName("John").lastName("Doe").build();
+    }
+
+    @Test
+    void get_whenCalledTwice_thenLoadsOnceAndRecordsHitAndMiss() {
+        PatronModel first = cache.get(ReferenceDataCache.PATRONS, PATRON_ID, () -> fetchPatron(PATRON_ID));
+        PatronModel second = cache.get(ReferenceDataCache.PATRONS, PATRON_ID, () -> fetchPatron(PATRON_ID));
+
+        assertThat(second).isSameAs(first);
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "patrons").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "patrons").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("reference.cache.load").tag("cache", "patrons").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void get_whenUpstreamReturns404_thenNotFoundIsCached() {
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> cache.get(ReferenceDataCache.PATRONS, PATRON_ID, () -> {
+                upstreamCalls.incrementAndGet();
+                throw new NotFoundException("Patron not found");
+            }))
+                    .isInstanceOf(NotFoundException.class)
+                    .hasMessage("Patron not found");
+        }
+
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    void get_whenNegativeCacheDisabled_thenNotFoundIsNotCached() {
+        cache = new ReferenceDataCache(meterRegistry, true, 2, Duration.ofMinutes(10), false, Duration.ofSeconds(30));
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> cache.get(ReferenceDataCache.BOOKS, PATRON_ID, () -> {
+                upstreamCalls.incrementAndGet();
+                throw new NotFoundException("Book not found");
+            })).isInstanceOf(NotFoundException.class);
+        }
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void invalidate_thenNextGetReloads() {
+        cache.get(ReferenceDataCache.PATRONS, PATRON_ID, () -> fetchPatron(PATRON_ID));
+        cache.invalidate(ReferenceDataCache.PATRONS, PATRON_ID);
+        cache.get(ReferenceDataCache.PATRONS, PATRON_ID, () -> fetchPatron(PATRON_ID));
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void get_whenDisabled_thenAlwaysCallsUpstream() {
+        cache = new ReferenceDataCache(meterRegistry, false, 2, Duration.ofMinutes(10), true, Duration.ofSeconds(30));
+
+        cache.get(ReferenceDataCache.PATRONS, PATRON_ID, () -> fetchPatron(PATRON_ID));
+        cache.get(ReferenceDataCache.PATRONS, PATRON_ID, () -> fetchPatron(PATRON_ID));
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void get_withUnknownCache_thenInvalidInput() {
+        assertThatThrownBy(() -> cache.get("loans", PATRON_ID, () -> fetchPatron(PATRON_ID)))
+                .isInstanceOf(InvalidInputException.class);
+    }
+}
@@ -1,6 +1,7 @@
 package com.leduc.loans.domainclientLayer.books;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leduc.loans.dataAccessLayer.LoanStatus;
 import com.leduc.loans.utils.exceptions.InvalidInputException;
 import com.leduc.loans.utils.exceptions.NotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -321,4 +322,43 @@ class BooksServiceClientTest {
                 .hasMessage("Cannot delete");
     }
 
-}
\ No newline at end of file
+    @Test
+    void patchBookCopiesAvailable_whenDelivered_sendsTheAdjustmentIdAndDropsTheCachedBook() throws Exception {
+        String id = "6fa459ea-ee8a-3ca4-894e-d6f1d55b4f2d";
+        var before = BookModel.builder().bookId(id).title("T").copiesAvailable(1).build();
+        var after = BookModel.builder().bookId(id).title("T").copiesAvailable(0).build();
+
+        server.expect(requestTo(BASE + "/" + id))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(mapper.writeValueAsString(before), MediaType.APPLICATION_JSON));
+        server.expect(requestTo(BASE + "/" + id + "/copiesAvailable?status=CHECKED_OUT"))
+                .andExpect(method(HttpMethod.PATCH))
+                .andExpect(header("Idempotency-Key", "adjustment-1"))
+                .andRespond(withNoContent());
+        server.expect(requestTo(BASE + "/" + id))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(mapper.writeValueAsString(after), MediaType.APPLICATION_JSON));
+
+        assertThat(client.getBookByBookId(id).getCopiesAvailable()).isEqualTo(1);
+        client.patchBookCopiesAvailableByBookId(id, LoanStatus.CHECKED_OUT, "adjustment-1");
+        assertThat(client.getBookByBookId(id).getCopiesAvailable()).isZero();
+
+        server.verify();
+    }
+
+    @Test
+    void patchBookCopiesAvailable_whenNoCopiesLeft_throwsInvalidInputException() {
+        String id = "6fa459ea-ee8a-3ca4-894e-d6f1d55b4f2e";
+
+        server.expect(requestTo(BASE + "/" + id + "/copiesAvailable?status=CHECKED_OUT"))
+                .andExpect(method(HttpMethod.PATCH))
+                .andRespond(withStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"message\":\"No copies available to check out\"}"));
+
+        assertThatThrownBy(() -> client.patchBookCopiesAvailableByBookId(id, LoanStatus.CHECKED_OUT, "adjustment-1"))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessage("No copies available to check out");
+    }
+
+}
@@ -66,7 +66,7 @@ class PatronsServiceClientTest {
         var p = PatronModel.builder()
                 .patronId("123e4567-e89b-12d3-a456-426614174000").firstName("F").lastName("L")
                 .build();
-        server.expect(requestTo(BASE + "/123e4567-e89b-12d3-a456-426614174000"))
+        server.expect(requestTo(BASE + "/123e4567-e89b-12d3-a456-426614174000/summary"))
                 .andExpect(method(HttpMethod.GET))
                 .andRespond(withSuccess(mapper.writeValueAsString(p), MediaType.APPLICATION_JSON));
 
@@ -76,7 +76,7 @@ class PatronsServiceClientTest {
 
     @Test
     void getPatronById_when404_throwsNotFound() {
-        server.expect(requestTo(BASE + "/123e4567-e89b-12d3-a456-426614174001"))
+        server.expect(requestTo(BASE + "/123e4567-e89b-12d3-a456-426614174001/summary"))
                 .andExpect(method(HttpMethod.GET))
                 .andRespond(withStatus(org.springframework.http.HttpStatus.NOT_FOUND));
 
@@ -86,7 +86,7 @@ class PatronsServiceClientTest {
 
     @Test
     void getPatronById_when422_throwsInvalidInput() {
-        server.expect(requestTo(BASE + "/123e4567-e89b-12d3-a456-42661417400"))
+        server.expect(requestTo(BASE + "/123e4567-e89b-12d3-a456-42661417400/summary"))
                 .andExpect(method(HttpMethod.GET))
                 .andRespond(withStatus(org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY));
 
@@ -120,5 +120,4 @@ class PatronsServiceClientTest {
                 .hasMessage("Bad patrons request");
     }
 
-
-}
\ No newline at end of file
+}
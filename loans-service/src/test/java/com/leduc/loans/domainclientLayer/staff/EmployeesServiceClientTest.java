@@ -63,7 +63,7 @@ class EmployeesServiceClientTest {
         var e = EmployeeModel.builder()
                 .employeeId("e8a17e76-1c9f-4a6a-9342-488b7e99f0f7").firstName("X").lastName("Y")
                 .build();
-        server.expect(requestTo(BASE + "/e8a17e76-1c9f-4a6a-9342-488b7e99f0f7"))
+        server.expect(requestTo(BASE + "/e8a17e76-1c9f-4a6a-9342-488b7e99f0f7/ref"))
                 .andExpect(method(HttpMethod.GET))
                 .andRespond(withSuccess(mapper.writeValueAsString(e), MediaType.APPLICATION_JSON));
 
@@ -73,7 +73,7 @@ class EmployeesServiceClientTest {
 
     @Test
     void getEmployeeById_when404_throwsNotFound() {
-        server.expect(requestTo(BASE + "/e8a17e76-1c9f-4a6a-9342-488b7e99f0f0"))
+        server.expect(requestTo(BASE + "/e8a17e76-1c9f-4a6a-9342-488b7e99f0f0/ref"))
                 .andExpect(method(HttpMethod.GET))
                 .andRespond(withStatus(org.springframework.http.HttpStatus.NOT_FOUND));
 
@@ -83,7 +83,7 @@ class EmployeesServiceClientTest {
 
     @Test
     void getEmployeeById_when422_throwsInvalidInput() {
-        server.expect(requestTo(BASE + "/e8a17e76-1c9f-4a6a-9342-488b7e99f0f"))
+        server.expect(requestTo(BASE + "/e8a17e76-1c9f-4a6a-9342-488b7e99f0f/ref"))
                 .andExpect(method(HttpMethod.GET))
                 .andRespond(withStatus(org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY));
 
@@ -116,4 +116,4 @@ class EmployeesServiceClientTest {
                 .isInstanceOf(InvalidInputException.class)
                 .hasMessage("Bad staff query");
     }
-}
\ No newline at end of file
+}
@@ -87,7 +87,7 @@ class LoanControllerIntegrationTest {
         PatronModel p = PatronModel.builder()
                 .patronId(patronId)
                 .firstName("John").lastName("Doe").build();
-        mockServer.expect(requestTo(new URI("http://localhost:7002/api/v1/patrons/" + patronId)))
+        mockServer.expect(requestTo(new URI("http://localhost:7002/api/v1/patrons/" + patronId + "/summary")))
                 .andExpect(method(HttpMethod.GET))
                 .andRespond(withSuccess(mapper.writeValueAsString(p), MediaType.APPLICATION_JSON));
     }
@@ -113,7 +113,7 @@ class LoanControllerIntegrationTest {
                 .firstName("Jane")
                 .lastName("Smith")
                 .build();
-        mockServer.expect(requestTo(new URI("http://localhost:7003/api/v1/staff/" + empId)))
+        mockServer.expect(requestTo(new URI("http://localhost:7003/api/v1/staff/" + empId + "/ref")))
                 .andExpect(method(HttpMethod.GET))
                 .andRespond(withSuccess(mapper.writeValueAsString(e), MediaType.APPLICATION_JSON));
     }
@@ -126,10 +126,10 @@ class LoanControllerIntegrationTest {
                 .lastName("Doe")
                 .build();
 
-        mockServer.expect(requestTo(new URI("http://localhost:7002/api/v1/patrons/" + VALID_PATRON)))
+        mockServer.expect(requestTo(new URI("http://localhost:7002/api/v1/patrons/" + VALID_PATRON + "/summary")))
                 .andExpect(method(HttpMethod.GET))
                 .andRespond(withSuccess(mapper.writeValueAsString(patron), MediaType.APPLICATION_JSON));
-        mockServer.expect(requestTo(new URI("http://localhost:7002/api/v1/patrons/" + VALID_PATRON)))
+        mockServer.expect(requestTo(new URI("http://localhost:7002/api/v1/patrons/" + VALID_PATRON + "/summary")))
                 .andExpect(method(HttpMethod.GET))
                 .andRespond(withSuccess(mapper.writeValueAsString(patron), MediaType.APPLICATION_JSON));
 
@@ -143,7 +143,7 @@ class LoanControllerIntegrationTest {
 
     @Test
     void whenPatronNotFound_thenReturnsNotFound() throws Exception {
-        mockServer.expect(requestTo(new URI("http://localhost:7002/api/v1/patrons/" + NOT_FOUND_PATRON)))
+        mockServer.expect(requestTo(new URI("http://localhost:7002/api/v1/patrons/" + NOT_FOUND_PATRON + "/summary")))
                 .andExpect(method(HttpMethod.GET))
                 .andRespond(withStatus(HttpStatus.NOT_FOUND));
 
@@ -179,7 +179,7 @@ class LoanControllerIntegrationTest {
                 .build();
 
         mockServer.expect(ExpectedCount.twice(),
-                        requestTo(new URI(BASE_URI_PATRONS + "/" + patronModel.getPatronId())))
+                        requestTo(new URI(BASE_URI_PATRONS + "/" + patronModel.getPatronId() + "/summary")))
                 .andExpect(method(HttpMethod.GET))
                 .andRespond(withStatus(HttpStatus.OK)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -192,7 +192,7 @@ class LoanControllerIntegrationTest {
                 .build();
 
         mockServer.expect(ExpectedCount.once(),
-                        requestTo(new URI(BASE_URI_STAFF + "/" + employeeModel.getEmployeeId())))
+                        requestTo(new URI(BASE_URI_STAFF + "/" + employeeModel.getEmployeeId() + "/ref")))
                 .andExpect(method(HttpMethod.GET))
                 .andRespond(withStatus(HttpStatus.OK)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -200,12 +200,6 @@ class LoanControllerIntegrationTest {
 
         LoanRequestModel loanRequestModel = createLoanRequestModel();
 
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(new URI(BASE_URI_BOOKS + "/" + bookModel.getBookId()
-                                + "/copiesAvailable?status=" + loanRequestModel.getStatus().name())))
-                .andExpect(method(HttpMethod.PATCH))
-                .andRespond(withStatus(HttpStatus.OK));
-
         webClient.post()
                 .uri(BASE_URI + "/" + patronModel.getPatronId() + "/loans")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -287,12 +281,6 @@ class LoanControllerIntegrationTest {
                 .status(         LoanStatus.RETURNED)        // changed
                 .build();
 
-        mockServer.expect(ExpectedCount.once(),
-                        requestTo(new URI(BASE_URI_BOOKS + "/" + bookModel.getBookId()
-                                + "/copiesAvailable?status=" + update.getStatus().name())))
-                .andExpect(method(HttpMethod.PATCH))
-                .andRespond(withStatus(HttpStatus.OK));
-
         webClient.put()
                 .uri("/api/v1/patrons/{patronId}/loans/{loanId}",
                         patronModel.getPatronId(),
@@ -305,6 +293,10 @@ class LoanControllerIntegrationTest {
                     assertEquals(update.getReturnDate(), response.getReturnDate());
                     assertEquals(update.getStatus(),     response.getStatus());
                 });
+
+        Loan saved = loanRepository.getLoanByLoanIdentifier_LoanId(loanIdentifier1.getLoanId());
+        assertEquals(1, saved.getPendingCopyAdjustments().size());
+        assertEquals(LoanStatus.RETURNED, saved.getPendingCopyAdjustments().get(0).getStatus());
     }
 
     @Test
@@ -0,0 +1,118 @@
+package com.leduc.loans.utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DownstreamHttpClientConfigTest {
+
+    private HttpServer server;
+    private CountDownLatch slowRequestStarted;
+    private CountDownLatch releaseSlowRequest;
+    private SimpleMeterRegistry meterRegistry;
+    private ConnectionProvider connectionProvider;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void init() throws IOException {
+        slowRequestStarted = new CountDownLatch(1);
+        releaseSlowRequest = new CountDownLatch(1);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/fast", exchange -> respond(exchange, "ok"));
+        server.createContext("/slow", exchange -> {
+            slowRequestStarted.countDown();
+            try {
+                releaseSlowRequest.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, "slow");
+        });
+        server.start();
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.books-service.host", "localhost")
+                .withProperty("app.books-service.port", String.valueOf(server.getAddress().getPort()))
+                .withProperty("app.books-service.max-connections", "1");
+        meterRegistry = new SimpleMeterRegistry();
+        DownstreamHttpClientConfig config = new DownstreamHttpClientConfig();
+        connectionProvider = config.downstreamConnectionProvider(environment, meterRegistry,
+                10, 5, Duration.ofMillis(200), Duration.ofSeconds(30), Duration.ofMinutes(5));
+        restTemplate = config.restTemplate(connectionProvider, Duration.ofSeconds(1), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        releaseSlowRequest.countDown();
+        connectionProvider.disposeLater().block();
+        server.stop(0);
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+
+    private double connections(String state) {
+        return meterRegistry.get("http.client.pool.connections")
+                .tag("downstream", "books-service").tag("state", state).gauge().value();
+    }
+
+    @Test
+    void whenRequestsComplete_thenConnectionIsReusedAndAcquiresAreTimedPerDownstream() {
+        assertEquals("ok", restTemplate.getForObject(url("/fast"), String.class));
+        assertEquals("ok", restTemplate.getForObject(url("/fast"), String.class));
+
+        assertEquals(2, meterRegistry.get("http.client.pool.acquire")
+                .tag("downstream", "books-service").tag("outcome", "acquired").timer().count());
+        assertEquals(0, connections("pending"));
+        assertEquals(1, meterRegistry.get("http.client.pool.total.max").gauge().value());
+    }
+
+    @Test
+    void whenUpstreamPoolIsExhausted_thenWaitIsBoundedAndCountedAsTimeout() throws Exception {
+        CompletableFuture<String> slow = CompletableFuture.supplyAsync(
+                () -> restTemplate.getForObject(url("/slow"), String.class));
+        assertTrue(slowRequestStarted.await(5, TimeUnit.SECONDS));
+        assertEquals(1, connections("leased"));
+
+        long start = System.nanoTime();
+        assertThrows(ResourceAccessException.class, () -> restTemplate.getForObject(url("/fast"), String.class));
+        long waitedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(waitedMs < 2_000, "expected to give up after the pending acquire timeout, waited " + waitedMs + " ms");
+        assertEquals(1, meterRegistry.get("http.client.pool.acquire")
+                .tag("downstream", "books-service").tag("outcome", "timeout").timer().count());
+        assertEquals(1, meterRegistry.get("http.client.pool.max").tag("downstream", "books-service").gauge().value());
+
+        releaseSlowRequest.countDown();
+        assertEquals("slow", slow.get(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,134 @@
+package com.leduc.patrons.businessLayer;
+
+import com.leduc.patrons.dataAccessLayer.PatronRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+// Bloom filter over the normalized emails of every patron. A "no" is definite, so bulk registration
+// only asks the database about the emails the filter says it might have seen. The unique index on
+// email_address stays the source of truth: rows written behind the filter's back (other instances,
+// seed scripts) are caught by the constraint, and the periodic rebuild picks them up and clears
+// the bits left behind by deleted or changed emails.
+@Slf4j
+@Component
+public class KnownEmailFilter {
+
+    private final PatronRepository patronRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile Bits bits;
+
+    public KnownEmailFilter(PatronRepository patronRepository,
+                            @Value("${app.known-email-filter.expected-insertions:1000000}") long expectedInsertions,
+                            @Value("${app.known-email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.patronRepository = patronRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bits = Bits.sizedFor(expectedInsertions, falsePositiveRate);
+    }
+
+    public static String normalize(String email) {
+        return email != null ? email.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.known-email-filter.rebuild-interval:PT1H}",
+            fixedDelayString = "${app.known-email-filter.rebuild-interval:PT1H}")
+    public void rebuild() {
+        long patronCount = patronRepository.count();
+        // leave headroom so registrations between rebuilds do not push the false positive rate up
+        Bits rebuilt = Bits.sizedFor(Math.max(expectedInsertions, patronCount * 2), falsePositiveRate);
+        try (Stream<String> emails = patronRepository.streamAllEmails()) {
+            emails.map(KnownEmailFilter::normalize).forEach(rebuilt::add);
+        }
+        bits = rebuilt;
+        log.debug("Known email filter rebuilt from {} patrons ({} bits, {} hashes)",
+                patronCount, rebuilt.bitCount, rebuilt.hashCount);
+    }
+
+    public void add(String email) {
+        String normalized = normalize(email);
+        if (normalized != null) {
+            bits.add(normalized);
+        }
+    }
+
+    public boolean mightContain(String email) {
+        String normalized = normalize(email);
+        return normalized != null && bits.mightContain(normalized);
+    }
+
+    static final class Bits {
+
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashCount;
+
+        private Bits(long bitCount, int hashCount) {
+            this.words = new AtomicLongArray((int) ((bitCount + 63) / 64));
+            this.bitCount = bitCount;
+            this.hashCount = hashCount;
+        }
+
+        static Bits sizedFor(long expectedInsertions, double falsePositiveRate) {
+            long n = Math.max(1, expectedInsertions);
+            long bitCount = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+            int hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+            return new Bits(bitCount, hashCount);
+        }
+
+        void add(String email) {
+            long h1 = hash(email);
+            long h2 = mix(h1) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long current = words.get(word);
+                while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                    current = words.get(word);
+                }
+            }
+        }
+
+        boolean mightContain(String email) {
+            long h1 = hash(email);
+            long h2 = mix(h1) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // 64-bit FNV-1a over the characters, finished with a mix so short emails still spread
+        private static long hash(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return mix(hash);
+        }
+
+        private static long mix(long value) {
+            long z = value + 0x9e3779b97f4a7c15L;
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
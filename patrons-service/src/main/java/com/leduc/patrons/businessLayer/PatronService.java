@@ -1,16 +1,27 @@
 package com.leduc.patrons.businessLayer;
 
 
+import com.leduc.patrons.presentationLayer.PatronBulkRegistrationResponseModel;
+import com.leduc.patrons.presentationLayer.PatronPageResponseModel;
 import com.leduc.patrons.presentationLayer.PatronRequestModel;
 import com.leduc.patrons.presentationLayer.PatronResponseModel;
+import com.leduc.patrons.presentationLayer.PatronSearchRequestModel;
+import com.leduc.patrons.presentationLayer.PatronSummaryBatchRequestModel;
+import com.leduc.patrons.presentationLayer.PatronSummaryBatchResponseModel;
+import com.leduc.patrons.presentationLayer.PatronSummaryResponseModel;
 
 import java.util.List;
 
+
 public interface PatronService {
 
-    List<PatronResponseModel> getPatrons();
+    PatronPageResponseModel getPatrons(String after, Integer limit);
+    PatronPageResponseModel searchPatrons(PatronSearchRequestModel searchRequest);
     PatronResponseModel getPatronById(String patronId);
+    PatronSummaryResponseModel getPatronSummary(String patronId);
+    PatronSummaryBatchResponseModel getPatronSummaries(PatronSummaryBatchRequestModel batchRequest);
     PatronResponseModel createPatron(PatronRequestModel requestModel);
+    PatronBulkRegistrationResponseModel registerPatrons(List<PatronRequestModel> requestModels);
     PatronResponseModel updatePatron(String patronId, PatronRequestModel requestModel);
     void deletePatron(String patronId);
 }
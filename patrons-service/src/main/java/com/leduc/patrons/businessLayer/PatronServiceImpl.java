@@ -3,35 +3,133 @@ package com.leduc.patrons.businessLayer;
 import com.leduc.patrons.dataAccessLayer.*;
 import com.leduc.patrons.mappingLayer.PatronRequestMapper;
 import com.leduc.patrons.mappingLayer.PatronResponseMapper;
+import com.leduc.patrons.presentationLayer.PatronBulkRegistrationResponseModel;
+import com.leduc.patrons.presentationLayer.PatronPageResponseModel;
 import com.leduc.patrons.presentationLayer.PatronRequestModel;
 import com.leduc.patrons.presentationLayer.PatronResponseModel;
+import com.leduc.patrons.presentationLayer.PatronSearchRequestModel;
+import com.leduc.patrons.presentationLayer.PatronSummaryBatchRequestModel;
+import com.leduc.patrons.presentationLayer.PatronSummaryBatchResponseModel;
+import com.leduc.patrons.presentationLayer.PatronSummaryResponseModel;
 import com.leduc.patrons.utils.exceptions.DuplicatePatronException;
+import com.leduc.patrons.utils.exceptions.InvalidInputException;
 import com.leduc.patrons.utils.exceptions.NotFoundException;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class PatronServiceImpl implements PatronService {
 
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 500;
+    static final int MAX_BATCH_SIZE = 500;
+    static final String EMAIL_CONSTRAINT = "uk_patrons_email";
+
     private final PatronRepository patronRepository;
     private final PatronRequestMapper patronRequestMapper;
     private final PatronResponseMapper patronResponseMapper;
+    private final KnownEmailFilter knownEmailFilter;
+    private final TransactionTemplate newTransaction;
 
     public PatronServiceImpl(PatronRepository patronRepository,
                              PatronRequestMapper patronRequestMapper,
-                             PatronResponseMapper patronResponseMapper) {
+                             PatronResponseMapper patronResponseMapper,
+                             KnownEmailFilter knownEmailFilter,
+                             PlatformTransactionManager transactionManager) {
         this.patronRepository = patronRepository;
         this.patronRequestMapper = patronRequestMapper;
         this.patronResponseMapper = patronResponseMapper;
+        this.knownEmailFilter = knownEmailFilter;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     @Override
-    public List<PatronResponseModel> getPatrons() {
-        List<Patron> patrons = patronRepository.findAll();
+    public PatronPageResponseModel getPatrons(String after, Integer limit) {
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1) {
+            throw new InvalidInputException("Page limit must be at least 1");
+        }
+        pageSize = Math.min(pageSize, MAX_PAGE_SIZE);
 
-        return patronResponseMapper.toResponseModelList(patrons);
+        // one extra id tells us whether another page follows
+        List<String> patronIds = patronRepository.findPatronIdsAfter(after != null ? after : "", Limit.of(pageSize + 1));
+        String nextCursor = null;
+        if (patronIds.size() > pageSize) {
+            patronIds = patronIds.subList(0, pageSize);
+            nextCursor = patronIds.get(pageSize - 1);
+        }
+        if (patronIds.isEmpty()) {
+            return new PatronPageResponseModel(List.of(), null);
+        }
+
+        List<Patron> patrons = patronRepository.findAllByPatronIdentifier_PatronIdInOrderByPatronIdentifier_PatronId(patronIds);
+        return new PatronPageResponseModel(patronResponseMapper.toResponseModelList(patrons), nextCursor);
+    }
+
+    @Override
+    public PatronPageResponseModel searchPatrons(PatronSearchRequestModel searchRequest) {
+        PatronSearchRequestModel request = searchRequest != null ? searchRequest : new PatronSearchRequestModel();
+        int pageSize = request.getLimit() != null ? request.getLimit() : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1) {
+            throw new InvalidInputException("Page limit must be at least 1");
+        }
+        pageSize = Math.min(pageSize, MAX_PAGE_SIZE);
+
+        // keyset on patron_id with one extra row standing in for "has more", so no count query is ever run
+        Specification<Patron> filter = Specification.where(PatronSpecifications.patronIdAfter(request.getAfter()))
+                .and(PatronSpecifications.firstNameStartsWith(trimToNull(request.getFirstName())))
+                .and(PatronSpecifications.lastNameStartsWith(trimToNull(request.getLastName())))
+                .and(PatronSpecifications.inCity(trimToNull(request.getCity())))
+                .and(PatronSpecifications.inProvince(trimToNull(request.getProvince())))
+                .and(PatronSpecifications.hasMemberShipType(
+                        parseFilter(MemberShipType::valueOf, request.getMemberShipType(), "memberShipType")));
+
+        List<String> patronIds = patronRepository.findPatronIds(filter, pageSize + 1);
+        String nextCursor = null;
+        if (patronIds.size() > pageSize) {
+            patronIds = patronIds.subList(0, pageSize);
+            nextCursor = patronIds.get(pageSize - 1);
+        }
+        if (patronIds.isEmpty()) {
+            return new PatronPageResponseModel(List.of(), null);
+        }
+
+        List<Patron> patrons = patronRepository.findAllByPatronIdentifier_PatronIdInOrderByPatronIdentifier_PatronId(patronIds);
+        return new PatronPageResponseModel(patronResponseMapper.toResponseModelList(patrons), nextCursor);
+    }
+
+    private static String trimToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static <E extends Enum<E>> E parseFilter(Function<String, E> parser, String value, String name) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return parser.apply(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidInputException("Unknown " + name + ": " + value);
+        }
     }
 
     @Override
@@ -46,25 +144,103 @@ public class PatronServiceImpl implements PatronService {
     }
 
     @Override
-    public PatronResponseModel createPatron(PatronRequestModel requestModel) {
-        // Validate request model
+    public PatronSummaryResponseModel getPatronSummary(String patronId) {
+        PatronSummaryView patron = patronRepository.findPatronSummary(patronId);
+        if (patron == null) {
+            throw new NotFoundException("Patron not found: " + patronId);
+        }
+        return patronResponseMapper.toSummaryResponseModel(patron);
+    }
 
-        if (requestModel.getEmail() != null && patronRepository.findByEmail(requestModel.getEmail()) != null) {
-            throw new DuplicatePatronException("A patron with email " + requestModel.getEmail() + " already exists");
+    @Override
+    public PatronSummaryBatchResponseModel getPatronSummaries(PatronSummaryBatchRequestModel batchRequest) {
+        if (batchRequest == null || batchRequest.getPatronIds() == null) {
+            throw new InvalidInputException("Batch request must contain patronIds");
+        }
+        Set<String> patronIds = batchRequest.getPatronIds().stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (patronIds.isEmpty()) {
+            throw new InvalidInputException("Batch request must contain patronIds");
+        }
+        if (patronIds.size() > MAX_BATCH_SIZE) {
+            throw new InvalidInputException("Batch request cannot contain more than " + MAX_BATCH_SIZE + " ids");
         }
 
-        Patron patron = patronRequestMapper.toEntity(
-                requestModel,
-                new PatronIdentifier(),
-                new PatronPhoneNumber()
-        );
+        List<PatronSummaryView> patrons = patronRepository.findPatronSummaries(patronIds);
+        Set<String> foundIds = patrons.stream()
+                .map(PatronSummaryView::getPatronId)
+                .collect(Collectors.toSet());
+        List<String> missingPatronIds = patronIds.stream()
+                .filter(patronId -> !foundIds.contains(patronId))
+                .toList();
+        return new PatronSummaryBatchResponseModel(patronResponseMapper.toSummaryResponseModelList(patrons), missingPatronIds);
+    }
 
-        patron = patronRepository.save(patron);
+    @Override
+    public PatronResponseModel createPatron(PatronRequestModel requestModel) {
+        Patron patron = saveUnique(newPatron(requestModel));
+        knownEmailFilter.add(patron.getEmail());
 
         return patronResponseMapper.toResponseModel(patron);
     }
 
     @Override
+    public PatronBulkRegistrationResponseModel registerPatrons(List<PatronRequestModel> requestModels) {
+        if (requestModels == null || requestModels.isEmpty()) {
+            throw new InvalidInputException("Bulk registration must contain at least one patron");
+        }
+        if (requestModels.size() > MAX_BATCH_SIZE) {
+            throw new InvalidInputException("Bulk registration cannot contain more than " + MAX_BATCH_SIZE + " patrons");
+        }
+
+        // keyed by normalized email; the requests are kept rather than entities so the fallback can start over
+        Map<String, PatronRequestModel> candidates = new LinkedHashMap<>();
+        List<String> duplicateEmails = new ArrayList<>();
+        for (PatronRequestModel requestModel : requestModels) {
+            if (requestModel == null || requestModel.getEmail() == null || requestModel.getEmail().isBlank()) {
+                throw new InvalidInputException("Every patron in a bulk registration needs an email");
+            }
+            String email = KnownEmailFilter.normalize(requestModel.getEmail());
+            if (candidates.putIfAbsent(email, requestModel) != null) {
+                duplicateEmails.add(email);
+            }
+        }
+
+        // only the emails the filter might have seen need a trip to the database
+        List<String> maybeKnown = candidates.keySet().stream()
+                .filter(knownEmailFilter::mightContain)
+                .toList();
+        if (!maybeKnown.isEmpty()) {
+            for (String email : patronRepository.findExistingEmails(maybeKnown)) {
+                candidates.remove(email);
+                duplicateEmails.add(email);
+            }
+        }
+
+        List<Patron> registered;
+        try {
+            registered = patronRepository.saveAll(candidates.values().stream().map(this::newPatron).toList());
+        } catch (DataIntegrityViolationException ex) {
+            // an email the filter had not seen yet; insert one at a time so the rest still go through. The
+            // entities from the failed batch may carry ids and collections of the rolled back session, so
+            // every patron is built afresh from its request and saved in a transaction of its own
+            registered = new ArrayList<>();
+            for (Map.Entry<String, PatronRequestModel> candidate : candidates.entrySet()) {
+                try {
+                    registered.add(newTransaction.execute(status -> saveUnique(newPatron(candidate.getValue()))));
+                } catch (DuplicatePatronException duplicate) {
+                    duplicateEmails.add(candidate.getKey());
+                }
+            }
+        }
+        registered.forEach(patron -> knownEmailFilter.add(patron.getEmail()));
+
+        return new PatronBulkRegistrationResponseModel(patronResponseMapper.toResponseModelList(registered), duplicateEmails);
+    }
+
+    @Override
+    @Transactional
     public PatronResponseModel updatePatron(String patronId, PatronRequestModel requestModel) {
         // Retrieve the existing patron by ID
         Patron existingPatron = patronRepository.findPatronsByPatronIdentifier_PatronId(patronId);
@@ -77,7 +253,7 @@ public class PatronServiceImpl implements PatronService {
 
             existingPatron.setLastName(requestModel.getLastName());
 
-            existingPatron.setEmail(requestModel.getEmail());
+            existingPatron.setEmail(KnownEmailFilter.normalize(requestModel.getEmail()));
 
             existingPatron.setPassword(requestModel.getPassword());
 
@@ -95,14 +271,40 @@ public class PatronServiceImpl implements PatronService {
 
             existingPatron.setPhoneNumbers(requestModel.getPhoneNumbers());
 
-        // Save the updated patron
-        Patron updatedPatron = patronRepository.save(existingPatron);
+        // the patron is managed, so dirty checking writes only what changed: no UPDATE when every field
+        // matches, and one delete or insert per phone that was removed or added
+        try {
+            patronRepository.flush();
+        } catch (DataIntegrityViolationException ex) {
+            throw duplicateEmailOr(ex, existingPatron.getEmail());
+        }
+        knownEmailFilter.add(existingPatron.getEmail());
 
-        return patronResponseMapper.toResponseModel(updatedPatron);
+        return patronResponseMapper.toResponseModel(existingPatron);
     }
 
+    private Patron newPatron(PatronRequestModel requestModel) {
+        Patron patron = patronRequestMapper.toEntity(requestModel, new PatronIdentifier(), new PatronPhoneNumber());
+        patron.setEmail(KnownEmailFilter.normalize(patron.getEmail()));
+        return patron;
+    }
 
+    private Patron saveUnique(Patron patron) {
+        try {
+            return patronRepository.save(patron);
+        } catch (DataIntegrityViolationException ex) {
+            throw duplicateEmailOr(ex, patron.getEmail());
+        }
+    }
 
+    // the unique index decides; any other violation (a missing email, say) is passed on untouched
+    private RuntimeException duplicateEmailOr(DataIntegrityViolationException ex, String email) {
+        String cause = String.valueOf(ex.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+        if (cause.contains(EMAIL_CONSTRAINT)) {
+            return new DuplicatePatronException("A patron with email " + email + " already exists");
+        }
+        return ex;
+    }
 
     @Override
     public void deletePatron(String patronId) {
@@ -5,11 +5,14 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 
 @Entity
-@Table(name = "patrons")
+@Table(name = "patrons", uniqueConstraints = @UniqueConstraint(name = "uk_patrons_email", columnNames = "email_address"))
 @Data
 @NoArgsConstructor
 public class Patron {
@@ -31,9 +34,11 @@ public class Patron {
 
     private String password;
 
+    // a set rather than a bag, so Hibernate can delete and insert single rows instead of rewriting them all
     @ElementCollection
     @CollectionTable(name = "patron_phonenumbers", joinColumns = @JoinColumn(name = "patron_id"))
-    private List<PatronPhoneNumber> phoneNumbers;
+    @OrderBy("type, number")
+    private Set<PatronPhoneNumber> phoneNumbers = new LinkedHashSet<>();
 
     @Embedded
     private PatronAddress patronAddress;
@@ -50,8 +55,19 @@ public class Patron {
         this.lastName = lastName;
         this.email = email;
         this.password = password;
-        this.phoneNumbers = phoneNumbersList;
+        setPhoneNumbers(phoneNumbersList);
         this.patronAddress = patronAddress;
         this.memberShipType = memberShipType;
     }
+
+    public List<PatronPhoneNumber> getPhoneNumbers() {
+        return new ArrayList<>(phoneNumbers);
+    }
+
+    // applies only the difference, so unchanged phones are neither deleted nor re-inserted
+    public void setPhoneNumbers(List<PatronPhoneNumber> phoneNumbers) {
+        Set<PatronPhoneNumber> wanted = phoneNumbers != null ? new LinkedHashSet<>(phoneNumbers) : Set.of();
+        this.phoneNumbers.retainAll(wanted);
+        this.phoneNumbers.addAll(wanted);
+    }
 }
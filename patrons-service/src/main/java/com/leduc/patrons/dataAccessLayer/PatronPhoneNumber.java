@@ -1,20 +1,26 @@
 package com.leduc.patrons.dataAccessLayer;
 
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.antlr.v4.runtime.misc.NotNull;
 
 @Embeddable
 @Getter
+@EqualsAndHashCode
 @NoArgsConstructor
 public class PatronPhoneNumber {
 
+    // a set element needs a non-null column, otherwise Hibernate cannot target single rows and rewrites them all
     @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
     private PhoneType type;
+    @Column(nullable = false)
     private String number;
 
     public PatronPhoneNumber(@NotNull PhoneType type, @NotNull String number) {
@@ -1,9 +1,42 @@
 package com.leduc.patrons.dataAccessLayer;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
-public interface PatronRepository extends JpaRepository<Patron, Integer> {
+
+public interface PatronRepository extends JpaRepository<Patron, Integer>, JpaSpecificationExecutor<Patron>, PatronRepositoryCustom {
+    @EntityGraph(attributePaths = "phoneNumbers")
     Patron findPatronsByPatronIdentifier_PatronId(String patronIdentifier);
     Patron findByEmail(String email);
+
+    @Query("SELECT p.email FROM Patron p WHERE p.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT p.email FROM Patron p")
+    Stream<String> streamAllEmails();
+
+    // keyset page over the unique patron_id index; the patrons themselves are loaded separately so the
+    // phone number join does not interfere with the row limit
+    @Query("SELECT p.patronIdentifier.patronId FROM Patron p " +
+            "WHERE p.patronIdentifier.patronId > :after ORDER BY p.patronIdentifier.patronId")
+    List<String> findPatronIdsAfter(@Param("after") String after, Limit limit);
+
+    @EntityGraph(attributePaths = "phoneNumbers")
+    List<Patron> findAllByPatronIdentifier_PatronIdInOrderByPatronIdentifier_PatronId(Collection<String> patronIds);
+
+    @Query("SELECT p.patronIdentifier.patronId AS patronId, p.firstName AS firstName, p.lastName AS lastName, " +
+            "p.memberShipType AS memberShipType FROM Patron p WHERE p.patronIdentifier.patronId = :patronId")
+    PatronSummaryView findPatronSummary(@Param("patronId") String patronId);
+
+    @Query("SELECT p.patronIdentifier.patronId AS patronId, p.firstName AS firstName, p.lastName AS lastName, " +
+            "p.memberShipType AS memberShipType FROM Patron p WHERE p.patronIdentifier.patronId IN :patronIds")
+    List<PatronSummaryView> findPatronSummaries(@Param("patronIds") Collection<String> patronIds);
 }
@@ -0,0 +1,12 @@
+package com.leduc.patrons.dataAccessLayer;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface PatronRepositoryCustom {
+
+    // the patron ids matching the filter in patron_id order, selected on their own so a search page never
+    // hydrates patrons it only needs the keys of
+    List<String> findPatronIds(Specification<Patron> filter, int limit);
+}
@@ -0,0 +1,34 @@
+package com.leduc.patrons.dataAccessLayer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public class PatronRepositoryCustomImpl implements PatronRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    public PatronRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<String> findPatronIds(Specification<Patron> filter, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<String> query = cb.createQuery(String.class);
+        Root<Patron> root = query.from(Patron.class);
+        Path<String> patronId = root.get("patronIdentifier").get("patronId");
+        Predicate predicate = filter != null ? filter.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(patronId).orderBy(cb.asc(patronId));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,44 @@
+package com.leduc.patrons.dataAccessLayer;
+
+import org.springframework.data.jpa.domain.Specification;
+
+public final class PatronSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private PatronSpecifications() {
+    }
+
+    // a null argument yields a null specification, which Specification.and() skips
+    public static Specification<Patron> patronIdAfter(String patronId) {
+        return patronId == null ? null
+                : (root, query, cb) -> cb.greaterThan(root.get("patronIdentifier").get("patronId"), patronId);
+    }
+
+    // a plain "starts with" LIKE, so the column index can still be range-scanned
+    public static Specification<Patron> firstNameStartsWith(String prefix) {
+        return prefix == null ? null
+                : (root, query, cb) -> cb.like(root.get("firstName"), escapeLike(prefix) + "%", LIKE_ESCAPE);
+    }
+
+    public static Specification<Patron> lastNameStartsWith(String prefix) {
+        return prefix == null ? null
+                : (root, query, cb) -> cb.like(root.get("lastName"), escapeLike(prefix) + "%", LIKE_ESCAPE);
+    }
+
+    public static Specification<Patron> inCity(String city) {
+        return city == null ? null : (root, query, cb) -> cb.equal(root.get("patronAddress").get("city"), city);
+    }
+
+    public static Specification<Patron> inProvince(String province) {
+        return province == null ? null : (root, query, cb) -> cb.equal(root.get("patronAddress").get("province"), province);
+    }
+
+    public static Specification<Patron> hasMemberShipType(MemberShipType memberShipType) {
+        return memberShipType == null ? null : (root, query, cb) -> cb.equal(root.get("memberShipType"), memberShipType);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,13 @@
+package com.leduc.patrons.dataAccessLayer;
+
+// every column is in idx_patrons_summary, so these lookups never read the table rows
+public interface PatronSummaryView {
+
+    String getPatronId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    MemberShipType getMemberShipType();
+}
@@ -1,8 +1,10 @@
 package com.leduc.patrons.mappingLayer;
 
 import com.leduc.patrons.dataAccessLayer.Patron;
+import com.leduc.patrons.dataAccessLayer.PatronSummaryView;
 import com.leduc.patrons.presentationLayer.PatronController;
 import com.leduc.patrons.presentationLayer.PatronResponseModel;
+import com.leduc.patrons.presentationLayer.PatronSummaryResponseModel;
 import org.mapstruct.*;
 import org.springframework.hateoas.Link;
 
@@ -31,4 +33,8 @@ public interface PatronResponseMapper {
 
     List<PatronResponseModel> toResponseModelList(List<Patron> patrons);
 
+    PatronSummaryResponseModel toSummaryResponseModel(PatronSummaryView patron);
+
+    List<PatronSummaryResponseModel> toSummaryResponseModelList(List<PatronSummaryView> patrons);
+
 }
@@ -13,6 +13,8 @@ import java.util.List;
 @RequestMapping("/api/v1/patrons")
 public class PatronController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final PatronService patronService;
 
     public PatronController(PatronService patronService) {
@@ -20,8 +22,25 @@ public class PatronController {
     }
 
     @GetMapping
-    public List<PatronResponseModel> getAllPatrons() {
-        return patronService.getPatrons();
+    public ResponseEntity<List<PatronResponseModel>> getAllPatrons(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        PatronPageResponseModel page = patronService.getPatrons(after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getPatrons());
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<PatronResponseModel>> searchPatrons(PatronSearchRequestModel searchRequest) {
+        PatronPageResponseModel page = patronService.searchPatrons(searchRequest);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getPatrons());
     }
 
     @GetMapping("/{patronId}")
@@ -32,6 +51,20 @@ public class PatronController {
         return ResponseEntity.ok(patronService.getPatronById(patronId));
     }
 
+    @GetMapping("/{patronId}/summary")
+    public ResponseEntity<PatronSummaryResponseModel> getPatronSummary(@PathVariable String patronId) {
+        if (patronId == null || patronId.length() != 36) {
+            throw new InvalidInputException("Patron ID must be exactly 36 characters long");
+        }
+        return ResponseEntity.ok(patronService.getPatronSummary(patronId));
+    }
+
+    @PostMapping("/summaries")
+    public ResponseEntity<PatronSummaryBatchResponseModel> getPatronSummaries(
+            @RequestBody PatronSummaryBatchRequestModel batchRequest) {
+        return ResponseEntity.ok(patronService.getPatronSummaries(batchRequest));
+    }
+
     @PostMapping
     public ResponseEntity<PatronResponseModel> createPatron(@RequestBody PatronRequestModel patronRequestModel) {
         if (patronRequestModel == null){
@@ -41,6 +74,12 @@ public class PatronController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdPatron);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<PatronBulkRegistrationResponseModel> registerPatrons(
+            @RequestBody List<PatronRequestModel> patronRequestModels) {
+        return ResponseEntity.ok(patronService.registerPatrons(patronRequestModels));
+    }
+
     @PutMapping("/{patronId}")
     public ResponseEntity<PatronResponseModel> updatePatron(
             @PathVariable String patronId,
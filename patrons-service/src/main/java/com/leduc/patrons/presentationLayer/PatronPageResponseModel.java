@@ -0,0 +1,18 @@
+package com.leduc.patrons.presentationLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PatronPageResponseModel {
+
+    List<PatronResponseModel> patrons;
+    String nextCursor;
+}
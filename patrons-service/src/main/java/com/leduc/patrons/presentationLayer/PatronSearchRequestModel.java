@@ -0,0 +1,21 @@
+package com.leduc.patrons.presentationLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PatronSearchRequestModel {
+
+    String after;
+    Integer limit;
+    String firstName;
+    String lastName;
+    String city;
+    String province;
+    String memberShipType;
+}
@@ -0,0 +1,17 @@
+package com.leduc.patrons.presentationLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PatronSummaryResponseModel {
+    String patronId;
+    String firstName;
+    String lastName;
+    String memberShipType;
+}
@@ -16,7 +16,19 @@ create table if not exists patrons
 
 CREATE TABLE IF NOT EXISTS patron_phonenumbers (
                                                    patron_id INTEGER,
-                                                   type VARCHAR(50),
-    number VARCHAR(50)
+                                                   type VARCHAR(50) NOT NULL,
+    number VARCHAR(50) NOT NULL
 
-    );
\ No newline at end of file
+    );
+
+CREATE UNIQUE INDEX uk_patrons_email ON patrons (email_address);
+CREATE INDEX idx_patron_phonenumbers_patron ON patron_phonenumbers (patron_id);
+CREATE INDEX idx_patrons_summary ON patrons (patron_id, first_name, last_name, member_ship_type);
+
+-- patron search: each filter leads an index that ends in patron_id, so equality filters walk the
+-- keyset in order and name prefixes become a range scan
+CREATE INDEX idx_patrons_last_name ON patrons (last_name, first_name, patron_id);
+CREATE INDEX idx_patrons_first_name ON patrons (first_name, patron_id);
+CREATE INDEX idx_patrons_city ON patrons (city, member_ship_type, patron_id);
+CREATE INDEX idx_patrons_province ON patrons (province, city, patron_id);
+CREATE INDEX idx_patrons_membership ON patrons (member_ship_type, patron_id);
@@ -0,0 +1,84 @@
+package com.leduc.patrons.businessLayer;
+
+import com.leduc.patrons.dataAccessLayer.PatronRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class KnownEmailFilterTest {
+
+    private PatronRepository patronRepository;
+
+    @BeforeEach
+    void init() {
+        patronRepository = mock(PatronRepository.class);
+    }
+
+    @Test
+    void rebuild_thenKnowsEveryPatronEmailWhateverTheCase() {
+        when(patronRepository.count()).thenReturn(2L);
+        when(patronRepository.streamAllEmails()).thenReturn(Stream.of("john.doe@example.com", " Jane.Smith@Example.com "));
+        KnownEmailFilter filter = new KnownEmailFilter(patronRepository, 1000, 0.01);
+
+        filter.rebuild();
+
+        assertThat(filter.mightContain("JOHN.DOE@example.com")).isTrue();
+        assertThat(filter.mightContain("jane.smith@example.com")).isTrue();
+        assertThat(filter.mightContain("nobody@example.com")).isFalse();
+        assertThat(filter.mightContain(null)).isFalse();
+    }
+
+    @Test
+    void add_thenVisibleWithoutRebuild() {
+        KnownEmailFilter filter = new KnownEmailFilter(patronRepository, 1000, 0.01);
+
+        filter.add("New.Patron@Example.com");
+
+        assertThat(filter.mightContain("new.patron@example.com")).isTrue();
+        verifyNoInteractions(patronRepository);
+    }
+
+    @Test
+    void rebuild_thenForgetsEmailsThatNoLongerExist() {
+        KnownEmailFilter filter = new KnownEmailFilter(patronRepository, 1000, 0.01);
+        filter.add("deleted@example.com");
+        when(patronRepository.streamAllEmails()).thenReturn(Stream.empty());
+
+        filter.rebuild();
+
+        assertThat(filter.mightContain("deleted@example.com")).isFalse();
+    }
+
+    @Test
+    void rebuild_thenNoFalseNegativesAndFalsePositivesNearTarget() {
+        int patronCount = 20_000;
+        int probes = 100_000;
+        when(patronRepository.count()).thenReturn((long) patronCount);
+        when(patronRepository.streamAllEmails())
+                .thenReturn(IntStream.range(0, patronCount).mapToObj(i -> "patron" + i + "@example.com"));
+        KnownEmailFilter filter = new KnownEmailFilter(patronRepository, patronCount, 0.01);
+
+        filter.rebuild();
+
+        int falseNegatives = 0;
+        for (int i = 0; i < patronCount; i++) {
+            if (!filter.mightContain("patron" + i + "@example.com")) {
+                falseNegatives++;
+            }
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("newcomer" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falseNegatives).isZero();
+        assertThat((double) falsePositives / probes).isLessThan(0.015);
+    }
+}
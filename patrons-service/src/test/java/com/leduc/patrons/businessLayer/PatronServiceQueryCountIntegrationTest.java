@@ -0,0 +1,244 @@
+package com.leduc.patrons.businessLayer;
+
+import com.leduc.patrons.dataAccessLayer.MemberShipType;
+import com.leduc.patrons.dataAccessLayer.Patron;
+import com.leduc.patrons.dataAccessLayer.PatronAddress;
+import com.leduc.patrons.dataAccessLayer.PatronPhoneNumber;
+import com.leduc.patrons.dataAccessLayer.PatronRepository;
+import com.leduc.patrons.dataAccessLayer.PhoneType;
+import com.leduc.patrons.presentationLayer.PatronBulkRegistrationResponseModel;
+import com.leduc.patrons.presentationLayer.PatronPageResponseModel;
+import com.leduc.patrons.presentationLayer.PatronRequestModel;
+import com.leduc.patrons.presentationLayer.PatronResponseModel;
+import com.leduc.patrons.presentationLayer.PatronSearchRequestModel;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@Sql({"/data-h2.sql"})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class PatronServiceQueryCountIntegrationTest {
+
+    @Autowired
+    private PatronService patronService;
+
+    @Autowired
+    private PatronRepository patronRepository;
+
+    @Autowired
+    private KnownEmailFilter knownEmailFilter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private static final String JOHN_DOE_ID = "123e4567-e89b-12d3-a456-426614174000";
+
+    @BeforeEach
+    public void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void whenGetPatrons_thenPatronsAndPhoneNumbersLoadInTwoStatements() {
+        statistics.clear();
+
+        PatronPageResponseModel page = patronService.getPatrons(null, null);
+
+        assertThat(page.getPatrons()).hasSize(10);
+        assertThat(page.getPatrons().get(0).getPhoneNumbers()).hasSize(2);
+        // the page of ids, then the patrons joined to their phone numbers
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    public void whenSearchingPatrons_thenNoCountQueryRunsAlongsideThePage() {
+        statistics.clear();
+
+        PatronPageResponseModel page = patronService.searchPatrons(PatronSearchRequestModel.builder()
+                .province("Alberta")
+                .limit(1)
+                .build());
+
+        assertThat(page.getPatrons()).hasSize(1);
+        assertThat(page.getNextCursor()).isEqualTo("423e4567-e89b-12d3-a456-426614174003");
+        // the filtered page plus one look-ahead row, then the patrons joined to their phone numbers
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        // the filter query selects ids only, so the look-ahead patron is never loaded
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void whenWalkingAllPagesOfLargeDirectory_thenStatementCountStaysConstantPerPage() {
+        int patronCount = 2000;
+        List<Patron> patrons = new ArrayList<>(patronCount);
+        for (int i = 0; i < patronCount; i++) {
+            patrons.add(new Patron("First" + i, "Last" + i, "patron" + i + "@example.com", "secret",
+                    List.of(new PatronPhoneNumber(PhoneType.MOBILE, "514-555-" + i),
+                            new PatronPhoneNumber(PhoneType.HOME, "438-555-" + i)),
+                    new PatronAddress("123 Test St", "TestCity", "TestProvince", "TestCountry", "T1T 1T1"),
+                    MemberShipType.REGULAR));
+        }
+        patronRepository.saveAll(patrons);
+
+        patronService.getPatrons(null, 500);
+        statistics.clear();
+
+        int pages = 0;
+        int loaded = 0;
+        String cursor = null;
+        do {
+            PatronPageResponseModel page = patronService.getPatrons(cursor, 500);
+            assertThat(page.getPatrons()).allSatisfy(patron -> assertThat(patron.getPhoneNumbers()).isNotEmpty());
+            loaded += page.getPatrons().size();
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(loaded).isEqualTo(patronCount + 10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L * pages);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    private List<PatronRequestModel> bulkRequests(String prefix, int count) {
+        List<PatronRequestModel> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requests.add(PatronRequestModel.builder()
+                    .firstName("First" + i).lastName("Last" + i)
+                    .email(prefix + i + "@example.com").password("secret")
+                    .memberShipType("REGULAR").phoneNumbers(List.of())
+                    .streetAddress("123 Test St").city("TestCity").province("TestProvince")
+                    .country("TestCountry").postalCode("T1T 1T1")
+                    .build());
+        }
+        return requests;
+    }
+
+    @Test
+    public void whenBulkRegisteringUnknownEmails_thenNoDuplicateLookupsAreQueried() {
+        knownEmailFilter.rebuild();
+        statistics.clear();
+
+        PatronBulkRegistrationResponseModel response = patronService.registerPatrons(bulkRequests("fresh", 200));
+
+        assertThat(response.getRegistered()).hasSize(200);
+        assertThat(response.getDuplicateEmails()).isEmpty();
+        // false positives at 200 emails are possible but rare, and each would cost at most the one IN query
+        assertThat(statistics.getQueryExecutionCount()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    public void whenBulkRegisteringKnownEmails_thenOneLookupResolvesThem() {
+        knownEmailFilter.rebuild();
+        List<PatronRequestModel> requests = bulkRequests("fresh", 50);
+        requests.get(10).setEmail("John.Doe@example.com");
+        requests.get(20).setEmail("jane.smith@example.com");
+        statistics.clear();
+
+        PatronBulkRegistrationResponseModel response = patronService.registerPatrons(requests);
+
+        assertThat(response.getRegistered()).hasSize(48);
+        assertThat(response.getDuplicateEmails()).containsExactlyInAnyOrder("john.doe@example.com", "jane.smith@example.com");
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void whenBulkHitsAnEmailTheFilterHasNotSeen_thenTheOthersAreRegisteredWithTheirPhones() {
+        knownEmailFilter.rebuild();
+        // saved behind the filter's back, so only the unique index knows about it
+        patronRepository.save(new Patron("Sneaky", "Pete", "sneaky@example.com", "secret", List.of(),
+                new PatronAddress("1 Side St", "TestCity", "TestProvince", "TestCountry", "T1T 1T1"),
+                MemberShipType.REGULAR));
+        List<PatronRequestModel> requests = bulkRequests("fresh", 5);
+        requests.forEach(request -> request.setPhoneNumbers(List.of(new PatronPhoneNumber(PhoneType.MOBILE, "514-555-0101"))));
+        requests.get(2).setEmail("Sneaky@example.com");
+
+        PatronBulkRegistrationResponseModel response = patronService.registerPatrons(requests);
+
+        assertThat(response.getDuplicateEmails()).containsExactly("sneaky@example.com");
+        assertThat(response.getRegistered()).hasSize(4);
+        for (PatronResponseModel registered : response.getRegistered()) {
+            assertThat(patronService.getPatronById(registered.getPatronId()).getPhoneNumbers())
+                    .extracting(PatronPhoneNumber::getNumber)
+                    .containsExactly("514-555-0101");
+        }
+        assertThat(patronRepository.count()).isEqualTo(10 + 1 + 4);
+    }
+
+    private PatronRequestModel unchangedRequest(PatronResponseModel patron) {
+        return PatronRequestModel.builder()
+                .firstName(patron.getFirstName()).lastName(patron.getLastName())
+                .email(patron.getEmail()).password(patron.getPassword())
+                .memberShipType(patron.getMemberShipType())
+                .phoneNumbers(patron.getPhoneNumbers())
+                .streetAddress(patron.getStreetAddress()).city(patron.getCity()).province(patron.getProvince())
+                .country(patron.getCountry()).postalCode(patron.getPostalCode())
+                .build();
+    }
+
+    @Test
+    public void whenUpdatingPatronWithoutChanges_thenNothingIsWritten() {
+        PatronRequestModel request = unchangedRequest(patronService.getPatronById(JOHN_DOE_ID));
+        statistics.clear();
+
+        patronService.updatePatron(JOHN_DOE_ID, request);
+
+        // the patron and its phones are read in one statement, and nothing is written back
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(statistics.getCollectionUpdateCount()).isZero();
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+    }
+
+    @Test
+    public void whenReplacingOnePhoneNumber_thenOnlyThatRowIsDeletedAndInserted() {
+        PatronRequestModel request = unchangedRequest(patronService.getPatronById(JOHN_DOE_ID));
+        List<PatronPhoneNumber> phoneNumbers = new ArrayList<>(request.getPhoneNumbers());
+        phoneNumbers.removeIf(phone -> phone.getType() == PhoneType.HOME);
+        phoneNumbers.add(new PatronPhoneNumber(PhoneType.WORK, "514-555-0000"));
+        request.setPhoneNumbers(phoneNumbers);
+        statistics.clear();
+
+        PatronResponseModel updated = patronService.updatePatron(JOHN_DOE_ID, request);
+
+        assertThat(updated.getPhoneNumbers()).extracting(PatronPhoneNumber::getNumber)
+                .containsExactlyInAnyOrder("514-555-1234", "514-555-0000");
+        // the read, one delete for the old home phone and one insert for the work phone
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+        assertThat(statistics.getCollectionRemoveCount()).isZero();
+    }
+
+    @Test
+    public void whenChangingOnlyTheName_thenOneUpdateAndPhonesAreLeftAlone() {
+        PatronRequestModel request = unchangedRequest(patronService.getPatronById(JOHN_DOE_ID));
+        request.setFirstName("Johnny");
+        statistics.clear();
+
+        patronService.updatePatron(JOHN_DOE_ID, request);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionUpdateCount()).isZero();
+    }
+}
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import jakarta.persistence.EntityManager;
 
 import java.util.Collections;
 import java.util.List;
@@ -18,6 +20,9 @@ public class PatronRepositoryIntegrationTests {
     @Autowired
     private PatronRepository patronRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeEach
     void setupDb() {
         patronRepository.deleteAll();
@@ -191,6 +196,26 @@ public class PatronRepositoryIntegrationTests {
         assertNotNull(exception);
     }
 
+    @Test
+    void whenSavingSecondPatronWithSameEmail_thenUniqueIndexRejectsIt() {
+        Patron first = new Patron("One", "Patron", "same@example.com", "pw", Collections.emptyList(),
+                new PatronAddress("1 Main St", "Town", "State", "USA", "11111"), MemberShipType.REGULAR);
+        Patron second = new Patron("Two", "Patron", "same@example.com", "pw", Collections.emptyList(),
+                new PatronAddress("2 Main St", "Town", "State", "USA", "22222"), MemberShipType.REGULAR);
+        patronRepository.saveAndFlush(first);
+
+        assertThrows(DataIntegrityViolationException.class, () -> patronRepository.saveAndFlush(second));
+    }
+
+    @Test
+    void whenLookingUpByEmail_thenUniqueIndexIsUsed() {
+        String plan = entityManager
+                .createNativeQuery("EXPLAIN SELECT id FROM patrons WHERE email_address = 'john.doe@example.com'")
+                .getSingleResult().toString();
+
+        assertThat(plan.toUpperCase(), containsString("UK_PATRONS_EMAIL"));
+    }
+
     @Test
     void testPatronConstructorParameters() {
         // Arrange: define expected values.
@@ -10,6 +10,7 @@ import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -403,4 +404,221 @@ class PatronControllerIntegrationTest {
                 .exchange()
                 .expectStatus().isNotFound();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void whenGetPatronsWithLimit_thenReturnPagesInPatronIdOrder() {
+        webClient.get()
+                .uri(BASE_URI_PATRONS + "?limit=4")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Next-Cursor", "423e4567-e89b-12d3-a456-426614174003")
+                .expectBodyList(PatronResponseModel.class)
+                .value(patrons -> {
+                    assertEquals(4, patrons.size());
+                    assertEquals("123e4567-e89b-12d3-a456-426614174000", patrons.get(0).getPatronId());
+                    assertEquals(2, patrons.get(0).getPhoneNumbers().size());
+                });
+
+        webClient.get()
+                .uri(BASE_URI_PATRONS + "?limit=4&after=823e4567-e89b-12d3-a456-426614174007")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("X-Next-Cursor")
+                .expectBodyList(PatronResponseModel.class)
+                .value(patrons -> {
+                    assertEquals(2, patrons.size());
+                    assertEquals("Henry", patrons.get(1).getFirstName());
+                });
+    }
+
+    @Test
+    public void whenGetPatrons_withInvalidLimit_thenReturnUnprocessableEntity() {
+        webClient.get()
+                .uri(BASE_URI_PATRONS + "?limit=0")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    public void whenSearchPatronsByProvince_thenPageThroughMatchesOnly() {
+        webClient.get()
+                .uri(BASE_URI_PATRONS + "/search?province=Alberta&limit=1")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Next-Cursor", "423e4567-e89b-12d3-a456-426614174003")
+                .expectBodyList(PatronResponseModel.class)
+                .value(patrons -> {
+                    assertEquals(1, patrons.size());
+                    assertEquals("Bob", patrons.get(0).getFirstName());
+                    assertEquals(2, patrons.get(0).getPhoneNumbers().size());
+                });
+
+        webClient.get()
+                .uri(BASE_URI_PATRONS + "/search?province=Alberta&limit=1&after=423e4567-e89b-12d3-a456-426614174003")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("X-Next-Cursor")
+                .expectBodyList(PatronResponseModel.class)
+                .value(patrons -> {
+                    assertEquals(1, patrons.size());
+                    assertEquals("Eve", patrons.get(0).getFirstName());
+                });
+    }
+
+    @Test
+    public void whenSearchPatronsByNamePrefixAndMembership_thenReturnMatchingPatrons() {
+        webClient.get()
+                .uri(BASE_URI_PATRONS + "/search?lastName=Jo&memberShipType=junior")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("X-Next-Cursor")
+                .expectBodyList(PatronResponseModel.class)
+                .value(patrons -> {
+                    assertEquals(1, patrons.size());
+                    assertEquals("Johnson", patrons.get(0).getLastName());
+                });
+
+        webClient.get()
+                .uri(BASE_URI_PATRONS + "/search?firstName=J&city=Montreal")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(PatronResponseModel.class)
+                .value(patrons -> assertTrue(patrons.isEmpty()));
+    }
+
+    @Test
+    public void whenSearchPatrons_withUnknownMembershipType_thenReturnUnprocessableEntity() {
+        webClient.get()
+                .uri(BASE_URI_PATRONS + "/search?memberShipType=GOLD")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    public void whenGetPatronSummary_thenReturnIdNamesAndMembershipOnly() {
+        webClient.get()
+                .uri(BASE_URI_PATRONS + "/123e4567-e89b-12d3-a456-426614174000/summary")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.patronId").isEqualTo("123e4567-e89b-12d3-a456-426614174000")
+                .jsonPath("$.firstName").isEqualTo("John")
+                .jsonPath("$.lastName").isEqualTo("Doe")
+                .jsonPath("$.memberShipType").isEqualTo("REGULAR")
+                .jsonPath("$.password").doesNotExist()
+                .jsonPath("$.phoneNumbers").doesNotExist();
+
+        String missingId = "00000000-0000-0000-0000-000000000000";
+        webClient.post()
+                .uri(BASE_URI_PATRONS + "/summaries")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(PatronSummaryBatchRequestModel.builder()
+                        .patronIds(List.of("223e4567-e89b-12d3-a456-426614174001", missingId, "223e4567-e89b-12d3-a456-426614174001"))
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(PatronSummaryBatchResponseModel.class)
+                .value(response -> {
+                    assertEquals(1, response.getPatrons().size());
+                    assertEquals("Jane", response.getPatrons().get(0).getFirstName());
+                    assertEquals("STUDENT", response.getPatrons().get(0).getMemberShipType());
+                    assertEquals(List.of(missingId), response.getMissingPatronIds());
+                });
+    }
+
+    @Test
+    public void whenGetPatronSummary_withNonExistentId_thenReturnNotFound() {
+        webClient.get()
+                .uri(BASE_URI_PATRONS + "/00000000-0000-0000-0000-000000000000/summary")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void whenGetPatronSummaries_withEmptyBatch_thenReturnUnprocessableEntity() {
+        webClient.post()
+                .uri(BASE_URI_PATRONS + "/summaries")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new PatronSummaryBatchRequestModel(Collections.emptyList()))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    private PatronRequestModel patronRequest(String email) {
+        return PatronRequestModel.builder()
+                .firstName("Nick")
+                .lastName("Mason")
+                .email(email)
+                .password("timeKeeper")
+                .memberShipType("REGULAR")
+                .phoneNumbers(Collections.emptyList())
+                .streetAddress("1 Abbey Rd")
+                .city("London")
+                .province("UK")
+                .country("UK")
+                .postalCode("NW8")
+                .build();
+    }
+
+    @Test
+    public void whenCreatingPatronWithDifferentlyCasedEmail_thenReturnUnprocessableEntity() {
+        webClient.post()
+                .uri(BASE_URI_PATRONS)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(patronRequest(" John.Doe@Example.COM "))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("A patron with email john.doe@example.com already exists");
+    }
+
+    @Test
+    public void whenRegisteringPatronsInBulk_thenRegisterNewEmailsAndReportDuplicates() {
+        List<PatronRequestModel> requests = List.of(
+                patronRequest("new.one@example.com"),
+                patronRequest("New.One@example.com"),
+                patronRequest("john.doe@example.com"),
+                patronRequest("new.two@example.com"));
+
+        webClient.post()
+                .uri(BASE_URI_PATRONS + "/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requests)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(PatronBulkRegistrationResponseModel.class)
+                .value(response -> {
+                    assertEquals(2, response.getRegistered().size());
+                    assertEquals("new.one@example.com", response.getRegistered().get(0).getEmail());
+                    assertEquals("new.two@example.com", response.getRegistered().get(1).getEmail());
+                    assertEquals(List.of("new.one@example.com", "john.doe@example.com"), response.getDuplicateEmails());
+                });
+
+        webClient.post()
+                .uri(BASE_URI_PATRONS)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(patronRequest("new.two@example.com"))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    public void whenRegisteringEmptyBulk_thenReturnUnprocessableEntity() {
+        webClient.post()
+                .uri(BASE_URI_PATRONS + "/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Collections.emptyList())
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+}
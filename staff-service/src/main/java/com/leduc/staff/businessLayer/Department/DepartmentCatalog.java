@@ -0,0 +1,167 @@
+package com.leduc.staff.businessLayer.Department;
+
+import com.leduc.staff.dataAccessLayer.Department.Department;
+import com.leduc.staff.dataAccessLayer.Department.DepartmentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Read-mostly copy of the departments table. Readers go through a volatile snapshot without locking;
+// writers build a new map and swap it in. A miss falls back to the database so rows written elsewhere
+// still resolve, and a periodic reload bounds how stale the whole snapshot can get. Every put, remove and
+// reload bumps the snapshot generation; rows read on a miss are only cached if no such write happened
+// while they were being read, so a department deleted or changed meanwhile is not brought back.
+@Slf4j
+@Component
+public class DepartmentCatalog {
+
+    private final DepartmentRepository departmentRepository;
+    private final Clock clock;
+    private final Counter reloads;
+    private final Counter changes;
+    private final Counter misses;
+
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public DepartmentCatalog(DepartmentRepository departmentRepository, MeterRegistry meterRegistry) {
+        this(departmentRepository, meterRegistry, Clock.systemUTC());
+    }
+
+    DepartmentCatalog(DepartmentRepository departmentRepository, MeterRegistry meterRegistry, Clock clock) {
+        this.departmentRepository = departmentRepository;
+        this.clock = clock;
+        this.snapshot = new Snapshot(Map.of(), clock.instant(), 0);
+
+        this.reloads = refreshCounter(meterRegistry, "reload");
+        this.changes = refreshCounter(meterRegistry, "change");
+        this.misses = refreshCounter(meterRegistry, "miss");
+        Gauge.builder("department.catalog.staleness", this, catalog -> catalog.getStaleness().toMillis() / 1000.0)
+                .description("Seconds since the catalog was last reloaded from the database")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("department.catalog.size", this, catalog -> catalog.snapshot.departments().size())
+                .description("Departments held in the catalog")
+                .register(meterRegistry);
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String trigger) {
+        return Counter.builder("department.catalog.refreshes")
+                .description("Snapshot swaps, by what triggered them")
+                .tag("trigger", trigger)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.department-catalog.refresh-interval:PT5M}",
+            fixedDelayString = "${app.department-catalog.refresh-interval:PT5M}")
+    public synchronized void reload() {
+        // holding the writer lock while loading keeps a concurrent put from being overwritten by older rows
+        Map<String, Department> loaded = new HashMap<>();
+        for (Department department : departmentRepository.findAllWithPositions()) {
+            loaded.put(department.getDepartmentIdentifier().getDepartmentId(), department);
+        }
+        snapshot = new Snapshot(Collections.unmodifiableMap(loaded), clock.instant(), snapshot.generation() + 1);
+        reloads.increment();
+        log.debug("Department catalog reloaded with {} departments", loaded.size());
+    }
+
+    public Department get(String departmentId) {
+        Snapshot current = snapshot;
+        Department department = current.departments().get(departmentId);
+        if (department != null) {
+            return department;
+        }
+        List<Department> loaded = departmentRepository.findAllByDepartmentIdentifier_DepartmentIdIn(List.of(departmentId));
+        if (loaded.isEmpty()) {
+            return null;
+        }
+        cacheMisses(loaded, current.generation());
+        return loaded.get(0);
+    }
+
+    public Map<String, Department> getAll(Collection<String> departmentIds) {
+        Snapshot snapshot = this.snapshot;
+        Map<String, Department> current = snapshot.departments();
+        Map<String, Department> found = new HashMap<>();
+        List<String> missing = departmentIds.stream()
+                .filter(departmentId -> {
+                    Department department = current.get(departmentId);
+                    if (department == null) {
+                        return true;
+                    }
+                    found.put(departmentId, department);
+                    return false;
+                })
+                .toList();
+        if (!missing.isEmpty()) {
+            List<Department> loaded = departmentRepository.findAllByDepartmentIdentifier_DepartmentIdIn(missing);
+            if (!loaded.isEmpty()) {
+                for (Department department : loaded) {
+                    found.put(department.getDepartmentIdentifier().getDepartmentId(), department);
+                }
+                cacheMisses(loaded, snapshot.generation());
+            }
+        }
+        return found;
+    }
+
+    public void put(Department department) {
+        swap(List.of(department), null, changes);
+    }
+
+    public void remove(String departmentId) {
+        swap(List.of(), departmentId, changes);
+    }
+
+    public Duration getStaleness() {
+        return Duration.between(snapshot.loadedAt(), clock.instant());
+    }
+
+    private synchronized void swap(List<Department> upserts, String removedId, Counter trigger) {
+        Snapshot current = snapshot;
+        Map<String, Department> next = new HashMap<>(current.departments());
+        for (Department department : upserts) {
+            next.put(department.getDepartmentIdentifier().getDepartmentId(), department);
+        }
+        if (removedId != null) {
+            next.remove(removedId);
+        }
+        snapshot = new Snapshot(Collections.unmodifiableMap(next), current.loadedAt(), current.generation() + 1);
+        trigger.increment();
+    }
+
+    // readGeneration is the generation of the snapshot the miss was found in; a later put, remove or reload
+    // may have seen newer rows than these, so the caller still gets them but the snapshot does not
+    private synchronized void cacheMisses(List<Department> loaded, long readGeneration) {
+        Snapshot current = snapshot;
+        if (current.generation() != readGeneration) {
+            log.debug("Department catalog changed while {} departments were read, not caching them", loaded.size());
+            return;
+        }
+        Map<String, Department> next = new HashMap<>(current.departments());
+        for (Department department : loaded) {
+            next.put(department.getDepartmentIdentifier().getDepartmentId(), department);
+        }
+        snapshot = new Snapshot(Collections.unmodifiableMap(next), current.loadedAt(), current.generation());
+        misses.increment();
+    }
+
+    private record Snapshot(Map<String, Department> departments, Instant loadedAt, long generation) {
+    }
+}
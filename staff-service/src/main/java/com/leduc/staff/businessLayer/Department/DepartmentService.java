@@ -3,16 +3,20 @@ package com.leduc.staff.businessLayer.Department;
 
 
 
+import com.leduc.staff.dataAccessLayer.Department.DepartmentName;
 import com.leduc.staff.presentationLayer.Department.DepartmentRequestModel;
 import com.leduc.staff.presentationLayer.Department.DepartmentResponseModel;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 
 public interface DepartmentService {
 
     List<DepartmentResponseModel> getAllDepartments();
     DepartmentResponseModel getDepartmentByDepartmentId(String departmentId);
+    Map<String, DepartmentName> getDepartmentNames(Collection<String> departmentIds);
     DepartmentResponseModel createDepartment(DepartmentRequestModel requestDTO);
     DepartmentResponseModel updateDepartment(String departmentId, DepartmentRequestModel requestDTO);
     void deleteDepartment(String departmentId);
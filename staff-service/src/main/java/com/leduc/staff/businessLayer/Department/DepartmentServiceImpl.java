@@ -2,6 +2,7 @@ package com.leduc.staff.businessLayer.Department;
 
 
 import com.leduc.staff.dataAccessLayer.Department.Department;
+import com.leduc.staff.dataAccessLayer.Department.DepartmentName;
 import com.leduc.staff.dataAccessLayer.Department.DepartmentRepository;
 import com.leduc.staff.mappingLayer.Department.DepartmentRequestMapper;
 import com.leduc.staff.mappingLayer.Department.DepartmentResponseMapper;
@@ -13,7 +14,10 @@ import jakarta.persistence.EntityNotFoundException;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class DepartmentServiceImpl implements DepartmentService {
@@ -21,13 +25,16 @@ public class DepartmentServiceImpl implements DepartmentService {
     private final DepartmentRepository departmentRepository;
     private final DepartmentResponseMapper departmentResponseMapper;
     private final DepartmentRequestMapper departmentRequestMapper;
+    private final DepartmentCatalog departmentCatalog;
 
     public DepartmentServiceImpl(DepartmentRepository departmentRepository,
                                  DepartmentResponseMapper departmentResponseMapper,
-                                 DepartmentRequestMapper departmentRequestMapper) {
+                                 DepartmentRequestMapper departmentRequestMapper,
+                                 DepartmentCatalog departmentCatalog) {
         this.departmentRepository = departmentRepository;
         this.departmentResponseMapper = departmentResponseMapper;
         this.departmentRequestMapper = departmentRequestMapper;
+        this.departmentCatalog = departmentCatalog;
     }
 
     @Override
@@ -40,7 +47,7 @@ public class DepartmentServiceImpl implements DepartmentService {
 
     @Override
     public DepartmentResponseModel getDepartmentByDepartmentId(String departmentId) {
-        Department department = departmentRepository.findByDepartmentIdentifier_DepartmentId(departmentId);
+        Department department = departmentCatalog.get(departmentId);
 
         if (department == null) {
             throw new NotFoundException("Department not found for ID: " + departmentId);
@@ -50,6 +57,17 @@ public class DepartmentServiceImpl implements DepartmentService {
         return departmentResponseMapper.departmentResponseModel(department);
     }
 
+    @Override
+    public Map<String, DepartmentName> getDepartmentNames(Collection<String> departmentIds) {
+        Map<String, DepartmentName> departmentNames = new HashMap<>();
+        if (departmentIds.isEmpty()) {
+            return departmentNames;
+        }
+        departmentCatalog.getAll(departmentIds)
+                .forEach((departmentId, department) -> departmentNames.put(departmentId, department.getDepartmentName()));
+        return departmentNames;
+    }
+
     @Override
     public DepartmentResponseModel createDepartment(DepartmentRequestModel requestDTO) {
         Department existingDepartment = departmentRepository.findByDepartmentName(requestDTO.getDepartmentName());
@@ -60,6 +78,7 @@ public class DepartmentServiceImpl implements DepartmentService {
         Department department = departmentRequestMapper.departmentRequestModelToDepartment(requestDTO);
 
         department = departmentRepository.save(department);
+        departmentCatalog.put(department);
 
         return departmentResponseMapper.departmentResponseModel(department);
     }
@@ -78,6 +97,7 @@ public class DepartmentServiceImpl implements DepartmentService {
         department.setPositions(requestDTO.getPositions());
 
         department = departmentRepository.save(department);
+        departmentCatalog.put(department);
         return departmentResponseMapper.departmentResponseModel(department);
     }
 
@@ -90,5 +110,6 @@ public class DepartmentServiceImpl implements DepartmentService {
 
 
         departmentRepository.delete(department);
+        departmentCatalog.remove(departmentId);
     }
 }
\ No newline at end of file
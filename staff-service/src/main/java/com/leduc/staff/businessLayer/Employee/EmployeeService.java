@@ -3,6 +3,10 @@ package com.leduc.staff.businessLayer.Employee;
 
 
 
+import com.leduc.staff.presentationLayer.Employee.EmployeePageResponseModel;
+import com.leduc.staff.presentationLayer.Employee.EmployeeReferenceBatchRequestModel;
+import com.leduc.staff.presentationLayer.Employee.EmployeeReferenceBatchResponseModel;
+import com.leduc.staff.presentationLayer.Employee.EmployeeReferenceResponseModel;
 import com.leduc.staff.presentationLayer.Employee.EmployeeRequestModel;
 import com.leduc.staff.presentationLayer.Employee.EmployeeResponseModel;
 
@@ -12,6 +16,9 @@ public interface EmployeeService {
 
     List<EmployeeResponseModel> getEmployees();
     EmployeeResponseModel getEmployeeById(String employeeId);
+    EmployeeReferenceResponseModel getEmployeeReference(String employeeId);
+    EmployeeReferenceBatchResponseModel getEmployeeReferences(EmployeeReferenceBatchRequestModel batchRequest);
+    EmployeePageResponseModel getEmployeesByDepartment(String departmentId, String after, Integer limit);
     EmployeeResponseModel createEmployee(EmployeeRequestModel requestModel);
     EmployeeResponseModel updateEmployee(String employeeId, EmployeeRequestModel requestModel);
     void deleteEmployee(String employeeId);
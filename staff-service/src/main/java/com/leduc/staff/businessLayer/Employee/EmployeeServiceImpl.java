@@ -2,52 +2,77 @@ package com.leduc.staff.businessLayer.Employee;
 
 
 import com.leduc.staff.businessLayer.Department.DepartmentService;
+import com.leduc.staff.businessLayer.Payroll.PayrollRollup;
 import com.leduc.staff.dataAccessLayer.Department.DepartmentIdentifier;
+import com.leduc.staff.dataAccessLayer.Department.DepartmentName;
+import com.leduc.staff.dataAccessLayer.Department.PositionTitle;
 import com.leduc.staff.dataAccessLayer.Employee.Employee;
 import com.leduc.staff.dataAccessLayer.Employee.EmployeeIdentifier;
+import com.leduc.staff.dataAccessLayer.Employee.EmployeeReferenceView;
 import com.leduc.staff.dataAccessLayer.Employee.EmployeeRepository;
+import com.leduc.staff.dataAccessLayer.Employee.EmployeeSummaryView;
 import com.leduc.staff.mappingLayer.Employee.EmployeeRequestMapper;
 import com.leduc.staff.mappingLayer.Employee.EmployeeResponseMapper;
-import com.leduc.staff.presentationLayer.Department.DepartmentResponseModel;
+import com.leduc.staff.presentationLayer.Employee.EmployeePageResponseModel;
+import com.leduc.staff.presentationLayer.Employee.EmployeeReferenceBatchRequestModel;
+import com.leduc.staff.presentationLayer.Employee.EmployeeReferenceBatchResponseModel;
+import com.leduc.staff.presentationLayer.Employee.EmployeeReferenceResponseModel;
 import com.leduc.staff.presentationLayer.Employee.EmployeeRequestModel;
 import com.leduc.staff.presentationLayer.Employee.EmployeeResponseModel;
+import com.leduc.staff.utils.exceptions.InvalidInputException;
 import com.leduc.staff.utils.exceptions.NotFoundException;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class EmployeeServiceImpl implements EmployeeService {
 
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 500;
+    static final int MAX_BATCH_SIZE = 500;
+
     private final EmployeeRepository employeeRepository;
     private final DepartmentService departmentService;
     private final EmployeeRequestMapper employeeRequestMapper;
     private final EmployeeResponseMapper employeeResponseMapper;
+    private final PayrollRollup payrollRollup;
 
     public EmployeeServiceImpl(EmployeeRepository employeeRepository, DepartmentService departmentService,
-                               EmployeeRequestMapper employeeRequestMapper, EmployeeResponseMapper employeeResponseMapper) {
+                               EmployeeRequestMapper employeeRequestMapper, EmployeeResponseMapper employeeResponseMapper,
+                               PayrollRollup payrollRollup) {
         this.employeeRepository = employeeRepository;
         this.departmentService = departmentService;
         this.employeeRequestMapper = employeeRequestMapper;
         this.employeeResponseMapper = employeeResponseMapper;
+        this.payrollRollup = payrollRollup;
     }
 
     @Override
     public List<EmployeeResponseModel> getEmployees() {
-        List<Employee> employees = employeeRepository.findAll();
+        List<Employee> employees = employeeRepository.findAllWithPhoneNumbers();
         if (employees.isEmpty()) {
             return new ArrayList<>();
         }
 
         List<EmployeeResponseModel> employeeResponseModelList = employeeResponseMapper.employeesToEmployeeResponseModels(employees);
 
+        // one lookup for every department referenced on this page instead of one per employee
+        Set<String> departmentIds = employeeResponseModelList.stream()
+                .map(EmployeeResponseModel::getDepartmentId)
+                .collect(Collectors.toSet());
+        Map<String, DepartmentName> departmentNames = departmentService.getDepartmentNames(departmentIds);
         for (EmployeeResponseModel responseModel : employeeResponseModelList) {
-            DepartmentResponseModel departmentResponse = departmentService.getDepartmentByDepartmentId(responseModel.getDepartmentId());
-            if (departmentResponse != null) {
-                responseModel.setDepartmentName(departmentResponse.getDepartmentName());
-            }
+            responseModel.setDepartmentName(departmentNames.get(responseModel.getDepartmentId()));
         }
 
         return employeeResponseModelList;
@@ -65,14 +90,69 @@ public class EmployeeServiceImpl implements EmployeeService {
 
         EmployeeResponseModel employeeResponseModel = employeeResponseMapper.employeeToEmployeeResponseModel(foundEmployee);
 
-        DepartmentResponseModel departmentResponse = departmentService.getDepartmentByDepartmentId(foundEmployee.getDepartmentIdentifier().getDepartmentId());
-        if (departmentResponse != null) {
-            employeeResponseModel.setDepartmentName(departmentResponse.getDepartmentName());
-        }
+        employeeResponseModel.setDepartmentName(getDepartmentName(foundEmployee.getDepartmentIdentifier().getDepartmentId()));
 
         return employeeResponseModel;
     }
 
+    @Override
+    public EmployeeReferenceResponseModel getEmployeeReference(String employeeId) {
+        EmployeeReferenceView employee = employeeRepository.findEmployeeReference(employeeId);
+        if (employee == null) {
+            throw new NotFoundException("Employee not found for ID: " + employeeId);
+        }
+        return employeeResponseMapper.employeeReferenceViewToEmployeeReferenceResponseModel(employee);
+    }
+
+    @Override
+    public EmployeeReferenceBatchResponseModel getEmployeeReferences(EmployeeReferenceBatchRequestModel batchRequest) {
+        if (batchRequest == null || batchRequest.getEmployeeIds() == null) {
+            throw new InvalidInputException("Batch request must contain employeeIds");
+        }
+        Set<String> employeeIds = batchRequest.getEmployeeIds().stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (employeeIds.isEmpty()) {
+            throw new InvalidInputException("Batch request must contain employeeIds");
+        }
+        if (employeeIds.size() > MAX_BATCH_SIZE) {
+            throw new InvalidInputException("Batch request cannot contain more than " + MAX_BATCH_SIZE + " ids");
+        }
+
+        List<EmployeeReferenceView> employees = employeeRepository.findEmployeeReferences(employeeIds);
+        Set<String> foundIds = employees.stream()
+                .map(EmployeeReferenceView::getEmployeeId)
+                .collect(Collectors.toSet());
+        List<String> missingEmployeeIds = employeeIds.stream()
+                .filter(employeeId -> !foundIds.contains(employeeId))
+                .toList();
+        return new EmployeeReferenceBatchResponseModel(
+                employeeResponseMapper.employeeReferenceViewsToEmployeeReferenceResponseModels(employees),
+                missingEmployeeIds);
+    }
+
+    @Override
+    public EmployeePageResponseModel getEmployeesByDepartment(String departmentId, String after, Integer limit) {
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1) {
+            throw new InvalidInputException("Page limit must be at least 1");
+        }
+        pageSize = Math.min(pageSize, MAX_PAGE_SIZE);
+
+        // 404 for an unknown department rather than an empty page
+        departmentService.getDepartmentByDepartmentId(departmentId);
+
+        List<EmployeeSummaryView> employees = employeeRepository.findDepartmentEmployeesAfter(
+                departmentId, after != null ? after : "", Limit.of(pageSize + 1));
+        String nextCursor = null;
+        if (employees.size() > pageSize) {
+            employees = employees.subList(0, pageSize);
+            nextCursor = employees.get(pageSize - 1).getEmployeeId();
+        }
+        return new EmployeePageResponseModel(
+                employeeResponseMapper.employeeSummaryViewsToEmployeeSummaryResponseModels(employees), nextCursor);
+    }
+
     @Override
     public EmployeeResponseModel createEmployee(EmployeeRequestModel requestModel) {
         if (requestModel == null) {
@@ -88,13 +168,11 @@ public class EmployeeServiceImpl implements EmployeeService {
         Employee employee = employeeRequestMapper.toEntity(requestModel, employeeIdentifier, departmentIdentifier);
 
         Employee savedEmployee = employeeRepository.save(employee);
+        payrollRollup.employeeAdded(savedEmployee);
 
         EmployeeResponseModel responseModel = employeeResponseMapper.employeeToEmployeeResponseModel(savedEmployee);
 
-        DepartmentResponseModel departmentResponse = departmentService.getDepartmentByDepartmentId(savedEmployee.getDepartmentIdentifier().getDepartmentId());
-        if (departmentResponse != null) {
-            responseModel.setDepartmentName(departmentResponse.getDepartmentName());
-        }
+        responseModel.setDepartmentName(getDepartmentName(savedEmployee.getDepartmentIdentifier().getDepartmentId()));
 
         return responseModel;
     }
@@ -109,6 +187,11 @@ public class EmployeeServiceImpl implements EmployeeService {
             throw new IllegalArgumentException("Employee id length must be 36");
         }
 
+        String previousDepartmentId = employee.getDepartmentIdentifier() != null
+                ? employee.getDepartmentIdentifier().getDepartmentId() : null;
+        PositionTitle previousPositionTitle = employee.getPositionTitle();
+        BigDecimal previousSalary = employee.getSalary();
+
         employee.setFirstName(requestModel.getFirstName());
         employee.setLastName(requestModel.getLastName());
         employee.setEmail(requestModel.getEmail());
@@ -121,13 +204,11 @@ public class EmployeeServiceImpl implements EmployeeService {
         }
 
         Employee savedUpdatedEmployee = employeeRepository.save(employee);
+        payrollRollup.employeeChanged(previousDepartmentId, previousPositionTitle, previousSalary, savedUpdatedEmployee);
 
         EmployeeResponseModel responseModel = employeeResponseMapper.employeeToEmployeeResponseModel(savedUpdatedEmployee);
 
-        DepartmentResponseModel departmentResponse = departmentService.getDepartmentByDepartmentId(savedUpdatedEmployee.getDepartmentIdentifier().getDepartmentId());
-        if (departmentResponse != null) {
-            responseModel.setDepartmentName(departmentResponse.getDepartmentName());
-        }
+        responseModel.setDepartmentName(getDepartmentName(savedUpdatedEmployee.getDepartmentIdentifier().getDepartmentId()));
 
         return responseModel;
     }
@@ -143,5 +224,14 @@ public class EmployeeServiceImpl implements EmployeeService {
         }
 
         employeeRepository.delete(employee);
+        payrollRollup.employeeRemoved(employee);
+    }
+
+    private DepartmentName getDepartmentName(String departmentId) {
+        DepartmentName departmentName = departmentService.getDepartmentNames(List.of(departmentId)).get(departmentId);
+        if (departmentName == null) {
+            throw new NotFoundException("Department not found for ID: " + departmentId);
+        }
+        return departmentName;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,98 @@
+package com.leduc.staff.businessLayer.Payroll;
+
+import com.leduc.staff.dataAccessLayer.Department.PositionTitle;
+import com.leduc.staff.dataAccessLayer.Employee.Employee;
+import com.leduc.staff.dataAccessLayer.Employee.EmployeeRepository;
+import com.leduc.staff.dataAccessLayer.Employee.PayrollRollupView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Salary totals and headcounts per (department, position title), built once with a GROUP BY and then
+// adjusted as employees are created, updated and deleted. Reads cost one pass over the cells rather
+// than a scan of the employees table. The periodic rebuild corrects any drift from writes made
+// by other instances.
+@Slf4j
+@Component
+public class PayrollRollup {
+
+    private static final Comparator<PositionTitle> TITLE_ORDER = Comparator.nullsLast(Comparator.naturalOrder());
+
+    private final EmployeeRepository employeeRepository;
+
+    private volatile Map<RollupKey, Totals> cells = new ConcurrentHashMap<>();
+
+    public PayrollRollup(EmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.payroll-rollup.rebuild-interval:PT15M}",
+            fixedDelayString = "${app.payroll-rollup.rebuild-interval:PT15M}")
+    public synchronized void rebuild() {
+        Map<RollupKey, Totals> rebuilt = new ConcurrentHashMap<>();
+        for (PayrollRollupView row : employeeRepository.findPayrollRollup()) {
+            rebuilt.put(new RollupKey(row.getDepartmentId(), row.getPositionTitle()),
+                    new Totals(row.getHeadCount(), row.getTotalSalary()));
+        }
+        cells = rebuilt;
+        log.debug("Payroll rollup rebuilt with {} cells", rebuilt.size());
+    }
+
+    public synchronized void employeeAdded(Employee employee) {
+        adjust(departmentIdOf(employee), employee.getPositionTitle(), employee.getSalary(), 1);
+    }
+
+    public synchronized void employeeRemoved(Employee employee) {
+        adjust(departmentIdOf(employee), employee.getPositionTitle(), employee.getSalary(), -1);
+    }
+
+    // the entity is updated in place, so the caller hands over the values it had before the change
+    public synchronized void employeeChanged(String previousDepartmentId, PositionTitle previousPositionTitle,
+                                             BigDecimal previousSalary, Employee employee) {
+        adjust(previousDepartmentId, previousPositionTitle, previousSalary, -1);
+        adjust(departmentIdOf(employee), employee.getPositionTitle(), employee.getSalary(), 1);
+    }
+
+    // departmentId -> positionTitle -> totals, both levels in a stable order for the response
+    public Map<String, Map<PositionTitle, Totals>> snapshot() {
+        Map<String, Map<PositionTitle, Totals>> byDepartment = new TreeMap<>();
+        cells.forEach((key, totals) -> {
+            if (totals.headCount() > 0) {
+                byDepartment.computeIfAbsent(key.departmentId(), id -> new TreeMap<>(TITLE_ORDER)).put(key.positionTitle(), totals);
+            }
+        });
+        return byDepartment;
+    }
+
+    private void adjust(String departmentId, PositionTitle positionTitle, BigDecimal salary, int direction) {
+        if (departmentId == null) {
+            return;
+        }
+        BigDecimal amount = salary != null ? salary : BigDecimal.ZERO;
+        Totals delta = new Totals(direction, direction > 0 ? amount : amount.negate());
+        cells.merge(new RollupKey(departmentId, positionTitle), delta, Totals::plus);
+    }
+
+    private static String departmentIdOf(Employee employee) {
+        return employee.getDepartmentIdentifier() != null ? employee.getDepartmentIdentifier().getDepartmentId() : null;
+    }
+
+    private record RollupKey(String departmentId, PositionTitle positionTitle) {
+    }
+
+    public record Totals(long headCount, BigDecimal totalSalary) {
+
+        Totals plus(Totals other) {
+            return new Totals(headCount + other.headCount, totalSalary.add(other.totalSalary));
+        }
+    }
+}
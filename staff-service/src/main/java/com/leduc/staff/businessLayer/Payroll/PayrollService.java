@@ -0,0 +1,12 @@
+package com.leduc.staff.businessLayer.Payroll;
+
+import com.leduc.staff.presentationLayer.Payroll.DepartmentPayrollResponseModel;
+import com.leduc.staff.presentationLayer.Payroll.HeadCountCorrectionResponseModel;
+
+import java.util.List;
+
+public interface PayrollService {
+
+    List<DepartmentPayrollResponseModel> getDepartmentPayroll();
+    List<HeadCountCorrectionResponseModel> reconcileHeadCounts();
+}
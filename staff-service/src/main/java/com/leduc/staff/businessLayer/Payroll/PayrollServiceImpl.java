@@ -0,0 +1,83 @@
+package com.leduc.staff.businessLayer.Payroll;
+
+import com.leduc.staff.businessLayer.Department.DepartmentCatalog;
+import com.leduc.staff.businessLayer.Department.DepartmentService;
+import com.leduc.staff.dataAccessLayer.Department.DepartmentHeadCountView;
+import com.leduc.staff.dataAccessLayer.Department.DepartmentName;
+import com.leduc.staff.dataAccessLayer.Department.DepartmentRepository;
+import com.leduc.staff.dataAccessLayer.Department.PositionTitle;
+import com.leduc.staff.presentationLayer.Payroll.DepartmentPayrollResponseModel;
+import com.leduc.staff.presentationLayer.Payroll.HeadCountCorrectionResponseModel;
+import com.leduc.staff.presentationLayer.Payroll.PositionPayrollResponseModel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Slf4j
+@Service
+public class PayrollServiceImpl implements PayrollService {
+
+    private final PayrollRollup payrollRollup;
+    private final DepartmentService departmentService;
+    private final DepartmentRepository departmentRepository;
+    private final DepartmentCatalog departmentCatalog;
+
+    public PayrollServiceImpl(PayrollRollup payrollRollup, DepartmentService departmentService,
+                              DepartmentRepository departmentRepository, DepartmentCatalog departmentCatalog) {
+        this.payrollRollup = payrollRollup;
+        this.departmentService = departmentService;
+        this.departmentRepository = departmentRepository;
+        this.departmentCatalog = departmentCatalog;
+    }
+
+    @Override
+    public List<DepartmentPayrollResponseModel> getDepartmentPayroll() {
+        Map<String, Map<PositionTitle, PayrollRollup.Totals>> rollup = payrollRollup.snapshot();
+        Map<String, DepartmentName> departmentNames = departmentService.getDepartmentNames(rollup.keySet());
+
+        List<DepartmentPayrollResponseModel> departments = new ArrayList<>(rollup.size());
+        rollup.forEach((departmentId, byPosition) -> {
+            long headCount = 0;
+            BigDecimal totalSalary = BigDecimal.ZERO;
+            List<PositionPayrollResponseModel> positions = new ArrayList<>(byPosition.size());
+            for (Map.Entry<PositionTitle, PayrollRollup.Totals> entry : byPosition.entrySet()) {
+                PayrollRollup.Totals totals = entry.getValue();
+                headCount += totals.headCount();
+                totalSalary = totalSalary.add(totals.totalSalary());
+                positions.add(new PositionPayrollResponseModel(entry.getKey(), totals.headCount(), totals.totalSalary()));
+            }
+            departments.add(new DepartmentPayrollResponseModel(
+                    departmentId, departmentNames.get(departmentId), headCount, totalSalary, positions));
+        });
+        return departments;
+    }
+
+    @Override
+    public List<HeadCountCorrectionResponseModel> reconcileHeadCounts() {
+        payrollRollup.rebuild();
+        Map<String, Map<PositionTitle, PayrollRollup.Totals>> rollup = payrollRollup.snapshot();
+
+        List<HeadCountCorrectionResponseModel> corrections = new ArrayList<>();
+        for (DepartmentHeadCountView department : departmentRepository.findAllHeadCounts()) {
+            long actual = rollup.getOrDefault(department.getDepartmentId(), Map.of()).values().stream()
+                    .mapToLong(PayrollRollup.Totals::headCount)
+                    .sum();
+            if (!Objects.equals(department.getHeadCount(), (int) actual)) {
+                departmentRepository.updateHeadCount(department.getDepartmentId(), (int) actual);
+                corrections.add(new HeadCountCorrectionResponseModel(
+                        department.getDepartmentId(), department.getHeadCount(), actual));
+            }
+        }
+
+        if (!corrections.isEmpty()) {
+            log.info("Reconciled head count for {} departments", corrections.size());
+            departmentCatalog.reload();
+        }
+        return corrections;
+    }
+}
@@ -0,0 +1,8 @@
+package com.leduc.staff.dataAccessLayer.Department;
+
+public interface DepartmentHeadCountView {
+
+    String getDepartmentId();
+
+    Integer getHeadCount();
+}
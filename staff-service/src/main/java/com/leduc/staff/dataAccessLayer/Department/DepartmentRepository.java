@@ -1,8 +1,31 @@
 package com.leduc.staff.dataAccessLayer.Department;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface DepartmentRepository extends JpaRepository<Department, Integer> {
     Department findByDepartmentIdentifier_DepartmentId(String departmentId);
     Department findByDepartmentName(DepartmentName departmentName);
+
+    @EntityGraph(attributePaths = "positions")
+    @Query("SELECT d FROM Department d")
+    List<Department> findAllWithPositions();
+
+    @EntityGraph(attributePaths = "positions")
+    List<Department> findAllByDepartmentIdentifier_DepartmentIdIn(Collection<String> departmentIds);
+
+    @Query("SELECT d.departmentIdentifier.departmentId AS departmentId, d.headCount AS headCount FROM Department d")
+    List<DepartmentHeadCountView> findAllHeadCounts();
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Department d SET d.headCount = :headCount WHERE d.departmentIdentifier.departmentId = :departmentId")
+    int updateHeadCount(@Param("departmentId") String departmentId, @Param("headCount") Integer headCount);
 }
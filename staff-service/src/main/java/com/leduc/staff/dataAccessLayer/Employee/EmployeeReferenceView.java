@@ -0,0 +1,13 @@
+package com.leduc.staff.dataAccessLayer.Employee;
+
+// every column is in idx_employees_reference, so these lookups never read the table rows
+public interface EmployeeReferenceView {
+
+    String getEmployeeId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getDepartmentId();
+}
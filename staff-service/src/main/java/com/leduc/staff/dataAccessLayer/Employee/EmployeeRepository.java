@@ -1,7 +1,44 @@
 package com.leduc.staff.dataAccessLayer.Employee;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
     Employee findEmployeeByEmployeeIdentifier_EmployeeId(String employeeId);
+
+    // phone numbers come back in the same query instead of one lazy load per employee
+    @EntityGraph(attributePaths = "phoneNumbers")
+    @Query("SELECT e FROM Employee e")
+    List<Employee> findAllWithPhoneNumbers();
+
+    // walks idx_employees_department_employee in employee_id order, starting just past the cursor
+    @Query("SELECT e.employeeIdentifier.employeeId AS employeeId, e.firstName AS firstName, e.lastName AS lastName, " +
+            "e.email AS email, e.salary AS salary, e.departmentIdentifier.departmentId AS departmentId, " +
+            "e.positionTitle AS positionTitle " +
+            "FROM Employee e WHERE e.departmentIdentifier.departmentId = :departmentId " +
+            "AND e.employeeIdentifier.employeeId > :after ORDER BY e.employeeIdentifier.employeeId")
+    List<EmployeeSummaryView> findDepartmentEmployeesAfter(@Param("departmentId") String departmentId,
+                                                          @Param("after") String after,
+                                                          Limit limit);
+
+    @Query("SELECT e.employeeIdentifier.employeeId AS employeeId, e.firstName AS firstName, e.lastName AS lastName, " +
+            "e.departmentIdentifier.departmentId AS departmentId " +
+            "FROM Employee e WHERE e.employeeIdentifier.employeeId = :employeeId")
+    EmployeeReferenceView findEmployeeReference(@Param("employeeId") String employeeId);
+
+    @Query("SELECT e.employeeIdentifier.employeeId AS employeeId, e.firstName AS firstName, e.lastName AS lastName, " +
+            "e.departmentIdentifier.departmentId AS departmentId " +
+            "FROM Employee e WHERE e.employeeIdentifier.employeeId IN :employeeIds")
+    List<EmployeeReferenceView> findEmployeeReferences(@Param("employeeIds") Collection<String> employeeIds);
+
+    @Query("SELECT e.departmentIdentifier.departmentId AS departmentId, e.positionTitle AS positionTitle, " +
+            "COUNT(e) AS headCount, COALESCE(SUM(e.salary), 0) AS totalSalary " +
+            "FROM Employee e GROUP BY e.departmentIdentifier.departmentId, e.positionTitle")
+    List<PayrollRollupView> findPayrollRollup();
 }
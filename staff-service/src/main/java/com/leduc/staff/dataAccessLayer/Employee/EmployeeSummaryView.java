@@ -0,0 +1,23 @@
+package com.leduc.staff.dataAccessLayer.Employee;
+
+import com.leduc.staff.dataAccessLayer.Department.PositionTitle;
+
+import java.math.BigDecimal;
+
+// scalar columns only, so listing a department never touches employee_phonenumbers
+public interface EmployeeSummaryView {
+
+    String getEmployeeId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getEmail();
+
+    BigDecimal getSalary();
+
+    String getDepartmentId();
+
+    PositionTitle getPositionTitle();
+}
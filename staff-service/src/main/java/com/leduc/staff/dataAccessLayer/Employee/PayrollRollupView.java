@@ -0,0 +1,16 @@
+package com.leduc.staff.dataAccessLayer.Employee;
+
+import com.leduc.staff.dataAccessLayer.Department.PositionTitle;
+
+import java.math.BigDecimal;
+
+public interface PayrollRollupView {
+
+    String getDepartmentId();
+
+    PositionTitle getPositionTitle();
+
+    Long getHeadCount();
+
+    BigDecimal getTotalSalary();
+}
@@ -1,9 +1,13 @@
 package com.leduc.staff.mappingLayer.Employee;
 
 import com.leduc.staff.dataAccessLayer.Employee.Employee;
+import com.leduc.staff.dataAccessLayer.Employee.EmployeeReferenceView;
+import com.leduc.staff.dataAccessLayer.Employee.EmployeeSummaryView;
 import com.leduc.staff.presentationLayer.Department.DepartmentController;
 import com.leduc.staff.presentationLayer.Employee.EmployeeController;
+import com.leduc.staff.presentationLayer.Employee.EmployeeReferenceResponseModel;
 import com.leduc.staff.presentationLayer.Employee.EmployeeResponseModel;
+import com.leduc.staff.presentationLayer.Employee.EmployeeSummaryResponseModel;
 import org.mapstruct.*;
 import org.springframework.hateoas.Link;
 
@@ -36,5 +40,11 @@ public interface EmployeeResponseMapper {
 
     List<EmployeeResponseModel> employeesToEmployeeResponseModels(List<Employee> employees);
 
+    List<EmployeeSummaryResponseModel> employeeSummaryViewsToEmployeeSummaryResponseModels(List<EmployeeSummaryView> employees);
+
+    EmployeeReferenceResponseModel employeeReferenceViewToEmployeeReferenceResponseModel(EmployeeReferenceView employee);
+
+    List<EmployeeReferenceResponseModel> employeeReferenceViewsToEmployeeReferenceResponseModels(List<EmployeeReferenceView> employees);
+
 }
 
@@ -1,8 +1,11 @@
 package com.leduc.staff.presentationLayer.Department;
 
 import com.leduc.staff.businessLayer.Department.DepartmentService;
+import com.leduc.staff.businessLayer.Employee.EmployeeService;
 import com.leduc.staff.presentationLayer.Department.DepartmentRequestModel;
 import com.leduc.staff.presentationLayer.Department.DepartmentResponseModel;
+import com.leduc.staff.presentationLayer.Employee.EmployeePageResponseModel;
+import com.leduc.staff.presentationLayer.Employee.EmployeeSummaryResponseModel;
 import com.leduc.staff.utils.exceptions.InvalidInputException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -14,10 +17,14 @@ import java.util.List;
 @RequestMapping("/api/v1/departments")
 public class DepartmentController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final DepartmentService departmentService;
+    private final EmployeeService employeeService;
 
-    public DepartmentController(DepartmentService departmentService) {
+    public DepartmentController(DepartmentService departmentService, EmployeeService employeeService) {
         this.departmentService = departmentService;
+        this.employeeService = employeeService;
     }
 
     @GetMapping
@@ -33,6 +40,22 @@ public class DepartmentController {
         return ResponseEntity.ok(departmentService.getDepartmentByDepartmentId(departmentId));
     }
 
+    @GetMapping("/{departmentId}/employees")
+    public ResponseEntity<List<EmployeeSummaryResponseModel>> getDepartmentEmployees(
+            @PathVariable String departmentId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        if (departmentId == null || departmentId.length() != 36) {
+            throw new InvalidInputException("Department ID must be exactly 36 characters long");
+        }
+        EmployeePageResponseModel page = employeeService.getEmployeesByDepartment(departmentId, after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getEmployees());
+    }
+
     @PostMapping
     public ResponseEntity<DepartmentResponseModel> createDepartment(@RequestBody DepartmentRequestModel requestDTO) {
         if (requestDTO == null || requestDTO.getDepartmentName() == null) {
@@ -33,6 +33,20 @@ public class EmployeeController {
         return ResponseEntity.ok(employeeService.getEmployeeById(employeeId));
     }
 
+    @GetMapping("/{employeeId}/ref")
+    public ResponseEntity<EmployeeReferenceResponseModel> getEmployeeReference(@PathVariable String employeeId) {
+        if (employeeId == null || employeeId.length() != 36) {
+            throw new InvalidInputException("Employee ID must be exactly 36 characters long");
+        }
+        return ResponseEntity.ok(employeeService.getEmployeeReference(employeeId));
+    }
+
+    @PostMapping("/ref/batch")
+    public ResponseEntity<EmployeeReferenceBatchResponseModel> getEmployeeReferences(
+            @RequestBody EmployeeReferenceBatchRequestModel batchRequest) {
+        return ResponseEntity.ok(employeeService.getEmployeeReferences(batchRequest));
+    }
+
     @PostMapping
     public ResponseEntity<EmployeeResponseModel> createEmployee(@RequestBody EmployeeRequestModel requestModel) {
         return ResponseEntity.status(HttpStatus.CREATED).body(employeeService.createEmployee(requestModel));
@@ -0,0 +1,16 @@
+package com.leduc.staff.presentationLayer.Employee;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeReferenceBatchRequestModel {
+    private List<String> employeeIds;
+}
@@ -0,0 +1,17 @@
+package com.leduc.staff.presentationLayer.Employee;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeReferenceBatchResponseModel {
+    private List<EmployeeReferenceResponseModel> employees;
+    private List<String> missingEmployeeIds;
+}
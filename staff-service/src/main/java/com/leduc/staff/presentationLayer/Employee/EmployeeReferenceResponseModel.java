@@ -0,0 +1,17 @@
+package com.leduc.staff.presentationLayer.Employee;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeReferenceResponseModel {
+    String employeeId;
+    String firstName;
+    String lastName;
+    String departmentId;
+}
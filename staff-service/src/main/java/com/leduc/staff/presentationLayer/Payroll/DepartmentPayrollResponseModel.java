@@ -0,0 +1,22 @@
+package com.leduc.staff.presentationLayer.Payroll;
+
+import com.leduc.staff.dataAccessLayer.Department.DepartmentName;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DepartmentPayrollResponseModel {
+    private String departmentId;
+    private DepartmentName departmentName;
+    private Long headCount;
+    private BigDecimal totalSalary;
+    private List<PositionPayrollResponseModel> positions;
+}
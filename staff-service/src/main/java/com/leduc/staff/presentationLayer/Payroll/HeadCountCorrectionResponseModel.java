@@ -0,0 +1,16 @@
+package com.leduc.staff.presentationLayer.Payroll;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class HeadCountCorrectionResponseModel {
+    private String departmentId;
+    private Integer recordedHeadCount;
+    private Long actualHeadCount;
+}
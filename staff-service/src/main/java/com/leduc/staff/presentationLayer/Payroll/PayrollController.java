@@ -0,0 +1,28 @@
+package com.leduc.staff.presentationLayer.Payroll;
+
+import com.leduc.staff.businessLayer.Payroll.PayrollService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/payroll")
+public class PayrollController {
+
+    private final PayrollService payrollService;
+
+    public PayrollController(PayrollService payrollService) {
+        this.payrollService = payrollService;
+    }
+
+    @GetMapping("/departments")
+    public ResponseEntity<List<DepartmentPayrollResponseModel>> getDepartmentPayroll() {
+        return ResponseEntity.ok(payrollService.getDepartmentPayroll());
+    }
+
+    @PostMapping("/reconcile")
+    public ResponseEntity<List<HeadCountCorrectionResponseModel>> reconcileHeadCounts() {
+        return ResponseEntity.ok(payrollService.reconcileHeadCounts());
+    }
+}
@@ -0,0 +1,19 @@
+package com.leduc.staff.presentationLayer.Payroll;
+
+import com.leduc.staff.dataAccessLayer.Department.PositionTitle;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PositionPayrollResponseModel {
+    private PositionTitle positionTitle;
+    private Long headCount;
+    private BigDecimal totalSalary;
+}
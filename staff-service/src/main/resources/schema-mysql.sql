@@ -38,4 +38,7 @@ create table if not exists employees (
     postal_code VARCHAR (9),
     department_id VARCHAR(36),
     position_title VARCHAR(50)
-    );
\ No newline at end of file
+    );
+
+CREATE INDEX idx_employees_department_employee ON employees (department_id, employee_id);
+CREATE INDEX idx_employees_reference ON employees (employee_id, first_name, last_name, department_id);
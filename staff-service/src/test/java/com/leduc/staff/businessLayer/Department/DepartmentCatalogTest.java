@@ -0,0 +1,172 @@
+package com.leduc.staff.businessLayer.Department;
+
+import com.leduc.staff.dataAccessLayer.Department.Department;
+import com.leduc.staff.dataAccessLayer.Department.DepartmentIdentifier;
+import com.leduc.staff.dataAccessLayer.Department.DepartmentName;
+import com.leduc.staff.dataAccessLayer.Department.DepartmentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DepartmentCatalogTest {
+
+    private final String LIBRARY_SERVICES_ID = "1048b354-c18f-4109-8282-2a85485bfa5a";
+    private final String DIGITAL_RESOURCES_ID = "cb346554-8526-4569-849d-6abf41bb7f76";
+
+    private DepartmentRepository departmentRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private DepartmentCatalog catalog;
+
+    @BeforeEach
+    void init() {
+        departmentRepository = mock(DepartmentRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        catalog = new DepartmentCatalog(departmentRepository, meterRegistry, clock);
+    }
+
+    private Department department(String departmentId, DepartmentName departmentName) {
+        Department department = new Department();
+        department.setDepartmentIdentifier(new DepartmentIdentifier(departmentId));
+        department.setDepartmentName(departmentName);
+        department.setHeadCount(1);
+        department.setPositions(List.of());
+        return department;
+    }
+
+    private double refreshes(String trigger) {
+        return meterRegistry.get("department.catalog.refreshes").tag("trigger", trigger).counter().count();
+    }
+
+    @Test
+    void get_afterReload_thenServedWithoutQuerying() {
+        when(departmentRepository.findAllWithPositions())
+                .thenReturn(List.of(department(LIBRARY_SERVICES_ID, DepartmentName.LIBRARY_SERVICES)));
+        catalog.reload();
+
+        Department found = catalog.get(LIBRARY_SERVICES_ID);
+
+        assertThat(found.getDepartmentName()).isEqualTo(DepartmentName.LIBRARY_SERVICES);
+        verify(departmentRepository, never()).findAllByDepartmentIdentifier_DepartmentIdIn(any());
+        assertThat(refreshes("reload")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("department.catalog.size").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void get_whenMissing_thenLoadsOnceAndKeepsIt() {
+        when(departmentRepository.findAllByDepartmentIdentifier_DepartmentIdIn(List.of(DIGITAL_RESOURCES_ID)))
+                .thenReturn(List.of(department(DIGITAL_RESOURCES_ID, DepartmentName.DIGITAL_RESOURCES)));
+
+        catalog.get(DIGITAL_RESOURCES_ID);
+        Department second = catalog.get(DIGITAL_RESOURCES_ID);
+
+        assertThat(second.getDepartmentName()).isEqualTo(DepartmentName.DIGITAL_RESOURCES);
+        verify(departmentRepository, times(1)).findAllByDepartmentIdentifier_DepartmentIdIn(any());
+        assertThat(refreshes("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    void get_whenDepartmentDoesNotExist_thenReturnsNull() {
+        when(departmentRepository.findAllByDepartmentIdentifier_DepartmentIdIn(any())).thenReturn(List.of());
+
+        assertThat(catalog.get(DIGITAL_RESOURCES_ID)).isNull();
+        assertThat(refreshes("miss")).isZero();
+    }
+
+    @Test
+    void get_whenDepartmentIsRemovedWhileTheMissIsRead_thenStaleRowIsNotCached() {
+        when(departmentRepository.findAllByDepartmentIdentifier_DepartmentIdIn(List.of(DIGITAL_RESOURCES_ID)))
+                .thenAnswer(invocation -> {
+                    // the delete commits and evicts after the row was read
+                    catalog.remove(DIGITAL_RESOURCES_ID);
+                    return List.of(department(DIGITAL_RESOURCES_ID, DepartmentName.DIGITAL_RESOURCES));
+                })
+                .thenReturn(List.of());
+
+        assertThat(catalog.get(DIGITAL_RESOURCES_ID)).isNotNull();
+
+        assertThat(catalog.get(DIGITAL_RESOURCES_ID)).isNull();
+        verify(departmentRepository, times(2)).findAllByDepartmentIdentifier_DepartmentIdIn(any());
+        assertThat(refreshes("miss")).isZero();
+        assertThat(meterRegistry.get("department.catalog.size").gauge().value()).isZero();
+    }
+
+    @Test
+    void getAll_thenQueriesOnlyTheMissingIds() {
+        catalog.put(department(LIBRARY_SERVICES_ID, DepartmentName.LIBRARY_SERVICES));
+        when(departmentRepository.findAllByDepartmentIdentifier_DepartmentIdIn(List.of(DIGITAL_RESOURCES_ID)))
+                .thenReturn(List.of(department(DIGITAL_RESOURCES_ID, DepartmentName.DIGITAL_RESOURCES)));
+
+        Map<String, Department> found = catalog.getAll(List.of(LIBRARY_SERVICES_ID, DIGITAL_RESOURCES_ID));
+
+        assertThat(found).containsOnlyKeys(LIBRARY_SERVICES_ID, DIGITAL_RESOURCES_ID);
+        verify(departmentRepository).findAllByDepartmentIdentifier_DepartmentIdIn(List.of(DIGITAL_RESOURCES_ID));
+    }
+
+    @Test
+    void putAndRemove_thenSwapSnapshotAndCountChanges() {
+        Department department = department(LIBRARY_SERVICES_ID, DepartmentName.LIBRARY_SERVICES);
+        catalog.put(department);
+        assertThat(catalog.get(LIBRARY_SERVICES_ID)).isSameAs(department);
+
+        when(departmentRepository.findAllByDepartmentIdentifier_DepartmentIdIn(any())).thenReturn(List.of());
+        catalog.remove(LIBRARY_SERVICES_ID);
+
+        assertThat(catalog.get(LIBRARY_SERVICES_ID)).isNull();
+        assertThat(refreshes("change")).isEqualTo(2.0);
+    }
+
+    @Test
+    void staleness_thenMeasuredFromLastReload() {
+        when(departmentRepository.findAllWithPositions()).thenReturn(List.of());
+        catalog.reload();
+        clock.advance(Duration.ofSeconds(90));
+        catalog.put(department(LIBRARY_SERVICES_ID, DepartmentName.LIBRARY_SERVICES));
+
+        assertThat(catalog.getStaleness()).isEqualTo(Duration.ofSeconds(90));
+        assertThat(meterRegistry.get("department.catalog.staleness").gauge().value()).isEqualTo(90.0);
+
+        catalog.reload();
+        assertThat(catalog.getStaleness()).isZero();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
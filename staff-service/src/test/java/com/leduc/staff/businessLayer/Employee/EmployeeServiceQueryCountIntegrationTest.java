@@ -0,0 +1,95 @@
+package com.leduc.staff.businessLayer.Employee;
+
+import com.leduc.staff.dataAccessLayer.Department.DepartmentIdentifier;
+import com.leduc.staff.dataAccessLayer.Department.DepartmentName;
+import com.leduc.staff.dataAccessLayer.Department.PositionTitle;
+import com.leduc.staff.dataAccessLayer.Employee.Employee;
+import com.leduc.staff.dataAccessLayer.Employee.EmployeeAddress;
+import com.leduc.staff.dataAccessLayer.Employee.EmployeePhoneNumber;
+import com.leduc.staff.dataAccessLayer.Employee.EmployeeRepository;
+import com.leduc.staff.dataAccessLayer.Employee.PhoneType;
+import com.leduc.staff.presentationLayer.Employee.EmployeeResponseModel;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@Sql({"/data-h2.sql"})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class EmployeeServiceQueryCountIntegrationTest {
+
+    private static final String LIBRARY_SERVICES_ID = "1048b354-c18f-4109-8282-2a85485bfa5a";
+    private static final String DIGITAL_RESOURCES_ID = "cb346554-8526-4569-849d-6abf41bb7f76";
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void whenGetEmployees_thenEmployeesAndDepartmentNamesLoadInTwoStatements() {
+        statistics.clear();
+
+        List<EmployeeResponseModel> employees = employeeService.getEmployees();
+
+        assertThat(employees).isNotEmpty();
+        assertThat(employees).allSatisfy(employee -> assertThat(employee.getDepartmentName()).isNotNull());
+        // employees with phones in one statement, the departments missing from the catalog in another
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    public void whenGetEmployeesForLargeDirectory_thenStatementCountStaysConstant() {
+        int employeeCount = 5000;
+        List<Employee> employees = new ArrayList<>(employeeCount);
+        for (int i = 0; i < employeeCount; i++) {
+            String departmentId = i % 2 == 0 ? LIBRARY_SERVICES_ID : DIGITAL_RESOURCES_ID;
+            employees.add(new Employee(
+                    new EmployeeAddress("123 Test St", "TestCity", "TestProvince", "TestCountry", "T1T 1T1"),
+                    List.of(new EmployeePhoneNumber(PhoneType.WORK, "514-555-" + i)),
+                    "First" + i, "Last" + i, "employee" + i + "@example.com",
+                    new BigDecimal("50000"), new DepartmentIdentifier(departmentId), PositionTitle.LIBRARIAN));
+        }
+        employeeRepository.saveAll(employees);
+
+        // warm up the department catalog
+        employeeService.getEmployees();
+        statistics.clear();
+
+        List<EmployeeResponseModel> result = employeeService.getEmployees();
+
+        assertThat(result).hasSizeGreaterThanOrEqualTo(employeeCount);
+        assertThat(result).filteredOn(employee -> employee.getDepartmentId().equals(DIGITAL_RESOURCES_ID))
+                .allSatisfy(employee -> assertThat(employee.getDepartmentName()).isEqualTo(DepartmentName.DIGITAL_RESOURCES));
+        // departments were loaded into the catalog during warm up, so only the employee query remains
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -1,6 +1,7 @@
 package com.leduc.staff.presentationLayer.Department;
 
 import com.leduc.staff.dataAccessLayer.Department.*;
+import com.leduc.staff.presentationLayer.Employee.EmployeeSummaryResponseModel;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -319,4 +320,54 @@ class DepartmentControllerIntegrationTest {
                 .exchange()
                 .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void whenGetDepartmentEmployees_thenReturnPagesInEmployeeIdOrder() {
+        String departmentId = "1048b354-c18f-4109-8282-2a85485bfa5a";
+
+        webClient.get()
+                .uri(BASE_URI_DEPARTMENTS + "/" + departmentId + "/employees?limit=3")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Next-Cursor", "aad472a3-d8fe-4406-ae45-e98612262201")
+                .expectBodyList(EmployeeSummaryResponseModel.class)
+                .value(employees -> {
+                    assertThat(employees).extracting(EmployeeSummaryResponseModel::getEmployeeId).containsExactly(
+                            "68f88e5f-3806-4b68-b227-945cd86d0de0",
+                            "95e3de7a-c9bc-45cf-b6fc-b8f4c1157369",
+                            "aad472a3-d8fe-4406-ae45-e98612262201");
+                    assertThat(employees).allSatisfy(employee -> assertEquals(departmentId, employee.getDepartmentId()));
+                });
+
+        webClient.get()
+                .uri(BASE_URI_DEPARTMENTS + "/" + departmentId + "/employees?limit=3&after=aad472a3-d8fe-4406-ae45-e98612262201")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("X-Next-Cursor")
+                .expectBodyList(EmployeeSummaryResponseModel.class)
+                .value(employees -> {
+                    assertEquals(1, employees.size());
+                    assertEquals("Vilma", employees.get(0).getFirstName());
+                });
+    }
+
+    @Test
+    public void whenGetDepartmentEmployees_withNonExistentDepartment_thenReturnNotFound() {
+        webClient.get()
+                .uri(BASE_URI_DEPARTMENTS + "/00000000-0000-0000-0000-000000000000/employees")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void whenGetDepartmentEmployees_withInvalidLimit_thenReturnUnprocessableEntity() {
+        webClient.get()
+                .uri(BASE_URI_DEPARTMENTS + "/1048b354-c18f-4109-8282-2a85485bfa5a/employees?limit=0")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+}
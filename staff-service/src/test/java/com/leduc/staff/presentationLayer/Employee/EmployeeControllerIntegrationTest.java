@@ -6,6 +6,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.jdbc.Sql;
@@ -316,4 +317,81 @@ class EmployeeControllerIntegrationTest {
                 .exchange()
                 .expectStatus().isNotFound();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void whenGetEmployeeReference_thenReturnIdNamesAndDepartmentOnly() {
+        EmployeeRequestModel employeeRequest = EmployeeRequestModel.builder()
+                .firstName("Alice")
+                .lastName("Smith")
+                .email("alice.smith@example.com")
+                .phoneNumbers(Collections.emptyList())
+                .streetAddress("456 Elm St")
+                .city("Othertown")
+                .province("Otherstate")
+                .country("USA")
+                .postalCode("67890")
+                .salary(new BigDecimal("60000"))
+                .departmentId("1048b354-c18f-4109-8282-2a85485bfa5a")
+                .positionTitle(PositionTitle.LIBRARIAN)
+                .build();
+
+        EmployeeResponseModel created = webTestClient.post()
+                .uri(BASE_URI)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(employeeRequest)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(EmployeeResponseModel.class)
+                .returnResult()
+                .getResponseBody();
+        assertNotNull(created);
+
+        webTestClient.get()
+                .uri(BASE_URI + "/" + created.getEmployeeId() + "/ref")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.employeeId").isEqualTo(created.getEmployeeId())
+                .jsonPath("$.firstName").isEqualTo("Alice")
+                .jsonPath("$.lastName").isEqualTo("Smith")
+                .jsonPath("$.departmentId").isEqualTo("1048b354-c18f-4109-8282-2a85485bfa5a")
+                .jsonPath("$.phoneNumbers").doesNotExist()
+                .jsonPath("$.salary").doesNotExist();
+
+        String missingId = "00000000-0000-0000-0000-000000000000";
+        webTestClient.post()
+                .uri(BASE_URI + "/ref/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(EmployeeReferenceBatchRequestModel.builder()
+                        .employeeIds(java.util.List.of(created.getEmployeeId(), missingId, created.getEmployeeId()))
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(EmployeeReferenceBatchResponseModel.class)
+                .value(response -> {
+                    assertThat(response.getEmployees()).extracting(EmployeeReferenceResponseModel::getEmployeeId)
+                            .containsExactly(created.getEmployeeId());
+                    assertThat(response.getMissingEmployeeIds()).containsExactly(missingId);
+                });
+    }
+
+    @Test
+    public void whenGetEmployeeReference_withNonExistentId_thenReturnNotFound() {
+        webTestClient.get()
+                .uri(BASE_URI + "/00000000-0000-0000-0000-000000000000/ref")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void whenGetEmployeeReferences_withEmptyBatch_thenReturnUnprocessableEntity() {
+        webTestClient.post()
+                .uri(BASE_URI + "/ref/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new EmployeeReferenceBatchRequestModel(Collections.emptyList()))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+}
@@ -0,0 +1,166 @@
+package com.leduc.staff.presentationLayer.Payroll;
+
+import com.leduc.staff.dataAccessLayer.Department.DepartmentName;
+import com.leduc.staff.dataAccessLayer.Department.PositionTitle;
+import com.leduc.staff.presentationLayer.Department.DepartmentResponseModel;
+import com.leduc.staff.presentationLayer.Employee.EmployeeRequestModel;
+import com.leduc.staff.presentationLayer.Employee.EmployeeResponseModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+@SpringBootTest(webEnvironment = RANDOM_PORT)
+@Sql({"/data-h2.sql"})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class PayrollControllerIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    private final String BASE_URI_PAYROLL = "/api/v1/payroll";
+    private final String LIBRARY_SERVICES_ID = "1048b354-c18f-4109-8282-2a85485bfa5a";
+    private final String DIGITAL_RESOURCES_ID = "cb346554-8526-4569-849d-6abf41bb7f76";
+
+    @BeforeEach
+    public void setup() {
+        // the seed rows are inserted after startup, so bring the rollup up to date first
+        webTestClient.post()
+                .uri(BASE_URI_PAYROLL + "/reconcile")
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    private DepartmentPayrollResponseModel getLibraryServicesPayroll() {
+        List<DepartmentPayrollResponseModel> payroll = webTestClient.get()
+                .uri(BASE_URI_PAYROLL + "/departments")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(DepartmentPayrollResponseModel.class)
+                .returnResult()
+                .getResponseBody();
+        assertNotNull(payroll);
+        return payroll.stream()
+                .filter(department -> department.getDepartmentId().equals(LIBRARY_SERVICES_ID))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private PositionPayrollResponseModel position(DepartmentPayrollResponseModel department, PositionTitle title) {
+        return department.getPositions().stream()
+                .filter(position -> position.getPositionTitle() == title)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private EmployeeRequestModel employeeRequest(PositionTitle positionTitle, String salary) {
+        return EmployeeRequestModel.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .phoneNumbers(Collections.emptyList())
+                .streetAddress("123 Main St")
+                .city("Anytown")
+                .province("Anystate")
+                .country("USA")
+                .postalCode("12345")
+                .salary(new BigDecimal(salary))
+                .departmentId(LIBRARY_SERVICES_ID)
+                .positionTitle(positionTitle)
+                .build();
+    }
+
+    @Test
+    public void whenGetDepartmentPayroll_thenReturnTotalsPerDepartmentAndPosition() {
+        DepartmentPayrollResponseModel libraryServices = getLibraryServicesPayroll();
+
+        assertEquals(DepartmentName.LIBRARY_SERVICES, libraryServices.getDepartmentName());
+        assertEquals(4L, libraryServices.getHeadCount());
+        assertThat(libraryServices.getTotalSalary()).isEqualByComparingTo("246000");
+        assertThat(libraryServices.getPositions()).hasSize(4);
+        assertThat(position(libraryServices, PositionTitle.ARCHIVIST).getTotalSalary()).isEqualByComparingTo("75000");
+    }
+
+    @Test
+    public void whenReconcile_thenHeadCountsMatchEmployees() {
+        List<HeadCountCorrectionResponseModel> corrections = webTestClient.post()
+                .uri(BASE_URI_PAYROLL + "/reconcile")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(HeadCountCorrectionResponseModel.class)
+                .returnResult()
+                .getResponseBody();
+        // setup already reconciled the seed data, so nothing is left to correct
+        assertThat(corrections).isEmpty();
+
+        webTestClient.get()
+                .uri("/api/v1/departments/" + LIBRARY_SERVICES_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(DepartmentResponseModel.class)
+                .value(department -> assertEquals(4, department.getHeadCount()));
+
+        webTestClient.get()
+                .uri("/api/v1/departments/" + DIGITAL_RESOURCES_ID)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(DepartmentResponseModel.class)
+                .value(department -> assertEquals(0, department.getHeadCount()));
+    }
+
+    @Test
+    public void whenEmployeesChange_thenRollupIsAdjustedIncrementally() {
+        EmployeeResponseModel created = webTestClient.post()
+                .uri("/api/v1/staff")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(employeeRequest(PositionTitle.LIBRARIAN, "50000"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(EmployeeResponseModel.class)
+                .returnResult()
+                .getResponseBody();
+        assertNotNull(created);
+
+        DepartmentPayrollResponseModel afterCreate = getLibraryServicesPayroll();
+        assertEquals(5L, afterCreate.getHeadCount());
+        assertThat(afterCreate.getTotalSalary()).isEqualByComparingTo("296000");
+        assertEquals(2L, position(afterCreate, PositionTitle.LIBRARIAN).getHeadCount());
+
+        webTestClient.put()
+                .uri("/api/v1/staff/" + created.getEmployeeId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(employeeRequest(PositionTitle.ARCHIVIST, "60000"))
+                .exchange()
+                .expectStatus().isOk();
+
+        DepartmentPayrollResponseModel afterUpdate = getLibraryServicesPayroll();
+        assertEquals(5L, afterUpdate.getHeadCount());
+        assertThat(afterUpdate.getTotalSalary()).isEqualByComparingTo("306000");
+        assertEquals(1L, position(afterUpdate, PositionTitle.LIBRARIAN).getHeadCount());
+        assertThat(position(afterUpdate, PositionTitle.ARCHIVIST).getTotalSalary()).isEqualByComparingTo("135000");
+
+        webTestClient.delete()
+                .uri("/api/v1/staff/" + created.getEmployeeId())
+                .exchange()
+                .expectStatus().isNoContent();
+
+        DepartmentPayrollResponseModel afterDelete = getLibraryServicesPayroll();
+        assertEquals(4L, afterDelete.getHeadCount());
+        assertThat(afterDelete.getTotalSalary()).isEqualByComparingTo("246000");
+    }
+}